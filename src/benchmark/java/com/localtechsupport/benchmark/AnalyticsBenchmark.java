@@ -0,0 +1,35 @@
+package com.localtechsupport.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsBenchmark {
+
+    @Benchmark
+    public Map<String, Object> processEfficiencyMetrics(ApplicationState state) {
+        return state.ticketHistoryService.getProcessEfficiencyMetrics();
+    }
+
+    @Benchmark
+    public Map<String, Object> customerSatisfactionMetrics(ApplicationState state) {
+        return state.feedbackService.getCustomerSatisfactionMetrics();
+    }
+
+    @Benchmark
+    public Map<String, Object> capacityForecast(ApplicationState state) {
+        return state.capacityForecastService.forecast(30);
+    }
+}
@@ -0,0 +1,114 @@
+package com.localtechsupport.benchmark;
+
+import com.localtechsupport.TechSupportServerApplication;
+import com.localtechsupport.config.SyntheticDataGenerator;
+import com.localtechsupport.config.SyntheticDataProperties;
+import com.localtechsupport.service.AppointmentService;
+import com.localtechsupport.service.CapacityForecastService;
+import com.localtechsupport.service.FeedbackService;
+import com.localtechsupport.service.TicketHistoryService;
+import com.localtechsupport.service.TicketService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots the application without a web server against an embedded H2 database
+ * filled by the {@link SyntheticDataGenerator} with {@link #tickets} tickets,
+ * shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    @Param("10000")
+    public int tickets;
+
+    public TicketService ticketService;
+    public AppointmentService appointmentService;
+    public TicketHistoryService ticketHistoryService;
+    public FeedbackService feedbackService;
+    public CapacityForecastService capacityForecastService;
+    public MeterRegistry meterRegistry;
+
+    private ConfigurableApplicationContext context;
+    private long[] openTicketIds;
+    private long[] clientIds;
+    private long[] activeTechnicianIds;
+    private long[] technicianIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(TechSupportServerApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.localtechsupport=WARN",
+                "--logging.level.org.hibernate.SQL=WARN");
+
+        DataSource dataSource = context.getBean(DataSource.class);
+        SyntheticDataProperties properties = new SyntheticDataProperties();
+        properties.setTickets(tickets);
+        properties.setClients(Math.max(10, tickets / 10));
+        properties.setTechnicians(Math.max(20, Math.min(500, tickets / 500)));
+        new SyntheticDataGenerator(dataSource, properties).generate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        openTicketIds = ids(jdbcTemplate, "SELECT id FROM tickets WHERE status = 'OPEN'");
+        clientIds = ids(jdbcTemplate, "SELECT id FROM clients WHERE status = 'ACTIVE'");
+        activeTechnicianIds = ids(jdbcTemplate, "SELECT id FROM technicians WHERE status = 'ACTIVE'");
+        technicianIds = ids(jdbcTemplate, "SELECT id FROM technicians");
+
+        ticketService = context.getBean(TicketService.class);
+        appointmentService = context.getBean(AppointmentService.class);
+        ticketHistoryService = context.getBean(TicketHistoryService.class);
+        feedbackService = context.getBean(FeedbackService.class);
+        capacityForecastService = context.getBean(CapacityForecastService.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public long randomOpenTicketId() {
+        return pick(openTicketIds);
+    }
+
+    public long randomClientId() {
+        return pick(clientIds);
+    }
+
+    public long randomActiveTechnicianId() {
+        return pick(activeTechnicianIds);
+    }
+
+    /**
+     * Any technician, including the inactive, on-vacation and in-training ones.
+     */
+    public long randomTechnicianId() {
+        return pick(technicianIds);
+    }
+
+    private static long pick(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private static long[] ids(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,34 @@
+package com.localtechsupport.benchmark;
+
+import com.localtechsupport.entity.Appointment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppointmentServiceBenchmark {
+
+    // Every invocation books its own hour so appointments never conflict
+    private static final Instant FIRST_SLOT = Instant.now().plus(Duration.ofDays(1));
+    private static final AtomicLong NEXT_SLOT = new AtomicLong();
+
+    @Benchmark
+    public Appointment createAppointment(ApplicationState state) {
+        Instant start = FIRST_SLOT.plus(Duration.ofHours(NEXT_SLOT.getAndIncrement()));
+        return state.appointmentService.createAppointment(state.randomActiveTechnicianId(), state.randomOpenTicketId(),
+            start, start.plus(Duration.ofMinutes(45)));
+    }
+}
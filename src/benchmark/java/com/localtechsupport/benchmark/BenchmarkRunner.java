@@ -0,0 +1,36 @@
+package com.localtechsupport.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the {@code benchmark} Maven profile.
+ *
+ * System properties:
+ * - benchmark.include: regex of benchmarks to run (default all)
+ * - benchmark.tickets: comma-separated data set sizes (default 10000)
+ * - benchmark.result: JSON result file (default jmh-result.json)
+ * - benchmark.jvmArgs: extra arguments for the forked JVMs
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+            .include(BenchmarkRunner.class.getPackageName() + "\\..*(" + System.getProperty("benchmark.include", ".*") + ").*")
+            .param("tickets", System.getProperty("benchmark.tickets", "10000").split(","))
+            .resultFormat(ResultFormatType.JSON)
+            .result(System.getProperty("benchmark.result", "jmh-result.json"));
+
+        String jvmArgs = System.getProperty("benchmark.jvmArgs", "");
+        if (!jvmArgs.isBlank()) {
+            options.jvmArgsAppend(jvmArgs.trim().split("\\s+"));
+        }
+        new Runner(options.build()).run();
+    }
+}
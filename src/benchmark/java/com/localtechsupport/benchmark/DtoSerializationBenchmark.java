@@ -0,0 +1,101 @@
+package com.localtechsupport.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization cost of 1,000-row pages of every listing response DTO,
+ * through Jackson's reflective bean properties versus Blackbird's generated
+ * accessors. Output goes to a discarding stream so only serialization is timed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @State(Scope.Benchmark)
+    public static class Pages {
+
+        @Param({"reflection", "blackbird"})
+        public String access;
+
+        ObjectMapper mapper;
+        Page<?> tickets;
+        Page<?> history;
+        Page<?> feedback;
+        Page<?> appointments;
+        Page<?> clients;
+        Page<?> technicians;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+            if ("blackbird".equals(access)) {
+                builder.modulesToInstall(new BlackbirdModule());
+            }
+            mapper = builder.build();
+            tickets = ResponsePages.tickets(ROWS);
+            history = ResponsePages.history(ROWS);
+            feedback = ResponsePages.feedback(ROWS);
+            appointments = ResponsePages.appointments(ROWS);
+            clients = ResponsePages.clients(ROWS);
+            technicians = ResponsePages.technicians(ROWS);
+        }
+
+        void write(Page<?> page) throws IOException {
+            mapper.writeValue(OutputStream.nullOutputStream(), page);
+        }
+    }
+
+    @Benchmark
+    public void ticketPage(Pages pages) throws IOException {
+        pages.write(pages.tickets);
+    }
+
+    @Benchmark
+    public void historyPage(Pages pages) throws IOException {
+        pages.write(pages.history);
+    }
+
+    @Benchmark
+    public void feedbackPage(Pages pages) throws IOException {
+        pages.write(pages.feedback);
+    }
+
+    @Benchmark
+    public void appointmentPage(Pages pages) throws IOException {
+        pages.write(pages.appointments);
+    }
+
+    @Benchmark
+    public void clientPage(Pages pages) throws IOException {
+        pages.write(pages.clients);
+    }
+
+    @Benchmark
+    public void technicianPage(Pages pages) throws IOException {
+        pages.write(pages.technicians);
+    }
+}
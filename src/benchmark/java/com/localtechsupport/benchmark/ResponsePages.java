@@ -0,0 +1,131 @@
+package com.localtechsupport.benchmark;
+
+import com.localtechsupport.dto.response.AppointmentResponse;
+import com.localtechsupport.dto.response.ClientResponse;
+import com.localtechsupport.dto.response.ClientSummaryResponse;
+import com.localtechsupport.dto.response.FeedbackResponse;
+import com.localtechsupport.dto.response.HistoryResponse;
+import com.localtechsupport.dto.response.TechnicianResponse;
+import com.localtechsupport.dto.response.TechnicianSummaryResponse;
+import com.localtechsupport.dto.response.TicketResponse;
+import com.localtechsupport.entity.AppointmentStatus;
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.TechnicianStatus;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.entity.TicketStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Realistic pages of response DTOs for serialization benchmarks, shaped like
+ * what the listing endpoints return: 100 clients and 20 technicians spread
+ * over the rows.
+ */
+final class ResponsePages {
+
+    private static final Instant NOW = Instant.parse("2025-06-02T09:00:00Z");
+    private static final LocalDateTime LOCAL_NOW = LocalDateTime.of(2025, 6, 2, 9, 0);
+
+    private ResponsePages() {
+    }
+
+    static Page<TicketResponse> tickets(int rows) {
+        return page(rows, i -> new TicketResponse((long) i + 1, clientSummary(i), technicianSummary(i),
+            serviceType(i), description(i), i % 3 == 0 ? TicketStatus.CLOSED : TicketStatus.OPEN,
+            TicketPriority.values()[i % TicketPriority.values().length],
+            NOW.plus(i % 72, ChronoUnit.HOURS), NOW.minus(i, ChronoUnit.MINUTES), NOW));
+    }
+
+    static Page<HistoryResponse> history(int rows) {
+        return page(rows, i -> {
+            HistoryResponse entry = new HistoryResponse();
+            entry.setId((long) i + 1);
+            entry.setStatus(TicketStatus.OPEN);
+            entry.setDescription("Assigned to technician: Technician " + i % 20);
+            entry.setCreatedAt(NOW.minus(i, ChronoUnit.MINUTES));
+            entry.setUpdatedAt(NOW.minus(i, ChronoUnit.MINUTES));
+            entry.setCreatedBy("SYSTEM");
+            HistoryResponse.TicketSummary summary = new HistoryResponse.TicketSummary();
+            summary.setId((long) i + 1);
+            summary.setDescription(description(i));
+            summary.setCurrentStatus(TicketStatus.OPEN);
+            summary.setClientName("Client" + i % 100 + " Customer");
+            summary.setClientEmail("client" + i % 100 + "@example.com");
+            summary.setAssignedTechnicianName("Technician " + i % 20);
+            summary.setServiceType(serviceType(i).name());
+            summary.setCreatedAt(NOW.minus(i, ChronoUnit.MINUTES));
+            summary.setDueAt(NOW.plus(i % 72, ChronoUnit.HOURS));
+            entry.setTicket(summary);
+            return entry;
+        });
+    }
+
+    static Page<FeedbackResponse> feedback(int rows) {
+        return page(rows, i -> {
+            FeedbackResponse feedback = new FeedbackResponse();
+            feedback.setId((long) i + 1);
+            feedback.setTicketId((long) i + 1);
+            feedback.setTicketDescription(description(i));
+            feedback.setRating(i % 5 + 1);
+            feedback.setComment("Technician arrived on time and explained the fix");
+            feedback.setSubmittedAt(NOW.minus(i, ChronoUnit.MINUTES));
+            feedback.setCreatedBy("client" + i % 100 + "@example.com");
+            return feedback;
+        });
+    }
+
+    static Page<AppointmentResponse> appointments(int rows) {
+        return page(rows, i -> new AppointmentResponse((long) i + 1, technicianSummary(i),
+            new AppointmentResponse.TicketSummaryResponse((long) i + 1, description(i), serviceType(i).name(),
+                "Client" + i % 100 + " Customer", "client" + i % 100 + "@example.com"),
+            NOW.plus(i, ChronoUnit.HOURS), NOW.plus(i, ChronoUnit.HOURS).plus(90, ChronoUnit.MINUTES),
+            AppointmentStatus.values()[i % AppointmentStatus.values().length],
+            NOW.minus(i, ChronoUnit.MINUTES), NOW));
+    }
+
+    static Page<ClientResponse> clients(int rows) {
+        return page(rows, i -> new ClientResponse((long) i + 1, "Client" + i, "Customer", "client" + i + "@example.com",
+            "555-01" + String.format("%02d", i % 100), i + " Main Street, Springfield", "Prefers morning visits",
+            Client.ClientStatus.ACTIVE, LOCAL_NOW.minusDays(i % 365), LOCAL_NOW));
+    }
+
+    static Page<TechnicianResponse> technicians(int rows) {
+        return page(rows, i -> new TechnicianResponse((long) i + 1, "Technician " + i, "tech" + i + "@example.com",
+            TechnicianStatus.ACTIVE, EnumSet.of(ServiceType.HARDWARE, serviceType(i)), i % 8, i % 8 < 5,
+            LOCAL_NOW.minusDays(i % 365), LOCAL_NOW));
+    }
+
+    private static <T> Page<T> page(int rows, IntFunction<T> row) {
+        List<T> content = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            content.add(row.apply(i));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, rows), 50L * rows);
+    }
+
+    private static ClientSummaryResponse clientSummary(int i) {
+        return new ClientSummaryResponse((long) i % 100 + 1, "Client" + i % 100, "Customer", "client" + i % 100 + "@example.com");
+    }
+
+    private static TechnicianSummaryResponse technicianSummary(int i) {
+        return new TechnicianSummaryResponse((long) i % 20 + 1, "Technician " + i % 20, "tech" + i % 20 + "@example.com");
+    }
+
+    private static ServiceType serviceType(int i) {
+        return i % 2 == 0 ? ServiceType.HARDWARE : ServiceType.SOFTWARE;
+    }
+
+    private static String description(int i) {
+        return "Workstation " + i + " fails to boot after the latest driver update";
+    }
+}
@@ -0,0 +1,47 @@
+package com.localtechsupport.benchmark;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.Technician;
+import com.localtechsupport.entity.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketServiceBenchmark {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Benchmark
+    public Ticket createTicket(ApplicationState state) {
+        return state.ticketService.createTicket(state.randomClientId(), ServiceType.HARDWARE, "Benchmark printer jam");
+    }
+
+    @Benchmark
+    public Ticket assignTechnician(ApplicationState state) {
+        return state.ticketService.assignTechnician(state.randomOpenTicketId(), state.randomActiveTechnicianId());
+    }
+
+    @Benchmark
+    public Optional<Technician> findBestTechnicianForServiceType(ApplicationState state) {
+        return state.ticketService.findBestTechnicianForServiceType(ServiceType.SOFTWARE);
+    }
+
+    @Benchmark
+    public Page<Ticket> searchTickets(ApplicationState state) {
+        return state.ticketService.searchTickets("printer", FIRST_PAGE);
+    }
+}
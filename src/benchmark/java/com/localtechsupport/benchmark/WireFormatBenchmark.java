@@ -0,0 +1,99 @@
+package com.localtechsupport.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.localtechsupport.dto.response.HistoryResponse;
+import com.localtechsupport.dto.response.TicketResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization cost and payload size of 1,000-row ticket and history pages
+ * per wire format, with and without gzip as applied by server compression.
+ * The bytes on the wire of each page are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @State(Scope.Benchmark)
+    public static class Payloads {
+
+        @Param({"json", "cbor", "smile"})
+        public String format;
+
+        @Param({"false", "true"})
+        public boolean gzip;
+
+        ObjectMapper mapper;
+        Page<TicketResponse> tickets;
+        Page<HistoryResponse> history;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            JsonFactory factory = switch (format) {
+                case "cbor" -> new CBORFactory();
+                case "smile" -> new SmileFactory();
+                default -> new JsonFactory();
+            };
+            mapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+
+            tickets = ResponsePages.tickets(ROWS);
+            history = ResponsePages.history(ROWS);
+
+            try {
+                System.out.printf("%n%s%s: ticket page %,d bytes, history page %,d bytes%n",
+                    format, gzip ? "+gzip" : "", write(tickets).length, write(history).length);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        byte[] write(Object page) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 * 1024);
+            if (gzip) {
+                try (OutputStream out = new GZIPOutputStream(bytes, 8192)) {
+                    mapper.writeValue(out, page);
+                }
+            } else {
+                mapper.writeValue(bytes, page);
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public byte[] ticketPage(Payloads payloads) throws IOException {
+        return payloads.write(payloads.tickets);
+    }
+
+    @Benchmark
+    public byte[] historyPage(Payloads payloads) throws IOException {
+        return payloads.write(payloads.history);
+    }
+}
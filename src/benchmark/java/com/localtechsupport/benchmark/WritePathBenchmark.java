@@ -0,0 +1,98 @@
+package com.localtechsupport.benchmark;
+
+import com.localtechsupport.entity.Appointment;
+import com.localtechsupport.entity.FeedbackEntry;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.Ticket;
+import io.micrometer.core.instrument.Timer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load harness for the hot write paths: concurrent ticket creation,
+ * assignment, closing, feedback and appointment booking against a small pool.
+ *
+ * Assignments and bookings pick from all technicians, so about one in six is
+ * rejected for an unavailable technician. Run with
+ * {@code -Dbenchmark.jvmArgs="-Dapp.transaction-profiling.enabled=true -Dspring.datasource.hikari.maximum-pool-size=2"}
+ * to print connection hold times per service method after each trial and
+ * make the pool the bottleneck.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WritePathBenchmark {
+
+    // Every booking gets its own hour so rejections come from technician status only
+    private static final Instant FIRST_SLOT = Instant.now().plus(Duration.ofDays(1));
+    private static final AtomicLong NEXT_SLOT = new AtomicLong();
+
+    @Benchmark
+    public Ticket createTicket(ApplicationState state) {
+        return state.ticketService.createTicket(state.randomClientId(), ServiceType.HARDWARE, "Benchmark printer jam");
+    }
+
+    @Benchmark
+    public Ticket assignTechnician(ApplicationState state) {
+        try {
+            return state.ticketService.assignTechnician(state.randomOpenTicketId(), state.randomTechnicianId());
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Ticket createAndCloseTicket(ApplicationState state) {
+        Ticket ticket = state.ticketService.createTicket(state.randomClientId(), ServiceType.SOFTWARE, "Benchmark reset");
+        return state.ticketService.closeTicket(ticket.getId(), "Password reset", "benchmark");
+    }
+
+    @Benchmark
+    public FeedbackEntry createFeedback(ApplicationState state) {
+        return state.feedbackService.createFeedback(state.randomOpenTicketId(), 4, "Quick fix", "benchmark");
+    }
+
+    @Benchmark
+    public Appointment createAppointment(ApplicationState state) {
+        Instant start = FIRST_SLOT.plus(Duration.ofHours(NEXT_SLOT.getAndIncrement()));
+        try {
+            return state.appointmentService.createAppointment(state.randomTechnicianId(), state.randomOpenTicketId(),
+                start, start.plus(Duration.ofMinutes(45)));
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Prints connection hold times per service method once the trial has
+     * finished, when transaction profiling is enabled.
+     */
+    @TearDown(Level.Trial)
+    public void printConnectionHoldTimes(ApplicationState state) {
+        for (Timer timer : state.meterRegistry.find("app.transaction.connection.hold").timers()) {
+            System.out.printf("%n%s.%s: %d holds, mean %.3f ms, max %.3f ms",
+                timer.getId().getTag("service"), timer.getId().getTag("method"), timer.count(),
+                timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS));
+        }
+        System.out.println();
+    }
+}
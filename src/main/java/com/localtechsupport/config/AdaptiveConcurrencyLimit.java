@@ -0,0 +1,113 @@
+package com.localtechsupport.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that follows observed latency (AIMD), lock-free.
+ *
+ * Every completed request is a latency sample. A sample much slower than the
+ * running average signals congestion and cuts the limit multiplicatively, at
+ * most once per average latency so one slow burst is not punished repeatedly.
+ * Otherwise, while more than half the limit is in use, the limit grows by
+ * about one per round of requests. The average follows congested samples only
+ * slowly, so a lasting latency increase is eventually accepted as the norm.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double AVERAGE_WEIGHT = 0.05;
+    private static final double CONGESTED_AVERAGE_WEIGHT = 0.005;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final long minCongestedNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limit;
+    private final AtomicLong averageNanos = new AtomicLong(Double.doubleToLongBits(0));
+    private final AtomicLong lastBackoff;
+
+    public AdaptiveConcurrencyLimit(AdmissionProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(AdmissionProperties properties, LongSupplier nanoClock) {
+        if (properties.getMinLimit() < 1 || properties.getMaxLimit() < properties.getMinLimit()) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.latencyTolerance = properties.getLatencyTolerance();
+        this.minCongestedNanos = properties.getMinCongestedLatency().toNanos();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.nanoClock = nanoClock;
+        int initial = Math.clamp(properties.getInitialLimit(), minLimit, maxLimit);
+        this.limit = new AtomicLong(Double.doubleToLongBits(initial));
+        this.lastBackoff = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Admits a request if fewer than share of the limit are in flight.
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (getLimitValue() * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends an admitted request, feeding its latency into the limit unless the
+     * request gave no meaningful sample (e.g. it continued asynchronously).
+     */
+    public void release(long latencyNanos, boolean sample) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (!sample) {
+            return;
+        }
+        double average = Double.longBitsToDouble(averageNanos.get());
+        boolean congested = average > 0 && latencyNanos > minCongestedNanos && latencyNanos > average * latencyTolerance;
+        double weight = average == 0 ? 1 : congested ? CONGESTED_AVERAGE_WEIGHT : AVERAGE_WEIGHT;
+        update(averageNanos, current -> current + (latencyNanos - current) * weight);
+
+        if (congested) {
+            long now = nanoClock.getAsLong();
+            long last = lastBackoff.get();
+            if (now - last >= (long) average && lastBackoff.compareAndSet(last, now)) {
+                update(limit, current -> Math.max(minLimit, current * backoffRatio));
+            }
+        } else if (inFlightBefore * 2 >= getLimitValue()) {
+            update(limit, current -> Math.min(maxLimit, current + 1 / current));
+        }
+    }
+
+    public int getLimit() {
+        return (int) getLimitValue();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getAverageLatencyMillis() {
+        return Double.longBitsToDouble(averageNanos.get()) / 1_000_000;
+    }
+
+    private double getLimitValue() {
+        return Double.longBitsToDouble(limit.get());
+    }
+
+    private static void update(AtomicLong bits, DoubleUnaryOperator function) {
+        bits.updateAndGet(current -> Double.doubleToLongBits(function.applyAsDouble(Double.longBitsToDouble(current))));
+    }
+}
@@ -0,0 +1,249 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides which API requests are admitted while the database is under pressure.
+ *
+ * A request is checked, in order, against its endpoint's rate, its client's
+ * write rate and the {@link AdaptiveConcurrencyLimit}. Requests are classed by
+ * endpoint rule: BULK requests (e.g. ticket creation floods) may only fill part
+ * of the concurrency limit and are shed first, NORMAL requests most of it, and
+ * CRITICAL requests (ticket closes, dashboard reads) all of it, so they keep
+ * working while bulk traffic is turned away. Nothing here blocks or locks.
+ *
+ * Clients are tracked up to max-tracked-clients. Once the cap is reached, idle
+ * clients are swept at most once per second, and clients that still do not
+ * fit share one overflow bucket, so a flood of new client keys costs neither
+ * memory nor a sweep per request.
+ *
+ * Decisions are counted as {@code app.admission.requests}, tagged with priority
+ * and outcome; the current limit and in-flight requests are gauges.
+ */
+public class AdmissionControl {
+
+    static final String METRIC_NAME = "app.admission.requests";
+    static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    public enum Priority {
+        CRITICAL,
+        NORMAL,
+        BULK
+    }
+
+    public enum Outcome {
+        ADMITTED,
+        ENDPOINT_RATE_LIMITED,
+        CLIENT_RATE_LIMITED,
+        SHED
+    }
+
+    /**
+     * Outcome of an admission check. Admitted requests must be released.
+     */
+    public static final class Decision {
+
+        private final Outcome outcome;
+        private final Priority priority;
+        private final long retryAfterNanos;
+
+        private Decision(Outcome outcome, Priority priority, long retryAfterNanos) {
+            this.outcome = outcome;
+            this.priority = priority;
+            this.retryAfterNanos = retryAfterNanos;
+        }
+
+        public boolean isAdmitted() {
+            return outcome == Outcome.ADMITTED;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public Priority getPriority() {
+            return priority;
+        }
+
+        /**
+         * How long until a rate-limited request could be admitted; zero when shed.
+         */
+        public long getRetryAfterNanos() {
+            return retryAfterNanos;
+        }
+    }
+
+    private final AdmissionProperties properties;
+    private final AdaptiveConcurrencyLimit limit;
+    private final List<EndpointRule> rules = new ArrayList<>();
+    private final Map<String, RateBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final RateBucket overflowBucket;
+    private final AtomicLong nextSweep;
+    private final Map<Priority, Map<Outcome, Counter>> counters = new EnumMap<>(Priority.class);
+    private final LongSupplier nanoClock;
+
+    public AdmissionControl(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AdmissionControl(AdmissionProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.limit = new AdaptiveConcurrencyLimit(properties, nanoClock);
+        long now = nanoClock.getAsLong();
+        this.overflowBucket = properties.getClientRate() > 0
+            ? new RateBucket(properties.getClientRate(), properties.getClientBurst(), now) : null;
+        this.nextSweep = new AtomicLong(now);
+        for (AdmissionProperties.Rule rule : properties.getRules()) {
+            rules.add(new EndpointRule(rule, nanoClock.getAsLong()));
+        }
+        for (Priority priority : Priority.values()) {
+            Map<Outcome, Counter> byOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                byOutcome.put(outcome, Counter.builder(METRIC_NAME)
+                    .description("API admission decisions")
+                    .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+            }
+            counters.put(priority, byOutcome);
+        }
+        Gauge.builder("app.admission.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+            .description("Current adaptive concurrency limit")
+            .register(meterRegistry);
+        Gauge.builder("app.admission.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+            .description("Admitted API requests in flight")
+            .register(meterRegistry);
+        Gauge.builder("app.admission.latency.average", limit, AdaptiveConcurrencyLimit::getAverageLatencyMillis)
+            .description("Average API latency the limit adapts to, in milliseconds")
+            .register(meterRegistry);
+    }
+
+    // === ADMISSION ===
+
+    public Decision tryAdmit(String method, String path, String clientId) {
+        long now = nanoClock.getAsLong();
+        EndpointRule rule = match(method, path);
+        Priority priority = rule != null ? rule.priority : Priority.NORMAL;
+
+        if (rule != null && rule.bucket != null) {
+            long wait = rule.bucket.tryAcquire(now);
+            if (wait > 0) {
+                return decide(Outcome.ENDPOINT_RATE_LIMITED, priority, wait);
+            }
+        }
+        if (priority != Priority.CRITICAL && isWrite(method) && properties.getClientRate() > 0 && clientId != null) {
+            long wait = clientBucket(clientId, now).tryAcquire(now);
+            if (wait > 0) {
+                return decide(Outcome.CLIENT_RATE_LIMITED, priority, wait);
+            }
+        }
+        if (!limit.tryAcquire(share(priority))) {
+            return decide(Outcome.SHED, priority, 0);
+        }
+        return decide(Outcome.ADMITTED, priority, 0);
+    }
+
+    /**
+     * Ends an admitted request that took latencyNanos; sample is false when the
+     * latency says nothing about load, e.g. for requests continuing asynchronously.
+     */
+    public void release(long latencyNanos, boolean sample) {
+        limit.release(latencyNanos, sample);
+    }
+
+    public AdaptiveConcurrencyLimit getLimit() {
+        return limit;
+    }
+
+    int getTrackedClientCount() {
+        return clientBuckets.size();
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private Decision decide(Outcome outcome, Priority priority, long retryAfterNanos) {
+        counters.get(priority).get(outcome).increment();
+        return new Decision(outcome, priority, retryAfterNanos);
+    }
+
+    private EndpointRule match(String method, String path) {
+        PathContainer container = null;
+        for (EndpointRule rule : rules) {
+            if (rule.method.equalsIgnoreCase(method)) {
+                if (container == null) {
+                    container = PathContainer.parsePath(path);
+                }
+                if (rule.pattern.matches(container)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    private RateBucket clientBucket(String clientId, long now) {
+        RateBucket bucket = clientBuckets.get(clientId);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (clientBuckets.size() >= properties.getMaxTrackedClients()) {
+            long sweepAt = nextSweep.get();
+            // One caller per interval pays for the sweep
+            if (now - sweepAt >= 0 && nextSweep.compareAndSet(sweepAt, now + SWEEP_INTERVAL_NANOS)) {
+                clientBuckets.values().removeIf(idle -> idle.isIdle(now));
+            }
+            if (clientBuckets.size() >= properties.getMaxTrackedClients()) {
+                return overflowBucket;
+            }
+        }
+        return clientBuckets.computeIfAbsent(clientId,
+            id -> new RateBucket(properties.getClientRate(), properties.getClientBurst(), now));
+    }
+
+    private double share(Priority priority) {
+        return switch (priority) {
+            case CRITICAL -> 1.0;
+            case NORMAL -> properties.getNormalShare();
+            case BULK -> properties.getBulkShare();
+        };
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method) || "OPTIONS".equalsIgnoreCase(method));
+    }
+
+    private static final class EndpointRule {
+
+        private final String method;
+        private final PathPattern pattern;
+        private final Priority priority;
+        private final RateBucket bucket;
+
+        private EndpointRule(AdmissionProperties.Rule rule, long now) {
+            String[] parts = rule.getEndpoint().trim().split("\\s+", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Admission rule endpoint must be 'METHOD /path': " + rule.getEndpoint());
+            }
+            this.method = parts[0];
+            this.pattern = PathPatternParser.defaultInstance.parse(parts[1]);
+            this.priority = rule.getPriority();
+            this.bucket = rule.getRate() > 0 ? new RateBucket(rule.getRate(), rule.getBurst(), now) : null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.localtechsupport.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs API requests through {@link AdmissionControl}, answering 429 Too Many
+ * Requests with a Retry-After hint when a request is rate limited or shed.
+ *
+ * Clients are identified by their authenticated principal, or else by their
+ * remote address; nothing the caller sends can choose the key. Behind a
+ * reverse proxy, set {@code server.forward-headers-strategy} so the remote
+ * address is the proxy's view of the client.
+ */
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private final AdmissionControl admissionControl;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionFilter(AdmissionControl admissionControl, ObjectMapper objectMapper) {
+        this.admissionControl = admissionControl;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AdmissionControl.Decision decision = admissionControl.tryAdmit(
+            request.getMethod(), request.getRequestURI(), clientId(request));
+        if (!decision.isAdmitted()) {
+            reject(request, response, decision);
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Streams such as the live feed leave the filter immediately; their time is not load
+            admissionControl.release(System.nanoTime() - started, !request.isAsyncStarted());
+        }
+    }
+
+    private String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        AdmissionControl.Decision decision) throws IOException {
+        String message = switch (decision.getOutcome()) {
+            case ENDPOINT_RATE_LIMITED -> "Endpoint rate limit exceeded, please retry";
+            case CLIENT_RATE_LIMITED -> "Client rate limit exceeded, please retry";
+            default -> "Server is shedding load, please retry";
+        };
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.getRetryAfterNanos() + 999_999_999L));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", Instant.now().toString());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("error", "Too Many Requests");
+        body.put("message", message);
+        body.put("path", request.getRequestURI());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,92 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for API admission control ({@code app.admission.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = false;
+
+    // === ADAPTIVE CONCURRENCY ===
+
+    /**
+     * Concurrency limit at startup; it adapts between min-limit and max-limit.
+     */
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    /**
+     * A request is a congestion signal when it took longer than this many times
+     * the average latency (and longer than min-congested-latency).
+     */
+    private double latencyTolerance = 2.0;
+
+    /**
+     * Requests faster than this never count as congestion, whatever the average.
+     */
+    private Duration minCongestedLatency = Duration.ofMillis(50);
+
+    /**
+     * Factor the limit is multiplied by on congestion, at most once per average latency.
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * Share of the concurrency limit NORMAL and BULK requests may occupy;
+     * CRITICAL requests may use all of it.
+     */
+    private double normalShare = 0.9;
+
+    private double bulkShare = 0.5;
+
+    // === RATE LIMITS ===
+
+    /**
+     * Write requests per second each client (principal or remote address) may
+     * make, CRITICAL endpoints excepted. Zero disables.
+     */
+    private double clientRate = 20;
+
+    private int clientBurst = 40;
+
+    /**
+     * Hard cap on tracked clients. At the cap idle clients are swept at most once
+     * per second; clients that still do not fit share one overflow rate bucket.
+     */
+    private int maxTrackedClients = 10_000;
+
+    /**
+     * Endpoint rules, first match wins. Unmatched requests are NORMAL without an endpoint rate.
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        /**
+         * HTTP method and path pattern, e.g. {@code POST /api/tickets/{id}/close}.
+         */
+        private String endpoint;
+
+        private AdmissionControl.Priority priority = AdmissionControl.Priority.NORMAL;
+
+        /**
+         * Requests per second across all clients; zero means unlimited.
+         */
+        private double rate;
+
+        private int burst = 1;
+    }
+}
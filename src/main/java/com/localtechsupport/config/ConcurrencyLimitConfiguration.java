@@ -0,0 +1,37 @@
+package com.localtechsupport.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * API concurrency limit, enabled with {@code app.concurrency-limit.enabled=true}.
+ *
+ * Meant to accompany {@code spring.threads.virtual.enabled=true}, which moves
+ * Tomcat request handling and Spring's task executor onto virtual threads.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfiguration {
+
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        int maxConcurrent = properties.getMaxConcurrent() > 0 ? properties.getMaxConcurrent() : poolSize;
+        return new ConcurrencyLimiter(maxConcurrent, properties.getMaxWait());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimiter concurrencyLimiter,
+                                                                                 ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+            new FilterRegistrationBean<>(new ConcurrencyLimitFilter(concurrencyLimiter, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
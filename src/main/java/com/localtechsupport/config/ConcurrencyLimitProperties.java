@@ -0,0 +1,30 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the API concurrency limiter ({@code app.concurrency-limit.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * Caps the number of API requests executing at once.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum concurrent requests. Zero sizes the limit to the HikariCP pool
+     * ({@code spring.datasource.hikari.maximum-pool-size}, default 10).
+     */
+    private int maxConcurrent;
+
+    /**
+     * How long a request may queue for a permit before it is rejected with 503.
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+}
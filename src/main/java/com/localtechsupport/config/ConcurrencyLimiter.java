@@ -0,0 +1,62 @@
+package com.localtechsupport.config;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fair semaphore bounding how many callers work against the database at once.
+ *
+ * With virtual threads there is no thread pool to throttle request intake, so
+ * without a limit every request would queue inside HikariCP's connection
+ * acquisition and time out there. Sizing the permits to the pool keeps the
+ * excess waiting here instead, where the wait is bounded and cheap.
+ */
+public class ConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimiter(int maxConcurrent, Duration maxWait) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be at least 1");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Waits up to the configured time for a permit; false if none became free.
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        if (permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,92 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries {@link RetryOnConflict} methods whose transaction failed on a
+ * concurrent update: a stale optimistic lock version, a lock wait timeout or a
+ * deadlock, all reported by Spring as {@link ConcurrencyFailureException}.
+ *
+ * Runs outside the method's own transaction, so every attempt starts a fresh
+ * one and reloads the rows it changes. Calls made inside an already open
+ * transaction are not retried: that transaction is rolled back either way, so
+ * the conflict is left to its owner. Each conflict is counted as
+ * {@code app.conflict-retry.conflicts}, tagged with the method, the exception
+ * (stale version or lock failure) and whether it was retried or ended the call
+ * after the last attempt.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConflictRetryAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(ConflictRetryAspect.class);
+
+    static final String METRIC_NAME = "app.conflict-retry.conflicts";
+
+    private final ConflictRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ConflictRetryAspect(ConflictRetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.localtechsupport.config.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+            + "." + joinPoint.getSignature().getName();
+        long backoffNanos = properties.getInitialBackoff().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    count(method, "exhausted", e);
+                    throw e;
+                }
+                count(method, "retried", e);
+                log.debug("Retrying {} after conflict on attempt {}: {}", method, attempt, e.getMessage());
+                pause(backoffNanos, e);
+                backoffNanos = Math.min(backoffNanos * 2, properties.getMaxBackoff().toNanos());
+            }
+        }
+    }
+
+    private void count(String method, String outcome, ConcurrencyFailureException conflict) {
+        Counter.builder(METRIC_NAME)
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .tag("exception", conflict.getClass().getSimpleName())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static void pause(long backoffNanos, ConcurrencyFailureException conflict) {
+        if (backoffNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(backoffNanos / 2, backoffNanos + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Retry with backoff for conflicting ticket and appointment writes, disabled
+ * with {@code app.conflict-retry.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.conflict-retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ConflictRetryProperties.class)
+public class ConflictRetryConfiguration {
+
+    @Bean
+    public ConflictRetryAspect conflictRetryAspect(ConflictRetryProperties properties, MeterRegistry meterRegistry) {
+        return new ConflictRetryAspect(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for retrying conflicting writes ({@code app.conflict-retry.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.conflict-retry")
+public class ConflictRetryProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Attempts per call, including the first.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Backoff before the first retry; doubled for each further one up to max-backoff.
+     * Every wait is randomized between half and all of it so colliding callers spread out.
+     */
+    private Duration initialBackoff = Duration.ofMillis(5);
+
+    private Duration maxBackoff = Duration.ofMillis(100);
+}
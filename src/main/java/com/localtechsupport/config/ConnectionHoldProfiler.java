@@ -0,0 +1,145 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures how long connections are held between acquisition and close.
+ *
+ * Each hold is recorded as {@code app.transaction.connection.hold}, tagged with
+ * the outermost service method that was running when the connection was taken
+ * (see {@link TransactionProfilingAspect}); connections taken outside a service
+ * call, e.g. by lazy loading while a response is rendered, are tagged "none".
+ * {@code app.transaction.connections.held} gauges the connections currently out.
+ */
+public class ConnectionHoldProfiler {
+
+    static final String METRIC_NAME = "app.transaction.connection.hold";
+    static final String UNATTRIBUTED = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<String[]> currentMethod = new ThreadLocal<>();
+    private final AtomicInteger held = new AtomicInteger();
+
+    public ConnectionHoldProfiler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("app.transaction.connections.held", held, AtomicInteger::get)
+            .description("Connections currently held by application threads")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Attributes connections taken on this thread to the service method until
+     * {@link #leave()}; nested calls keep the outermost method.
+     */
+    boolean enter(String service, String method) {
+        if (currentMethod.get() != null) {
+            return false;
+        }
+        currentMethod.set(new String[] {service, method});
+        return true;
+    }
+
+    void leave() {
+        currentMethod.remove();
+    }
+
+    public int getHeldConnections() {
+        return held.get();
+    }
+
+    public DataSource profile(DataSource dataSource) {
+        return new ProfilingDataSource(dataSource);
+    }
+
+    private Connection track(Connection connection) {
+        String[] owner = currentMethod.get();
+        Timer timer = Timer.builder(METRIC_NAME)
+            .description("Time a connection is held from acquisition to close")
+            .tag("service", owner != null ? owner[0] : UNATTRIBUTED)
+            .tag("method", owner != null ? owner[1] : UNATTRIBUTED)
+            .register(meterRegistry);
+        held.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+            new HoldTimingHandler(connection, timer, System.nanoTime()));
+    }
+
+    // === HELPER CLASSES ===
+
+    private final class ProfilingDataSource extends DelegatingDataSource {
+
+        private ProfilingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(obtainTargetDataSource().getConnection(username, password));
+        }
+    }
+
+    private final class HoldTimingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final Timer timer;
+        private final long acquiredAt;
+        private boolean closed;
+
+        private HoldTimingHandler(Connection target, Timer timer, long acquiredAt) {
+            this.target = target;
+            this.timer = timer;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        held.decrementAndGet();
+                        timer.record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
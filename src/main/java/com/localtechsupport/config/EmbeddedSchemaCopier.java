@@ -0,0 +1,28 @@
+package com.localtechsupport.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Copies an embedded H2 schema (without data) between databases.
+ *
+ * Used to provision local shards and replicas from the schema Hibernate
+ * generated on the primary database.
+ */
+final class EmbeddedSchemaCopier {
+
+    private EmbeddedSchemaCopier() {
+    }
+
+    static void copySchema(DataSource source, DataSource target) {
+        List<String> schema = new JdbcTemplate(source)
+            .queryForList("SCRIPT NODATA", String.class).stream()
+            .filter(statement -> !statement.startsWith("--") && !statement.startsWith("CREATE USER"))
+            .toList();
+
+        JdbcTemplate targetTemplate = new JdbcTemplate(target);
+        schema.forEach(targetTemplate::execute);
+    }
+}
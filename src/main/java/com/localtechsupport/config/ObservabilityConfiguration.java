@@ -0,0 +1,42 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application metrics on top of the actuator defaults.
+ *
+ * Actuator already provides per-endpoint ({@code http.server.requests}) and
+ * per-repository-method ({@code spring.data.repository.invocations}) timers,
+ * HikariCP pool and, with {@code app.observability.hibernate-statistics},
+ * Hibernate statistics metrics. This adds service method timers and the
+ * slow-query log.
+ */
+@Configuration
+@EnableConfigurationProperties(ObservabilityProperties.class)
+public class ObservabilityConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.observability", name = "service-timers", havingValue = "true", matchIfMissing = true)
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer(ObservabilityProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isHibernateStatistics());
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    @Bean
+    public SlowQueryLogAspect slowQueryLogAspect(MeterRegistry meterRegistry, ObservabilityProperties properties) {
+        return new SlowQueryLogAspect(meterRegistry, properties.getSlowQueryThreshold());
+    }
+}
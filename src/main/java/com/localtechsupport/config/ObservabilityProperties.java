@@ -0,0 +1,30 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for application-level metrics ({@code app.observability.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.observability")
+public class ObservabilityProperties {
+
+    /**
+     * Records an {@code app.service.invocations} timer for every public service method.
+     */
+    private boolean serviceTimers = true;
+
+    /**
+     * Collects Hibernate statistics for the {@code hibernate.*} metrics. The
+     * per-session metrics log Hibernate would write alongside stays off.
+     */
+    private boolean hibernateStatistics = false;
+
+    /**
+     * Repository calls slower than this are logged and counted. Zero logs every call.
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+}
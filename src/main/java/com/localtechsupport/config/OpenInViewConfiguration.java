@@ -0,0 +1,28 @@
+package com.localtechsupport.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+
+/**
+ * Request-scoped persistence contexts for the endpoints that still need them.
+ *
+ * Open-in-view is off ({@code spring.jpa.open-in-view=false}), so requests
+ * give their connection back when the service transaction ends instead of
+ * after the response is written. Technician lists are read as projections,
+ * but single-technician responses are still built from the lazy skill and
+ * assigned ticket collections, so those endpoints keep an EntityManager open
+ * for the whole request.
+ */
+@Configuration
+public class OpenInViewConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<OpenEntityManagerInViewFilter> technicianOpenInViewFilter() {
+        FilterRegistrationBean<OpenEntityManagerInViewFilter> registration =
+            new FilterRegistrationBean<>(new OpenEntityManagerInViewFilter());
+        registration.addUrlPatterns("/api/technicians/*");
+        return registration;
+    }
+}
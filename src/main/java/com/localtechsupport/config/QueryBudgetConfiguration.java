@@ -0,0 +1,33 @@
+package com.localtechsupport.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-request SQL statement budgets and N+1 detection, enabled with
+ * {@code app.query-budget.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.query-budget", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryBudgetConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        return hibernateProperties ->
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(QueryBudgetProperties properties) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+            new FilterRegistrationBean<>(new QueryBudgetFilter(properties));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
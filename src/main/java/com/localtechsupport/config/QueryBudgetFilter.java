@@ -0,0 +1,102 @@
+package com.localtechsupport.config;
+
+import com.localtechsupport.exception.QueryBudgetExceededException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the SQL statements each API request issues and checks them against
+ * the endpoint's budget.
+ *
+ * The response body is buffered so the count can still be reported in
+ * headers once the handler, including any lazy loading during serialization,
+ * is done: {@code X-Query-Count} always, {@code X-Query-Budget} when a budget
+ * applies and {@code X-N-Plus-One} with the worst repetition count when the
+ * same statement shape repeats. Repeats and overruns are logged; in strict
+ * mode an overrun throws {@link QueryBudgetExceededException} instead.
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_BUDGET_HEADER = "X-Query-Budget";
+    public static final String N_PLUS_ONE_HEADER = "X-N-Plus-One";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final QueryBudgetProperties properties;
+    private final Map<String, Integer> budgets = new HashMap<>();
+
+    public QueryBudgetFilter(QueryBudgetProperties properties) {
+        this.properties = properties;
+        for (QueryBudgetProperties.Budget budget : properties.getBudgets()) {
+            budgets.put(budget.getEndpoint(), budget.getMaxStatements());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Streaming responses cannot be buffered
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        QueryCountContext.begin();
+        QueryCountContext.QueryCount count;
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            count = QueryCountContext.end();
+        }
+
+        String endpoint = endpointOf(request);
+        int budget = budgets.getOrDefault(endpoint, properties.getDefaultBudget());
+        Map<String, Integer> repeated = count.getRepeatedStatements(properties.getRepeatThreshold());
+
+        wrapper.setHeader(QUERY_COUNT_HEADER, String.valueOf(count.getTotal()));
+        if (budget > 0) {
+            wrapper.setHeader(QUERY_BUDGET_HEADER, String.valueOf(budget));
+        }
+        if (!repeated.isEmpty()) {
+            wrapper.setHeader(N_PLUS_ONE_HEADER, String.valueOf(repeated.values().iterator().next()));
+            repeated.forEach((shape, times) ->
+                log.warn("Possible N+1 in {}: statement repeated {} times: {}", endpoint, times, shape));
+        }
+
+        if (budget > 0 && count.getTotal() > budget) {
+            String details = repeated.isEmpty() ? "" : "; repeated statements: " + repeated.entrySet().stream()
+                .map(entry -> entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining(" | "));
+            if (properties.isStrict()) {
+                throw new QueryBudgetExceededException(endpoint, count.getTotal(), budget, details);
+            }
+            log.warn("{} issued {} SQL statements, budget is {}{}", endpoint, count.getTotal(), budget, details);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * Method plus the matched handler pattern, e.g. {@code GET /api/clients/{id}}.
+     */
+    static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
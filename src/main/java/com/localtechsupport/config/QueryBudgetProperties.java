@@ -0,0 +1,45 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for per-request SQL statement counting ({@code app.query-budget.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Throw instead of only logging when a budget is exceeded, so tests fail.
+     */
+    private boolean strict = false;
+
+    /**
+     * Identical statement shapes repeated this often in one request are reported as N+1.
+     */
+    private int repeatThreshold = 3;
+
+    /**
+     * Budget for endpoints without their own entry; 0 means unlimited.
+     */
+    private int defaultBudget = 0;
+
+    private List<Budget> budgets = new ArrayList<>();
+
+    @Data
+    public static class Budget {
+
+        /**
+         * HTTP method and mapping pattern, e.g. {@code GET /api/clients/{id}}.
+         */
+        private String endpoint;
+
+        private int maxStatements;
+    }
+}
@@ -0,0 +1,87 @@
+package com.localtechsupport.config;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Per-request tally of the SQL statements Hibernate prepares.
+ *
+ * {@link QueryBudgetFilter} opens a scope for each API request and
+ * {@link QueryCountingStatementInspector} records every statement into it,
+ * grouped by shape: literals and IN-lists are collapsed so the same query
+ * with different arguments counts as one repeated statement. Outside a
+ * scope nothing is recorded.
+ */
+public final class QueryCountContext {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private QueryCountContext() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new QueryCount());
+    }
+
+    /**
+     * Closes the current scope and returns what it recorded, or an empty count if none was open.
+     */
+    public static QueryCount end() {
+        QueryCount count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count : new QueryCount();
+    }
+
+    public static QueryCount current() {
+        return CURRENT.get();
+    }
+
+    static void record(String sql) {
+        QueryCount count = CURRENT.get();
+        if (count != null) {
+            count.record(shapeOf(sql));
+        }
+    }
+
+    static String shapeOf(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+    }
+
+    public static final class QueryCount {
+
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int total;
+
+        private void record(String shape) {
+            total++;
+            shapes.merge(shape, 1, Integer::sum);
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Statement shapes issued at least {@code threshold} times, most repeated first.
+         */
+        public Map<String, Integer> getRepeatedStatements(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+    }
+}
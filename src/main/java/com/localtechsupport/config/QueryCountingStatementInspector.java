@@ -0,0 +1,16 @@
+package com.localtechsupport.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records every SQL statement Hibernate prepares on a JDBC connection into
+ * the current {@link QueryCountContext}, leaving the statement unchanged.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountContext.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,31 @@
+package com.localtechsupport.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link ReplicaRoutingContext} scope around every request.
+ *
+ * Clients that need to read data they wrote in an earlier request can send
+ * {@code X-Read-Consistency: primary} to keep the whole request on the primary.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CONSISTENCY_HEADER = "X-Read-Consistency";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ReplicaRoutingContext.begin("primary".equalsIgnoreCase(request.getHeader(CONSISTENCY_HEADER)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.end();
+        }
+    }
+}
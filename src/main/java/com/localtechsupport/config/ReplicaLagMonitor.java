@@ -0,0 +1,124 @@
+package com.localtechsupport.config;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replication lag with a heartbeat row.
+ *
+ * Each check writes the current time to {@code replica_heartbeat} on the primary
+ * and reads the replicated value back from the replica; the difference is the
+ * lag. The replica is only used for reads while the observed lag is within the
+ * configured bound. Until the first successful check, or when the replica cannot
+ * be reached, reads stay on the primary.
+ */
+public class ReplicaLagMonitor {
+
+    static final String HEARTBEAT_TABLE = "replica_heartbeat";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private ScheduledExecutorService scheduler;
+
+    private volatile boolean replicaUsable;
+    private volatile Duration lastObservedLag;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.replicaUsable = isLagCheckDisabled();
+    }
+
+    public void createHeartbeatTable() {
+        primary.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE +
+            " (id INT PRIMARY KEY, beat_at TIMESTAMP(6) NOT NULL)");
+    }
+
+    public void start(Duration interval) {
+        if (isLagCheckDisabled() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // === LAG CHECKS ===
+
+    /**
+     * Writes a new heartbeat to the primary and re-evaluates the replica's lag.
+     */
+    public void check() {
+        if (isLagCheckDisabled()) {
+            return;
+        }
+        Instant now = Instant.now();
+        try {
+            beat(now);
+            List<Timestamp> replicated = replica.queryForList(
+                "SELECT beat_at FROM " + HEARTBEAT_TABLE + " WHERE id = 1", Timestamp.class);
+            if (replicated.isEmpty()) {
+                markUnusable();
+                return;
+            }
+            Duration lag = Duration.between(replicated.get(0).toInstant(), now);
+            lastObservedLag = lag.isNegative() ? Duration.ZERO : lag;
+            replicaUsable = lastObservedLag.compareTo(maxLag) <= 0;
+        } catch (DataAccessException e) {
+            markUnusable();
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Lag seen by the most recent check, or null if it could not be measured.
+     */
+    public Duration getLastObservedLag() {
+        return lastObservedLag;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private void beat(Instant now) {
+        Timestamp beatAt = Timestamp.from(now);
+        if (primary.update("UPDATE " + HEARTBEAT_TABLE + " SET beat_at = ? WHERE id = 1", beatAt) == 0) {
+            primary.update("INSERT INTO " + HEARTBEAT_TABLE + " (id, beat_at) VALUES (1, ?)", beatAt);
+        }
+    }
+
+    private void markUnusable() {
+        lastObservedLag = null;
+        replicaUsable = false;
+    }
+
+    private boolean isLagCheckDisabled() {
+        return maxLag == null || maxLag.isZero();
+    }
+}
@@ -0,0 +1,44 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the opt-in read-replica mode ({@code app.replica.*}).
+ *
+ * The primary keeps using the regular {@code spring.datasource.*} settings.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.replica")
+public class ReplicaProperties {
+
+    /**
+     * Routes read-only transactions to the replica.
+     */
+    private boolean enabled;
+
+    /**
+     * Copies the primary schema to the replica at startup. Intended for an
+     * embedded H2 replica only; real replicas receive the schema through replication.
+     */
+    private boolean initializeSchema;
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private int maximumPoolSize = 10;
+
+    /**
+     * Replication lag above which reads fall back to the primary. Zero disables
+     * lag checks and always treats the replica as current.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * How often the heartbeat is written to the primary and read back from the replica.
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,107 @@
+package com.localtechsupport.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read-replica mode, enabled with {@code app.replica.enabled=true}.
+ *
+ * Replaces the application datasource with a lazily-connecting router that sends
+ * {@code @Transactional(readOnly = true)} work to a replica pool and all other
+ * work to the primary pool configured under {@code spring.datasource}.
+ * Not combinable with the sharded deployment mode.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties,
+                                              @Value("${app.sharding.enabled:false}") boolean shardingEnabled) {
+        if (shardingEnabled) {
+            throw new IllegalStateException("Read replicas cannot be combined with the sharded deployment mode");
+        }
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        if (properties.getUrl() == null) {
+            throw new IllegalStateException("Read replica is enabled but no replica url is configured");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(properties.getUrl())
+            .username(properties.getUsername())
+            .password(properties.getPassword())
+            .driverClassName(properties.getDriverClassName())
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               HikariDataSource replicaDataSource,
+                                               ReplicaProperties properties) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, properties.getMaxLag());
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 HikariDataSource replicaDataSource,
+                                                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReadWriteRoutingDataSource routingDataSource =
+            new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    /**
+     * Runs once all singletons, including the entity manager factory that generates
+     * the primary schema, are ready; then starts the lag checks.
+     */
+    @Bean
+    public SmartInitializingSingleton replicaInitializer(ReplicaLagMonitor replicaLagMonitor,
+                                                         HikariDataSource primaryDataSource,
+                                                         HikariDataSource replicaDataSource,
+                                                         ReplicaProperties properties) {
+        return () -> {
+            replicaLagMonitor.createHeartbeatTable();
+            if (properties.isInitializeSchema()) {
+                EmbeddedSchemaCopier.copySchema(primaryDataSource, replicaDataSource);
+            }
+            replicaLagMonitor.start(properties.getLagCheckInterval());
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.localtechsupport.config;
+
+/**
+ * Per-request read-your-writes state for the read-replica mode.
+ *
+ * {@link ReadYourWritesFilter} opens a scope for each HTTP request. Once a
+ * read-write transaction has touched the database within that scope, later
+ * read-only transactions of the same request stay on the primary so they see
+ * the request's own writes. Outside a request scope nothing is tracked.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * Opens a request scope, optionally pinning every read to the primary.
+     */
+    public static void begin(boolean pinnedToPrimary) {
+        Scope scope = new Scope();
+        scope.pinnedToPrimary = pinnedToPrimary;
+        CURRENT_SCOPE.set(scope);
+    }
+
+    public static void end() {
+        CURRENT_SCOPE.remove();
+    }
+
+    public static void markWrite() {
+        Scope scope = CURRENT_SCOPE.get();
+        if (scope != null) {
+            scope.pinnedToPrimary = true;
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        Scope scope = CURRENT_SCOPE.get();
+        return scope != null && scope.pinnedToPrimary;
+    }
+
+    private static final class Scope {
+        private boolean pinnedToPrimary;
+    }
+}
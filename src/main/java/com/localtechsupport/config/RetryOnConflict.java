@@ -0,0 +1,20 @@
+package com.localtechsupport.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method that is run again, after a backoff, when its
+ * transaction loses a concurrent update, see {@link ConflictRetryAspect}.
+ *
+ * Each attempt must reload and re-validate what it changes, so a retried call
+ * either applies to the current state or is rejected by its business rules.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,27 @@
+package com.localtechsupport.config;
+
+/**
+ * Holds the shard the current thread is routed to.
+ *
+ * Read by {@link ShardRoutingDataSource} when a physical connection is first
+ * needed; an unset context resolves to the default shard (0).
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT_SHARD.get();
+    }
+
+    public static void set(int shard) {
+        CURRENT_SHARD.set(shard);
+    }
+
+    public static void clear() {
+        CURRENT_SHARD.remove();
+    }
+}
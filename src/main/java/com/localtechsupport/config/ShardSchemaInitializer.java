@@ -0,0 +1,57 @@
+package com.localtechsupport.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prepares embedded H2 shards for local runs and tests.
+ *
+ * Copies the schema generated on shard 0 to every other shard, then restarts
+ * each identity column so that shard k only hands out ids where
+ * {@code (id - 1) % shardCount == k}.
+ */
+public class ShardSchemaInitializer {
+
+    private final ShardRoutingDataSource shardRoutingDataSource;
+
+    public ShardSchemaInitializer(ShardRoutingDataSource shardRoutingDataSource) {
+        this.shardRoutingDataSource = shardRoutingDataSource;
+    }
+
+    public void initialize() {
+        int shardCount = shardRoutingDataSource.getShardCount();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (shard > 0) {
+                EmbeddedSchemaCopier.copySchema(shardRoutingDataSource.getShard(0), shardRoutingDataSource.getShard(shard));
+            }
+            interleaveIdentities(new JdbcTemplate(shardRoutingDataSource.getShard(shard)), shard, shardCount);
+        }
+    }
+
+    private void interleaveIdentities(JdbcTemplate jdbcTemplate, int shard, int shardCount) {
+        List<Map<String, Object>> identityColumns = jdbcTemplate.queryForList(
+            "SELECT TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS " +
+            "WHERE TABLE_SCHEMA = 'PUBLIC' AND IS_IDENTITY = 'YES'");
+
+        for (Map<String, Object> column : identityColumns) {
+            String table = "\"" + column.get("TABLE_NAME") + "\"";
+            String name = "\"" + column.get("COLUMN_NAME") + "\"";
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + name + ") FROM " + table, Long.class);
+            long next = nextIdForShard(maxId != null ? maxId : 0L, shard, shardCount);
+
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + name + " RESTART WITH " + next);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + name + " SET INCREMENT BY " + shardCount);
+        }
+    }
+
+    /**
+     * Smallest id above {@code maxId} that belongs to the given shard.
+     */
+    static long nextIdForShard(long maxId, int shard, int shardCount) {
+        long next = maxId + 1;
+        long offset = Math.floorMod(next - 1 - shard, (long) shardCount);
+        return offset == 0 ? next : next + (shardCount - offset);
+    }
+}
@@ -0,0 +1,76 @@
+package com.localtechsupport.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharded deployment mode, enabled with {@code app.sharding.enabled=true}.
+ *
+ * Replaces the single application datasource with a lazily-connecting router
+ * over one pool per shard. Each client and all of its tickets, history, feedback
+ * and appointments live on the client's home shard; entity ids are interleaved
+ * across shards so every id identifies its shard. Technicians and their skills
+ * are written on shard 0 and copied to every other shard.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfiguration {
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("Sharding is enabled but no shards are configured");
+        }
+
+        List<DataSource> shards = new ArrayList<>();
+        for (int index = 0; index < properties.getShards().size(); index++) {
+            ShardingProperties.Shard shard = properties.getShards().get(index);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .driverClassName(shard.getDriverClassName())
+                .build();
+            dataSource.setPoolName("shard-" + index);
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.add(dataSource);
+        }
+
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shards);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    /**
+     * Runs once the entity manager factory has generated the schema on shard 0.
+     */
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(ShardRoutingDataSource shardRoutingDataSource,
+                                                         ShardingProperties properties,
+                                                         EntityManagerFactory entityManagerFactory) {
+        ShardSchemaInitializer initializer = new ShardSchemaInitializer(shardRoutingDataSource);
+        if (properties.isInitializeSchema()) {
+            initializer.initialize();
+        }
+        return initializer;
+    }
+}
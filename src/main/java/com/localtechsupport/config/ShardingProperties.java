@@ -0,0 +1,39 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for the opt-in sharded deployment mode ({@code app.sharding.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+
+    /**
+     * Enables routing of client data across the configured shards.
+     */
+    private boolean enabled;
+
+    /**
+     * Copies the schema of shard 0 to the other shards and interleaves identity
+     * columns at startup. Intended for embedded H2 shards only; production shards
+     * are provisioned externally with auto_increment_increment = shard count and
+     * auto_increment_offset = shard index + 1.
+     */
+    private boolean initializeSchema;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,26 @@
+package com.localtechsupport.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose concurrent identical calls share one
+ * invocation and its result, see {@link SingleFlightAspect}.
+ *
+ * Calls are identical when they target the same method with equal arguments.
+ * The shared result is handed to every caller, so it must not be modified.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * Name under {@code app.single-flight.methods} holding this method's settings;
+     * several methods may share one.
+     */
+    String value();
+}
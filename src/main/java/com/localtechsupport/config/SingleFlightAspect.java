@@ -0,0 +1,68 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Coalesces concurrent identical calls of {@link SingleFlight} methods, so a
+ * burst of the same read costs one database round trip per distinct arguments.
+ *
+ * Runs outside the method's own transaction. Calls made inside an already open
+ * transaction, or from a request pinned to the primary for read-your-writes,
+ * always run on their own: a shared result might not include their writes.
+ * Each call is counted as {@code app.single-flight.calls}, tagged with the
+ * settings name and whether it executed, shared an in-flight result or was
+ * answered from the cache window.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+
+    static final String METRIC_NAME = "app.single-flight.calls";
+
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlightGroup group = new SingleFlightGroup();
+
+    public SingleFlightAspect(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.localtechsupport.config.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        SingleFlight singleFlight = AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(joinPoint.getTarget()))
+            .getAnnotation(SingleFlight.class);
+        SingleFlightProperties.Method settings = properties.getMethods().get(singleFlight.value());
+        if ((settings != null && !settings.isEnabled())
+                || TransactionSynchronizationManager.isActualTransactionActive()
+                || ReplicaRoutingContext.isPinnedToPrimary()) {
+            return joinPoint.proceed();
+        }
+
+        List<Object> key = List.of(method, Arrays.asList(joinPoint.getArgs()));
+        Duration cacheWindow = settings != null ? settings.getCacheWindow() : Duration.ZERO;
+        SingleFlightGroup.Result result = group.execute(key, cacheWindow.toNanos(), joinPoint::proceed);
+
+        Counter.builder(METRIC_NAME)
+            .tag("name", singleFlight.value())
+            .tag("outcome", result.getOutcome().name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+        return result.getValue();
+    }
+}
@@ -0,0 +1,21 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Request coalescing for hot read endpoints, disabled with {@code app.single-flight.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.single-flight", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SingleFlightProperties.class)
+public class SingleFlightConfiguration {
+
+    @Bean
+    public SingleFlightAspect singleFlightAspect(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        return new SingleFlightAspect(properties, meterRegistry);
+    }
+}
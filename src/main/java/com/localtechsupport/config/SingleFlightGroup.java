@@ -0,0 +1,131 @@
+package com.localtechsupport.config;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Shares one in-flight computation per key between concurrent callers.
+ *
+ * The first caller for a key runs the computation on its own thread, keeping
+ * its request context; later callers wait for that result. A successful result
+ * may be kept for a cache window after completion, failures never are: every
+ * waiter receives the failure and the next call starts a new computation.
+ */
+public class SingleFlightGroup {
+
+    /**
+     * How a call was answered.
+     */
+    public enum Outcome {
+        EXECUTED,
+        SHARED,
+        CACHED
+    }
+
+    /**
+     * Computation run by the first caller of a key.
+     */
+    @FunctionalInterface
+    public interface Call {
+        Object run() throws Throwable;
+    }
+
+    /**
+     * Result of a call together with how it was obtained.
+     */
+    public static final class Result {
+
+        private final Object value;
+        private final Outcome outcome;
+
+        private Result(Object value, Outcome outcome) {
+            this.value = value;
+            this.outcome = outcome;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+    }
+
+    private final Map<Object, Flight> flights = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public SingleFlightGroup() {
+        this(System::nanoTime);
+    }
+
+    SingleFlightGroup(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    public Result execute(Object key, long cacheWindowNanos, Call call) throws Throwable {
+        while (true) {
+            Flight flight = new Flight();
+            Flight existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                return new Result(lead(key, flight, cacheWindowNanos, call), Outcome.EXECUTED);
+            }
+            if (existing.isExpired(nanoClock.getAsLong())) {
+                flights.remove(key, existing);
+                continue;
+            }
+            Outcome outcome = existing.result.isDone() ? Outcome.CACHED : Outcome.SHARED;
+            return new Result(await(existing), outcome);
+        }
+    }
+
+    /**
+     * Number of keys with a computation in flight or a cached result.
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    private Object lead(Object key, Flight flight, long cacheWindowNanos, Call call) throws Throwable {
+        try {
+            Object value = call.run();
+            if (cacheWindowNanos > 0) {
+                long now = nanoClock.getAsLong();
+                // Expired results of keys not asked for again are dropped by the next computation
+                flights.values().removeIf(other -> other.isExpired(now));
+                flight.expiresAt = now + cacheWindowNanos;
+            } else {
+                flights.remove(key, flight);
+            }
+            flight.result.complete(value);
+            return value;
+        } catch (Throwable e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Object await(Flight flight) throws Throwable {
+        try {
+            return flight.result.get();
+        } catch (ExecutionException | CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        // Set before the result completes, so readers that see a done result see it too
+        private volatile long expiresAt;
+
+        private boolean isExpired(long now) {
+            return result.isDone() && expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+}
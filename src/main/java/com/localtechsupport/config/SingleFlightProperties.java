@@ -0,0 +1,35 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for coalescing identical concurrent reads ({@code app.single-flight.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.single-flight")
+public class SingleFlightProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Settings by {@link SingleFlight} name; unlisted names coalesce without caching.
+     */
+    private Map<String, Method> methods = new LinkedHashMap<>();
+
+    @Data
+    public static class Method {
+
+        private boolean enabled = true;
+
+        /**
+         * How long a completed result keeps answering identical calls. Zero only
+         * shares results between calls that overlap.
+         */
+        private Duration cacheWindow = Duration.ZERO;
+    }
+}
@@ -0,0 +1,113 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.Repository;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Logs Spring Data repository calls slower than the configured threshold.
+ *
+ * Each entry names the repository query (e.g. {@code TicketRepository.findByStatus})
+ * and the shape of its bind parameters — types, string lengths, collection sizes,
+ * paging — but never their values, so no client data reaches the log. Slow calls
+ * are also counted as {@code app.repository.slow.queries}.
+ */
+@Aspect
+public class SlowQueryLogAspect {
+
+    static final String METRIC_NAME = "app.repository.slow.queries";
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLogAspect.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public SlowQueryLogAspect(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object logSlowQueries(ProceedingJoinPoint joinPoint) throws Throwable {
+        long started = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            if (elapsed >= thresholdNanos) {
+                String repository = repositoryName(joinPoint.getThis());
+                String method = joinPoint.getSignature().getName();
+                log.warn("Slow query {}.{}({}) took {} ms", repository, method,
+                    describeArguments(joinPoint.getArgs()), elapsed / 1_000_000);
+                Counter.builder(METRIC_NAME)
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .increment();
+            }
+        }
+    }
+
+    /**
+     * Describes bind parameters by shape only, e.g. {@code Long, String[len=12], List[size=3]}.
+     */
+    static String describeArguments(Object[] args) {
+        return Arrays.stream(args).map(SlowQueryLogAspect::describe).collect(Collectors.joining(", "));
+    }
+
+    private static String describe(Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        if (arg instanceof CharSequence text) {
+            return "String[len=" + text.length() + "]";
+        }
+        if (arg instanceof Collection<?> collection) {
+            String kind = collection instanceof List ? "List" : collection instanceof Set ? "Set" : "Collection";
+            return kind + "[size=" + collection.size() + "]";
+        }
+        if (arg.getClass().isArray()) {
+            return arg.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(arg) + "]";
+        }
+        if (arg instanceof Pageable pageable) {
+            return pageable.isPaged()
+                ? "Pageable[page=" + pageable.getPageNumber() + ", size=" + pageable.getPageSize() + ", sort=" + pageable.getSort() + "]"
+                : "Pageable[unpaged]";
+        }
+        if (arg instanceof Sort sort) {
+            return "Sort[" + sort + "]";
+        }
+        if (arg instanceof Enum<?> value) {
+            return value.getDeclaringClass().getSimpleName() + "." + value.name();
+        }
+        return arg.getClass().getSimpleName();
+    }
+
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), proxyClass ->
+            Arrays.stream(AopProxyUtils.proxiedUserInterfaces(proxy))
+                .filter(type -> Repository.class.isAssignableFrom(type) && type.getName().startsWith("com.localtechsupport"))
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(proxyClass.getSimpleName()));
+    }
+}
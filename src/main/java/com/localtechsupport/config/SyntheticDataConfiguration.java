@@ -0,0 +1,46 @@
+package com.localtechsupport.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Loads a synthetic data set at startup when the {@code datagen} profile is active.
+ */
+@Configuration
+@Profile("datagen")
+@EnableConfigurationProperties(SyntheticDataProperties.class)
+public class SyntheticDataConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataConfiguration.class);
+
+    @Bean
+    public SyntheticDataGenerator syntheticDataGenerator(DataSource dataSource, SyntheticDataProperties properties) {
+        return new SyntheticDataGenerator(dataSource, properties);
+    }
+
+    @Bean
+    public ApplicationRunner syntheticDataRunner(SyntheticDataGenerator syntheticDataGenerator,
+                                                 SyntheticDataProperties properties,
+                                                 ConfigurableApplicationContext context) {
+        return args -> {
+            long started = System.nanoTime();
+            Map<String, Long> rows = syntheticDataGenerator.generate();
+            log.info("Generated synthetic data in {}: {}", Duration.ofNanos(System.nanoTime() - started), rows);
+
+            if (properties.isExitAfter()) {
+                System.exit(SpringApplication.exit(context));
+            }
+        };
+    }
+}
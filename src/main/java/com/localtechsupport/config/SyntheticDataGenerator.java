@@ -0,0 +1,525 @@
+package com.localtechsupport.config;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates large, realistic data sets with batched JDBC inserts.
+ *
+ * Distributions:
+ * - a few clients raise most tickets (power-law client choice)
+ * - technician load follows a Zipf distribution over active technicians
+ * - creation times follow business hours and weekdays, with occasional incident days
+ * - recent tickets are mostly open; a configurable share of overdue tickets stays open
+ *
+ * Tickets, clients and technicians get explicit ids and every ticket's attributes
+ * derive from the seed and its id alone, so chunks are generated in parallel and
+ * the output does not depend on thread scheduling. History, feedback and
+ * appointment rows use generated ids.
+ */
+public class SyntheticDataGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int TICKET_CHUNK = 10_000;
+    private static final int CLIENT_CHUNK = 10_000;
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+        "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin"
+    };
+    private static final String[] HARDWARE_ISSUES = {
+        "Printer jam", "Laptop will not boot", "Monitor flickering", "Keyboard keys stuck", "Router keeps dropping",
+        "Hard drive clicking", "Battery not charging", "Docking station not detected"
+    };
+    private static final String[] SOFTWARE_ISSUES = {
+        "Email not syncing", "VPN connection fails", "Office activation error", "Slow startup after update",
+        "Password reset needed", "Backup job failing", "Browser crashes", "Accounting software license expired"
+    };
+    private static final String[] POSITIVE_COMMENTS = {
+        "Quick and friendly service", "Solved on the first visit", "Very knowledgeable technician"
+    };
+    private static final String[] NEGATIVE_COMMENTS = {
+        "Took too long to resolve", "Had to call back twice", "Problem came back the next day"
+    };
+    private static final double[] HOURLY_WEIGHTS = {
+        0.1, 0.05, 0.05, 0.05, 0.05, 0.1, 0.3, 0.8, 1.6, 2.0, 2.0, 1.8,
+        1.2, 1.7, 1.9, 1.8, 1.5, 1.0, 0.6, 0.4, 0.3, 0.25, 0.2, 0.15
+    };
+
+    private final DataSource dataSource;
+    private final SyntheticDataProperties properties;
+    private final Instant now;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final Map<String, LongAdder> rowCounts = new LinkedHashMap<>();
+
+    public SyntheticDataGenerator(DataSource dataSource, SyntheticDataProperties properties) {
+        this(dataSource, properties, Instant.now());
+    }
+
+    SyntheticDataGenerator(DataSource dataSource, SyntheticDataProperties properties, Instant now) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.now = now;
+        for (String table : List.of("technicians", "technician_skills", "clients", "tickets",
+                                    "ticket_history", "feedback_entries", "appointments")) {
+            rowCounts.put(table, new LongAdder());
+        }
+    }
+
+    /**
+     * Generates the configured data set and returns the number of rows written per table.
+     */
+    public Map<String, Long> generate() {
+        validateProperties();
+
+        long technicianBase = maxId("technicians");
+        long clientBase = maxId("clients");
+        long ticketBase = maxId("tickets");
+
+        long[] activeTechnicians = insertTechnicians(technicianBase);
+        CreationTimeSampler creationTimes = new CreationTimeSampler(new SplittableRandom(properties.getSeed()));
+        ZipfSampler technicianLoad = new ZipfSampler(activeTechnicians.length, 1.0);
+
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> clientChunks = new ArrayList<>();
+            for (int from = 0; from < properties.getClients(); from += CLIENT_CHUNK) {
+                int start = from;
+                int end = Math.min(properties.getClients(), from + CLIENT_CHUNK);
+                clientChunks.add(executor.submit(() -> insertClients(clientBase, start, end)));
+            }
+            awaitAll(clientChunks);
+
+            List<Future<?>> ticketChunks = new ArrayList<>();
+            for (int from = 0; from < properties.getTickets(); from += TICKET_CHUNK) {
+                int start = from;
+                int end = Math.min(properties.getTickets(), from + TICKET_CHUNK);
+                ticketChunks.add(executor.submit(() -> insertTickets(ticketBase, clientBase, start, end,
+                    activeTechnicians, technicianLoad, creationTimes)));
+            }
+            awaitAll(ticketChunks);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        restartIdentities();
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        rowCounts.forEach((table, count) -> counts.put(table, count.sum()));
+        return counts;
+    }
+
+    // === TABLE GENERATION ===
+
+    private long[] insertTechnicians(long base) {
+        SplittableRandom random = new SplittableRandom(properties.getSeed() ^ 0x7EC4L);
+        List<Long> active = new ArrayList<>();
+        String[] statuses = new String[properties.getTechnicians()];
+        for (int i = 0; i < statuses.length; i++) {
+            double roll = random.nextDouble();
+            statuses[i] = roll < 0.85 ? "ACTIVE" : roll < 0.90 ? "ON_VACATION" : roll < 0.95 ? "IN_TRAINING" : "INACTIVE";
+            if (statuses[i].equals("ACTIVE")) {
+                active.add(base + i + 1);
+            }
+        }
+        if (active.isEmpty()) {
+            statuses[0] = "ACTIVE";
+            active.add(base + 1);
+        }
+
+        withConnection(connection -> {
+            try (PreparedStatement technicians = connection.prepareStatement(
+                     "INSERT INTO technicians (id, full_name, email, status) VALUES (?, ?, ?, ?)");
+                 PreparedStatement skills = connection.prepareStatement(
+                     "INSERT INTO technician_skills (technician_id, service_type) VALUES (?, ?)")) {
+                for (int i = 0; i < statuses.length; i++) {
+                    long id = base + i + 1;
+                    String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    technicians.setLong(1, id);
+                    technicians.setString(2, firstName + " " + lastName);
+                    technicians.setString(3, "tech" + id + "@techsupport.example.com");
+                    technicians.setString(4, statuses[i]);
+                    technicians.addBatch();
+
+                    // Most technicians cover both service types
+                    int skillRoll = random.nextInt(10);
+                    if (skillRoll != 0) {
+                        addSkill(skills, id, "HARDWARE");
+                    }
+                    if (skillRoll != 1) {
+                        addSkill(skills, id, "SOFTWARE");
+                    }
+                }
+                technicians.executeBatch();
+                skills.executeBatch();
+                connection.commit();
+                rowCounts.get("technicians").add(statuses.length);
+            }
+        });
+        return active.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void addSkill(PreparedStatement skills, long technicianId, String serviceType) throws SQLException {
+        skills.setLong(1, technicianId);
+        skills.setString(2, serviceType);
+        skills.addBatch();
+        rowCounts.get("technician_skills").increment();
+    }
+
+    private void insertClients(long base, int from, int to) {
+        withConnection(connection -> {
+            try (PreparedStatement clients = connection.prepareStatement(
+                     "INSERT INTO clients (id, first_name, last_name, email, phone, address, status, notes, created_at, updated_at) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?, NULL, ?, ?)")) {
+                int pending = 0;
+                for (int i = from; i < to; i++) {
+                    long id = base + i + 1;
+                    SplittableRandom random = randomFor(id, 0xC11E47L);
+                    String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    double statusRoll = random.nextDouble();
+                    Timestamp createdAt = Timestamp.from(now.minus(Duration.ofMinutes(
+                        random.nextLong((long) (properties.getDays() + 365) * 24 * 60))));
+
+                    clients.setLong(1, id);
+                    clients.setString(2, firstName);
+                    clients.setString(3, lastName);
+                    clients.setString(4, (firstName + "." + lastName + "." + id + "@example.com").toLowerCase());
+                    clients.setString(5, String.format("555-%03d-%04d", random.nextInt(1000), random.nextInt(10_000)));
+                    clients.setString(6, (100 + random.nextInt(9900)) + " Main Street");
+                    clients.setString(7, statusRoll < 0.92 ? "ACTIVE" : statusRoll < 0.98 ? "INACTIVE" : "SUSPENDED");
+                    clients.setTimestamp(8, createdAt);
+                    clients.setTimestamp(9, createdAt);
+                    clients.addBatch();
+
+                    if (++pending == properties.getBatchSize()) {
+                        clients.executeBatch();
+                        connection.commit();
+                        pending = 0;
+                    }
+                }
+                clients.executeBatch();
+                connection.commit();
+                rowCounts.get("clients").add(to - from);
+            }
+        });
+    }
+
+    private void insertTickets(long ticketBase, long clientBase, int from, int to, long[] activeTechnicians,
+                               ZipfSampler technicianLoad, CreationTimeSampler creationTimes) {
+        withConnection(connection -> {
+            try (PreparedStatement tickets = connection.prepareStatement(
+                     "INSERT INTO tickets (id, client_id, technician_id, service_type, description, status, priority, created_at, due_at) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+                 PreparedStatement history = connection.prepareStatement(
+                     "INSERT INTO ticket_history (ticket_id, status, description, created_by, created_at, updated_at) " +
+                     "VALUES (?, ?, ?, ?, ?, ?)");
+                 PreparedStatement feedback = connection.prepareStatement(
+                     "INSERT INTO feedback_entries (ticket_id, rating, comment, created_by, submitted_at) VALUES (?, ?, ?, ?, ?)");
+                 PreparedStatement appointments = connection.prepareStatement(
+                     "INSERT INTO appointments (technician_id, ticket_id, start_time, end_time, status, created_at, updated_at) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                int pending = 0;
+                for (int i = from; i < to; i++) {
+                    long id = ticketBase + i + 1;
+                    SplittableRandom random = randomFor(id, 0x71C4E7L);
+                    writeTicket(id, clientBase, random, activeTechnicians, technicianLoad, creationTimes,
+                        tickets, history, feedback, appointments);
+
+                    if (++pending == properties.getBatchSize()) {
+                        flush(connection, tickets, history, feedback, appointments);
+                        pending = 0;
+                    }
+                }
+                flush(connection, tickets, history, feedback, appointments);
+            }
+        });
+    }
+
+    private void writeTicket(long id, long clientBase, SplittableRandom random, long[] activeTechnicians,
+                             ZipfSampler technicianLoad, CreationTimeSampler creationTimes,
+                             PreparedStatement tickets, PreparedStatement history,
+                             PreparedStatement feedback, PreparedStatement appointments) throws SQLException {
+        Instant createdAt = creationTimes.sample(random);
+        boolean hardware = random.nextDouble() < 0.6;
+        Instant dueAt = createdAt.plus(Duration.ofHours(hardware ? 24 : 48));
+        boolean open = now.isBefore(dueAt) ? random.nextDouble() < 0.6 : random.nextDouble() < properties.getOverdueRate();
+        boolean assigned = !open || random.nextDouble() < 0.7;
+        long clientId = clientBase + 1 + (long) (properties.getClients() * Math.pow(random.nextDouble(), 3));
+        Long technicianId = assigned ? activeTechnicians[technicianLoad.sample(random)] : null;
+        double priorityRoll = random.nextDouble();
+        String priority = priorityRoll < 0.05 ? "URGENT" : priorityRoll < 0.25 ? "HIGH" : priorityRoll < 0.80 ? "NORMAL" : "LOW";
+        String[] issues = hardware ? HARDWARE_ISSUES : SOFTWARE_ISSUES;
+        String description = issues[random.nextInt(issues.length)];
+
+        tickets.setLong(1, id);
+        tickets.setLong(2, clientId);
+        if (technicianId != null) {
+            tickets.setLong(3, technicianId);
+        } else {
+            tickets.setNull(3, Types.BIGINT);
+        }
+        tickets.setString(4, hardware ? "HARDWARE" : "SOFTWARE");
+        tickets.setString(5, description);
+        tickets.setString(6, open ? "OPEN" : "CLOSED");
+        tickets.setString(7, priority);
+        tickets.setTimestamp(8, Timestamp.from(createdAt));
+        tickets.setTimestamp(9, Timestamp.from(dueAt));
+        tickets.addBatch();
+        rowCounts.get("tickets").increment();
+
+        addHistory(history, id, 0, "Ticket created - " + description, "SYSTEM", createdAt);
+        if (technicianId == null) {
+            return;
+        }
+        Instant assignedAt = before(createdAt.plus(Duration.ofMinutes(5 + random.nextInt(240))));
+        addHistory(history, id, 0, "Assigned to technician: tech" + technicianId, "SYSTEM", assignedAt);
+
+        Instant closedAt = null;
+        if (!open) {
+            // Resolution times are roughly exponential with a mean of about a day
+            long resolutionMinutes = 30 + (long) (-Math.log(1 - random.nextDouble()) * 24 * 60);
+            closedAt = before(assignedAt.plus(Duration.ofMinutes(resolutionMinutes)));
+            addHistory(history, id, 1, "Status changed from OPEN to CLOSED - Resolved", "tech" + technicianId, closedAt);
+
+            if (random.nextDouble() < 0.55) {
+                boolean late = closedAt.isAfter(dueAt);
+                int rating = (int) Math.round(Math.max(1, Math.min(5, (late ? 3.2 : 4.4) + random.nextGaussian() * 0.9)));
+                String[] comments = rating >= 4 ? POSITIVE_COMMENTS : NEGATIVE_COMMENTS;
+                feedback.setLong(1, id);
+                feedback.setInt(2, rating);
+                feedback.setString(3, comments[random.nextInt(comments.length)]);
+                feedback.setString(4, "client");
+                feedback.setTimestamp(5, Timestamp.from(before(closedAt.plus(Duration.ofHours(1 + random.nextInt(72))))));
+                feedback.addBatch();
+                rowCounts.get("feedback_entries").increment();
+            }
+        }
+
+        if (random.nextDouble() < 0.25) {
+            Instant start = assignedAt.plus(Duration.ofHours(2 + random.nextInt(46)));
+            Instant end = start.plus(Duration.ofMinutes(30 + 30L * random.nextInt(8)));
+            // AppointmentStatus ordinals: PENDING 0, CONFIRMED 1, COMPLETED 3, CANCELLED 4, NO_SHOW 5
+            int status = start.isAfter(now) ? random.nextInt(2)
+                : open ? 4
+                : random.nextDouble() < 0.05 ? 5 : 3;
+            appointments.setLong(1, technicianId);
+            appointments.setLong(2, id);
+            appointments.setTimestamp(3, Timestamp.from(start));
+            appointments.setTimestamp(4, Timestamp.from(end));
+            appointments.setInt(5, status);
+            appointments.setTimestamp(6, Timestamp.from(assignedAt));
+            appointments.setTimestamp(7, Timestamp.from(before(closedAt != null ? closedAt : assignedAt)));
+            appointments.addBatch();
+            rowCounts.get("appointments").increment();
+        }
+    }
+
+    private void addHistory(PreparedStatement history, long ticketId, int status, String description,
+                            String createdBy, Instant at) throws SQLException {
+        Timestamp timestamp = Timestamp.from(at);
+        history.setLong(1, ticketId);
+        history.setInt(2, status);
+        history.setString(3, description);
+        history.setString(4, createdBy);
+        history.setTimestamp(5, timestamp);
+        history.setTimestamp(6, timestamp);
+        history.addBatch();
+        rowCounts.get("ticket_history").increment();
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private void validateProperties() {
+        if (properties.getTechnicians() < 1 || properties.getClients() < 1 || properties.getTickets() < 0) {
+            throw new IllegalArgumentException("Synthetic data needs at least one technician and one client");
+        }
+        if (properties.getBatchSize() < 1 || properties.getDays() < 1) {
+            throw new IllegalArgumentException("Batch size and days must be positive");
+        }
+        if (properties.getOverdueRate() < 0 || properties.getOverdueRate() > 1) {
+            throw new IllegalArgumentException("Overdue rate must be between 0 and 1");
+        }
+    }
+
+    private SplittableRandom randomFor(long id, long salt) {
+        return new SplittableRandom(properties.getSeed() ^ salt ^ (id * GOLDEN_GAMMA));
+    }
+
+    private Instant before(Instant instant) {
+        return instant.isAfter(now) ? now : instant;
+    }
+
+    private void flush(Connection connection, PreparedStatement tickets, PreparedStatement... dependents) throws SQLException {
+        tickets.executeBatch();
+        for (PreparedStatement dependent : dependents) {
+            dependent.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private long maxId(String table) {
+        long[] max = new long[1];
+        withConnection(connection -> {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                resultSet.next();
+                max[0] = resultSet.getLong(1);
+            }
+        });
+        return max[0];
+    }
+
+    /**
+     * Moves H2 identity counters past the explicitly inserted ids; MySQL does this itself.
+     */
+    private void restartIdentities() {
+        withConnection(connection -> {
+            if (!connection.getMetaData().getDatabaseProductName().equals("H2")) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (String table : List.of("technicians", "clients", "tickets")) {
+                    long next;
+                    try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+                        resultSet.next();
+                        next = resultSet.getLong(1);
+                    }
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+                }
+            }
+            connection.commit();
+        });
+    }
+
+    private void withConnection(SqlWork work) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                work.run(connection);
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Synthetic data generation failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating synthetic data", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Synthetic data generation failed", e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void run(Connection connection) throws SQLException;
+    }
+
+    // === DISTRIBUTIONS ===
+
+    /**
+     * Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent.
+     */
+    static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int n, double exponent) {
+            cumulative = new double[n];
+            double total = 0;
+            for (int rank = 0; rank < n; rank++) {
+                total += 1.0 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = total;
+            }
+            for (int rank = 0; rank < n; rank++) {
+                cumulative[rank] /= total;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+        }
+    }
+
+    /**
+     * Samples instants over the configured window, weighted by hour of day and
+     * day of week, with roughly one in twenty days carrying an incident burst.
+     */
+    final class CreationTimeSampler {
+
+        private final Instant windowStart;
+        private final double[] cumulative;
+
+        CreationTimeSampler(SplittableRandom random) {
+            int hours = properties.getDays() * 24;
+            windowStart = now.minus(Duration.ofHours(hours));
+            cumulative = new double[hours];
+
+            double total = 0;
+            double burst = 1.0;
+            for (int hour = 0; hour < hours; hour++) {
+                ZonedDateTime time = windowStart.plus(Duration.ofHours(hour)).atZone(zone);
+                if (hour == 0 || time.getHour() == 0) {
+                    burst = random.nextDouble() < 0.05 ? 3.0 + random.nextDouble() * 3.0 : 1.0;
+                }
+                DayOfWeek day = time.getDayOfWeek();
+                double dayWeight = day == DayOfWeek.SATURDAY ? 0.35 : day == DayOfWeek.SUNDAY ? 0.25 : 1.0;
+                total += HOURLY_WEIGHTS[time.getHour()] * dayWeight * burst;
+                cumulative[hour] = total;
+            }
+            for (int hour = 0; hour < hours; hour++) {
+                cumulative[hour] /= total;
+            }
+        }
+
+        Instant sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            int hour = Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+            return before(windowStart.plus(Duration.ofHours(hour)).plusSeconds(random.nextInt(3600)));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the synthetic data generator ({@code app.datagen.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datagen")
+public class SyntheticDataProperties {
+
+    private int clients = 100_000;
+    private int technicians = 200;
+    private int tickets = 1_000_000;
+
+    /**
+     * Seed of all random choices; the same seed and sizes produce the same rows.
+     */
+    private long seed = 42L;
+
+    /**
+     * Insert threads. Zero uses one thread per available processor.
+     */
+    private int threads;
+
+    private int batchSize = 1_000;
+
+    /**
+     * Length of the window, ending now, in which tickets are created.
+     */
+    private int days = 365;
+
+    /**
+     * Share of tickets past their due date that are still open.
+     */
+    private double overdueRate = 0.04;
+
+    /**
+     * Stops the application once generation is done (command-line use).
+     */
+    private boolean exitAfter;
+}
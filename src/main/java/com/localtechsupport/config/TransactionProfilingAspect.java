@@ -0,0 +1,38 @@
+package com.localtechsupport.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Tells the {@link ConnectionHoldProfiler} which service method is running.
+ *
+ * Ordered outside the transaction interceptor, so connections released when
+ * the method's transaction commits are still attributed to the method.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TransactionProfilingAspect {
+
+    private final ConnectionHoldProfiler profiler;
+
+    public TransactionProfilingAspect(ConnectionHoldProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Around("within(@org.springframework.stereotype.Service *) && execution(public * *(..))")
+    public Object attribute(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean outermost = profiler.enter(AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName(),
+            joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (outermost) {
+                profiler.leave();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Connection hold time per service method, enabled with
+ * {@code app.transaction-profiling.enabled=true}.
+ *
+ * Wraps the application's data source. Behind the lazy connection proxy of the
+ * sharded and replica modes the proxy's target is wrapped instead, so only
+ * physical connections are timed.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.transaction-profiling", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(TransactionProfilingProperties.class)
+public class TransactionProfilingConfiguration {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public ConnectionHoldProfiler connectionHoldProfiler(MeterRegistry meterRegistry) {
+        return new ConnectionHoldProfiler(meterRegistry);
+    }
+
+    @Bean
+    public TransactionProfilingAspect transactionProfilingAspect(ConnectionHoldProfiler connectionHoldProfiler) {
+        return new TransactionProfilingAspect(connectionHoldProfiler);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionHoldProfilingPostProcessor(ObjectProvider<ConnectionHoldProfiler> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                if (dataSource instanceof LazyConnectionDataSourceProxy lazyProxy) {
+                    lazyProxy.setTargetDataSource(profiler.getObject().profile(lazyProxy.getTargetDataSource()));
+                    return lazyProxy;
+                }
+                return profiler.getObject().profile(dataSource);
+            }
+        };
+    }
+}
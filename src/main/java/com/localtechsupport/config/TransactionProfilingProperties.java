@@ -0,0 +1,14 @@
+package com.localtechsupport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for connection hold time profiling ({@code app.transaction-profiling.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.transaction-profiling")
+public class TransactionProfilingProperties {
+
+    private boolean enabled = false;
+}
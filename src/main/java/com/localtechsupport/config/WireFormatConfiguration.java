@@ -0,0 +1,57 @@
+package com.localtechsupport.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Wire formats for high-volume API consumers.
+ *
+ * Every response DTO can be requested as CBOR ({@code Accept: application/cbor})
+ * or Smile ({@code Accept: application/x-jackson-smile}) besides JSON. Both
+ * mappers come from the application's Jackson builder, so they apply the same
+ * modules, date handling and naming as JSON. The binary converters are placed
+ * after JSON so that clients sending {@code Accept: *}{@code /*} keep getting JSON.
+ *
+ * All formats serialize DTOs through Blackbird, which replaces reflective
+ * getter calls and constructor lookups with generated lambdas.
+ */
+@Configuration
+public class WireFormatConfiguration implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Autowired
+    public WireFormatConfiguration(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    /**
+     * Picked up by Spring Boot's Jackson builder, so it applies to every mapper built from it.
+     */
+    @Bean
+    public static Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+            || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+            objectMapperBuilder.factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+            objectMapperBuilder.factory(new SmileFactory()).build()));
+    }
+}
@@ -16,7 +16,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -28,6 +30,7 @@ import java.util.stream.Collectors;
  * - Status management and workflow transitions
  * - Calendar views and technician schedules
  * - Availability checking and time slot management
+ * - Technician utilization reporting
  */
 @RestController
 @RequestMapping("/api/appointments")
@@ -246,6 +249,21 @@ public class AppointmentController {
         return ResponseEntity.ok(available);
     }
 
+    // === UTILIZATION REPORTING ===
+
+    /**
+     * Get booked vs available hours per technician and day for a date range (UTC days, inclusive).
+     */
+    @GetMapping("/utilization")
+    public ResponseEntity<Map<String, Object>> getTechnicianUtilization(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "8") double hoursPerDay) {
+        
+        Map<String, Object> report = appointmentService.getTechnicianUtilizationReport(from, to, hoursPerDay);
+        return ResponseEntity.ok(report);
+    }
+
     // === HELPER METHODS ===
 
     private AppointmentResponse mapToAppointmentResponse(Appointment appointment) {
@@ -3,6 +3,10 @@ package com.localtechsupport.controller;
 import com.localtechsupport.dto.request.*;
 import com.localtechsupport.dto.response.*;
 import com.localtechsupport.entity.Client;
+import com.localtechsupport.repository.ClientListing;
+import com.localtechsupport.service.ClientDeletionJob;
+import com.localtechsupport.service.ClientDeletionService;
+import com.localtechsupport.service.ClientOverviewService;
 import com.localtechsupport.service.ClientService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -36,10 +41,15 @@ import java.util.stream.Collectors;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ClientDeletionService clientDeletionService;
+    private final ClientOverviewService clientOverviewService;
 
     @Autowired
-    public ClientController(ClientService clientService) {
+    public ClientController(ClientService clientService, ClientDeletionService clientDeletionService,
+                            ClientOverviewService clientOverviewService) {
         this.clientService = clientService;
+        this.clientDeletionService = clientDeletionService;
+        this.clientOverviewService = clientOverviewService;
     }
 
     // === CORE CRUD OPERATIONS ===
@@ -77,6 +87,15 @@ public class ClientController {
         }
     }
 
+    /**
+     * Get a client's ticket counts, overdue tickets, feedback rating, upcoming
+     * appointments and last activity in one request.
+     */
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<ClientOverviewResponse> getClientOverview(@PathVariable Long id) {
+        return ResponseEntity.ok(ClientOverviewResponse.from(clientOverviewService.getClientOverview(id)));
+    }
+
     /**
      * Update an existing client.
      */
@@ -108,6 +127,27 @@ public class ClientController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Start an asynchronous deletion, for clients with very many tickets.
+     */
+    @PostMapping("/{id}/deletion-jobs")
+    public ResponseEntity<ClientDeletionJobResponse> startClientDeletion(@PathVariable Long id) {
+        ClientDeletionJob job = clientDeletionService.startDeletion(id);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/clients/deletion-jobs/" + job.getId()))
+            .body(ClientDeletionJobResponse.from(job));
+    }
+
+    /**
+     * Get the progress of an asynchronous client deletion.
+     */
+    @GetMapping("/deletion-jobs/{jobId}")
+    public ResponseEntity<ClientDeletionJobResponse> getClientDeletionJob(@PathVariable String jobId) {
+        return clientDeletionService.findJob(jobId)
+            .map(job -> ResponseEntity.ok(ClientDeletionJobResponse.from(job)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
     /**
      * Get all clients with pagination and sorting.
      */
@@ -123,13 +163,13 @@ public class ClientController {
             Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Client> clients;
+        Page<ClientListing> clients;
         
         // Apply filters based on query parameters
         if (status != null) {
-            clients = clientService.findClientsByStatus(status, pageable);
+            clients = clientService.findClientListingsByStatus(status, pageable);
         } else {
-            clients = clientService.findAllClients(pageable);
+            clients = clientService.findClientListings(pageable);
         }
         
         Page<ClientResponse> response = clients.map(ClientResponse::from);
@@ -212,7 +252,7 @@ public class ClientController {
             Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Client> clients = clientService.searchClients(query, pageable);
+        Page<ClientListing> clients = clientService.searchClientListings(query, pageable);
         Page<ClientResponse> response = clients.map(ClientResponse::from);
         
         return ResponseEntity.ok(response);
@@ -233,7 +273,7 @@ public class ClientController {
             Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Client> clients = clientService.findClientsByStatus(status, pageable);
+        Page<ClientListing> clients = clientService.findClientListingsByStatus(status, pageable);
         Page<ClientResponse> response = clients.map(ClientResponse::from);
         
         return ResponseEntity.ok(response);
@@ -253,7 +293,7 @@ public class ClientController {
             Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Client> clients = clientService.findActiveClients(pageable);
+        Page<ClientListing> clients = clientService.findClientListingsByStatus(Client.ClientStatus.ACTIVE, pageable);
         Page<ClientResponse> response = clients.map(ClientResponse::from);
         
         return ResponseEntity.ok(response);
@@ -273,7 +313,7 @@ public class ClientController {
             Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Client> clients = clientService.findInactiveClients(pageable);
+        Page<ClientListing> clients = clientService.findClientListingsByStatus(Client.ClientStatus.INACTIVE, pageable);
         Page<ClientResponse> response = clients.map(ClientResponse::from);
         
         return ResponseEntity.ok(response);
@@ -295,7 +335,7 @@ public class ClientController {
         Pageable pageable = PageRequest.of(page, size, sort);
         
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        Page<Client> clients = clientService.findRecentClients(since, pageable);
+        Page<ClientListing> clients = clientService.findRecentClientListings(since, pageable);
         Page<ClientResponse> response = clients.map(ClientResponse::from);
         
         return ResponseEntity.ok(response);
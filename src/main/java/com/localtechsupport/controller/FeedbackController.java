@@ -32,6 +32,7 @@ import java.util.stream.Collectors;
  * - Rating-based filtering and search
  * - Customer satisfaction analytics
  * - Feedback trends and reporting
+ * - Per-technician satisfaction summaries and leaderboard
  */
 @RestController
 @RequestMapping("/api/feedback")
@@ -407,9 +408,28 @@ public class FeedbackController {
      */
     @GetMapping("/technician/{technicianId}")
     public ResponseEntity<Map<String, Object>> getTechnicianFeedbackSummary(
-            @PathVariable Long technicianId) {
-        Map<String, Object> summary = feedbackService.getTechnicianFeedbackSummary(technicianId);
-        return ResponseEntity.ok(summary);
+            @PathVariable Long technicianId,
+            @RequestParam(defaultValue = "30") int days) {
+        try {
+            Map<String, Object> summary = feedbackService.getTechnicianFeedbackSummary(technicianId, days);
+            return ResponseEntity.ok(summary);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Get technicians ranked by average feedback rating.
+     */
+    @GetMapping("/technicians/leaderboard")
+    public ResponseEntity<List<Map<String, Object>>> getTechnicianFeedbackLeaderboard(
+            @RequestParam(defaultValue = "1") long minFeedback,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(feedbackService.getTechnicianFeedbackLeaderboard(minFeedback, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // === COUNT ENDPOINTS ===
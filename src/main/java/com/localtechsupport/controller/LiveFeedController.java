@@ -0,0 +1,113 @@
+package com.localtechsupport.controller;
+
+import com.localtechsupport.dto.response.LiveFeedEventResponse;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.service.LiveFeedBroadcaster;
+import com.localtechsupport.service.LiveFeedBroadcaster.OverflowPolicy;
+import com.localtechsupport.service.LiveFeedFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * REST Controller for the live change feed.
+ *
+ * Replaces dashboard polling of unassigned, overdue, upcoming and recent lists
+ * with a Server-Sent Events stream of committed ticket and appointment changes.
+ */
+@RestController
+@RequestMapping("/api/feed")
+public class LiveFeedController {
+
+    private final LiveFeedBroadcaster broadcaster;
+    private final long timeoutMillis;
+
+    @Autowired
+    public LiveFeedController(LiveFeedBroadcaster broadcaster,
+                              @Value("${app.live-feed.timeout:30m}") Duration timeout) {
+        this.broadcaster = broadcaster;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Streams changes matching the optional technician, service type and ticket
+     * or appointment status filters. Each change is an SSE event named after its
+     * type (e.g. TicketCreated) with the change id as event id; a "dropped" event
+     * reports changes lost to a full buffer. Browsers reconnect with Last-Event-ID
+     * and receive the changes they missed while they are still retained; a
+     * "reset" event means the id is unknown to this server and the client
+     * should refetch.
+     * GET /api/feed
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam(required = false) Long technicianId,
+            @RequestParam(required = false) ServiceType serviceType,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "COALESCE") OverflowPolicy overflow,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        LiveFeedFilter filter = new LiveFeedFilter(technicianId, serviceType, status);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        LiveFeedBroadcaster.Subscription subscription =
+            broadcaster.subscribe(filter, overflow, lastEventId, new EmitterSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * Gets the number of open feed subscriptions.
+     * GET /api/feed/subscribers
+     */
+    @GetMapping("/subscribers")
+    public Map<String, Object> getSubscribers() {
+        return Map.of("subscribers", broadcaster.getSubscriberCount());
+    }
+
+    // === HELPER CLASSES ===
+
+    private static final class EmitterSink implements LiveFeedBroadcaster.Sink {
+
+        private final SseEmitter emitter;
+
+        private EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(LiveFeedEventResponse event) throws IOException {
+            emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(event.getType())
+                .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void dropped(long count) throws IOException {
+            emitter.send(SseEmitter.event().name("dropped").data(Map.of("dropped", count), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void reset() throws IOException {
+            emitter.send(SseEmitter.event().name("reset").data(Map.of("reset", true), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void complete() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.localtechsupport.controller;
+
+import com.localtechsupport.dto.response.SyncResponse;
+import com.localtechsupport.service.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for delta sync of tickets, history, feedback and appointments.
+ *
+ * Lets offline-capable clients fetch only what changed since their last sync
+ * instead of reloading full lists.
+ */
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Autowired
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    /**
+     * Gets the changes after the since token, or a starting token when none is given.
+     * GET /api/sync?since={token}&limit={limit}
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(SyncResponse.from(syncService.getChangesSince(since, limit)));
+    }
+}
@@ -5,6 +5,8 @@ import com.localtechsupport.dto.response.*;
 import com.localtechsupport.entity.Technician;
 import com.localtechsupport.entity.TechnicianStatus;
 import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.repository.TechnicianListing;
+import com.localtechsupport.service.CapacityForecastService;
 import com.localtechsupport.service.TechnicianService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,7 +34,7 @@ import java.util.stream.Collectors;
  * - Skill management
  * - Search and filtering
  * - Statistics and reporting
- * - Workload analysis
+ * - Workload analysis and capacity forecasting
  */
 @RestController
 @RequestMapping("/api/technicians")
@@ -40,10 +42,13 @@ import java.util.stream.Collectors;
 public class TechnicianController {
 
     private final TechnicianService technicianService;
+    private final CapacityForecastService capacityForecastService;
 
     @Autowired
-    public TechnicianController(TechnicianService technicianService) {
+    public TechnicianController(TechnicianService technicianService,
+                                CapacityForecastService capacityForecastService) {
         this.technicianService = technicianService;
+        this.capacityForecastService = capacityForecastService;
     }
 
     // === CORE CRUD OPERATIONS ===
@@ -110,15 +115,8 @@ public class TechnicianController {
             Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Technician> technicians;
-        
-        if (status != null) {
-            technicians = technicianService.findTechniciansByStatus(status, pageable);
-        } else {
-            technicians = technicianService.findAllTechnicians(pageable);
-        }
-        
-        Page<TechnicianResponse> response = technicians.map(this::convertToResponse);
+        Page<TechnicianListing> technicians = technicianService.findTechnicianListings(status, pageable);
+        Page<TechnicianResponse> response = technicians.map(TechnicianResponse::from);
         return ResponseEntity.ok(response);
     }
 
@@ -201,8 +199,8 @@ public class TechnicianController {
             Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Technician> technicians = technicianService.searchTechnicians(query, pageable);
-        Page<TechnicianResponse> response = technicians.map(this::convertToResponse);
+        Page<TechnicianListing> technicians = technicianService.searchTechnicianListings(query, pageable);
+        Page<TechnicianResponse> response = technicians.map(TechnicianResponse::from);
         return ResponseEntity.ok(response);
     }
 
@@ -221,8 +219,8 @@ public class TechnicianController {
             Sort.Direction.DESC : Sort.Direction.ASC, sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Technician> technicians = technicianService.findTechniciansByStatus(status, pageable);
-        Page<TechnicianResponse> response = technicians.map(this::convertToResponse);
+        Page<TechnicianListing> technicians = technicianService.findTechnicianListings(status, pageable);
+        Page<TechnicianResponse> response = technicians.map(TechnicianResponse::from);
         return ResponseEntity.ok(response);
     }
 
@@ -272,15 +270,9 @@ public class TechnicianController {
     public ResponseEntity<List<TechnicianResponse>> getAvailableTechnicians(
             @RequestParam(required = false) ServiceType serviceType) {
         
-        List<Technician> technicians;
-        if (serviceType != null) {
-            technicians = technicianService.getAvailableTechniciansForService(serviceType);
-        } else {
-            technicians = technicianService.getAvailableTechnicians();
-        }
-        
+        List<TechnicianListing> technicians = technicianService.findAvailableTechnicianListings(serviceType);
         List<TechnicianResponse> response = technicians.stream()
-            .map(this::convertToResponse)
+            .map(TechnicianResponse::from)
             .collect(Collectors.toList());
         
         return ResponseEntity.ok(response);
@@ -295,7 +287,7 @@ public class TechnicianController {
         Map<String, Object> response = new HashMap<>();
         response.put("technicianId", id);
         response.put("currentWorkload", workload);
-        response.put("available", workload < 10); // Using default max workload
+        response.put("available", workload < TechnicianResponse.MAX_AVAILABLE_WORKLOAD);
         return ResponseEntity.ok(response);
     }
 
@@ -328,6 +320,15 @@ public class TechnicianController {
         return ResponseEntity.ok(coverage);
     }
 
+    /**
+     * Forecast per-day capacity against ticket demand for the next N days.
+     */
+    @GetMapping("/capacity-forecast")
+    public ResponseEntity<Map<String, Object>> getCapacityForecast(@RequestParam(defaultValue = "14") int days) {
+        Map<String, Object> forecast = capacityForecastService.forecast(days);
+        return ResponseEntity.ok(forecast);
+    }
+
     // === EMAIL VALIDATION ===
 
     /**
@@ -356,7 +357,8 @@ public class TechnicianController {
         response.setStatus(technician.getStatus());
         response.setSkills(skills);
         response.setCurrentWorkload(technician.getCurrentLoad());
-        response.setAvailable(technician.getStatus() == TechnicianStatus.ACTIVE && technician.getCurrentLoad() < 10);
+        response.setAvailable(technician.getStatus() == TechnicianStatus.ACTIVE
+            && technician.getCurrentLoad() < TechnicianResponse.MAX_AVAILABLE_WORKLOAD);
         
         return response;
     }
@@ -3,9 +3,11 @@ package com.localtechsupport.controller;
 import com.localtechsupport.dto.request.AddSkillRequest;
 import com.localtechsupport.dto.response.SkillResponse;
 import com.localtechsupport.dto.response.SkillCoverageResponse;
+import com.localtechsupport.dto.response.TechnicianResponse;
 import com.localtechsupport.entity.ServiceType;
-import com.localtechsupport.entity.Technician;
 import com.localtechsupport.entity.TechnicianSkill;
+import com.localtechsupport.repository.SkillListing;
+import com.localtechsupport.repository.TechnicianListing;
 import com.localtechsupport.service.TechnicianSkillService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -97,8 +99,8 @@ public class TechnicianSkillController {
      */
     @GetMapping
     public ResponseEntity<Page<SkillResponse>> getAllSkills(@PageableDefault(size = 20) Pageable pageable) {
-        Page<TechnicianSkill> skills = technicianSkillService.findAllSkills(pageable);
-        Page<SkillResponse> responses = skills.map(SkillResponse::fromEntity);
+        Page<SkillListing> skills = technicianSkillService.findSkillListings(pageable);
+        Page<SkillResponse> responses = skills.map(SkillResponse::fromListing);
         return ResponseEntity.ok(responses);
     }
 
@@ -112,8 +114,8 @@ public class TechnicianSkillController {
     public ResponseEntity<Page<SkillResponse>> getSkillsByTechnician(@PathVariable Long technicianId,
                                                                    @PageableDefault(size = 20) Pageable pageable) {
         try {
-            Page<TechnicianSkill> skills = technicianSkillService.findSkillsByTechnician(technicianId, pageable);
-            Page<SkillResponse> responses = skills.map(SkillResponse::fromEntity);
+            Page<SkillListing> skills = technicianSkillService.findSkillListingsByTechnician(technicianId, pageable);
+            Page<SkillResponse> responses = skills.map(SkillResponse::fromListing);
             return ResponseEntity.ok(responses);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
@@ -170,10 +172,11 @@ public class TechnicianSkillController {
      * GET /api/skills/service-type/{serviceType}/technicians
      */
     @GetMapping("/service-type/{serviceType}/technicians")
-    public ResponseEntity<Page<Technician>> getTechniciansByServiceType(@PathVariable ServiceType serviceType,
-                                                                       @PageableDefault(size = 20) Pageable pageable) {
-        Page<Technician> technicians = technicianSkillService.findTechniciansByServiceType(serviceType, pageable);
-        return ResponseEntity.ok(technicians);
+    public ResponseEntity<Page<TechnicianResponse>> getTechniciansByServiceType(@PathVariable ServiceType serviceType,
+                                                                               @PageableDefault(size = 20) Pageable pageable) {
+        Page<TechnicianListing> technicians =
+            technicianSkillService.findTechnicianListingsByServiceType(serviceType, pageable);
+        return ResponseEntity.ok(technicians.map(TechnicianResponse::from));
     }
 
     /**
@@ -3,6 +3,7 @@ package com.localtechsupport.controller;
 import com.localtechsupport.dto.request.*;
 import com.localtechsupport.dto.response.*;
 import com.localtechsupport.entity.*;
+import com.localtechsupport.service.BulkTicketService;
 import com.localtechsupport.service.TicketService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +27,7 @@ import java.util.stream.Collectors;
  * Provides comprehensive API endpoints for:
  * - Ticket CRUD operations
  * - Assignment management
+ * - Bulk close, reassign and priority changes
  * - Search and filtering
  * - Statistics and reporting
  */
@@ -35,10 +37,12 @@ import java.util.stream.Collectors;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final BulkTicketService bulkTicketService;
 
     @Autowired
-    public TicketController(TicketService ticketService) {
+    public TicketController(TicketService ticketService, BulkTicketService bulkTicketService) {
         this.ticketService = ticketService;
+        this.bulkTicketService = bulkTicketService;
     }
 
     // === CORE CRUD OPERATIONS ===
@@ -220,6 +224,35 @@ public class TicketController {
         return ResponseEntity.ok(response);
     }
 
+    // === BULK OPERATIONS ===
+
+    /**
+     * Close all open tickets matching the filter.
+     */
+    @PostMapping("/bulk/close")
+    public ResponseEntity<BulkTicketOperationResponse> bulkCloseTickets(@Valid @RequestBody BulkTicketRequest request) {
+        return ResponseEntity.ok(BulkTicketOperationResponse.from(bulkTicketService.closeTickets(
+            request.toFilter(), request.getResolutionNotes(), request.getUpdatedBy())));
+    }
+
+    /**
+     * Reassign all open tickets matching the filter to the target technician.
+     */
+    @PostMapping("/bulk/reassign")
+    public ResponseEntity<BulkTicketOperationResponse> bulkReassignTickets(@Valid @RequestBody BulkTicketRequest request) {
+        return ResponseEntity.ok(BulkTicketOperationResponse.from(bulkTicketService.reassignTickets(
+            request.toFilter(), request.getTargetTechnicianId(), request.getUpdatedBy())));
+    }
+
+    /**
+     * Change the priority of all tickets matching the filter.
+     */
+    @PostMapping("/bulk/priority")
+    public ResponseEntity<BulkTicketOperationResponse> bulkChangePriority(@Valid @RequestBody BulkTicketRequest request) {
+        return ResponseEntity.ok(BulkTicketOperationResponse.from(bulkTicketService.changePriority(
+            request.toFilter(), request.getPriority(), request.getUpdatedBy())));
+    }
+
     // === SEARCH AND FILTERING ===
 
     /**
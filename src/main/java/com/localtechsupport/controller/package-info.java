@@ -7,5 +7,7 @@
  * - Feedback submission
  * - History retrieval
  * - SLA and utilization reporting
+ * - Live change feed over Server-Sent Events
+ * - Delta sync of changes since a token
  */
 package com.localtechsupport.controller; 
\ No newline at end of file
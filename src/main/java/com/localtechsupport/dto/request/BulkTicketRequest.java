@@ -0,0 +1,117 @@
+package com.localtechsupport.dto.request;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.service.BulkTicketFilter;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for bulk ticket operations.
+ *
+ * The filter fields (ticket ids, current technician, service type, status)
+ * select the tickets; the remaining fields carry the change for the
+ * operation being called.
+ */
+public class BulkTicketRequest {
+
+    // Filter
+    @Size(max = 10000, message = "At most 10000 ticket IDs can be given")
+    private List<Long> ticketIds;
+
+    @Positive(message = "Technician ID must be positive")
+    private Long technicianId;
+
+    private ServiceType serviceType;
+
+    private TicketStatus status;
+
+    // Change
+    @Positive(message = "Target technician ID must be positive")
+    private Long targetTechnicianId;
+
+    private TicketPriority priority;
+
+    @Size(max = 1000, message = "Resolution notes must not exceed 1000 characters")
+    private String resolutionNotes;
+
+    @NotBlank(message = "Updated by is required")
+    @Size(max = 100, message = "Updated by must not exceed 100 characters")
+    private String updatedBy;
+
+    // Default constructor
+    public BulkTicketRequest() {}
+
+    public BulkTicketFilter toFilter() {
+        return new BulkTicketFilter(ticketIds, technicianId, serviceType, status);
+    }
+
+    // Getters and setters
+    public List<Long> getTicketIds() {
+        return ticketIds;
+    }
+
+    public void setTicketIds(List<Long> ticketIds) {
+        this.ticketIds = ticketIds;
+    }
+
+    public Long getTechnicianId() {
+        return technicianId;
+    }
+
+    public void setTechnicianId(Long technicianId) {
+        this.technicianId = technicianId;
+    }
+
+    public ServiceType getServiceType() {
+        return serviceType;
+    }
+
+    public void setServiceType(ServiceType serviceType) {
+        this.serviceType = serviceType;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TicketStatus status) {
+        this.status = status;
+    }
+
+    public Long getTargetTechnicianId() {
+        return targetTechnicianId;
+    }
+
+    public void setTargetTechnicianId(Long targetTechnicianId) {
+        this.targetTechnicianId = targetTechnicianId;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TicketPriority priority) {
+        this.priority = priority;
+    }
+
+    public String getResolutionNotes() {
+        return resolutionNotes;
+    }
+
+    public void setResolutionNotes(String resolutionNotes) {
+        this.resolutionNotes = resolutionNotes;
+    }
+
+    public String getUpdatedBy() {
+        return updatedBy;
+    }
+
+    public void setUpdatedBy(String updatedBy) {
+        this.updatedBy = updatedBy;
+    }
+}
@@ -0,0 +1,178 @@
+package com.localtechsupport.dto.response;
+
+import com.localtechsupport.service.BulkTicketResult;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Response DTO for a bulk ticket operation with its per-chunk results.
+ */
+public class BulkTicketOperationResponse {
+
+    private String operation;
+    private int matchedTickets;
+    private int updatedTickets;
+    private int skippedTickets;
+    private List<Long> rejectedTicketIds;
+    private long failedChunks;
+    private List<ChunkResponse> chunks;
+
+    // Default constructor
+    public BulkTicketOperationResponse() {}
+
+    // Constructor from result
+    public BulkTicketOperationResponse(BulkTicketResult result) {
+        this.operation = result.getOperation();
+        this.matchedTickets = result.getMatched();
+        this.updatedTickets = result.getUpdated();
+        this.skippedTickets = result.getSkipped();
+        this.rejectedTicketIds = result.getRejectedTicketIds();
+        this.failedChunks = result.getFailedChunks();
+        this.chunks = result.getChunks().stream().map(ChunkResponse::new).collect(Collectors.toList());
+    }
+
+    // Static factory method
+    public static BulkTicketOperationResponse from(BulkTicketResult result) {
+        return new BulkTicketOperationResponse(result);
+    }
+
+    // Getters and Setters
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public int getMatchedTickets() {
+        return matchedTickets;
+    }
+
+    public void setMatchedTickets(int matchedTickets) {
+        this.matchedTickets = matchedTickets;
+    }
+
+    public int getUpdatedTickets() {
+        return updatedTickets;
+    }
+
+    public void setUpdatedTickets(int updatedTickets) {
+        this.updatedTickets = updatedTickets;
+    }
+
+    public int getSkippedTickets() {
+        return skippedTickets;
+    }
+
+    public void setSkippedTickets(int skippedTickets) {
+        this.skippedTickets = skippedTickets;
+    }
+
+    public List<Long> getRejectedTicketIds() {
+        return rejectedTicketIds;
+    }
+
+    public void setRejectedTicketIds(List<Long> rejectedTicketIds) {
+        this.rejectedTicketIds = rejectedTicketIds;
+    }
+
+    public long getFailedChunks() {
+        return failedChunks;
+    }
+
+    public void setFailedChunks(long failedChunks) {
+        this.failedChunks = failedChunks;
+    }
+
+    public List<ChunkResponse> getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(List<ChunkResponse> chunks) {
+        this.chunks = chunks;
+    }
+
+    /**
+     * Result of one chunk, committed in its own transaction.
+     */
+    public static class ChunkResponse {
+
+        private int index;
+        private Long firstTicketId;
+        private Long lastTicketId;
+        private int matched;
+        private int updated;
+        private List<Long> rejectedTicketIds;
+        private String error;
+
+        public ChunkResponse() {}
+
+        public ChunkResponse(BulkTicketResult.Chunk chunk) {
+            this.index = chunk.getIndex();
+            this.firstTicketId = chunk.getFirstTicketId();
+            this.lastTicketId = chunk.getLastTicketId();
+            this.matched = chunk.getMatched();
+            this.updated = chunk.getUpdated();
+            this.rejectedTicketIds = chunk.getRejectedTicketIds();
+            this.error = chunk.getError();
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public Long getFirstTicketId() {
+            return firstTicketId;
+        }
+
+        public void setFirstTicketId(Long firstTicketId) {
+            this.firstTicketId = firstTicketId;
+        }
+
+        public Long getLastTicketId() {
+            return lastTicketId;
+        }
+
+        public void setLastTicketId(Long lastTicketId) {
+            this.lastTicketId = lastTicketId;
+        }
+
+        public int getMatched() {
+            return matched;
+        }
+
+        public void setMatched(int matched) {
+            this.matched = matched;
+        }
+
+        public int getUpdated() {
+            return updated;
+        }
+
+        public void setUpdated(int updated) {
+            this.updated = updated;
+        }
+
+        public List<Long> getRejectedTicketIds() {
+            return rejectedTicketIds;
+        }
+
+        public void setRejectedTicketIds(List<Long> rejectedTicketIds) {
+            this.rejectedTicketIds = rejectedTicketIds;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
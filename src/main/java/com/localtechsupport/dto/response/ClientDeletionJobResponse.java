@@ -0,0 +1,115 @@
+package com.localtechsupport.dto.response;
+
+import com.localtechsupport.service.ClientDeletionJob;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for the status of an asynchronous client deletion.
+ */
+public class ClientDeletionJobResponse {
+
+    private String jobId;
+    private Long clientId;
+    private ClientDeletionJob.Status status;
+    private long totalTickets;
+    private long detachedTickets;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+
+    // Default constructor
+    public ClientDeletionJobResponse() {}
+
+    // Constructor from job
+    public ClientDeletionJobResponse(ClientDeletionJob job) {
+        this.jobId = job.getId();
+        this.clientId = job.getClientId();
+        this.status = job.getStatus();
+        this.totalTickets = job.getTotalTickets();
+        this.detachedTickets = job.getDetachedTickets();
+        this.submittedAt = job.getSubmittedAt();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.error = job.getError();
+    }
+
+    // Static factory method
+    public static ClientDeletionJobResponse from(ClientDeletionJob job) {
+        return new ClientDeletionJobResponse(job);
+    }
+
+    // Getters and Setters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(Long clientId) {
+        this.clientId = clientId;
+    }
+
+    public ClientDeletionJob.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(ClientDeletionJob.Status status) {
+        this.status = status;
+    }
+
+    public long getTotalTickets() {
+        return totalTickets;
+    }
+
+    public void setTotalTickets(long totalTickets) {
+        this.totalTickets = totalTickets;
+    }
+
+    public long getDetachedTickets() {
+        return detachedTickets;
+    }
+
+    public void setDetachedTickets(long detachedTickets) {
+        this.detachedTickets = detachedTickets;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
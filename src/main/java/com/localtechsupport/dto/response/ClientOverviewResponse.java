@@ -0,0 +1,116 @@
+package com.localtechsupport.dto.response;
+
+import com.localtechsupport.entity.Appointment;
+import com.localtechsupport.entity.AppointmentStatus;
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.service.ClientOverview;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for the client overview (/api/clients/{id}/overview).
+ *
+ * Summarizes a client's tickets, feedback and appointments for the client
+ * page in one response. Overdue tickets are open tickets past their due time.
+ */
+@Data
+public class ClientOverviewResponse {
+
+    private ClientSummaryResponse client;
+    private long totalTickets;
+    private Map<TicketStatus, Long> ticketsByStatus;
+    private Map<TicketPriority, Long> ticketsByPriority;
+    private long overdueTicketCount;
+    private List<OverdueTicket> overdueTickets;
+    private long feedbackCount;
+
+    /**
+     * Null when the client has left no feedback.
+     */
+    private Double averageRating;
+
+    private List<UpcomingAppointment> upcomingAppointments;
+    private Instant lastActivityAt;
+    private Instant generatedAt;
+
+    public static ClientOverviewResponse from(ClientOverview overview) {
+        Client client = overview.getClient();
+        ClientOverviewResponse response = new ClientOverviewResponse();
+        response.setClient(new ClientSummaryResponse(client.getId(), client.getFirstName(),
+            client.getLastName(), client.getEmail()));
+        response.setTotalTickets(overview.getTotalTickets());
+        response.setTicketsByStatus(overview.getTicketsByStatus());
+        response.setTicketsByPriority(overview.getTicketsByPriority());
+        response.setOverdueTicketCount(overview.getOverdueTicketCount());
+        response.setOverdueTickets(overview.getOverdueTickets().stream().map(OverdueTicket::from).toList());
+        response.setFeedbackCount(overview.getFeedbackCount());
+        response.setAverageRating(overview.getAverageRating());
+        response.setUpcomingAppointments(overview.getUpcomingAppointments().stream().map(UpcomingAppointment::from).toList());
+        response.setLastActivityAt(overview.getLastActivityAt());
+        response.setGeneratedAt(Instant.now());
+        return response;
+    }
+
+    /**
+     * Open ticket past its due time.
+     */
+    @Data
+    public static class OverdueTicket {
+        private Long id;
+        private String description;
+        private ServiceType serviceType;
+        private TicketPriority priority;
+        private Instant dueAt;
+        private Long assignedTechnicianId;
+        private String assignedTechnicianName;
+
+        public static OverdueTicket from(Ticket ticket) {
+            OverdueTicket overdue = new OverdueTicket();
+            overdue.setId(ticket.getId());
+            overdue.setDescription(ticket.getDescription());
+            overdue.setServiceType(ticket.getServiceType());
+            overdue.setPriority(ticket.getPriority());
+            overdue.setDueAt(ticket.getDueAt());
+            if (ticket.getAssignedTechnician() != null) {
+                overdue.setAssignedTechnicianId(ticket.getAssignedTechnician().getId());
+                overdue.setAssignedTechnicianName(ticket.getAssignedTechnician().getFullName());
+            }
+            return overdue;
+        }
+    }
+
+    /**
+     * Pending, confirmed or in-progress appointment that has not started yet.
+     */
+    @Data
+    public static class UpcomingAppointment {
+        private Long id;
+        private Long ticketId;
+        private String ticketDescription;
+        private Long technicianId;
+        private String technicianName;
+        private Instant startTime;
+        private Instant endTime;
+        private AppointmentStatus status;
+
+        public static UpcomingAppointment from(Appointment appointment) {
+            UpcomingAppointment upcoming = new UpcomingAppointment();
+            upcoming.setId(appointment.getId());
+            upcoming.setTicketId(appointment.getTicket().getId());
+            upcoming.setTicketDescription(appointment.getTicket().getDescription());
+            upcoming.setTechnicianId(appointment.getTechnician().getId());
+            upcoming.setTechnicianName(appointment.getTechnician().getFullName());
+            upcoming.setStartTime(appointment.getStartTime());
+            upcoming.setEndTime(appointment.getEndTime());
+            upcoming.setStatus(appointment.getStatus());
+            return upcoming;
+        }
+    }
+}
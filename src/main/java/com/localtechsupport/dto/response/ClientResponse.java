@@ -2,6 +2,7 @@ package com.localtechsupport.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.localtechsupport.entity.Client;
+import com.localtechsupport.repository.ClientListing;
 
 import java.time.LocalDateTime;
 
@@ -64,6 +65,13 @@ public class ClientResponse {
         return new ClientResponse(client);
     }
 
+    // Static factory method for list rows
+    public static ClientResponse from(ClientListing listing) {
+        return new ClientResponse(listing.getId(), listing.getFirstName(), listing.getLastName(),
+            listing.getEmail(), listing.getPhone(), listing.getAddress(), listing.getNotes(),
+            listing.getStatus(), listing.getCreatedAt(), listing.getUpdatedAt());
+    }
+
     // Utility methods
     public String getFullName() {
         return firstName + " " + lastName;
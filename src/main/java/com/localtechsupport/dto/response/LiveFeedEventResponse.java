@@ -0,0 +1,185 @@
+package com.localtechsupport.dto.response;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.event.AppointmentEvent;
+import com.localtechsupport.event.DomainEvent;
+import com.localtechsupport.event.TicketAssigned;
+import com.localtechsupport.event.TicketEvent;
+import com.localtechsupport.event.TicketUnassigned;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for one change pushed on the live feed (/api/feed).
+ *
+ * The id increases monotonically per server, across restarts, and is sent as
+ * the SSE event id, so reconnecting clients can resume with Last-Event-ID. Ticket changes leave
+ * the appointment fields empty and vice versa.
+ */
+public class LiveFeedEventResponse {
+
+    private long id;
+    private String type;
+    private Long ticketId;
+    private Long appointmentId;
+    private Long technicianId;
+    private Long previousTechnicianId;
+    private ServiceType serviceType;
+    private String status;
+    private TicketPriority priority;
+    private Instant startTime;
+    private Instant endTime;
+    private Instant occurredAt;
+
+    // Default constructor
+    public LiveFeedEventResponse() {}
+
+    // Constructor from ticket event
+    public LiveFeedEventResponse(long id, TicketEvent event) {
+        this(id, (DomainEvent) event);
+        this.ticketId = event.getTicketId();
+        this.technicianId = event.getTechnicianId();
+        this.serviceType = event.getServiceType();
+        this.status = event.getStatus() != null ? event.getStatus().name() : null;
+        this.priority = event.getPriority();
+        if (event instanceof TicketAssigned assigned) {
+            this.previousTechnicianId = assigned.getPreviousTechnicianId();
+        } else if (event instanceof TicketUnassigned unassigned) {
+            this.previousTechnicianId = unassigned.getPreviousTechnicianId();
+        }
+    }
+
+    // Constructor from appointment event
+    public LiveFeedEventResponse(long id, AppointmentEvent event) {
+        this(id, (DomainEvent) event);
+        this.appointmentId = event.getAppointmentId();
+        this.ticketId = event.getTicketId();
+        this.technicianId = event.getTechnicianId();
+        this.serviceType = event.getServiceType();
+        this.status = event.getStatus() != null ? event.getStatus().name() : null;
+        this.startTime = event.getStartTime();
+        this.endTime = event.getEndTime();
+    }
+
+    private LiveFeedEventResponse(long id, DomainEvent event) {
+        this.id = id;
+        this.type = event.getType();
+        this.occurredAt = event.getOccurredAt();
+    }
+
+    // Static factory method
+    public static LiveFeedEventResponse from(long id, DomainEvent event) {
+        if (event instanceof TicketEvent ticketEvent) {
+            return new LiveFeedEventResponse(id, ticketEvent);
+        }
+        if (event instanceof AppointmentEvent appointmentEvent) {
+            return new LiveFeedEventResponse(id, appointmentEvent);
+        }
+        throw new IllegalArgumentException("Unsupported live feed event: " + event.getType());
+    }
+
+    /**
+     * Key under which queued changes to the same ticket or appointment coalesce.
+     */
+    public String coalesceKey() {
+        return appointmentId != null ? "appointment:" + appointmentId : "ticket:" + ticketId;
+    }
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public void setTicketId(Long ticketId) {
+        this.ticketId = ticketId;
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public void setAppointmentId(Long appointmentId) {
+        this.appointmentId = appointmentId;
+    }
+
+    public Long getTechnicianId() {
+        return technicianId;
+    }
+
+    public void setTechnicianId(Long technicianId) {
+        this.technicianId = technicianId;
+    }
+
+    public Long getPreviousTechnicianId() {
+        return previousTechnicianId;
+    }
+
+    public void setPreviousTechnicianId(Long previousTechnicianId) {
+        this.previousTechnicianId = previousTechnicianId;
+    }
+
+    public ServiceType getServiceType() {
+        return serviceType;
+    }
+
+    public void setServiceType(ServiceType serviceType) {
+        this.serviceType = serviceType;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TicketPriority priority) {
+        this.priority = priority;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -2,6 +2,7 @@ package com.localtechsupport.dto.response;
 
 import com.localtechsupport.entity.ServiceType;
 import com.localtechsupport.entity.TechnicianSkill;
+import com.localtechsupport.repository.SkillListing;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -41,6 +42,21 @@ public class SkillResponse {
         return response;
     }
 
+    /**
+     * Creates SkillResponse from a joined skill listing row.
+     */
+    public static SkillResponse fromListing(SkillListing skill) {
+        SkillResponse response = new SkillResponse();
+        response.setSkillId(skill.getSkillId());
+        response.setTechnicianId(skill.getTechnicianId());
+        response.setTechnicianName(skill.getTechnicianName());
+        response.setTechnicianEmail(skill.getTechnicianEmail());
+        response.setTechnicianStatus(skill.getTechnicianStatus().toString());
+        response.setServiceType(skill.getServiceType());
+        response.setServiceTypeDescription(getServiceTypeDescription(skill.getServiceType()));
+        return response;
+    }
+
     /**
      * Provides human-readable descriptions for service types.
      */
@@ -0,0 +1,165 @@
+package com.localtechsupport.dto.response;
+
+import com.localtechsupport.entity.Appointment;
+import com.localtechsupport.entity.AppointmentStatus;
+import com.localtechsupport.entity.FeedbackEntry;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.entity.TicketHistory;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.service.SyncBatch;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for delta sync (/api/sync).
+ *
+ * Entities are flattened to ids for their references so a page stays compact;
+ * clients already hold the referenced clients and technicians. History holds
+ * the complete history of each listed ticket and replaces what the client has
+ * for it. Deleting a ticket also deletes its history, feedback and appointments.
+ */
+@Data
+public class SyncResponse {
+
+    /**
+     * Token to pass as {@code since} on the next request.
+     */
+    private String nextToken;
+
+    /**
+     * Whether more changes are ready; request again right away when set.
+     */
+    private boolean hasMore;
+
+    private List<TicketChange> tickets;
+    private List<HistoryChange> history;
+    private List<FeedbackChange> feedback;
+    private List<AppointmentChange> appointments;
+    private List<Long> deletedTicketIds;
+    private List<Long> deletedFeedbackIds;
+
+    public static SyncResponse from(SyncBatch batch) {
+        SyncResponse response = new SyncResponse();
+        response.setNextToken(batch.getNextToken());
+        response.setHasMore(batch.isHasMore());
+        response.setTickets(batch.getTickets().stream().map(TicketChange::from).toList());
+        response.setHistory(batch.getHistory().stream().map(HistoryChange::from).toList());
+        response.setFeedback(batch.getFeedback().stream().map(FeedbackChange::from).toList());
+        response.setAppointments(batch.getAppointments().stream().map(AppointmentChange::from).toList());
+        response.setDeletedTicketIds(batch.getDeletedTicketIds());
+        response.setDeletedFeedbackIds(batch.getDeletedFeedbackIds());
+        return response;
+    }
+
+    /**
+     * Current state of a created or updated ticket.
+     */
+    @Data
+    public static class TicketChange {
+        private Long id;
+        private Long clientId;
+        private Long assignedTechnicianId;
+        private ServiceType serviceType;
+        private String description;
+        private TicketStatus status;
+        private TicketPriority priority;
+        private Instant dueAt;
+        private Instant createdAt;
+
+        public static TicketChange from(Ticket ticket) {
+            TicketChange change = new TicketChange();
+            change.setId(ticket.getId());
+            change.setClientId(ticket.getClient() != null ? ticket.getClient().getId() : null);
+            change.setAssignedTechnicianId(ticket.getAssignedTechnician() != null ? ticket.getAssignedTechnician().getId() : null);
+            change.setServiceType(ticket.getServiceType());
+            change.setDescription(ticket.getDescription());
+            change.setStatus(ticket.getStatus());
+            change.setPriority(ticket.getPriority());
+            change.setDueAt(ticket.getDueAt());
+            change.setCreatedAt(ticket.getCreatedAt());
+            return change;
+        }
+    }
+
+    /**
+     * One history entry of a ticket whose history changed.
+     */
+    @Data
+    public static class HistoryChange {
+        private Long id;
+        private Long ticketId;
+        private TicketStatus status;
+        private String description;
+        private String createdBy;
+        private Instant createdAt;
+        private Instant updatedAt;
+
+        public static HistoryChange from(TicketHistory history) {
+            HistoryChange change = new HistoryChange();
+            change.setId(history.getId());
+            change.setTicketId(history.getTicket().getId());
+            change.setStatus(history.getStatus());
+            change.setDescription(history.getDescription());
+            change.setCreatedBy(history.getCreatedBy());
+            change.setCreatedAt(history.getCreatedAt());
+            change.setUpdatedAt(history.getUpdatedAt());
+            return change;
+        }
+    }
+
+    /**
+     * Current state of created or updated feedback.
+     */
+    @Data
+    public static class FeedbackChange {
+        private Long id;
+        private Long ticketId;
+        private int rating;
+        private String comment;
+        private String createdBy;
+        private Instant submittedAt;
+
+        public static FeedbackChange from(FeedbackEntry feedback) {
+            FeedbackChange change = new FeedbackChange();
+            change.setId(feedback.getId());
+            change.setTicketId(feedback.getTicket().getId());
+            change.setRating(feedback.getRating());
+            change.setComment(feedback.getComment());
+            change.setCreatedBy(feedback.getCreatedBy());
+            change.setSubmittedAt(feedback.getSubmittedAt());
+            return change;
+        }
+    }
+
+    /**
+     * Current state of a booked or updated appointment.
+     */
+    @Data
+    public static class AppointmentChange {
+        private Long id;
+        private Long ticketId;
+        private Long technicianId;
+        private AppointmentStatus status;
+        private Instant startTime;
+        private Instant endTime;
+        private Instant createdAt;
+        private Instant updatedAt;
+
+        public static AppointmentChange from(Appointment appointment) {
+            AppointmentChange change = new AppointmentChange();
+            change.setId(appointment.getId());
+            change.setTicketId(appointment.getTicket().getId());
+            change.setTechnicianId(appointment.getTechnician().getId());
+            change.setStatus(appointment.getStatus());
+            change.setStartTime(appointment.getStartTime());
+            change.setEndTime(appointment.getEndTime());
+            change.setCreatedAt(appointment.getCreatedAt());
+            change.setUpdatedAt(appointment.getUpdatedAt());
+            return change;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.localtechsupport.dto.response;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.localtechsupport.entity.ServiceType;
 import com.localtechsupport.entity.TechnicianStatus;
+import com.localtechsupport.repository.TechnicianListing;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -13,6 +14,9 @@ import java.util.Set;
  */
 public class TechnicianResponse {
 
+    // Active technicians with fewer open tickets than this are available
+    public static final long MAX_AVAILABLE_WORKLOAD = 10;
+
     private Long id;
     private String fullName;
     private String email;
@@ -53,6 +57,17 @@ public class TechnicianResponse {
         this.updatedAt = updatedAt;
     }
 
+    // Static factory method for list rows
+    public static TechnicianResponse from(TechnicianListing listing) {
+        TechnicianResponse response = new TechnicianResponse(
+            listing.getId(), listing.getFullName(), listing.getEmail(), listing.getStatus());
+        response.setSkills(listing.getSkills());
+        response.setCurrentWorkload(listing.getCurrentLoad());
+        response.setAvailable(listing.getStatus() == TechnicianStatus.ACTIVE
+            && listing.getCurrentLoad() < MAX_AVAILABLE_WORKLOAD);
+        return response;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
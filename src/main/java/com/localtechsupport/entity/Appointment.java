@@ -1,6 +1,7 @@
 package com.localtechsupport.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.Instant;
@@ -13,6 +14,12 @@ public class Appointment {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Optimistic lock; rows inserted outside JPA start at 0
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(optional = false)
     @JoinColumn(name = "technician_id", nullable = false)
     private Technician technician;
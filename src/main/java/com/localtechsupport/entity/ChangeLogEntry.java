@@ -0,0 +1,45 @@
+package com.localtechsupport.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the delta-sync change log.
+ *
+ * The id doubles as the change sequence, so reading "changes since" is a range
+ * scan of the primary key. Rows only reference the changed entity; history is
+ * logged per ticket (entityId is the ticket id) because bulk operations write
+ * history rows without returning their ids.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "change_log")
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private ChangeType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 8)
+    private ChangeOperation operation;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    public ChangeLogEntry(ChangeType entityType, Long entityId, ChangeOperation operation, Instant changedAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.changedAt = changedAt;
+    }
+}
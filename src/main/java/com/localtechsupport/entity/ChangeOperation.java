@@ -0,0 +1,9 @@
+package com.localtechsupport.entity;
+
+/**
+ * Whether a change log entry records a created/updated entity or a deletion.
+ */
+public enum ChangeOperation {
+    UPSERT,
+    DELETE
+}
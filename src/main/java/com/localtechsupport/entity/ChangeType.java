@@ -0,0 +1,11 @@
+package com.localtechsupport.entity;
+
+/**
+ * Kinds of change recorded in the change log for delta sync.
+ */
+public enum ChangeType {
+    TICKET,
+    HISTORY,
+    FEEDBACK,
+    APPOINTMENT
+}
@@ -1,6 +1,7 @@
 package com.localtechsupport.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.List;
@@ -18,6 +19,12 @@ public class Technician {
   @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  // Optimistic lock; rows inserted outside JPA start at 0
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Long version;
+
   @Column(nullable = false)
   private String fullName;
 
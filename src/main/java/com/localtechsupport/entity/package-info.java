@@ -10,5 +10,6 @@
  * - Feedback: Customer satisfaction ratings
  * - TechnicianSkill: Skills and certifications
  * - TicketHistory: Audit trail of ticket changes
+ * - ChangeLogEntry: Change sequence behind delta sync
  */
 package com.localtechsupport.entity; 
\ No newline at end of file
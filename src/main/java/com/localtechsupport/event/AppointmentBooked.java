@@ -0,0 +1,13 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Appointment;
+
+/**
+ * A new appointment was scheduled.
+ */
+public final class AppointmentBooked extends AppointmentEvent {
+
+    public AppointmentBooked(Appointment appointment) {
+        super(appointment);
+    }
+}
@@ -0,0 +1,62 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Appointment;
+import com.localtechsupport.entity.AppointmentStatus;
+import com.localtechsupport.entity.ServiceType;
+
+import java.time.Instant;
+
+/**
+ * A change to an appointment, carrying the appointment's state after the change.
+ */
+public abstract class AppointmentEvent extends DomainEvent {
+
+    private final Long appointmentId;
+    private final Long ticketId;
+    private final Long technicianId;
+    private final ServiceType serviceType;
+    private final AppointmentStatus status;
+    private final Instant startTime;
+    private final Instant endTime;
+
+    protected AppointmentEvent(Appointment appointment) {
+        this.appointmentId = appointment.getId();
+        this.ticketId = appointment.getTicket() != null ? appointment.getTicket().getId() : null;
+        this.technicianId = appointment.getTechnician() != null ? appointment.getTechnician().getId() : null;
+        this.serviceType = appointment.getTicket() != null ? appointment.getTicket().getServiceType() : null;
+        this.status = appointment.getStatus();
+        this.startTime = appointment.getStartTime();
+        this.endTime = appointment.getEndTime();
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getTechnicianId() {
+        return technicianId;
+    }
+
+    /**
+     * Service type of the appointment's ticket.
+     */
+    public ServiceType getServiceType() {
+        return serviceType;
+    }
+
+    public AppointmentStatus getStatus() {
+        return status;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+}
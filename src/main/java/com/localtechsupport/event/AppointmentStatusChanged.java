@@ -0,0 +1,21 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Appointment;
+import com.localtechsupport.entity.AppointmentStatus;
+
+/**
+ * An appointment moved through its workflow, including cancellation.
+ */
+public final class AppointmentStatusChanged extends AppointmentEvent {
+
+    private final AppointmentStatus previousStatus;
+
+    public AppointmentStatusChanged(Appointment appointment, AppointmentStatus previousStatus) {
+        super(appointment);
+        this.previousStatus = previousStatus;
+    }
+
+    public AppointmentStatus getPreviousStatus() {
+        return previousStatus;
+    }
+}
@@ -0,0 +1,13 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Client;
+
+/**
+ * A new client account was registered.
+ */
+public final class ClientCreated extends ClientEvent {
+
+    public ClientCreated(Client client) {
+        super(client.getId(), client.getStatus());
+    }
+}
@@ -0,0 +1,13 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Client;
+
+/**
+ * A client was deleted and its tickets detached.
+ */
+public final class ClientDeleted extends ClientEvent {
+
+    public ClientDeleted(Client client) {
+        super(client.getId(), client.getStatus());
+    }
+}
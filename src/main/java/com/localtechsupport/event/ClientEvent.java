@@ -0,0 +1,25 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Client;
+
+/**
+ * A change to a client account.
+ */
+public abstract class ClientEvent extends DomainEvent {
+
+    private final Long clientId;
+    private final Client.ClientStatus status;
+
+    protected ClientEvent(Long clientId, Client.ClientStatus status) {
+        this.clientId = clientId;
+        this.status = status;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public Client.ClientStatus getStatus() {
+        return status;
+    }
+}
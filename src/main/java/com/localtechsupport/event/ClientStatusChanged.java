@@ -0,0 +1,20 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Client;
+
+/**
+ * A client was activated, deactivated or suspended.
+ */
+public final class ClientStatusChanged extends ClientEvent {
+
+    private final Client.ClientStatus previousStatus;
+
+    public ClientStatusChanged(Client client, Client.ClientStatus previousStatus) {
+        super(client.getId(), client.getStatus());
+        this.previousStatus = previousStatus;
+    }
+
+    public Client.ClientStatus getPreviousStatus() {
+        return previousStatus;
+    }
+}
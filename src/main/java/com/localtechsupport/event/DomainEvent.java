@@ -0,0 +1,22 @@
+package com.localtechsupport.event;
+
+import java.time.Instant;
+
+/**
+ * Base class of all domain events: an immutable record of a committed change.
+ */
+public abstract class DomainEvent {
+
+    private final Instant occurredAt = Instant.now();
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    /**
+     * Event name used in metrics and feeds, e.g. "TicketCreated".
+     */
+    public String getType() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,225 @@
+package com.localtechsupport.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process publish/subscribe bus for domain events.
+ *
+ * Services publish events as part of their transaction; nothing is delivered
+ * until that transaction commits, and rolled-back work publishes nothing.
+ * Outside a transaction events are delivered immediately. Each listener picks
+ * its dispatch mode:
+ * - BEFORE_COMMIT listeners run on the publishing thread inside the publishing
+ *   transaction just before it commits, so their writes commit or roll back
+ *   with it; a failure here is rethrown and rolls the transaction back
+ * - AFTER_COMMIT listeners run on the publishing thread right after commit, so
+ *   the caller sees their effect as soon as the service method returns
+ * - ASYNC listeners run on a single consumer thread fed by a bounded ring
+ *   buffer, in publication order, off the request latency path
+ *
+ * Every delivery is timed as {@code app.events.listener}, tagged with event,
+ * listener, dispatch and exception. Apart from BEFORE_COMMIT, a failing listener
+ * is logged and does not affect other listeners or the publisher.
+ */
+@Component
+public class DomainEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+
+    static final String LISTENER_METRIC = "app.events.listener";
+    static final String PUBLISHED_METRIC = "app.events.published";
+    static final String BACKLOG_METRIC = "app.events.async.backlog";
+
+    public enum Dispatch {
+        BEFORE_COMMIT,
+        AFTER_COMMIT,
+        ASYNC
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, Counter> publishedCounters = new ConcurrentHashMap<>();
+    private final EventRingBuffer<DomainEvent> ringBuffer;
+    private final boolean asyncEnabled;
+
+    @Autowired
+    public DomainEventBus(MeterRegistry meterRegistry,
+                          @Value("${app.events.async:true}") boolean asyncEnabled,
+                          @Value("${app.events.ring-buffer-size:8192}") int ringBufferSize) {
+        this.meterRegistry = meterRegistry;
+        this.asyncEnabled = asyncEnabled;
+        this.ringBuffer = asyncEnabled
+            ? new EventRingBuffer<>(ringBufferSize, "domain-events", this::deliverAsync)
+            : null;
+        if (ringBuffer != null) {
+            Gauge.builder(BACKLOG_METRIC, ringBuffer, EventRingBuffer::backlog)
+                .description("Domain events waiting for asynchronous listeners")
+                .register(meterRegistry);
+        }
+    }
+
+    // === SUBSCRIPTION ===
+
+    /**
+     * Registers a listener for events of the given type and its subtypes.
+     * With {@code app.events.async=false} ASYNC listeners run after commit instead.
+     */
+    public <E extends DomainEvent> void subscribe(Class<E> eventType, String listener,
+                                                  Dispatch dispatch, Consumer<? super E> handler) {
+        Dispatch effective = dispatch == Dispatch.ASYNC && !asyncEnabled ? Dispatch.AFTER_COMMIT : dispatch;
+        subscriptions.add(new Subscription<>(eventType, listener, effective, handler));
+    }
+
+    // === PUBLISHING ===
+
+    /**
+     * Publishes the event once the current transaction commits, or immediately
+     * when no transaction synchronization is active.
+     */
+    public void publish(DomainEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    dispatchBeforeCommit(event);
+                }
+
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatchBeforeCommit(event);
+            dispatch(event);
+        }
+    }
+
+    private void dispatchBeforeCommit(DomainEvent event) {
+        for (Subscription<?> subscription : subscriptions) {
+            if (subscription.dispatch == Dispatch.BEFORE_COMMIT && subscription.accepts(event)) {
+                deliver(subscription, event);
+            }
+        }
+    }
+
+    private void dispatch(DomainEvent event) {
+        publishedCounters.computeIfAbsent(event.getClass(), type -> Counter.builder(PUBLISHED_METRIC)
+            .tag("event", type.getSimpleName())
+            .register(meterRegistry)).increment();
+
+        boolean hasAsync = false;
+        for (Subscription<?> subscription : subscriptions) {
+            if (subscription.dispatch == Dispatch.BEFORE_COMMIT || !subscription.accepts(event)) {
+                continue;
+            }
+            if (subscription.dispatch == Dispatch.AFTER_COMMIT) {
+                deliver(subscription, event);
+            } else {
+                hasAsync = true;
+            }
+        }
+        if (hasAsync) {
+            ringBuffer.publish(event);
+        }
+    }
+
+    private void deliverAsync(DomainEvent event) {
+        for (Subscription<?> subscription : subscriptions) {
+            if (subscription.dispatch == Dispatch.ASYNC && subscription.accepts(event)) {
+                deliver(subscription, event);
+            }
+        }
+    }
+
+    private void deliver(Subscription<?> subscription, DomainEvent event) {
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            subscription.handle(event);
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            if (subscription.dispatch == Dispatch.BEFORE_COMMIT) {
+                throw e;
+            }
+            log.error("Listener {} failed handling {}", subscription.listener, event.getType(), e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer timer = "none".equals(exception)
+                ? subscription.successTimer(event.getClass())
+                : timer(subscription, event.getClass(), exception);
+            timer.record(Duration.ofNanos(elapsed));
+        }
+    }
+
+    private Timer timer(Subscription<?> subscription, Class<?> eventType, String exception) {
+        return Timer.builder(LISTENER_METRIC)
+            .tag("event", eventType.getSimpleName())
+            .tag("listener", subscription.listener)
+            .tag("dispatch", subscription.dispatch.name().toLowerCase())
+            .tag("exception", exception)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Events published to asynchronous listeners but not yet delivered.
+     */
+    public long asyncBacklog() {
+        return ringBuffer != null ? ringBuffer.backlog() : 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ringBuffer != null) {
+            ringBuffer.close(Duration.ofSeconds(5));
+        }
+    }
+
+    // === SUBSCRIPTIONS ===
+
+    private final class Subscription<E extends DomainEvent> {
+
+        private final Class<E> eventType;
+        private final String listener;
+        private final Dispatch dispatch;
+        private final Consumer<? super E> handler;
+        private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+
+        private Subscription(Class<E> eventType, String listener, Dispatch dispatch, Consumer<? super E> handler) {
+            this.eventType = eventType;
+            this.listener = listener;
+            this.dispatch = dispatch;
+            this.handler = handler;
+        }
+
+        private boolean accepts(DomainEvent event) {
+            return eventType.isInstance(event);
+        }
+
+        private void handle(DomainEvent event) {
+            handler.accept(eventType.cast(event));
+        }
+
+        private Timer successTimer(Class<?> type) {
+            return timers.computeIfAbsent(type, t -> DomainEventBus.this.timer(this, t, "none"));
+        }
+    }
+}
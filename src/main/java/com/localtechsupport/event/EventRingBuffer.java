@@ -0,0 +1,130 @@
+package com.localtechsupport.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer in the style of a disruptor.
+ *
+ * Producers claim a sequence with one atomic increment, write the preallocated
+ * slot and publish it by storing the sequence in the slot's marker; the single
+ * consumer thread hands slots to the handler strictly in sequence order. When
+ * the ring is full producers wait for the consumer rather than dropping events,
+ * so the handler must not publish back into the same ring. An idle consumer
+ * parks until a producer publishes or the ring is closed.
+ */
+final class EventRingBuffer<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(EventRingBuffer.class);
+    private static final long FULL_PARK_NANOS = 50_000L;
+
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong consumed = new AtomicLong(-1);
+    private final Consumer<T> handler;
+    private final Thread consumer;
+    private volatile boolean running = true;
+    private volatile boolean consumerParked;
+
+    EventRingBuffer(int requestedSize, String threadName, Consumer<T> handler) {
+        if (requestedSize < 2) {
+            throw new IllegalArgumentException("Ring buffer size must be at least 2");
+        }
+        int size = Integer.highestOneBit(requestedSize - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        this.handler = handler;
+        this.consumer = Thread.ofPlatform().name(threadName).daemon().start(this::consumeLoop);
+    }
+
+    /**
+     * Appends the element, waiting while the ring is full.
+     */
+    void publish(T element) {
+        if (!running) {
+            throw new IllegalStateException("Ring buffer is closed");
+        }
+        long sequence = claimed.incrementAndGet();
+        long wrapPoint = sequence - slots.length();
+        while (wrapPoint > consumed.get()) {
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        int index = (int) sequence & mask;
+        slots.lazySet(index, element);
+        published.set(index, sequence);
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Elements published but not yet handled.
+     */
+    long backlog() {
+        return Math.max(0, claimed.get() - consumed.get());
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Stops accepting elements, lets the consumer drain what was already published
+     * and waits up to the timeout for it to finish.
+     */
+    void close(Duration timeout) {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (consumer.isAlive()) {
+            log.warn("Event ring buffer closed with {} events still pending", backlog());
+        }
+    }
+
+    // === CONSUMER ===
+
+    private void consumeLoop() {
+        long next = 0;
+        while (true) {
+            int index = (int) next & mask;
+            if (published.get(index) == next) {
+                T element = slots.get(index);
+                slots.lazySet(index, null);
+                try {
+                    handler.accept(element);
+                } catch (RuntimeException e) {
+                    log.error("Event ring buffer handler failed", e);
+                }
+                consumed.set(next);
+                next++;
+            } else if (!running && claimed.get() < next) {
+                return;
+            } else {
+                // Publishers unpark a parked consumer; the re-check closes the race with them
+                consumerParked = true;
+                if (published.get(index) != next && (running || claimed.get() >= next)) {
+                    LockSupport.park(this);
+                }
+                consumerParked = false;
+            }
+        }
+    }
+}
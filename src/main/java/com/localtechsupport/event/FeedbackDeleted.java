@@ -0,0 +1,13 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.FeedbackEntry;
+
+/**
+ * A feedback entry was removed; the event carries its last rating.
+ */
+public final class FeedbackDeleted extends FeedbackEvent {
+
+    public FeedbackDeleted(FeedbackEntry feedback, Long technicianId) {
+        super(feedback, technicianId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.FeedbackEntry;
+
+/**
+ * A change to a client's feedback on a ticket.
+ */
+public abstract class FeedbackEvent extends DomainEvent {
+
+    private final Long feedbackId;
+    private final Long ticketId;
+    private final Long technicianId;
+    private final int rating;
+
+    protected FeedbackEvent(FeedbackEntry feedback, Long technicianId) {
+        this.feedbackId = feedback.getId();
+        this.ticketId = feedback.getTicket() != null ? feedback.getTicket().getId() : null;
+        this.technicianId = technicianId;
+        this.rating = feedback.getRating();
+    }
+
+    public Long getFeedbackId() {
+        return feedbackId;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    /**
+     * Technician assigned to the ticket when the feedback changed, if any.
+     */
+    public Long getTechnicianId() {
+        return technicianId;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+}
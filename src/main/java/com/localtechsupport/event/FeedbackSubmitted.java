@@ -0,0 +1,13 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.FeedbackEntry;
+
+/**
+ * A client rated a ticket.
+ */
+public final class FeedbackSubmitted extends FeedbackEvent {
+
+    public FeedbackSubmitted(FeedbackEntry feedback, Long technicianId) {
+        super(feedback, technicianId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.FeedbackEntry;
+
+/**
+ * A feedback entry's rating or comment was edited.
+ */
+public final class FeedbackUpdated extends FeedbackEvent {
+
+    private final int previousRating;
+
+    public FeedbackUpdated(FeedbackEntry feedback, Long technicianId, int previousRating) {
+        super(feedback, technicianId);
+        this.previousRating = previousRating;
+    }
+
+    public int getPreviousRating() {
+        return previousRating;
+    }
+}
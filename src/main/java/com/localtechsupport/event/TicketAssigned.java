@@ -0,0 +1,20 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Ticket;
+
+/**
+ * A technician was assigned to a ticket, possibly replacing another.
+ */
+public final class TicketAssigned extends TicketEvent {
+
+    private final Long previousTechnicianId;
+
+    public TicketAssigned(Ticket ticket, Long previousTechnicianId) {
+        super(ticket);
+        this.previousTechnicianId = previousTechnicianId;
+    }
+
+    public Long getPreviousTechnicianId() {
+        return previousTechnicianId;
+    }
+}
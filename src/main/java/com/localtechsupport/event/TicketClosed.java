@@ -0,0 +1,13 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Ticket;
+
+/**
+ * A ticket was closed.
+ */
+public final class TicketClosed extends TicketEvent {
+
+    public TicketClosed(Ticket ticket) {
+        super(ticket);
+    }
+}
@@ -0,0 +1,13 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Ticket;
+
+/**
+ * A new ticket was opened.
+ */
+public final class TicketCreated extends TicketEvent {
+
+    public TicketCreated(Ticket ticket) {
+        super(ticket);
+    }
+}
@@ -0,0 +1,13 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Ticket;
+
+/**
+ * A closed ticket was deleted; the event carries its last state.
+ */
+public final class TicketDeleted extends TicketEvent {
+
+    public TicketDeleted(Ticket ticket) {
+        super(ticket);
+    }
+}
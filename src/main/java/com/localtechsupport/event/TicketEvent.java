@@ -0,0 +1,52 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.entity.TicketStatus;
+
+/**
+ * A change to a ticket, carrying the ticket's state after the change.
+ */
+public abstract class TicketEvent extends DomainEvent {
+
+    private final Long ticketId;
+    private final Long clientId;
+    private final Long technicianId;
+    private final ServiceType serviceType;
+    private final TicketStatus status;
+    private final TicketPriority priority;
+
+    protected TicketEvent(Ticket ticket) {
+        this.ticketId = ticket.getId();
+        this.clientId = ticket.getClient() != null ? ticket.getClient().getId() : null;
+        this.technicianId = ticket.getAssignedTechnician() != null ? ticket.getAssignedTechnician().getId() : null;
+        this.serviceType = ticket.getServiceType();
+        this.status = ticket.getStatus();
+        this.priority = ticket.getPriority();
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public Long getTechnicianId() {
+        return technicianId;
+    }
+
+    public ServiceType getServiceType() {
+        return serviceType;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,18 @@
+package com.localtechsupport.event;
+
+/**
+ * A history entry was recorded for a ticket without any other ticket event,
+ * e.g. a manual audit note.
+ */
+public final class TicketHistoryAdded extends DomainEvent {
+
+    private final Long ticketId;
+
+    public TicketHistoryAdded(Long ticketId) {
+        this.ticketId = ticketId;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+}
@@ -0,0 +1,13 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Ticket;
+
+/**
+ * A closed ticket was opened again.
+ */
+public final class TicketReopened extends TicketEvent {
+
+    public TicketReopened(Ticket ticket) {
+        super(ticket);
+    }
+}
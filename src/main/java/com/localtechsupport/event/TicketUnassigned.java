@@ -0,0 +1,20 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.entity.Ticket;
+
+/**
+ * A ticket's technician was removed.
+ */
+public final class TicketUnassigned extends TicketEvent {
+
+    private final Long previousTechnicianId;
+
+    public TicketUnassigned(Ticket ticket, Long previousTechnicianId) {
+        super(ticket);
+        this.previousTechnicianId = previousTechnicianId;
+    }
+
+    public Long getPreviousTechnicianId() {
+        return previousTechnicianId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.localtechsupport.event;
+
+import java.util.List;
+
+/**
+ * One committed chunk of a bulk ticket operation (close, reassign,
+ * change-priority or detaching a deleted client), published instead of one
+ * event per ticket.
+ */
+public final class TicketsBulkUpdated extends DomainEvent {
+
+    private final String operation;
+    private final List<Long> ticketIds;
+
+    public TicketsBulkUpdated(String operation, List<Long> ticketIds) {
+        this.operation = operation;
+        this.ticketIds = List.copyOf(ticketIds);
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public List<Long> getTicketIds() {
+        return ticketIds;
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * In-process domain events for the tech support system.
+ * 
+ * This package contains:
+ * - Immutable events published by the ticket, appointment, feedback and client services
+ * - The event bus dispatching them before or after commit or on a ring buffer
+ */
+package com.localtechsupport.event;
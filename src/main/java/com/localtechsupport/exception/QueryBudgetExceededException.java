@@ -0,0 +1,31 @@
+package com.localtechsupport.exception;
+
+/**
+ * Thrown in strict query-budget mode when a request issues more SQL
+ * statements than its endpoint's budget allows.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    private final String endpoint;
+    private final int statementCount;
+    private final int budget;
+
+    public QueryBudgetExceededException(String endpoint, int statementCount, int budget, String details) {
+        super(endpoint + " issued " + statementCount + " SQL statements, budget is " + budget + details);
+        this.endpoint = endpoint;
+        this.statementCount = statementCount;
+        this.budget = budget;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+}
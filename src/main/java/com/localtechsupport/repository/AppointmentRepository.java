@@ -4,6 +4,7 @@ import com.localtechsupport.entity.Appointment;
 import com.localtechsupport.entity.AppointmentStatus;
 import com.localtechsupport.entity.Technician;
 import com.localtechsupport.entity.Ticket;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -172,4 +173,47 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
                                            @Param("startTime") Instant startTime,
                                            @Param("endTime") Instant endTime,
                                            @Param("activeStatuses") List<AppointmentStatus> activeStatuses);
-} 
\ No newline at end of file
+
+    // Grouped per-technician rollups, one row per technician (and status)
+    @Query("SELECT a.technician.id, COUNT(a) FROM Appointment a GROUP BY a.technician.id")
+    List<Object[]> countAppointmentsGroupedByTechnician();
+
+    @Query("SELECT a.technician.id, a.status, COUNT(a) FROM Appointment a GROUP BY a.technician.id, a.status")
+    List<Object[]> countAppointmentsGroupedByTechnicianAndStatus();
+
+    @Query("SELECT a.technician.id, COUNT(a) FROM Appointment a WHERE " +
+           "a.startTime >= :startTime AND a.startTime < :endTime AND a.status IN (:activeStatuses) " +
+           "GROUP BY a.technician.id")
+    List<Object[]> countAppointmentsInPeriodGroupedByTechnician(@Param("startTime") Instant startTime,
+                                                                @Param("endTime") Instant endTime,
+                                                                @Param("activeStatuses") List<AppointmentStatus> activeStatuses);
+
+    // Booked intervals (technicianId, startTime, endTime) overlapping a period, for utilization reports
+    @Query("SELECT a.technician.id, a.startTime, a.endTime FROM Appointment a WHERE " +
+           "a.startTime < :endTime AND a.endTime > :startTime AND a.status NOT IN (:excludedStatuses)")
+    List<Object[]> findBookedIntervals(@Param("startTime") Instant startTime,
+                                       @Param("endTime") Instant endTime,
+                                       @Param("excludedStatuses") List<AppointmentStatus> excludedStatuses);
+
+    // Hands-on effort: (serviceType, tickets, total booked seconds) of completed appointments
+    @Query("SELECT a.ticket.serviceType, COUNT(DISTINCT a.ticket.id), SUM((a.endTime - a.startTime) BY SECOND) " +
+           "FROM Appointment a WHERE a.status = com.localtechsupport.entity.AppointmentStatus.COMPLETED " +
+           "AND a.startTime >= :sinceTime GROUP BY a.ticket.serviceType")
+    List<Object[]> getCompletedEffortByServiceType(@Param("sinceTime") Instant sinceTime);
+
+    // Delta sync: changed appointments, technician, ticket and its parties fetched in the same query
+    @Query("SELECT a FROM Appointment a JOIN FETCH a.technician JOIN FETCH a.ticket t LEFT JOIN FETCH t.client " +
+           "LEFT JOIN FETCH t.assignedTechnician WHERE a.id IN :appointmentIds")
+    List<Appointment> findAllForSync(@Param("appointmentIds") List<Long> appointmentIds);
+
+    // Client overview: upcoming appointments on one client's tickets, technician and ticket fetched in the same query
+    @Query("SELECT a FROM Appointment a JOIN FETCH a.technician JOIN FETCH a.ticket t WHERE t.client.id = :clientId " +
+           "AND a.startTime >= :currentTime AND a.status IN (:activeStatuses) ORDER BY a.startTime, a.id")
+    List<Appointment> findUpcomingByClientId(@Param("clientId") Long clientId,
+                                             @Param("currentTime") Instant currentTime,
+                                             @Param("activeStatuses") List<AppointmentStatus> activeStatuses,
+                                             Limit limit);
+
+    @Query("SELECT MAX(a.updatedAt) FROM Appointment a WHERE a.ticket.client.id = :clientId")
+    Instant findLastChangeByClientId(@Param("clientId") Long clientId);
+}
@@ -0,0 +1,42 @@
+package com.localtechsupport.repository;
+
+import com.localtechsupport.entity.ChangeLogEntry;
+import com.localtechsupport.entity.ChangeOperation;
+import com.localtechsupport.entity.ChangeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the delta-sync change log.
+ *
+ * Provides:
+ * - Set-based logging of ticket changes for bulk operations
+ * - Sequence-ordered reads of the changes after a cursor
+ * - The starting cursor for clients that have not synced yet
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    // One entry per existing ticket, written by a single INSERT ... SELECT
+    @Modifying
+    @Query("INSERT INTO ChangeLogEntry (entityType, entityId, operation, changedAt) " +
+           "SELECT :entityType, t.id, :operation, :changedAt FROM Ticket t WHERE t.id IN :ticketIds")
+    int insertForTickets(@Param("entityType") ChangeType entityType,
+                         @Param("ticketIds") List<Long> ticketIds,
+                         @Param("operation") ChangeOperation operation,
+                         @Param("changedAt") Instant changedAt);
+
+    // Changes after the cursor in sequence order
+    List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Newest change old enough that no earlier sequence can still be uncommitted
+    Optional<ChangeLogEntry> findFirstByChangedAtBeforeOrderByIdDesc(Instant changedAt);
+}
@@ -0,0 +1,32 @@
+package com.localtechsupport.repository;
+
+import com.localtechsupport.entity.Client.ClientStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Client row for list and search responses, read as plain columns instead of
+ * managed entities.
+ */
+public interface ClientListing {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getAddress();
+
+    String getNotes();
+
+    ClientStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -20,17 +20,23 @@ import java.util.Optional;
  * - Status-based filtering 
  * - Multi-field searching with pagination
  * - Time-based queries for reporting
+ * - Column projections for list and search responses
  */
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
 
     // JPQL query constants
-    String SEARCH_CLIENTS_QUERY = "SELECT c FROM Client c WHERE " +
-            "LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+    String SEARCH_FILTER = "LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(c.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(c.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(c.phone) LIKE LOWER(CONCAT('%', :searchTerm, '%'))";
 
+    String SEARCH_CLIENTS_QUERY = "SELECT c FROM Client c WHERE " + SEARCH_FILTER;
+
+    String SEARCH_LISTINGS_QUERY = "SELECT c.id AS id, c.firstName AS firstName, c.lastName AS lastName, " +
+            "c.email AS email, c.phone AS phone, c.address AS address, c.notes AS notes, c.status AS status, " +
+            "c.createdAt AS createdAt, c.updatedAt AS updatedAt FROM Client c WHERE " + SEARCH_FILTER;
+
     String DATE_RANGE_QUERY = "SELECT c FROM Client c WHERE c.createdAt BETWEEN :startDate AND :endDate";
 
     String COUNT_BY_DATE_QUERY = "SELECT COUNT(c) FROM Client c WHERE c.createdAt >= :dateTime";
@@ -58,6 +64,17 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     // Combined filtering (paginated)
     Page<Client> findByStatusAndCreatedAtAfter(ClientStatus status, LocalDateTime dateTime, Pageable pageable);
     
+    // Listing projections: derived queries select only the ClientListing columns
+    Page<ClientListing> findListingsBy(Pageable pageable);
+
+    Page<ClientListing> findListingsByStatus(ClientStatus status, Pageable pageable);
+
+    Page<ClientListing> findListingsByCreatedAtAfter(LocalDateTime dateTime, Pageable pageable);
+
+    @Query(value = SEARCH_LISTINGS_QUERY,
+           countQuery = "SELECT COUNT(c) FROM Client c WHERE " + SEARCH_FILTER)
+    Page<ClientListing> searchListings(@Param("searchTerm") String searchTerm, Pageable pageable);
+
     // Count queries for dashboard/stats
     long countByStatus(ClientStatus status);
     
@@ -165,6 +165,9 @@ public interface FeedbackEntryRepository extends JpaRepository<FeedbackEntry, Lo
     @Query("SELECT DATE(f.submittedAt), AVG(f.rating) FROM FeedbackEntry f WHERE f.submittedAt >= :sinceTime GROUP BY DATE(f.submittedAt) ORDER BY DATE(f.submittedAt)")
     List<Object[]> getDailyAverageRatings(@Param("sinceTime") Instant sinceTime);
 
+    @Query("SELECT CAST(f.submittedAt AS LocalDate), f.rating, COUNT(f) FROM FeedbackEntry f GROUP BY CAST(f.submittedAt AS LocalDate), f.rating")
+    List<Object[]> getDailyRatingDistribution();
+
     // User satisfaction patterns
     @Query("SELECT f.createdBy, AVG(f.rating), COUNT(f) FROM FeedbackEntry f GROUP BY f.createdBy HAVING COUNT(f) >= :minFeedbackCount ORDER BY AVG(f.rating) ASC")
     List<Object[]> getUserSatisfactionSummary(@Param("minFeedbackCount") long minFeedbackCount);
@@ -179,7 +182,27 @@ public interface FeedbackEntryRepository extends JpaRepository<FeedbackEntry, Lo
     List<FeedbackEntry> findRecentHighRatings(@Param("highRatingThreshold") int highRatingThreshold,
                                             @Param("recentTime") Instant recentTime);
 
+    // Technician satisfaction (FeedbackEntry -> Ticket -> assignedTechnician)
+    @Query("SELECT t.assignedTechnician.id, f.rating, COUNT(f) FROM FeedbackEntry f JOIN f.ticket t WHERE t.assignedTechnician IS NOT NULL GROUP BY t.assignedTechnician.id, f.rating")
+    List<Object[]> getRatingDistributionByTechnician();
+
+    @Query("SELECT t.assignedTechnician.id, f.rating FROM FeedbackEntry f JOIN f.ticket t WHERE t.id IN :ticketIds")
+    List<Object[]> findTechnicianRatingsByTicketIds(@Param("ticketIds") List<Long> ticketIds);
+
+    @Query("SELECT CAST(f.submittedAt AS LocalDate), AVG(f.rating), COUNT(f) FROM FeedbackEntry f JOIN f.ticket t WHERE t.assignedTechnician.id = :technicianId AND f.submittedAt >= :sinceTime GROUP BY CAST(f.submittedAt AS LocalDate) ORDER BY CAST(f.submittedAt AS LocalDate)")
+    List<Object[]> getDailyAverageRatingsForTechnician(@Param("technicianId") Long technicianId,
+                                                       @Param("sinceTime") Instant sinceTime);
+
     // Ticket satisfaction summary
     @Query("SELECT t, AVG(f.rating), COUNT(f) FROM FeedbackEntry f JOIN f.ticket t GROUP BY t HAVING COUNT(f) >= :minFeedbackCount ORDER BY AVG(f.rating) ASC")
     List<Object[]> getTicketSatisfactionSummary(@Param("minFeedbackCount") long minFeedbackCount);
-} 
\ No newline at end of file
+
+    // Delta sync: changed feedback, ticket and its parties fetched in the same query
+    @Query("SELECT f FROM FeedbackEntry f JOIN FETCH f.ticket t LEFT JOIN FETCH t.client " +
+           "LEFT JOIN FETCH t.assignedTechnician WHERE f.id IN :feedbackIds")
+    List<FeedbackEntry> findAllForSync(@Param("feedbackIds") List<Long> feedbackIds);
+
+    // Client overview: (feedback entries, average rating, latest submission) across one client's tickets
+    @Query("SELECT COUNT(f), AVG(f.rating), MAX(f.submittedAt) FROM FeedbackEntry f WHERE f.ticket.client.id = :clientId")
+    List<Object[]> getClientFeedbackSummary(@Param("clientId") Long clientId);
+}
@@ -0,0 +1,23 @@
+package com.localtechsupport.repository;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.TechnicianStatus;
+
+/**
+ * Skill row for list responses, joined with the columns of its technician that
+ * the response shows.
+ */
+public interface SkillListing {
+
+    Long getSkillId();
+
+    Long getTechnicianId();
+
+    String getTechnicianName();
+
+    String getTechnicianEmail();
+
+    TechnicianStatus getTechnicianStatus();
+
+    ServiceType getServiceType();
+}
@@ -0,0 +1,61 @@
+package com.localtechsupport.repository;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.TechnicianStatus;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Technician row for list and search responses.
+ *
+ * Selected column by column together with a skill bitmask and the open ticket
+ * count, so listing technicians never loads their skill, ticket or appointment
+ * collections.
+ */
+public interface TechnicianListing {
+
+    Long getId();
+
+    String getFullName();
+
+    String getEmail();
+
+    TechnicianStatus getStatus();
+
+    /**
+     * One bit per skill, as given by {@link #skillBit(ServiceType)}.
+     */
+    long getSkillMask();
+
+    /**
+     * Open tickets assigned to the technician.
+     */
+    long getCurrentLoad();
+
+    default Set<ServiceType> getSkills() {
+        Set<ServiceType> skills = EnumSet.noneOf(ServiceType.class);
+        for (ServiceType type : ServiceType.values()) {
+            if (isQualifiedFor(type)) {
+                skills.add(type);
+            }
+        }
+        return skills;
+    }
+
+    default boolean isQualifiedFor(ServiceType type) {
+        return (getSkillMask() & skillBit(type)) != 0;
+    }
+
+    /**
+     * Fixed bit of each service type, independent of declaration order. The
+     * switch has no default, so a new service type does not compile until it
+     * gets a bit here and a matching WHEN in TechnicianRepository.LISTING_SELECT.
+     */
+    static long skillBit(ServiceType type) {
+        return switch (type) {
+            case HARDWARE -> 1L;
+            case SOFTWARE -> 2L;
+        };
+    }
+}
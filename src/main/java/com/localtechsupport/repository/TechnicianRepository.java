@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -23,6 +24,7 @@ import java.util.List;
  * - Skills and service type matching
  * - Load balancing and availability queries
  * - Combined filtering for assignment optimization
+ * - Column projections for list and search responses
  */
 @Repository
 public interface TechnicianRepository extends JpaRepository<Technician, Long> {
@@ -44,6 +46,27 @@ public interface TechnicianRepository extends JpaRepository<Technician, Long> {
     String COUNT_BY_SERVICE_TYPE_QUERY = "SELECT COUNT(DISTINCT t) FROM Technician t " +
             "JOIN t.skills s WHERE s.serviceType = :serviceType";
 
+    // Listing rows: skills fold into a bitmask (SUM of distinct bits is their OR) and the open
+    // ticket count is joined in from a per-technician aggregate. Keep one WHEN per ServiceType,
+    // with the bit TechnicianListing.skillBit gives it; a missing WHEN folds to no skill.
+    String LISTING_SELECT = "SELECT t.id AS id, t.fullName AS fullName, t.email AS email, t.status AS status, " +
+            "COALESCE(SUM(DISTINCT CASE s.serviceType " +
+            "WHEN com.localtechsupport.entity.ServiceType.HARDWARE THEN 1 " +
+            "WHEN com.localtechsupport.entity.ServiceType.SOFTWARE THEN 2 END), 0) AS skillMask, " +
+            "COALESCE(MAX(w.openTickets), 0) AS currentLoad " +
+            "FROM Technician t LEFT JOIN t.skills s " +
+            "LEFT JOIN (SELECT k.assignedTechnician.id AS technicianId, COUNT(k) AS openTickets FROM Ticket k " +
+            "WHERE k.status = com.localtechsupport.entity.TicketStatus.OPEN " +
+            "GROUP BY k.assignedTechnician.id) w ON w.technicianId = t.id ";
+
+    String LISTING_GROUP_BY = " GROUP BY t.id, t.fullName, t.email, t.status";
+
+    String SEARCH_FILTER = "LOWER(t.fullName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(t.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))";
+
+    String HAS_SKILL_FILTER = "EXISTS (SELECT q.id FROM TechnicianSkill q " +
+            "WHERE q.technician = t AND q.serviceType = :serviceType)";
+
     // Unique lookups
     Optional<Technician> findByEmail(String email);
     
@@ -104,4 +127,46 @@ public interface TechnicianRepository extends JpaRepository<Technician, Long> {
            "SIZE(t.assignedTickets) < :maxLoad")
     long countAvailableTechnicians(@Param("activeStatus") TechnicianStatus activeStatus,
                                   @Param("maxLoad") long maxLoad);
-} 
\ No newline at end of file
+
+    // Listing projections (paginated counts skip the joins)
+    @Query(value = LISTING_SELECT + LISTING_GROUP_BY,
+           countQuery = "SELECT COUNT(t) FROM Technician t")
+    Page<TechnicianListing> findListings(Pageable pageable);
+
+    @Query(value = LISTING_SELECT + "WHERE t.status = :status" + LISTING_GROUP_BY,
+           countQuery = "SELECT COUNT(t) FROM Technician t WHERE t.status = :status")
+    Page<TechnicianListing> findListingsByStatus(@Param("status") TechnicianStatus status, Pageable pageable);
+
+    @Query(value = LISTING_SELECT + "WHERE " + SEARCH_FILTER + LISTING_GROUP_BY,
+           countQuery = "SELECT COUNT(t) FROM Technician t WHERE " + SEARCH_FILTER)
+    Page<TechnicianListing> searchListings(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query(value = LISTING_SELECT + "WHERE " + HAS_SKILL_FILTER + LISTING_GROUP_BY,
+           countQuery = "SELECT COUNT(t) FROM Technician t WHERE " + HAS_SKILL_FILTER)
+    Page<TechnicianListing> findListingsByServiceType(@Param("serviceType") ServiceType serviceType,
+                                                      Pageable pageable);
+
+    @Query(LISTING_SELECT + "WHERE t.status = :activeStatus AND SIZE(t.assignedTickets) < :maxLoad" +
+           LISTING_GROUP_BY)
+    List<TechnicianListing> findAvailableListings(@Param("activeStatus") TechnicianStatus activeStatus,
+                                                  @Param("maxLoad") long maxLoad);
+
+    @Query(LISTING_SELECT + "WHERE t.status = :activeStatus AND SIZE(t.assignedTickets) < :maxLoad AND " +
+           HAS_SKILL_FILTER + LISTING_GROUP_BY)
+    List<TechnicianListing> findAvailableListingsForService(@Param("activeStatus") TechnicianStatus activeStatus,
+                                                            @Param("serviceType") ServiceType serviceType,
+                                                            @Param("maxLoad") long maxLoad);
+
+    // Capacity roster: one (technicianId, serviceType) row per skill, null for technicians without skills
+    @Query("SELECT t.id, s.serviceType FROM Technician t LEFT JOIN t.skills s WHERE t.status = :status")
+    List<Object[]> findSkillRosterByStatus(@Param("status") TechnicianStatus status);
+
+    @Query("SELECT t.id FROM Technician t")
+    List<Long> findAllIds();
+
+    // Ticket counts per technician as (technicianId, assigned, open); summed across shards when sharded
+    @Query("SELECT k.assignedTechnician.id, COUNT(k), " +
+           "SUM(CASE WHEN k.status = com.localtechsupport.entity.TicketStatus.OPEN THEN 1 ELSE 0 END) " +
+           "FROM Ticket k WHERE k.assignedTechnician.id IN :technicianIds GROUP BY k.assignedTechnician.id")
+    List<Object[]> countTicketsByTechnician(@Param("technicianIds") Collection<Long> technicianIds);
+}
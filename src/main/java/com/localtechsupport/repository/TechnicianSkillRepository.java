@@ -24,6 +24,7 @@ import java.util.Optional;
  * - Skills analytics and competency reporting
  * - Assignment optimization and workload distribution
  * - Skill gap analysis and training needs assessment
+ * - Column projections joined with technician details for list responses
  */
 @Repository
 public interface TechnicianSkillRepository extends JpaRepository<TechnicianSkill, Long> {
@@ -37,6 +38,10 @@ public interface TechnicianSkillRepository extends JpaRepository<TechnicianSkill
 
     String TECHNICIAN_SKILL_COUNT_QUERY = "SELECT ts.technician, COUNT(ts.serviceType) FROM TechnicianSkill ts GROUP BY ts.technician ORDER BY COUNT(ts.serviceType) DESC";
 
+    String LISTING_SELECT = "SELECT ts.id AS skillId, t.id AS technicianId, t.fullName AS technicianName, " +
+            "t.email AS technicianEmail, t.status AS technicianStatus, ts.serviceType AS serviceType " +
+            "FROM TechnicianSkill ts JOIN ts.technician t";
+
     String FIND_SKILLED_TECHNICIANS_COUNT_QUERY = "SELECT COUNT(DISTINCT ts.technician) FROM TechnicianSkill ts WHERE ts.serviceType = :serviceType";
 
     // Technician-based queries
@@ -44,6 +49,14 @@ public interface TechnicianSkillRepository extends JpaRepository<TechnicianSkill
     
     List<TechnicianSkill> findByTechnician(Technician technician);
 
+    // Listing projections (the technician columns come from the same join)
+    @Query(value = LISTING_SELECT, countQuery = "SELECT COUNT(ts) FROM TechnicianSkill ts")
+    Page<SkillListing> findListings(Pageable pageable);
+
+    @Query(value = LISTING_SELECT + " WHERE t.id = :technicianId",
+           countQuery = "SELECT COUNT(ts) FROM TechnicianSkill ts WHERE ts.technician.id = :technicianId")
+    Page<SkillListing> findListingsByTechnicianId(@Param("technicianId") Long technicianId, Pageable pageable);
+
     // Service type-based queries
     Page<TechnicianSkill> findByServiceType(ServiceType serviceType, Pageable pageable);
     
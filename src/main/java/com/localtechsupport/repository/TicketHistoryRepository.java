@@ -6,6 +6,7 @@ import com.localtechsupport.entity.TicketStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -193,4 +194,38 @@ public interface TicketHistoryRepository extends JpaRepository<TicketHistory, Lo
                                             @Param("status") TicketStatus status,
                                             @Param("startTime") Instant startTime,
                                             @Param("endTime") Instant endTime);
-} 
\ No newline at end of file
+
+    // Bulk history: one row per ticket in the given status, written by a single INSERT ... SELECT.
+    // History stores the status by ordinal and tickets by name, so it is bound rather than copied.
+    @Modifying
+    @Query("INSERT INTO TicketHistory (ticket, status, description, createdBy, createdAt, updatedAt) " +
+           "SELECT t, :historyStatus, :description, :createdBy, :createdAt, :createdAt FROM Ticket t " +
+           "WHERE t.id IN :ticketIds AND t.status = :ticketStatus")
+    int insertForTickets(@Param("ticketIds") List<Long> ticketIds,
+                         @Param("ticketStatus") TicketStatus ticketStatus,
+                         @Param("historyStatus") TicketStatus historyStatus,
+                         @Param("description") String description,
+                         @Param("createdBy") String createdBy,
+                         @Param("createdAt") Instant createdAt);
+
+    default int insertForTickets(List<Long> ticketIds, TicketStatus status, String description,
+                                 String createdBy, Instant createdAt) {
+        return insertForTickets(ticketIds, status, status, description, createdBy, createdAt);
+    }
+
+    // Resolution times: (serviceType, priority, closures, total seconds from ticket creation to closure)
+    @Query("SELECT t.serviceType, t.priority, COUNT(th), SUM((th.createdAt - t.createdAt) BY SECOND) " +
+           "FROM TicketHistory th JOIN th.ticket t " +
+           "WHERE th.status = com.localtechsupport.entity.TicketStatus.CLOSED AND th.createdAt >= :sinceTime " +
+           "GROUP BY t.serviceType, t.priority")
+    List<Object[]> getResolutionTimesByServiceTypeAndPriority(@Param("sinceTime") Instant sinceTime);
+
+    // Delta sync: complete history of the changed tickets, ticket and its parties fetched in the same query
+    @Query("SELECT th FROM TicketHistory th JOIN FETCH th.ticket t LEFT JOIN FETCH t.client " +
+           "LEFT JOIN FETCH t.assignedTechnician WHERE t.id IN :ticketIds ORDER BY t.id, th.createdAt, th.id")
+    List<TicketHistory> findAllForSyncByTicketIds(@Param("ticketIds") List<Long> ticketIds);
+
+    // Client overview: latest change to any of one client's tickets
+    @Query("SELECT MAX(th.createdAt) FROM TicketHistory th WHERE th.ticket.client.id = :clientId")
+    Instant findLastChangeByClientId(@Param("clientId") Long clientId);
+}
@@ -1,19 +1,25 @@
 package com.localtechsupport.repository;
 
 import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.entity.TicketPriority;
 import com.localtechsupport.entity.TicketStatus;
 import com.localtechsupport.entity.ServiceType;
 import com.localtechsupport.entity.Client;
 import com.localtechsupport.entity.Technician;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Ticket entity operations.
@@ -26,6 +32,8 @@ import java.util.List;
  * - Multi-field searching with pagination
  * - Assignment management (unassigned tickets, workload distribution)
  * - Dashboard and reporting queries
+ * - Set-based client detachment and bulk ticket updates
+ * - Versioned and row-locked loads for ticket mutations
  */
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
@@ -152,4 +160,105 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     @Query("SELECT COUNT(t) FROM Ticket t WHERE t.assignedTechnician = :technician AND t.status = :status")
     long countByAssignedTechnicianAndStatus(@Param("technician") Technician technician, 
                                           @Param("status") TicketStatus status);
-} 
\ No newline at end of file
+
+    // Ticket mutations: the version is bumped even when only history is added, so concurrent
+    // changes of one ticket always conflict; the pessimistic variant also locks the row until commit
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT t FROM Ticket t WHERE t.id = :ticketId")
+    Optional<Ticket> findByIdForChange(@Param("ticketId") Long ticketId);
+
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT t FROM Ticket t WHERE t.id = :ticketId")
+    Optional<Ticket> findByIdForLockedChange(@Param("ticketId") Long ticketId);
+
+    // Set-based client detachment (no tickets are loaded into the persistence context);
+    // VERSIONED updates bump the optimistic lock so concurrent single-ticket writes conflict
+    @Query("SELECT COUNT(t) FROM Ticket t WHERE t.client.id = :clientId")
+    long countByClientId(@Param("clientId") Long clientId);
+
+    @Query("SELECT t.id FROM Ticket t WHERE t.client.id = :clientId ORDER BY t.id")
+    List<Long> findIdsByClientId(@Param("clientId") Long clientId, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VERSIONED Ticket t SET t.client = null WHERE t.client.id = :clientId")
+    int detachClient(@Param("clientId") Long clientId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VERSIONED Ticket t SET t.client = null WHERE t.id IN :ticketIds")
+    int detachClientFromTickets(@Param("ticketIds") List<Long> ticketIds);
+
+    // Bulk ticket operations: chunk selection by filter, then set-based (VERSIONED) updates of the chunk
+    String BULK_FILTER = "(:technicianId IS NULL OR t.assignedTechnician.id = :technicianId) " +
+            "AND (:serviceType IS NULL OR t.serviceType = :serviceType) " +
+            "AND (:status IS NULL OR t.status = :status)";
+
+    @Query("SELECT t.id FROM Ticket t WHERE t.id > :afterId AND " + BULK_FILTER + " ORDER BY t.id")
+    List<Long> findIdsForBulkUpdate(@Param("afterId") Long afterId,
+                                    @Param("technicianId") Long technicianId,
+                                    @Param("serviceType") ServiceType serviceType,
+                                    @Param("status") TicketStatus status,
+                                    Limit limit);
+
+    @Query("SELECT t.id FROM Ticket t WHERE t.id IN :ticketIds AND " + BULK_FILTER + " ORDER BY t.id")
+    List<Long> findIdsForBulkUpdateIn(@Param("ticketIds") List<Long> ticketIds,
+                                      @Param("technicianId") Long technicianId,
+                                      @Param("serviceType") ServiceType serviceType,
+                                      @Param("status") TicketStatus status);
+
+    @Query("SELECT t.id FROM Ticket t WHERE t.id IN :ticketIds AND t.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ticketIds") List<Long> ticketIds, @Param("status") TicketStatus status);
+
+    String NOT_ASSIGNED_TO = "t.id IN :ticketIds AND t.status = :status " +
+            "AND (t.assignedTechnician IS NULL OR t.assignedTechnician.id <> :technicianId)";
+
+    String HAS_TECHNICIAN_SKILL = "EXISTS (SELECT s.id FROM TechnicianSkill s " +
+            "WHERE s.technician.id = :technicianId AND s.serviceType = t.serviceType)";
+
+    @Query("SELECT t.id FROM Ticket t WHERE " + NOT_ASSIGNED_TO + " AND " + HAS_TECHNICIAN_SKILL)
+    List<Long> findIdsNotAssignedTo(@Param("ticketIds") List<Long> ticketIds,
+                                    @Param("status") TicketStatus status,
+                                    @Param("technicianId") Long technicianId);
+
+    @Query("SELECT t.id FROM Ticket t WHERE " + NOT_ASSIGNED_TO + " AND NOT " + HAS_TECHNICIAN_SKILL + " ORDER BY t.id")
+    List<Long> findIdsLackingTechnicianSkill(@Param("ticketIds") List<Long> ticketIds,
+                                             @Param("status") TicketStatus status,
+                                             @Param("technicianId") Long technicianId);
+
+    @Query("SELECT t.id FROM Ticket t WHERE t.id IN :ticketIds AND t.priority <> :priority")
+    List<Long> findIdsByIdInAndPriorityNot(@Param("ticketIds") List<Long> ticketIds,
+                                           @Param("priority") TicketPriority priority);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VERSIONED Ticket t SET t.status = :status WHERE t.id IN :ticketIds")
+    int updateStatus(@Param("ticketIds") List<Long> ticketIds, @Param("status") TicketStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VERSIONED Ticket t SET t.assignedTechnician = :technician WHERE t.id IN :ticketIds")
+    int updateAssignedTechnician(@Param("ticketIds") List<Long> ticketIds, @Param("technician") Technician technician);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VERSIONED Ticket t SET t.priority = :priority WHERE t.id IN :ticketIds")
+    int updatePriority(@Param("ticketIds") List<Long> ticketIds, @Param("priority") TicketPriority priority);
+
+    // Capacity forecasting: open backlog per service type, priority, creation day and due day
+    @Query("SELECT t.serviceType, t.priority, CAST(t.createdAt AS LocalDate), CAST(t.dueAt AS LocalDate), COUNT(t) " +
+           "FROM Ticket t WHERE t.status = com.localtechsupport.entity.TicketStatus.OPEN " +
+           "GROUP BY t.serviceType, t.priority, CAST(t.createdAt AS LocalDate), CAST(t.dueAt AS LocalDate)")
+    List<Object[]> getOpenBacklogByDay();
+
+    @Query("SELECT t.serviceType, COUNT(t) FROM Ticket t WHERE t.createdAt >= :sinceTime GROUP BY t.serviceType")
+    List<Object[]> countCreatedSinceByServiceType(@Param("sinceTime") Instant sinceTime);
+
+    // Delta sync: changed tickets with client and technician in one query
+    @Query("SELECT t FROM Ticket t LEFT JOIN FETCH t.client LEFT JOIN FETCH t.assignedTechnician WHERE t.id IN :ticketIds")
+    List<Ticket> findAllForSync(@Param("ticketIds") List<Long> ticketIds);
+
+    // Client overview: (status, priority, tickets, tickets past due, latest creation) of one client's tickets
+    @Query("SELECT t.status, t.priority, COUNT(t), SUM(CASE WHEN t.dueAt < :currentTime THEN 1 ELSE 0 END), " +
+           "MAX(t.createdAt) FROM Ticket t WHERE t.client.id = :clientId GROUP BY t.status, t.priority")
+    List<Object[]> getClientTicketSummary(@Param("clientId") Long clientId, @Param("currentTime") Instant currentTime);
+
+    @Query("SELECT t FROM Ticket t LEFT JOIN FETCH t.assignedTechnician WHERE t.client.id = :clientId " +
+           "AND t.status = com.localtechsupport.entity.TicketStatus.OPEN AND t.dueAt < :currentTime ORDER BY t.dueAt, t.id")
+    List<Ticket> findOverdueByClientId(@Param("clientId") Long clientId, @Param("currentTime") Instant currentTime, Limit limit);
+}
@@ -0,0 +1,114 @@
+package com.localtechsupport.service;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Orders the incremental updates of an in-memory aggregate against the query that seeds it.
+ *
+ * An update is registered while its transaction is still open and settled once the
+ * transaction completes. A seed is installed only if no update was in flight when its
+ * query finished and none settled while it ran; otherwise the query is repeated. Every
+ * committed update is therefore either read by the installed seed or applied on top of
+ * it, never both and never neither. Updates settling before any seed are dropped.
+ *
+ * When every attempt overlaps an update, the last query result is handed back to the
+ * caller to answer from instead, and a later read tries to seed again.
+ */
+final class AggregateSeedGate {
+
+    static final int MAX_SEED_ATTEMPTS = 3;
+    private static final long SEED_RETRY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Object lock = new Object();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong settled = new AtomicLong();
+    private volatile boolean seeded;
+
+    boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * Applies the update once the current transaction commits, if the aggregate is seeded by then.
+     */
+    void afterCommit(Runnable update) {
+        inFlight.incrementAndGet();
+        boolean firstInTransaction = TransactionSynchronizationManager.isSynchronizationActive()
+            && !TransactionSynchronizationManager.hasResource(this);
+        if (firstInTransaction) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        }
+        TransactionCallbacks.afterCommit(() -> apply(update), () -> {
+            if (firstInTransaction) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(this);
+            }
+            settled.incrementAndGet();
+            inFlight.decrementAndGet();
+        });
+    }
+
+    /**
+     * Runs the query and installs its result unless the aggregate is already seeded.
+     *
+     * @return null once the aggregate is seeded, or the result of the last query if it
+     *         could not be installed: every attempt overlapped an update, or the current
+     *         transaction has updates of its own in flight
+     */
+    <T> T seed(Supplier<T> query, Consumer<T> install) {
+        if (seeded) {
+            return null;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return query.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            long settledBefore = settled.get();
+            T rows = query.get();
+            synchronized (lock) {
+                if (seeded) {
+                    return null;
+                }
+                if (inFlight.get() == 0 && settled.get() == settledBefore) {
+                    install.accept(rows);
+                    seeded = true;
+                    return null;
+                }
+            }
+            if (attempt == MAX_SEED_ATTEMPTS) {
+                return rows;
+            }
+            LockSupport.parkNanos(SEED_RETRY_BACKOFF_NANOS);
+        }
+    }
+
+    /**
+     * Marks the aggregate unseeded and runs the reset while no update can apply.
+     */
+    void unseed(Runnable reset) {
+        synchronized (lock) {
+            seeded = false;
+            reset.run();
+        }
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private void apply(Runnable update) {
+        if (seeded) {
+            update.run();
+            return;
+        }
+        // Serializes with seed(): an update either precedes the install and is dropped, or follows it
+        synchronized (lock) {
+            if (seeded) {
+                update.run();
+            }
+        }
+    }
+}
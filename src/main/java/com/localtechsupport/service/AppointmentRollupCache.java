@@ -0,0 +1,60 @@
+package com.localtechsupport.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache for per-technician appointment rollups and utilization reports.
+ *
+ * Entries are computed from grouped queries on first read and dropped as a
+ * whole whenever an appointment changes (see {@link DerivedDataEventListeners})
+ * or a technician is created, updated or deleted (see {@link TechnicianService}),
+ * once the change has committed. A load that overlaps an invalidation is
+ * returned to its caller but never stored, so a report computed from
+ * pre-change data cannot outlive the change. Once MAX_ENTRIES distinct keys
+ * are cached, further keys are computed without being stored.
+ */
+@Component
+public class AppointmentRollupCache {
+
+    static final int MAX_ENTRIES = 256;
+
+    private final Map<String, Object> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Returns the cached value for the key, loading and storing it on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        Object cached = entries.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        long loadGeneration = generation.get();
+        T value = loader.get();
+        if (value != null && generation.get() == loadGeneration && entries.size() < MAX_ENTRIES) {
+            entries.put(key, value);
+            if (generation.get() != loadGeneration) {
+                entries.remove(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drops every entry immediately.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
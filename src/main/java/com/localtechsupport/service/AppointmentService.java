@@ -1,17 +1,23 @@
 package com.localtechsupport.service;
 
+import com.localtechsupport.config.RetryOnConflict;
 import com.localtechsupport.entity.*;
+import com.localtechsupport.event.AppointmentBooked;
+import com.localtechsupport.event.AppointmentStatusChanged;
+import com.localtechsupport.event.DomainEventBus;
 import com.localtechsupport.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Service layer for Appointment management operations.
@@ -23,22 +29,44 @@ import java.util.stream.Collectors;
  * - Calendar and time slot management
  * - Statistics and utilization analytics
  * - Business rule enforcement
+ *
+ * Scheduling checks the requested times and cached technician status before
+ * its write transaction starts.
  */
 @Service
-@Transactional
 public class AppointmentService {
 
+    static final int MAX_UTILIZATION_DAYS = 92;
+
+    private static final List<AppointmentStatus> UNBOOKED_STATUSES = Arrays.asList(
+        AppointmentStatus.CANCELLED, AppointmentStatus.NO_SHOW);
+
     private final AppointmentRepository appointmentRepository;
     private final TechnicianRepository technicianRepository;
     private final TicketRepository ticketRepository;
+    private final ShardRouter shardRouter;
+    private final AppointmentRollupCache rollupCache;
+    private final WriteValidationCache validationCache;
+    private final TransactionOperations transactionOperations;
+    private final DomainEventBus eventBus;
 
     @Autowired
     public AppointmentService(AppointmentRepository appointmentRepository,
                             TechnicianRepository technicianRepository,
-                            TicketRepository ticketRepository) {
+                            TicketRepository ticketRepository,
+                            ShardRouter shardRouter,
+                            AppointmentRollupCache rollupCache,
+                            WriteValidationCache validationCache,
+                            TransactionOperations transactionOperations,
+                            DomainEventBus eventBus) {
         this.appointmentRepository = appointmentRepository;
         this.technicianRepository = technicianRepository;
         this.ticketRepository = ticketRepository;
+        this.shardRouter = shardRouter;
+        this.rollupCache = rollupCache;
+        this.validationCache = validationCache;
+        this.transactionOperations = transactionOperations;
+        this.eventBus = eventBus;
     }
 
     /**
@@ -48,42 +76,69 @@ public class AppointmentService {
                                        Instant startTime, Instant endTime) {
         // Validate basic inputs
         validateAppointmentTimes(startTime, endTime);
-        
-        // Validate technician exists and is available
-        Technician technician = getTechnicianById(technicianId);
-        validateTechnicianAvailability(technician);
-        
-        // Validate ticket exists and can have appointments
-        Ticket ticket = getTicketById(ticketId);
-        validateTicketForAppointment(ticket);
-        
-        // Check for scheduling conflicts
-        List<AppointmentStatus> excludedStatuses = Arrays.asList(
-            AppointmentStatus.CANCELLED, AppointmentStatus.NO_SHOW);
-        
-        List<Appointment> conflicts = appointmentRepository.findConflictingAppointments(
-            technician, startTime, endTime, excludedStatuses);
-            
-        if (!conflicts.isEmpty()) {
-            throw new IllegalStateException(
-                "Technician " + technician.getFullName() + 
-                " has conflicting appointments during the requested time slot");
+
+        // Reject technicians already known to be missing or inactive without taking a connection
+        WriteValidationCache.Reference cachedTechnician = validationCache.getTechnician(technicianId);
+        if (cachedTechnician != null && !cachedTechnician.exists()) {
+            throw technicianNotFound(technicianId);
         }
-        
-        // Create appointment
-        Appointment appointment = new Appointment();
-        appointment.setTechnician(technician);
-        appointment.setTicket(ticket);
-        appointment.setStartTime(startTime);
-        appointment.setEndTime(endTime);
-        appointment.setStatus(AppointmentStatus.PENDING);
-        
-        return appointmentRepository.save(appointment);
+        if (cachedTechnician != null && !cachedTechnician.isActive()) {
+            throw inactiveTechnician(cachedTechnician.getName());
+        }
+
+        long loadGeneration = validationCache.generation();
+        return transactionOperations.execute(status -> {
+            // Appointments live on the shard of the ticket's client, which holds a copy of every technician
+            shardRouter.routeById(ticketId);
+
+            // Validate technician exists and is available
+            Technician technician = technicianRepository.findById(technicianId).orElse(null);
+            validationCache.rememberTechnician(technicianId, technician, loadGeneration);
+            if (technician == null) {
+                throw technicianNotFound(technicianId);
+            }
+            validateTechnicianAvailability(technician);
+
+            // Validate ticket exists and can have appointments
+            Ticket ticket = getTicketById(ticketId);
+            validateTicketForAppointment(ticket);
+
+            // Check for scheduling conflicts
+            List<AppointmentStatus> excludedStatuses = Arrays.asList(
+                AppointmentStatus.CANCELLED, AppointmentStatus.NO_SHOW);
+
+            // A technician's appointments may sit on any shard when sharded
+            boolean conflicting = shardRouter.isSharded()
+                ? shardRouter.sum(() -> appointmentRepository.countConflictingAppointments(
+                    technician, startTime, endTime, excludedStatuses)) > 0
+                : !appointmentRepository.findConflictingAppointments(
+                    technician, startTime, endTime, excludedStatuses).isEmpty();
+
+            if (conflicting) {
+                throw new IllegalStateException(
+                    "Technician " + technician.getFullName() +
+                    " has conflicting appointments during the requested time slot");
+            }
+
+            // Create appointment
+            Appointment appointment = new Appointment();
+            appointment.setTechnician(technician);
+            appointment.setTicket(ticket);
+            appointment.setStartTime(startTime);
+            appointment.setEndTime(endTime);
+            appointment.setStatus(AppointmentStatus.PENDING);
+
+            Appointment saved = appointmentRepository.save(appointment);
+            eventBus.publish(new AppointmentBooked(appointment));
+            return saved;
+        });
     }
 
     /**
      * Updates appointment status with business rule validation.
      */
+    @RetryOnConflict
+    @Transactional
     public Appointment updateAppointmentStatus(Long appointmentId, AppointmentStatus newStatus) {
         Appointment appointment = getAppointmentById(appointmentId);
         
@@ -92,13 +147,18 @@ public class AppointmentService {
                 "Invalid status transition from " + appointment.getStatus() + " to " + newStatus);
         }
         
+        AppointmentStatus previousStatus = appointment.getStatus();
         appointment.setStatus(newStatus);
-        return appointmentRepository.save(appointment);
+        Appointment saved = appointmentRepository.save(appointment);
+        eventBus.publish(new AppointmentStatusChanged(appointment, previousStatus));
+        return saved;
     }
 
     /**
      * Cancels an appointment.
      */
+    @RetryOnConflict
+    @Transactional
     public Appointment cancelAppointment(Long appointmentId, String reason) {
         Appointment appointment = getAppointmentById(appointmentId);
         
@@ -110,37 +170,42 @@ public class AppointmentService {
             throw new IllegalStateException("Appointment is already cancelled");
         }
         
+        AppointmentStatus previousStatus = appointment.getStatus();
         appointment.setStatus(AppointmentStatus.CANCELLED);
-        return appointmentRepository.save(appointment);
+        Appointment saved = appointmentRepository.save(appointment);
+        eventBus.publish(new AppointmentStatusChanged(appointment, previousStatus));
+        return saved;
     }
 
     // === SEARCH AND RETRIEVAL METHODS ===
 
     @Transactional(readOnly = true)
     public Optional<Appointment> findById(Long appointmentId) {
+        shardRouter.routeById(appointmentId);
         return appointmentRepository.findById(appointmentId);
     }
 
     @Transactional(readOnly = true)
     public Appointment getAppointmentById(Long appointmentId) {
+        shardRouter.routeById(appointmentId);
         return appointmentRepository.findById(appointmentId)
             .orElseThrow(() -> new IllegalArgumentException("Appointment not found with ID: " + appointmentId));
     }
 
     @Transactional(readOnly = true)
     public Page<Appointment> findAllAppointments(Pageable pageable) {
-        return appointmentRepository.findAll(pageable);
+        return shardRouter.collectPage(appointmentRepository::findAll, pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<Appointment> findAppointmentsByStatus(AppointmentStatus status, Pageable pageable) {
-        return appointmentRepository.findByStatus(status, pageable);
+        return shardRouter.collectPage(page -> appointmentRepository.findByStatus(status, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<Appointment> findAppointmentsByTechnician(Long technicianId, Pageable pageable) {
         Technician technician = getTechnicianById(technicianId);
-        return appointmentRepository.findByTechnician(technician, pageable);
+        return shardRouter.collectPage(page -> appointmentRepository.findByTechnician(technician, page), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -152,24 +217,30 @@ public class AppointmentService {
     @Transactional(readOnly = true)
     public List<Appointment> findTechnicianSchedule(Long technicianId, Instant startDate, Instant endDate) {
         Technician technician = getTechnicianById(technicianId);
-        return appointmentRepository.findTechnicianSchedule(technician, startDate, endDate);
+        return shardRouter.collect(() -> appointmentRepository.findTechnicianSchedule(technician, startDate, endDate),
+            Comparator.comparing(Appointment::getStartTime));
     }
 
     @Transactional(readOnly = true)
     public List<Appointment> findAppointmentsByTimeRange(Instant startTime, Instant endTime) {
-        return appointmentRepository.findByTimeRange(startTime, endTime);
+        return shardRouter.collect(() -> appointmentRepository.findByTimeRange(startTime, endTime),
+            Comparator.comparing(Appointment::getStartTime));
     }
 
     @Transactional(readOnly = true)
     public List<Appointment> findUpcomingAppointments() {
         List<AppointmentStatus> activeStatuses = Arrays.asList(
             AppointmentStatus.PENDING, AppointmentStatus.CONFIRMED, AppointmentStatus.IN_PROGRESS);
-        return appointmentRepository.findUpcomingAppointments(Instant.now(), activeStatuses);
+        Instant now = Instant.now();
+        return shardRouter.collect(() -> appointmentRepository.findUpcomingAppointments(now, activeStatuses),
+            Comparator.comparing(Appointment::getStartTime));
     }
 
     @Transactional(readOnly = true)
     public List<Appointment> findMissedAppointments() {
-        return appointmentRepository.findMissedAppointments(Instant.now());
+        Instant now = Instant.now();
+        return shardRouter.collect(() -> appointmentRepository.findMissedAppointments(now),
+            Comparator.comparing(Appointment::getStartTime));
     }
 
     // === AVAILABILITY AND CONFLICT CHECKING ===
@@ -180,8 +251,8 @@ public class AppointmentService {
         List<AppointmentStatus> excludedStatuses = Arrays.asList(
             AppointmentStatus.CANCELLED, AppointmentStatus.NO_SHOW);
             
-        long conflicts = appointmentRepository.countConflictingAppointments(
-            technician, startTime, endTime, excludedStatuses);
+        long conflicts = shardRouter.sum(() -> appointmentRepository.countConflictingAppointments(
+            technician, startTime, endTime, excludedStatuses));
             
         return conflicts == 0;
     }
@@ -197,28 +268,174 @@ public class AppointmentService {
 
     @Transactional(readOnly = true)
     public long countAppointmentsByStatus(AppointmentStatus status) {
-        return appointmentRepository.countByStatus(status);
+        return shardRouter.sum(() -> appointmentRepository.countByStatus(status));
     }
 
     @Transactional(readOnly = true)
     public long countUpcomingAppointments() {
         List<AppointmentStatus> activeStatuses = Arrays.asList(
             AppointmentStatus.PENDING, AppointmentStatus.CONFIRMED, AppointmentStatus.IN_PROGRESS);
-        return appointmentRepository.countUpcomingAppointments(Instant.now(), activeStatuses);
+        Instant now = Instant.now();
+        return shardRouter.sum(() -> appointmentRepository.countUpcomingAppointments(now, activeStatuses));
     }
 
+    /**
+     * Appointment counts keyed by technician ID, with 0 for technicians without appointments.
+     */
     @Transactional(readOnly = true)
     public Map<Long, Long> getAppointmentCountsByTechnician() {
-        List<Technician> technicians = technicianRepository.findAll();
-        return technicians.stream()
-            .collect(Collectors.toMap(
-                Technician::getId,
-                tech -> appointmentRepository.countByTechnician(tech)
-            ));
+        return rollupCache.get("counts", () -> {
+            Map<Long, Long> counts =
+                sumByTechnician(shardRouter.collect(appointmentRepository::countAppointmentsGroupedByTechnician));
+            technicianRepository.findAllIds().forEach(id -> counts.putIfAbsent(id, 0L));
+            return Collections.unmodifiableMap(counts);
+        });
+    }
+
+    /**
+     * Appointment counts per status, keyed by technician ID.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<AppointmentStatus, Long>> getAppointmentStatusCountsByTechnician() {
+        return rollupCache.get("status-counts", () -> {
+            Map<Long, Map<AppointmentStatus, Long>> counts = new HashMap<>();
+            for (Object[] row : shardRouter.collect(appointmentRepository::countAppointmentsGroupedByTechnicianAndStatus)) {
+                counts.computeIfAbsent(((Number) row[0]).longValue(), id -> new EnumMap<>(AppointmentStatus.class))
+                    .merge((AppointmentStatus) row[1], ((Number) row[2]).longValue(), Long::sum);
+            }
+            counts.replaceAll((id, byStatus) -> Collections.unmodifiableMap(byStatus));
+            return Collections.unmodifiableMap(counts);
+        });
+    }
+
+    /**
+     * Active (pending, confirmed, in progress) appointments starting in [startTime, endTime), keyed by technician ID.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getAppointmentCountsByTechnicianInPeriod(Instant startTime, Instant endTime) {
+        List<AppointmentStatus> activeStatuses = Arrays.asList(
+            AppointmentStatus.PENDING, AppointmentStatus.CONFIRMED, AppointmentStatus.IN_PROGRESS);
+        return rollupCache.get("period-counts:" + startTime + ":" + endTime, () -> Collections.unmodifiableMap(
+            sumByTechnician(shardRouter.collect(() -> appointmentRepository
+                .countAppointmentsInPeriodGroupedByTechnician(startTime, endTime, activeStatuses)))));
+    }
+
+    /**
+     * Booked hours against available hours for every technician and every UTC day in [from, to].
+     *
+     * Active technicians are available hoursPerDay each day; other technicians only appear
+     * when they still have bookings, with no available hours. Cancelled and no-show
+     * appointments are not booked time, and appointments spanning midnight are split
+     * across the days they cover.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getTechnicianUtilizationReport(LocalDate from, LocalDate to, double hoursPerDay) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to dates cannot be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("To date must not be before from date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_UTILIZATION_DAYS) {
+            throw new IllegalArgumentException("Utilization reports cover at most " + MAX_UTILIZATION_DAYS + " days");
+        }
+        if (hoursPerDay <= 0 || hoursPerDay > 24) {
+            throw new IllegalArgumentException("Hours per day must be between 0 and 24");
+        }
+        return rollupCache.get("utilization:" + from + ":" + to + ":" + hoursPerDay,
+            () -> buildUtilizationReport(from, to, hoursPerDay));
     }
 
     // === PRIVATE HELPER METHODS ===
 
+    private Map<Long, Long> sumByTechnician(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.merge(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), Long::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Single pass over the booked intervals, bucketing seconds per technician and day.
+     */
+    private Map<String, Object> buildUtilizationReport(LocalDate from, LocalDate to, double hoursPerDay) {
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        Instant periodStart = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant periodEnd = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        Map<Long, long[]> bookedSecondsByTechnician = new HashMap<>();
+        Map<Long, Long> appointmentCounts = new HashMap<>();
+        for (Object[] row : shardRouter.collect(() ->
+                appointmentRepository.findBookedIntervals(periodStart, periodEnd, UNBOOKED_STATUSES))) {
+            Long technicianId = ((Number) row[0]).longValue();
+            long[] dailySeconds = bookedSecondsByTechnician.computeIfAbsent(technicianId, id -> new long[days]);
+            DailyIntervals.splitByDay((Instant) row[1], (Instant) row[2], periodStart, periodEnd,
+                (day, seconds) -> dailySeconds[day] += seconds);
+            appointmentCounts.merge(technicianId, 1L, Long::sum);
+        }
+
+        Map<Long, Technician> technicians = new TreeMap<>();
+        technicianRepository.findAll().forEach(technician -> technicians.put(technician.getId(), technician));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        double totalBooked = 0;
+        double totalAvailable = 0;
+        for (Technician technician : technicians.values()) {
+            boolean active = technician.getStatus() == TechnicianStatus.ACTIVE;
+            long[] dailySeconds = bookedSecondsByTechnician.get(technician.getId());
+            if (!active && dailySeconds == null) {
+                continue;
+            }
+            double availablePerDay = active ? hoursPerDay : 0;
+            double booked = 0;
+            List<Map<String, Object>> daily = new ArrayList<>(days);
+            for (int day = 0; day < days; day++) {
+                double bookedHours = dailySeconds != null ? dailySeconds[day] / 3600.0 : 0;
+                booked += bookedHours;
+                Map<String, Object> dayRow = new LinkedHashMap<>();
+                dayRow.put("date", from.plusDays(day).toString());
+                dayRow.put("bookedHours", round(bookedHours));
+                dayRow.put("availableHours", availablePerDay);
+                dayRow.put("utilization", ratio(bookedHours, availablePerDay));
+                daily.add(Collections.unmodifiableMap(dayRow));
+            }
+            double available = availablePerDay * days;
+            totalBooked += booked;
+            totalAvailable += available;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("technicianId", technician.getId());
+            row.put("technicianName", technician.getFullName());
+            row.put("status", technician.getStatus());
+            row.put("appointmentCount", appointmentCounts.getOrDefault(technician.getId(), 0L));
+            row.put("bookedHours", round(booked));
+            row.put("availableHours", round(available));
+            row.put("utilization", ratio(booked, available));
+            row.put("daily", Collections.unmodifiableList(daily));
+            rows.add(Collections.unmodifiableMap(row));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("from", from.toString());
+        report.put("to", to.toString());
+        report.put("days", days);
+        report.put("hoursPerDay", hoursPerDay);
+        report.put("totalBookedHours", round(totalBooked));
+        report.put("totalAvailableHours", round(totalAvailable));
+        report.put("utilization", ratio(totalBooked, totalAvailable));
+        report.put("technicians", Collections.unmodifiableList(rows));
+        return Collections.unmodifiableMap(report);
+    }
+
+    private double ratio(double booked, double available) {
+        return available > 0 ? round(booked / available) : 0.0;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
     private void validateAppointmentTimes(Instant startTime, Instant endTime) {
         if (startTime == null || endTime == null) {
             throw new IllegalArgumentException("Start time and end time cannot be null");
@@ -246,11 +463,18 @@ public class AppointmentService {
 
     private void validateTechnicianAvailability(Technician technician) {
         if (technician.getStatus() != TechnicianStatus.ACTIVE) {
-            throw new IllegalStateException("Cannot schedule appointments with inactive technician: " + 
-                technician.getFullName());
+            throw inactiveTechnician(technician.getFullName());
         }
     }
 
+    private static IllegalArgumentException technicianNotFound(Long technicianId) {
+        return new IllegalArgumentException("Technician not found with ID: " + technicianId);
+    }
+
+    private static IllegalStateException inactiveTechnician(String fullName) {
+        return new IllegalStateException("Cannot schedule appointments with inactive technician: " + fullName);
+    }
+
     private void validateTicketForAppointment(Ticket ticket) {
         if (ticket.getStatus() != TicketStatus.OPEN) {
             throw new IllegalStateException("Cannot schedule appointments for closed tickets");
@@ -279,10 +503,11 @@ public class AppointmentService {
 
     private Technician getTechnicianById(Long technicianId) {
         return technicianRepository.findById(technicianId)
-            .orElseThrow(() -> new IllegalArgumentException("Technician not found with ID: " + technicianId));
+            .orElseThrow(() -> technicianNotFound(technicianId));
     }
 
     private Ticket getTicketById(Long ticketId) {
+        shardRouter.routeById(ticketId);
         return ticketRepository.findById(ticketId)
             .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
     }
@@ -0,0 +1,45 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.TicketStatus;
+
+import java.util.List;
+
+/**
+ * Selects the tickets a bulk operation applies to. Criteria are combined
+ * with AND; at least one must be given.
+ */
+public final class BulkTicketFilter {
+
+    private final List<Long> ticketIds;
+    private final Long technicianId;
+    private final ServiceType serviceType;
+    private final TicketStatus status;
+
+    public BulkTicketFilter(List<Long> ticketIds, Long technicianId, ServiceType serviceType, TicketStatus status) {
+        this.ticketIds = ticketIds != null ? List.copyOf(ticketIds) : null;
+        this.technicianId = technicianId;
+        this.serviceType = serviceType;
+        this.status = status;
+    }
+
+    public boolean isEmpty() {
+        return (ticketIds == null || ticketIds.isEmpty()) && technicianId == null && serviceType == null && status == null;
+    }
+
+    public List<Long> getTicketIds() {
+        return ticketIds;
+    }
+
+    public Long getTechnicianId() {
+        return technicianId;
+    }
+
+    public ServiceType getServiceType() {
+        return serviceType;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+}
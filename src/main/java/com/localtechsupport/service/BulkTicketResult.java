@@ -0,0 +1,113 @@
+package com.localtechsupport.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk ticket operation, chunk by chunk.
+ *
+ * Each chunk commits on its own, so a failed chunk leaves earlier chunks
+ * applied; its error is reported and the remaining chunks still run.
+ */
+public final class BulkTicketResult {
+
+    private final String operation;
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    BulkTicketResult(String operation) {
+        this.operation = operation;
+    }
+
+    void addChunk(Chunk chunk) {
+        chunks.add(chunk);
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public List<Chunk> getChunks() {
+        return Collections.unmodifiableList(chunks);
+    }
+
+    public int getMatched() {
+        return chunks.stream().mapToInt(Chunk::getMatched).sum();
+    }
+
+    public int getUpdated() {
+        return chunks.stream().mapToInt(Chunk::getUpdated).sum();
+    }
+
+    /**
+     * Matched tickets left unchanged, e.g. already closed or already at the target value.
+     */
+    public int getSkipped() {
+        return chunks.stream().mapToInt(Chunk::getSkipped).sum();
+    }
+
+    /**
+     * Matched tickets the operation refused to change, e.g. reassignments to a
+     * technician without the ticket's skill.
+     */
+    public List<Long> getRejectedTicketIds() {
+        return chunks.stream().flatMap(chunk -> chunk.getRejectedTicketIds().stream()).toList();
+    }
+
+    public long getFailedChunks() {
+        return chunks.stream().filter(chunk -> chunk.getError() != null).count();
+    }
+
+    public static final class Chunk {
+
+        private final int index;
+        private final Long firstTicketId;
+        private final Long lastTicketId;
+        private final int matched;
+        private final int updated;
+        private final List<Long> rejectedTicketIds;
+        private final String error;
+
+        Chunk(int index, List<Long> ticketIds, int updated, List<Long> rejectedTicketIds, String error) {
+            this.index = index;
+            this.firstTicketId = ticketIds.get(0);
+            this.lastTicketId = ticketIds.get(ticketIds.size() - 1);
+            this.matched = ticketIds.size();
+            this.updated = updated;
+            this.rejectedTicketIds = List.copyOf(rejectedTicketIds);
+            this.error = error;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Long getFirstTicketId() {
+            return firstTicketId;
+        }
+
+        public Long getLastTicketId() {
+            return lastTicketId;
+        }
+
+        public int getMatched() {
+            return matched;
+        }
+
+        public int getUpdated() {
+            return updated;
+        }
+
+        public int getSkipped() {
+            return error != null ? 0 : matched - updated - rejectedTicketIds.size();
+        }
+
+        public List<Long> getRejectedTicketIds() {
+            return rejectedTicketIds;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.Technician;
+import com.localtechsupport.entity.TechnicianStatus;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.TicketsBulkUpdated;
+import com.localtechsupport.repository.FeedbackEntryRepository;
+import com.localtechsupport.repository.TechnicianRepository;
+import com.localtechsupport.repository.TicketHistoryRepository;
+import com.localtechsupport.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Set-based close, reassign and priority changes for many tickets at once.
+ *
+ * Matching tickets are processed in chunks of {@code app.bulk-operations.chunk-size}
+ * ids, walked in id order per shard. Each chunk runs in its own transaction:
+ * one query narrows the chunk to the tickets the operation actually changes,
+ * one UPDATE applies the change and one INSERT ... SELECT writes their history
+ * rows. No ticket entity is loaded, so the business rules of the single-ticket
+ * operations in {@link TicketService} are expressed as query predicates here.
+ */
+@Service
+public class BulkTicketService {
+
+    public static final String CLOSE = "close";
+    public static final String REASSIGN = "reassign";
+    public static final String CHANGE_PRIORITY = "change-priority";
+
+    private final TicketRepository ticketRepository;
+    private final TicketHistoryRepository ticketHistoryRepository;
+    private final TechnicianRepository technicianRepository;
+    private final FeedbackEntryRepository feedbackEntryRepository;
+    private final TechnicianFeedbackAggregator technicianFeedbackAggregator;
+    private final ShardRouter shardRouter;
+    private final DomainEventBus eventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+
+    @Autowired
+    public BulkTicketService(TicketRepository ticketRepository,
+                             TicketHistoryRepository ticketHistoryRepository,
+                             TechnicianRepository technicianRepository,
+                             FeedbackEntryRepository feedbackEntryRepository,
+                             TechnicianFeedbackAggregator technicianFeedbackAggregator,
+                             ShardRouter shardRouter,
+                             DomainEventBus eventBus,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.bulk-operations.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.ticketRepository = ticketRepository;
+        this.ticketHistoryRepository = ticketHistoryRepository;
+        this.technicianRepository = technicianRepository;
+        this.feedbackEntryRepository = feedbackEntryRepository;
+        this.technicianFeedbackAggregator = technicianFeedbackAggregator;
+        this.shardRouter = shardRouter;
+        this.eventBus = eventBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    // === BULK OPERATIONS ===
+
+    /**
+     * Closes every matching open ticket.
+     */
+    public BulkTicketResult closeTickets(BulkTicketFilter filter, String resolutionNotes, String closedBy) {
+        validate(filter, closedBy);
+        String description = "Ticket closed";
+        if (resolutionNotes != null && !resolutionNotes.trim().isEmpty()) {
+            description += " - Resolution: " + resolutionNotes;
+        }
+        String historyDescription = description;
+
+        return apply(CLOSE, filter, TicketStatus.OPEN, (ticketIds, rejected) -> {
+            List<Long> open = ticketRepository.findIdsByIdInAndStatus(ticketIds, TicketStatus.OPEN);
+            if (open.isEmpty()) {
+                return 0;
+            }
+            ticketRepository.updateStatus(open, TicketStatus.CLOSED);
+            ticketHistoryRepository.insertForTickets(open, TicketStatus.CLOSED, historyDescription, closedBy, Instant.now());
+            eventBus.publish(new TicketsBulkUpdated(CLOSE, open));
+            return open.size();
+        });
+    }
+
+    /**
+     * Assigns every matching open ticket to the given technician. Tickets whose
+     * service type the technician lacks the skill for are left as they are and
+     * reported as rejected.
+     */
+    public BulkTicketResult reassignTickets(BulkTicketFilter filter, Long technicianId, String updatedBy) {
+        validate(filter, updatedBy);
+        if (technicianId == null) {
+            throw new IllegalArgumentException("Technician ID is required");
+        }
+        Technician technician = readOnlyTransactionTemplate.execute(status -> {
+            shardRouter.routeById(technicianId);
+            return technicianRepository.findById(technicianId)
+                .orElseThrow(() -> new IllegalArgumentException("Technician not found with ID: " + technicianId));
+        });
+        if (technician.getStatus() != TechnicianStatus.ACTIVE) {
+            throw new IllegalStateException("Cannot assign inactive technician: " + technician.getEmail());
+        }
+        String historyDescription = "Assigned to technician: " + technician.getFullName();
+
+        return apply(REASSIGN, filter, TicketStatus.OPEN, (ticketIds, rejected) -> {
+            rejected.addAll(ticketRepository.findIdsLackingTechnicianSkill(ticketIds, TicketStatus.OPEN, technicianId));
+            List<Long> movable = ticketRepository.findIdsNotAssignedTo(ticketIds, TicketStatus.OPEN, technicianId);
+            if (movable.isEmpty()) {
+                return 0;
+            }
+            moveFeedbackRatings(movable, technicianId);
+            ticketRepository.updateAssignedTechnician(movable, technicianRepository.getReferenceById(technicianId));
+            ticketHistoryRepository.insertForTickets(movable, TicketStatus.OPEN, historyDescription, updatedBy, Instant.now());
+            eventBus.publish(new TicketsBulkUpdated(REASSIGN, movable));
+            return movable.size();
+        });
+    }
+
+    /**
+     * Sets the priority of every matching ticket.
+     */
+    public BulkTicketResult changePriority(BulkTicketFilter filter, TicketPriority priority, String updatedBy) {
+        validate(filter, updatedBy);
+        if (priority == null) {
+            throw new IllegalArgumentException("Priority is required");
+        }
+        String historyDescription = "Priority changed to " + priority;
+
+        return apply(CHANGE_PRIORITY, filter, null, (ticketIds, rejected) -> {
+            List<Long> changed = ticketRepository.findIdsByIdInAndPriorityNot(ticketIds, priority);
+            if (changed.isEmpty()) {
+                return 0;
+            }
+            ticketRepository.updatePriority(changed, priority);
+            Instant now = Instant.now();
+            for (TicketStatus ticketStatus : TicketStatus.values()) {
+                ticketHistoryRepository.insertForTickets(changed, ticketStatus, historyDescription, updatedBy, now);
+            }
+            eventBus.publish(new TicketsBulkUpdated(CHANGE_PRIORITY, changed));
+            return changed.size();
+        });
+    }
+
+    // === CHUNKED EXECUTION ===
+
+    @FunctionalInterface
+    private interface ChunkUpdate {
+        int apply(List<Long> ticketIds, List<Long> rejectedTicketIds);
+    }
+
+    /**
+     * Walks the matching tickets chunk by chunk on every shard, running the
+     * update for each chunk in its own transaction.
+     */
+    private BulkTicketResult apply(String operation, BulkTicketFilter filter, TicketStatus requiredStatus,
+                                   ChunkUpdate update) {
+        BulkTicketResult result = new BulkTicketResult(operation);
+        if (requiredStatus != null && filter.getStatus() != null && filter.getStatus() != requiredStatus) {
+            return result;
+        }
+        TicketStatus status = requiredStatus != null ? requiredStatus : filter.getStatus();
+
+        if (filter.getTicketIds() != null && !filter.getTicketIds().isEmpty()) {
+            for (Map.Entry<Integer, List<Long>> shard : idsByShard(filter.getTicketIds()).entrySet()) {
+                List<Long> ids = shard.getValue();
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    List<Long> candidates = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                    List<Long> matched = onShard(shard.getKey(), readOnlyTransactionTemplate, () ->
+                        ticketRepository.findIdsForBulkUpdateIn(candidates, filter.getTechnicianId(),
+                            filter.getServiceType(), status));
+                    runChunk(result, shard.getKey(), matched, update);
+                }
+            }
+        } else {
+            for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+                long afterId = 0;
+                List<Long> matched;
+                do {
+                    long after = afterId;
+                    matched = onShard(shard, readOnlyTransactionTemplate, () ->
+                        ticketRepository.findIdsForBulkUpdate(after, filter.getTechnicianId(),
+                            filter.getServiceType(), status, Limit.of(chunkSize)));
+                    runChunk(result, shard, matched, update);
+                    if (!matched.isEmpty()) {
+                        afterId = matched.get(matched.size() - 1);
+                    }
+                } while (matched.size() == chunkSize);
+            }
+        }
+        return result;
+    }
+
+    private void runChunk(BulkTicketResult result, int shard, List<Long> ticketIds, ChunkUpdate update) {
+        if (ticketIds.isEmpty()) {
+            return;
+        }
+        int index = result.getChunks().size();
+        List<Long> rejected = new ArrayList<>();
+        try {
+            int updated = onShard(shard, transactionTemplate, () -> update.apply(ticketIds, rejected));
+            result.addChunk(new BulkTicketResult.Chunk(index, ticketIds, updated, rejected, null));
+        } catch (RuntimeException e) {
+            result.addChunk(new BulkTicketResult.Chunk(index, ticketIds, 0, List.of(), e.getMessage()));
+        }
+    }
+
+    private <T> T onShard(int shard, TransactionTemplate template, Supplier<T> work) {
+        return template.execute(status -> {
+            shardRouter.routeTo(shard);
+            return work.get();
+        });
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private void validate(BulkTicketFilter filter, String updatedBy) {
+        if (filter == null || filter.isEmpty()) {
+            throw new IllegalArgumentException("Bulk operations require at least one filter criterion");
+        }
+        if (updatedBy == null || updatedBy.trim().isEmpty()) {
+            throw new IllegalArgumentException("Updated by is required");
+        }
+    }
+
+    private Map<Integer, List<Long>> idsByShard(List<Long> ticketIds) {
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        ticketIds.stream().distinct().sorted().forEach(id ->
+            byShard.computeIfAbsent(shardRouter.shardForId(id), shard -> new ArrayList<>()).add(id));
+        return byShard;
+    }
+
+    /**
+     * Keeps per-technician feedback aggregates in step, as single-ticket reassignment does.
+     */
+    private void moveFeedbackRatings(List<Long> ticketIds, Long toTechnicianId) {
+        Map<Long, List<Integer>> ratingsByTechnician = new HashMap<>();
+        for (Object[] row : feedbackEntryRepository.findTechnicianRatingsByTicketIds(ticketIds)) {
+            ratingsByTechnician.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Integer) row[1]);
+        }
+        ratingsByTechnician.forEach((fromTechnicianId, ratings) ->
+            technicianFeedbackAggregator.reassign(fromTechnicianId, toTechnicianId, ratings));
+    }
+}
@@ -0,0 +1,112 @@
+package com.localtechsupport.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cached daily aggregates behind the capacity forecast.
+ *
+ * Booked appointment seconds are kept per UTC day and technician. Committed
+ * appointment changes drop only the days the appointment covers, so a
+ * forecast reloads just those days. Ticket-derived inputs (roster, backlog,
+ * resolution times) are kept as one snapshot that is reloaded once older than
+ * the refresh interval, so they may lag ticket changes by up to that interval.
+ * Booking invalidation is driven by domain events, see {@link DerivedDataEventListeners}.
+ *
+ * Loads record the generation they started in; a load that overlaps an
+ * invalidation is used by its caller but not stored.
+ */
+@Component
+public class CapacityAggregateCache {
+
+    private final Map<LocalDate, Map<Long, Long>> bookedSecondsByDay = new ConcurrentHashMap<>();
+    private final AtomicLong bookingGeneration = new AtomicLong();
+    private final AtomicLong inputsGeneration = new AtomicLong();
+    private volatile CapacityForecastService.ForecastInputs inputs;
+
+    // === DAILY BOOKINGS ===
+
+    /**
+     * Booked seconds per technician on the day, or null when the day is not cached.
+     */
+    public Map<Long, Long> getBookedSeconds(LocalDate day) {
+        return bookedSecondsByDay.get(day);
+    }
+
+    public long bookingGeneration() {
+        return bookingGeneration.get();
+    }
+
+    public void storeBookedSeconds(Map<LocalDate, Map<Long, Long>> days, long loadGeneration) {
+        if (bookingGeneration.get() != loadGeneration) {
+            return;
+        }
+        days.forEach((day, seconds) -> bookedSecondsByDay.put(day, Collections.unmodifiableMap(seconds)));
+        if (bookingGeneration.get() != loadGeneration) {
+            days.keySet().forEach(bookedSecondsByDay::remove);
+        }
+    }
+
+    /**
+     * Drops the days covered by [startTime, endTime].
+     */
+    public void invalidateBookings(Instant startTime, Instant endTime) {
+        bookingGeneration.incrementAndGet();
+        LocalDate last = LocalDate.ofInstant(endTime, ZoneOffset.UTC);
+        for (LocalDate day = LocalDate.ofInstant(startTime, ZoneOffset.UTC); !day.isAfter(last); day = day.plusDays(1)) {
+            bookedSecondsByDay.remove(day);
+        }
+    }
+
+    /**
+     * Forgets days that can no longer be part of a forecast.
+     */
+    public void evictBefore(LocalDate day) {
+        bookedSecondsByDay.keySet().removeIf(cached -> cached.isBefore(day));
+    }
+
+    public int cachedDayCount() {
+        return bookedSecondsByDay.size();
+    }
+
+    // === TICKET-DERIVED INPUTS ===
+
+    public CapacityForecastService.ForecastInputs getInputs() {
+        return inputs;
+    }
+
+    public long inputsGeneration() {
+        return inputsGeneration.get();
+    }
+
+    public synchronized void storeInputs(CapacityForecastService.ForecastInputs loaded, long loadGeneration) {
+        if (inputsGeneration.get() == loadGeneration) {
+            inputs = loaded;
+        }
+    }
+
+    /**
+     * Drops the ticket-derived snapshot so the next forecast reloads it.
+     */
+    public synchronized void invalidateInputs() {
+        inputsGeneration.incrementAndGet();
+        inputs = null;
+    }
+
+    /**
+     * Drops every cached aggregate.
+     */
+    public synchronized void invalidate() {
+        bookingGeneration.incrementAndGet();
+        inputsGeneration.incrementAndGet();
+        bookedSecondsByDay.clear();
+        inputs = null;
+    }
+}
@@ -0,0 +1,465 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.AppointmentStatus;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.TechnicianStatus;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.repository.AppointmentRepository;
+import com.localtechsupport.repository.TechnicianRepository;
+import com.localtechsupport.repository.TicketHistoryRepository;
+import com.localtechsupport.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Forecasts per-day technician capacity against ticket demand.
+ *
+ * Capacity: every active technician offers hoursPerDay per UTC day, minus hours
+ * already booked in appointments, split evenly across the technician's skills.
+ *
+ * Demand: every open ticket needs the average hands-on effort for its service
+ * type (completed appointment hours per ticket over the lookback window, or the
+ * default effort without history). It lands on the day it is expected to be
+ * resolved: its creation day plus the historical resolution time for its
+ * service type and priority, no later than its due date and no earlier than
+ * today. New tickets arrive at the lookback window's daily rate.
+ *
+ * All inputs come from grouped queries cached in {@link CapacityAggregateCache};
+ * the per-technician capacity pass runs on the common fork/join pool.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CapacityForecastService {
+
+    static final int TECHNICIANS_PER_TASK = 128;
+
+    private static final List<AppointmentStatus> UNBOOKED_STATUSES = Arrays.asList(
+        AppointmentStatus.CANCELLED, AppointmentStatus.NO_SHOW);
+    private static final ServiceType[] SERVICE_TYPES = ServiceType.values();
+    private static final TicketPriority[] PRIORITIES = TicketPriority.values();
+
+    // Columns of the per-day capacity rows after the per-service-type ones
+    private static final int BOOKED_COLUMN = SERVICE_TYPES.length;
+    private static final int FREE_COLUMN = SERVICE_TYPES.length + 1;
+
+    private final AppointmentRepository appointmentRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketHistoryRepository ticketHistoryRepository;
+    private final TechnicianRepository technicianRepository;
+    private final ShardRouter shardRouter;
+    private final CapacityAggregateCache cache;
+    private final double hoursPerDay;
+    private final int maxDays;
+    private final Duration lookback;
+    private final Duration refreshInterval;
+    private final double defaultEffortHours;
+
+    @Autowired
+    public CapacityForecastService(AppointmentRepository appointmentRepository,
+                                   TicketRepository ticketRepository,
+                                   TicketHistoryRepository ticketHistoryRepository,
+                                   TechnicianRepository technicianRepository,
+                                   ShardRouter shardRouter,
+                                   CapacityAggregateCache cache,
+                                   @Value("${app.capacity.hours-per-day:8}") double hoursPerDay,
+                                   @Value("${app.capacity.max-days:90}") int maxDays,
+                                   @Value("${app.capacity.lookback:28d}") Duration lookback,
+                                   @Value("${app.capacity.refresh-interval:60s}") Duration refreshInterval,
+                                   @Value("${app.capacity.default-effort-hours:2}") double defaultEffortHours) {
+        this.appointmentRepository = appointmentRepository;
+        this.ticketRepository = ticketRepository;
+        this.ticketHistoryRepository = ticketHistoryRepository;
+        this.technicianRepository = technicianRepository;
+        this.shardRouter = shardRouter;
+        this.cache = cache;
+        this.hoursPerDay = hoursPerDay;
+        this.maxDays = maxDays;
+        this.lookback = lookback;
+        this.refreshInterval = refreshInterval;
+        this.defaultEffortHours = defaultEffortHours;
+    }
+
+    /**
+     * Forecasts capacity and demand for each of the next N days, starting today (UTC).
+     */
+    public Map<String, Object> forecast(int days) {
+        if (days < 1 || days > maxDays) {
+            throw new IllegalArgumentException("Forecast days must be between 1 and " + maxDays);
+        }
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        ForecastInputs inputs = loadedInputs();
+        List<Map<Long, Long>> bookedSeconds = loadedBookings(today, days);
+
+        double[][] capacity = ForkJoinPool.commonPool().invoke(
+            new CapacityTask(inputs, bookedSeconds, hoursPerDay, 0, inputs.technicianIds.length));
+
+        double[][] backlogHours = new double[days][SERVICE_TYPES.length];
+        long[] backlogTickets = new long[days];
+        long openTickets = 0;
+        long beyondHorizon = 0;
+        for (BacklogBucket bucket : inputs.backlog) {
+            openTickets += bucket.count;
+            int day = (int) Math.max(0, ChronoUnit.DAYS.between(today, expectedResolutionDay(inputs, bucket)));
+            if (day >= days) {
+                beyondHorizon += bucket.count;
+                continue;
+            }
+            backlogHours[day][bucket.serviceType.ordinal()] += bucket.count * inputs.effortHours[bucket.serviceType.ordinal()];
+            backlogTickets[day] += bucket.count;
+        }
+
+        List<Map<String, Object>> forecast = new ArrayList<>(days);
+        double totalCapacity = 0;
+        double totalDemand = 0;
+        int shortfallDays = 0;
+        for (int day = 0; day < days; day++) {
+            double dayBacklog = 0;
+            double dayArrivals = 0;
+            Map<String, Object> byServiceType = new LinkedHashMap<>();
+            for (ServiceType serviceType : SERVICE_TYPES) {
+                int type = serviceType.ordinal();
+                double arrivals = inputs.arrivalsPerDay[type] * inputs.effortHours[type];
+                double demand = backlogHours[day][type] + arrivals;
+                dayBacklog += backlogHours[day][type];
+                dayArrivals += arrivals;
+
+                Map<String, Object> typeRow = new LinkedHashMap<>();
+                typeRow.put("capacityHours", round(capacity[day][type]));
+                typeRow.put("demandHours", round(demand));
+                typeRow.put("balanceHours", round(capacity[day][type] - demand));
+                byServiceType.put(serviceType.name(), typeRow);
+            }
+            double dayCapacity = capacity[day][FREE_COLUMN];
+            double dayDemand = dayBacklog + dayArrivals;
+            totalCapacity += dayCapacity;
+            totalDemand += dayDemand;
+            if (dayDemand > dayCapacity) {
+                shortfallDays++;
+            }
+
+            Map<String, Object> dayRow = new LinkedHashMap<>();
+            dayRow.put("date", today.plusDays(day).toString());
+            dayRow.put("capacityHours", round(dayCapacity));
+            dayRow.put("bookedHours", round(capacity[day][BOOKED_COLUMN]));
+            dayRow.put("backlogTickets", backlogTickets[day]);
+            dayRow.put("backlogHours", round(dayBacklog));
+            dayRow.put("arrivalHours", round(dayArrivals));
+            dayRow.put("demandHours", round(dayDemand));
+            dayRow.put("balanceHours", round(dayCapacity - dayDemand));
+            dayRow.put("byServiceType", byServiceType);
+            forecast.add(dayRow);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("from", today.toString());
+        report.put("days", days);
+        report.put("hoursPerDay", hoursPerDay);
+        report.put("technicianCount", inputs.technicianIds.length);
+        report.put("openTickets", openTickets);
+        report.put("ticketsBeyondHorizon", beyondHorizon);
+        report.put("totalCapacityHours", round(totalCapacity));
+        report.put("totalDemandHours", round(totalDemand));
+        report.put("shortfallDays", shortfallDays);
+        report.put("inputsLoadedAt", inputs.loadedAt.toString());
+        report.put("assumptions", assumptions(inputs));
+        report.put("forecast", forecast);
+        return report;
+    }
+
+    // === CACHED INPUTS ===
+
+    private ForecastInputs loadedInputs() {
+        ForecastInputs inputs = cache.getInputs();
+        Instant now = Instant.now();
+        if (inputs != null && inputs.loadedAt.plus(refreshInterval).isAfter(now)) {
+            return inputs;
+        }
+        long generation = cache.inputsGeneration();
+        ForecastInputs loaded = loadInputs(now);
+        cache.storeInputs(loaded, generation);
+        return loaded;
+    }
+
+    private ForecastInputs loadInputs(Instant now) {
+        Map<Long, Integer> skillMasks = new TreeMap<>();
+        for (Object[] row : technicianRepository.findSkillRosterByStatus(TechnicianStatus.ACTIVE)) {
+            int skill = row[1] != null ? 1 << ((ServiceType) row[1]).ordinal() : 0;
+            skillMasks.merge(((Number) row[0]).longValue(), skill, (a, b) -> a | b);
+        }
+        long[] technicianIds = new long[skillMasks.size()];
+        int[] masks = new int[skillMasks.size()];
+        int index = 0;
+        for (Map.Entry<Long, Integer> entry : skillMasks.entrySet()) {
+            technicianIds[index] = entry.getKey();
+            masks[index++] = entry.getValue();
+        }
+
+        Instant since = now.minus(lookback);
+        double[] effortHours = new double[SERVICE_TYPES.length];
+        long[] effortTickets = new long[SERVICE_TYPES.length];
+        for (Object[] row : shardRouter.collect(() -> appointmentRepository.getCompletedEffortByServiceType(since))) {
+            int type = ((ServiceType) row[0]).ordinal();
+            effortTickets[type] += ((Number) row[1]).longValue();
+            effortHours[type] += row[2] != null ? ((Number) row[2]).doubleValue() / 3600.0 : 0;
+        }
+        for (int type = 0; type < SERVICE_TYPES.length; type++) {
+            effortHours[type] = effortTickets[type] > 0 ? effortHours[type] / effortTickets[type] : defaultEffortHours;
+        }
+
+        double[][] resolutionHours = new double[SERVICE_TYPES.length][PRIORITIES.length];
+        long[][] closures = new long[SERVICE_TYPES.length][PRIORITIES.length];
+        for (Object[] row : shardRouter.collect(() -> ticketHistoryRepository.getResolutionTimesByServiceTypeAndPriority(since))) {
+            int type = ((ServiceType) row[0]).ordinal();
+            int priority = ((TicketPriority) row[1]).ordinal();
+            closures[type][priority] += ((Number) row[2]).longValue();
+            resolutionHours[type][priority] += row[3] != null ? ((Number) row[3]).doubleValue() / 3600.0 : 0;
+        }
+        for (int type = 0; type < SERVICE_TYPES.length; type++) {
+            for (int priority = 0; priority < PRIORITIES.length; priority++) {
+                resolutionHours[type][priority] = closures[type][priority] > 0
+                    ? Math.max(0, resolutionHours[type][priority] / closures[type][priority]) : Double.NaN;
+            }
+        }
+
+        double lookbackDays = Math.max(1.0, lookback.toSeconds() / (double) DailyIntervals.SECONDS_PER_DAY);
+        double[] arrivalsPerDay = new double[SERVICE_TYPES.length];
+        for (Object[] row : shardRouter.collect(() -> ticketRepository.countCreatedSinceByServiceType(since))) {
+            arrivalsPerDay[((ServiceType) row[0]).ordinal()] += ((Number) row[1]).doubleValue() / lookbackDays;
+        }
+
+        List<BacklogBucket> backlog = new ArrayList<>();
+        for (Object[] row : shardRouter.collect(ticketRepository::getOpenBacklogByDay)) {
+            backlog.add(new BacklogBucket((ServiceType) row[0], (TicketPriority) row[1],
+                toLocalDate(row[2]), toLocalDate(row[3]), ((Number) row[4]).longValue()));
+        }
+
+        return new ForecastInputs(now, technicianIds, masks, Collections.unmodifiableList(backlog),
+            effortHours, resolutionHours, arrivalsPerDay);
+    }
+
+    /**
+     * Booked seconds per technician for each forecast day. Cached days are reused and
+     * the span of missing days is loaded with one query.
+     */
+    private List<Map<Long, Long>> loadedBookings(LocalDate today, int days) {
+        cache.evictBefore(today);
+        List<Map<Long, Long>> bookedSeconds = new ArrayList<>(days);
+        int firstMissing = -1;
+        int lastMissing = -1;
+        for (int day = 0; day < days; day++) {
+            Map<Long, Long> cached = cache.getBookedSeconds(today.plusDays(day));
+            bookedSeconds.add(cached);
+            if (cached == null) {
+                firstMissing = firstMissing < 0 ? day : firstMissing;
+                lastMissing = day;
+            }
+        }
+        if (firstMissing < 0) {
+            return bookedSeconds;
+        }
+
+        long generation = cache.bookingGeneration();
+        LocalDate firstDay = today.plusDays(firstMissing);
+        int span = lastMissing - firstMissing + 1;
+        Instant periodStart = firstDay.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant periodEnd = firstDay.plusDays(span).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        List<Map<Long, Long>> loaded = new ArrayList<>(span);
+        for (int day = 0; day < span; day++) {
+            loaded.add(new HashMap<>());
+        }
+        for (Object[] row : shardRouter.collect(() ->
+                appointmentRepository.findBookedIntervals(periodStart, periodEnd, UNBOOKED_STATUSES))) {
+            Long technicianId = ((Number) row[0]).longValue();
+            DailyIntervals.splitByDay((Instant) row[1], (Instant) row[2], periodStart, periodEnd,
+                (day, seconds) -> loaded.get(day).merge(technicianId, seconds, Long::sum));
+        }
+
+        Map<LocalDate, Map<Long, Long>> loadedDays = new HashMap<>();
+        for (int day = 0; day < span; day++) {
+            loadedDays.put(firstDay.plusDays(day), loaded.get(day));
+            bookedSeconds.set(firstMissing + day, loaded.get(day));
+        }
+        cache.storeBookedSeconds(loadedDays, generation);
+        return bookedSeconds;
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private LocalDate expectedResolutionDay(ForecastInputs inputs, BacklogBucket bucket) {
+        double resolution = inputs.resolutionHours[bucket.serviceType.ordinal()][bucket.priority.ordinal()];
+        if (Double.isNaN(resolution)) {
+            return bucket.dueDay;
+        }
+        LocalDate byHistory = bucket.createdDay.plusDays((long) Math.ceil(resolution / 24.0));
+        return byHistory.isBefore(bucket.dueDay) ? byHistory : bucket.dueDay;
+    }
+
+    private Map<String, Object> assumptions(ForecastInputs inputs) {
+        Map<String, Object> effort = new LinkedHashMap<>();
+        Map<String, Object> arrivals = new LinkedHashMap<>();
+        Map<String, Object> resolution = new LinkedHashMap<>();
+        for (ServiceType serviceType : SERVICE_TYPES) {
+            int type = serviceType.ordinal();
+            effort.put(serviceType.name(), round(inputs.effortHours[type]));
+            arrivals.put(serviceType.name(), round(inputs.arrivalsPerDay[type]));
+            Map<String, Object> byPriority = new LinkedHashMap<>();
+            for (TicketPriority priority : PRIORITIES) {
+                double hours = inputs.resolutionHours[type][priority.ordinal()];
+                byPriority.put(priority.name(), Double.isNaN(hours) ? null : round(hours));
+            }
+            resolution.put(serviceType.name(), byPriority);
+        }
+
+        Map<String, Object> assumptions = new LinkedHashMap<>();
+        assumptions.put("lookbackDays", lookback.toDays());
+        assumptions.put("effortHoursPerTicket", effort);
+        assumptions.put("arrivalsPerDay", arrivals);
+        assumptions.put("resolutionHours", resolution);
+        return assumptions;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    // === FORK/JOIN CAPACITY PASS ===
+
+    /**
+     * Sums free capacity per day for a slice of the roster. Rows are indexed by day;
+     * columns hold free hours per service type, then booked hours, then total free hours.
+     */
+    static final class CapacityTask extends RecursiveTask<double[][]> {
+
+        private final ForecastInputs inputs;
+        private final List<Map<Long, Long>> bookedSeconds;
+        private final double hoursPerDay;
+        private final int from;
+        private final int to;
+
+        CapacityTask(ForecastInputs inputs, List<Map<Long, Long>> bookedSeconds, double hoursPerDay, int from, int to) {
+            this.inputs = inputs;
+            this.bookedSeconds = bookedSeconds;
+            this.hoursPerDay = hoursPerDay;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[][] compute() {
+            if (to - from > TECHNICIANS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                CapacityTask left = new CapacityTask(inputs, bookedSeconds, hoursPerDay, from, middle);
+                left.fork();
+                double[][] right = new CapacityTask(inputs, bookedSeconds, hoursPerDay, middle, to).compute();
+                double[][] merged = left.join();
+                for (int day = 0; day < merged.length; day++) {
+                    for (int column = 0; column < merged[day].length; column++) {
+                        merged[day][column] += right[day][column];
+                    }
+                }
+                return merged;
+            }
+
+            int days = bookedSeconds.size();
+            double[][] totals = new double[days][SERVICE_TYPES.length + 2];
+            for (int index = from; index < to; index++) {
+                long technicianId = inputs.technicianIds[index];
+                int skills = inputs.skillMasks[index];
+                int skillCount = Integer.bitCount(skills);
+                for (int day = 0; day < days; day++) {
+                    double booked = bookedSeconds.get(day).getOrDefault(technicianId, 0L) / 3600.0;
+                    double free = Math.max(0, hoursPerDay - booked);
+                    totals[day][BOOKED_COLUMN] += booked;
+                    totals[day][FREE_COLUMN] += free;
+                    if (skillCount > 0) {
+                        double share = free / skillCount;
+                        for (int type = 0; type < SERVICE_TYPES.length; type++) {
+                            if ((skills & (1 << type)) != 0) {
+                                totals[day][type] += share;
+                            }
+                        }
+                    }
+                }
+            }
+            return totals;
+        }
+    }
+
+    // === INPUT SNAPSHOT ===
+
+    /**
+     * Immutable snapshot of the roster and the ticket-derived forecast inputs.
+     */
+    public static final class ForecastInputs {
+
+        private final Instant loadedAt;
+        private final long[] technicianIds;
+        private final int[] skillMasks;
+        private final List<BacklogBucket> backlog;
+        private final double[] effortHours;
+        private final double[][] resolutionHours;
+        private final double[] arrivalsPerDay;
+
+        ForecastInputs(Instant loadedAt, long[] technicianIds, int[] skillMasks, List<BacklogBucket> backlog,
+                       double[] effortHours, double[][] resolutionHours, double[] arrivalsPerDay) {
+            this.loadedAt = loadedAt;
+            this.technicianIds = technicianIds;
+            this.skillMasks = skillMasks;
+            this.backlog = backlog;
+            this.effortHours = effortHours;
+            this.resolutionHours = resolutionHours;
+            this.arrivalsPerDay = arrivalsPerDay;
+        }
+
+        public Instant getLoadedAt() {
+            return loadedAt;
+        }
+
+        public int getTechnicianCount() {
+            return technicianIds.length;
+        }
+    }
+
+    /**
+     * Open tickets sharing a service type, priority, creation day and due day.
+     */
+    static final class BacklogBucket {
+
+        private final ServiceType serviceType;
+        private final TicketPriority priority;
+        private final LocalDate createdDay;
+        private final LocalDate dueDay;
+        private final long count;
+
+        BacklogBucket(ServiceType serviceType, TicketPriority priority, LocalDate createdDay, LocalDate dueDay, long count) {
+            this.serviceType = serviceType;
+            this.priority = priority;
+            this.createdDay = createdDay;
+            this.dueDay = dueDay;
+            this.count = count;
+        }
+    }
+}
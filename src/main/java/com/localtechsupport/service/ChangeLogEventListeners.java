@@ -0,0 +1,76 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.ChangeLogEntry;
+import com.localtechsupport.entity.ChangeOperation;
+import com.localtechsupport.entity.ChangeType;
+import com.localtechsupport.event.AppointmentEvent;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.DomainEventBus.Dispatch;
+import com.localtechsupport.event.FeedbackDeleted;
+import com.localtechsupport.event.FeedbackEvent;
+import com.localtechsupport.event.TicketDeleted;
+import com.localtechsupport.event.TicketEvent;
+import com.localtechsupport.event.TicketHistoryAdded;
+import com.localtechsupport.event.TicketsBulkUpdated;
+import com.localtechsupport.repository.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Records ticket, history, feedback and appointment changes in the delta-sync
+ * change log.
+ *
+ * Entries are written before commit, inside the transaction that made the
+ * change, so the log never misses a committed change nor shows a rolled-back
+ * one. Every ticket event also records a history change because the ticket
+ * services write a history row with each of them. A deleted ticket is logged
+ * as a single tombstone: its history, feedback and appointments go with it.
+ */
+@Component
+public class ChangeLogEventListeners {
+
+    private final ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    public ChangeLogEventListeners(DomainEventBus eventBus, ChangeLogRepository changeLogRepository) {
+        this.changeLogRepository = changeLogRepository;
+        eventBus.subscribe(TicketEvent.class, "change-log", Dispatch.BEFORE_COMMIT, this::onTicketEvent);
+        eventBus.subscribe(TicketHistoryAdded.class, "change-log", Dispatch.BEFORE_COMMIT,
+            event -> record(ChangeType.HISTORY, event.getTicketId(), ChangeOperation.UPSERT));
+        eventBus.subscribe(TicketsBulkUpdated.class, "change-log", Dispatch.BEFORE_COMMIT, this::onTicketsBulkUpdated);
+        eventBus.subscribe(FeedbackEvent.class, "change-log", Dispatch.BEFORE_COMMIT,
+            event -> record(ChangeType.FEEDBACK, event.getFeedbackId(),
+                event instanceof FeedbackDeleted ? ChangeOperation.DELETE : ChangeOperation.UPSERT));
+        eventBus.subscribe(AppointmentEvent.class, "change-log", Dispatch.BEFORE_COMMIT,
+            event -> record(ChangeType.APPOINTMENT, event.getAppointmentId(), ChangeOperation.UPSERT));
+    }
+
+    private void onTicketEvent(TicketEvent event) {
+        if (event instanceof TicketDeleted) {
+            record(ChangeType.TICKET, event.getTicketId(), ChangeOperation.DELETE);
+            return;
+        }
+        Instant now = Instant.now();
+        changeLogRepository.saveAll(List.of(
+            new ChangeLogEntry(ChangeType.TICKET, event.getTicketId(), ChangeOperation.UPSERT, now),
+            new ChangeLogEntry(ChangeType.HISTORY, event.getTicketId(), ChangeOperation.UPSERT, now)));
+    }
+
+    private void onTicketsBulkUpdated(TicketsBulkUpdated event) {
+        if (event.getTicketIds().isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        changeLogRepository.insertForTickets(ChangeType.TICKET, event.getTicketIds(), ChangeOperation.UPSERT, now);
+        if (!ClientDeletionService.DETACH_CLIENT.equals(event.getOperation())) {
+            changeLogRepository.insertForTickets(ChangeType.HISTORY, event.getTicketIds(), ChangeOperation.UPSERT, now);
+        }
+    }
+
+    private void record(ChangeType type, Long entityId, ChangeOperation operation) {
+        changeLogRepository.save(new ChangeLogEntry(type, entityId, operation, Instant.now()));
+    }
+}
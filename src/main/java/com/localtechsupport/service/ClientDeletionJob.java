@@ -0,0 +1,93 @@
+package com.localtechsupport.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of an asynchronous client deletion started by {@link ClientDeletionService}.
+ *
+ * Updated by the worker thread and read by status requests, so all mutable
+ * state is volatile; readers may see a slightly stale progress count.
+ */
+public class ClientDeletionJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long clientId;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long totalTickets;
+    private volatile long detachedTickets;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    ClientDeletionJob(Long clientId) {
+        this.clientId = clientId;
+    }
+
+    void start(long totalTickets) {
+        this.totalTickets = totalTickets;
+        this.startedAt = Instant.now();
+        this.status = Status.RUNNING;
+    }
+
+    void addDetached(int tickets) {
+        detachedTickets += tickets;
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getTotalTickets() {
+        return totalTickets;
+    }
+
+    public long getDetachedTickets() {
+        return detachedTickets;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,179 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.Client.ClientStatus;
+import com.localtechsupport.event.ClientDeleted;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.TicketsBulkUpdated;
+import com.localtechsupport.repository.ClientRepository;
+import com.localtechsupport.repository.TicketRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous deletion of clients with many tickets.
+ *
+ * Tickets are detached from the client with set-based UPDATEs of at most
+ * {@code app.client-deletion.chunk-size} rows, each chunk in its own short
+ * transaction, so no ticket is loaded into the persistence context and no
+ * single transaction holds locks on every ticket. The client row is deleted
+ * once all its tickets are detached. Jobs run one at a time on a dedicated
+ * thread; finished jobs stay queryable for an hour.
+ */
+@Service
+public class ClientDeletionService {
+
+    /**
+     * Bulk operation name of the ticket changes published while detaching a client.
+     */
+    public static final String DETACH_CLIENT = "detach-client";
+
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final ClientRepository clientRepository;
+    private final TicketRepository ticketRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventBus eventBus;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final Map<String, ClientDeletionJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ClientDeletionService(ClientRepository clientRepository,
+                                 TicketRepository ticketRepository,
+                                 ShardRouter shardRouter,
+                                 PlatformTransactionManager transactionManager,
+                                 DomainEventBus eventBus,
+                                 @Value("${app.client-deletion.chunk-size:1000}") int chunkSize) {
+        this(clientRepository, ticketRepository, shardRouter, new TransactionTemplate(transactionManager), eventBus,
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("client-deletion").daemon().factory()), chunkSize);
+    }
+
+    ClientDeletionService(ClientRepository clientRepository,
+                          TicketRepository ticketRepository,
+                          ShardRouter shardRouter,
+                          TransactionTemplate transactionTemplate,
+                          DomainEventBus eventBus,
+                          ExecutorService executor,
+                          int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.clientRepository = clientRepository;
+        this.ticketRepository = ticketRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+        this.eventBus = eventBus;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Validates that the client can be deleted and queues its deletion.
+     * Returns the already running job if the client is being deleted.
+     */
+    public ClientDeletionJob startDeletion(Long clientId) {
+        Client client = transactionTemplate.execute(status -> {
+            shardRouter.routeById(clientId);
+            return clientRepository.findById(clientId)
+                .orElseThrow(() -> new IllegalArgumentException("Client not found with ID: " + clientId));
+        });
+        if (client.getStatus() == ClientStatus.ACTIVE) {
+            throw new IllegalStateException("Cannot delete active client. Please deactivate first.");
+        }
+
+        purgeFinishedJobs();
+        synchronized (jobs) {
+            Optional<ClientDeletionJob> running = jobs.values().stream()
+                .filter(job -> job.getClientId().equals(clientId) && !job.isFinished())
+                .findFirst();
+            if (running.isPresent()) {
+                return running.get();
+            }
+            ClientDeletionJob job = new ClientDeletionJob(clientId);
+            jobs.put(job.getId(), job);
+            executor.execute(() -> run(job));
+            return job;
+        }
+    }
+
+    public Optional<ClientDeletionJob> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * Detaches the next chunk of the client's tickets in the current transaction and
+     * publishes their ids. Returns the number detached, 0 once none are left.
+     */
+    int detachNextTickets(Long clientId) {
+        List<Long> ticketIds = ticketRepository.findIdsByClientId(clientId, Limit.of(chunkSize));
+        if (ticketIds.isEmpty()) {
+            return 0;
+        }
+        int count = ticketRepository.detachClientFromTickets(ticketIds);
+        eventBus.publish(new TicketsBulkUpdated(DETACH_CLIENT, ticketIds));
+        return count;
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private void run(ClientDeletionJob job) {
+        Long clientId = job.getClientId();
+        try {
+            job.start(inTransaction(clientId, () -> ticketRepository.countByClientId(clientId)));
+
+            int detached;
+            do {
+                detached = inTransaction(clientId, () -> detachNextTickets(clientId));
+                job.addDetached(detached);
+            } while (detached > 0);
+
+            inTransaction(clientId, () -> {
+                Client client = clientRepository.findById(clientId)
+                    .orElseThrow(() -> new IllegalArgumentException("Client not found with ID: " + clientId));
+                if (client.getStatus() == ClientStatus.ACTIVE) {
+                    throw new IllegalStateException("Client was reactivated during deletion");
+                }
+                clientRepository.delete(client);
+                eventBus.publish(new ClientDeleted(client));
+                return null;
+            });
+            job.complete();
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+        }
+    }
+
+    private <T> T inTransaction(Long clientId, Supplier<T> work) {
+        return transactionTemplate.execute(status -> {
+            shardRouter.routeById(clientId);
+            return work.get();
+        });
+    }
+
+    private void purgeFinishedJobs() {
+        Instant cutoff = Instant.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
@@ -0,0 +1,117 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.Appointment;
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.entity.TicketStatus;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything a client page shows about one client, read from the client's shard.
+ *
+ * Ticket counts cover every status and priority, zero included. Overdue tickets
+ * and upcoming appointments are the earliest ones, capped by the configured
+ * limits; the overdue count is not capped.
+ */
+public final class ClientOverview {
+
+    private final Client client;
+    private final Map<TicketStatus, Long> ticketsByStatus = new EnumMap<>(TicketStatus.class);
+    private final Map<TicketPriority, Long> ticketsByPriority = new EnumMap<>(TicketPriority.class);
+    private long overdueTicketCount;
+    private List<Ticket> overdueTickets = List.of();
+    private long feedbackCount;
+    private Double averageRating;
+    private List<Appointment> upcomingAppointments = List.of();
+    private Instant lastActivityAt;
+
+    ClientOverview(Client client) {
+        this.client = client;
+        for (TicketStatus status : TicketStatus.values()) {
+            ticketsByStatus.put(status, 0L);
+        }
+        for (TicketPriority priority : TicketPriority.values()) {
+            ticketsByPriority.put(priority, 0L);
+        }
+    }
+
+    void addTickets(TicketStatus status, TicketPriority priority, long count, long overdue) {
+        ticketsByStatus.merge(status, count, Long::sum);
+        ticketsByPriority.merge(priority, count, Long::sum);
+        if (status == TicketStatus.OPEN) {
+            overdueTicketCount += overdue;
+        }
+    }
+
+    void setOverdueTickets(List<Ticket> overdueTickets) {
+        this.overdueTickets = overdueTickets;
+    }
+
+    void setFeedback(long feedbackCount, Double averageRating) {
+        this.feedbackCount = feedbackCount;
+        this.averageRating = averageRating;
+    }
+
+    void setUpcomingAppointments(List<Appointment> upcomingAppointments) {
+        this.upcomingAppointments = upcomingAppointments;
+    }
+
+    void recordActivity(Instant at) {
+        if (at != null && (lastActivityAt == null || at.isAfter(lastActivityAt))) {
+            lastActivityAt = at;
+        }
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public long getTotalTickets() {
+        return ticketsByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public Map<TicketStatus, Long> getTicketsByStatus() {
+        return Collections.unmodifiableMap(ticketsByStatus);
+    }
+
+    public Map<TicketPriority, Long> getTicketsByPriority() {
+        return Collections.unmodifiableMap(ticketsByPriority);
+    }
+
+    public long getOverdueTicketCount() {
+        return overdueTicketCount;
+    }
+
+    public List<Ticket> getOverdueTickets() {
+        return overdueTickets;
+    }
+
+    public long getFeedbackCount() {
+        return feedbackCount;
+    }
+
+    /**
+     * Average feedback rating, or null when the client has left no feedback.
+     */
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public List<Appointment> getUpcomingAppointments() {
+        return upcomingAppointments;
+    }
+
+    /**
+     * Latest ticket creation, ticket change, feedback or appointment change,
+     * or null for a client without tickets.
+     */
+    public Instant getLastActivityAt() {
+        return lastActivityAt;
+    }
+}
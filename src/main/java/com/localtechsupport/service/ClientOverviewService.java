@@ -0,0 +1,98 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.AppointmentStatus;
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.TicketPriority;
+import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.repository.AppointmentRepository;
+import com.localtechsupport.repository.ClientRepository;
+import com.localtechsupport.repository.FeedbackEntryRepository;
+import com.localtechsupport.repository.TicketHistoryRepository;
+import com.localtechsupport.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service layer for the client overview (/api/clients/{id}/overview).
+ *
+ * Replaces the client page's per-ticket feedback and appointment requests with
+ * a fixed number of grouped queries on the client's shard, independent of how
+ * many tickets the client has.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ClientOverviewService {
+
+    private static final List<AppointmentStatus> ACTIVE_APPOINTMENT_STATUSES = List.of(
+        AppointmentStatus.PENDING, AppointmentStatus.CONFIRMED, AppointmentStatus.IN_PROGRESS);
+
+    private final ClientRepository clientRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketHistoryRepository ticketHistoryRepository;
+    private final FeedbackEntryRepository feedbackRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final ShardRouter shardRouter;
+    private final int overdueLimit;
+    private final int upcomingLimit;
+
+    @Autowired
+    public ClientOverviewService(ClientRepository clientRepository,
+                                 TicketRepository ticketRepository,
+                                 TicketHistoryRepository ticketHistoryRepository,
+                                 FeedbackEntryRepository feedbackRepository,
+                                 AppointmentRepository appointmentRepository,
+                                 ShardRouter shardRouter,
+                                 @Value("${app.client-overview.overdue-limit:20}") int overdueLimit,
+                                 @Value("${app.client-overview.upcoming-limit:10}") int upcomingLimit) {
+        this.clientRepository = clientRepository;
+        this.ticketRepository = ticketRepository;
+        this.ticketHistoryRepository = ticketHistoryRepository;
+        this.feedbackRepository = feedbackRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.shardRouter = shardRouter;
+        this.overdueLimit = overdueLimit;
+        this.upcomingLimit = upcomingLimit;
+    }
+
+    // === OVERVIEW ===
+
+    /**
+     * Builds the overview of one client as of now.
+     */
+    public ClientOverview getClientOverview(Long clientId) {
+        shardRouter.routeById(clientId);
+        Client client = clientRepository.findById(clientId)
+            .orElseThrow(() -> new IllegalArgumentException("Client not found with ID: " + clientId));
+        Instant now = Instant.now();
+        ClientOverview overview = new ClientOverview(client);
+
+        for (Object[] row : ticketRepository.getClientTicketSummary(clientId, now)) {
+            overview.addTickets((TicketStatus) row[0], (TicketPriority) row[1],
+                ((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+            overview.recordActivity((Instant) row[4]);
+        }
+        if (overview.getTotalTickets() == 0) {
+            return overview;
+        }
+        if (overview.getOverdueTicketCount() > 0) {
+            overview.setOverdueTickets(ticketRepository.findOverdueByClientId(clientId, now, Limit.of(overdueLimit)));
+        }
+
+        Object[] feedback = feedbackRepository.getClientFeedbackSummary(clientId).get(0);
+        long feedbackCount = ((Number) feedback[0]).longValue();
+        overview.setFeedback(feedbackCount, feedbackCount > 0 ? ((Number) feedback[1]).doubleValue() : null);
+        overview.recordActivity((Instant) feedback[2]);
+
+        overview.setUpcomingAppointments(appointmentRepository.findUpcomingByClientId(
+            clientId, now, ACTIVE_APPOINTMENT_STATUSES, Limit.of(upcomingLimit)));
+        overview.recordActivity(ticketHistoryRepository.findLastChangeByClientId(clientId));
+        overview.recordActivity(appointmentRepository.findLastChangeByClientId(clientId));
+        return overview;
+    }
+}
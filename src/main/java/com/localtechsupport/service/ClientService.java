@@ -2,8 +2,12 @@ package com.localtechsupport.service;
 
 import com.localtechsupport.entity.Client;
 import com.localtechsupport.entity.Client.ClientStatus;
-import com.localtechsupport.entity.Ticket;
 import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.event.ClientCreated;
+import com.localtechsupport.event.ClientDeleted;
+import com.localtechsupport.event.ClientStatusChanged;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.repository.ClientListing;
 import com.localtechsupport.repository.ClientRepository;
 import com.localtechsupport.repository.TicketRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,12 +38,21 @@ public class ClientService {
 
     private final ClientRepository clientRepository;
     private final TicketRepository ticketRepository;
+    private final ShardRouter shardRouter;
+    private final DomainEventBus eventBus;
+    private final ClientDeletionService clientDeletionService;
 
     @Autowired
     public ClientService(ClientRepository clientRepository, 
-                        TicketRepository ticketRepository) {
+                        TicketRepository ticketRepository,
+                        ShardRouter shardRouter,
+                        DomainEventBus eventBus,
+                        ClientDeletionService clientDeletionService) {
         this.clientRepository = clientRepository;
         this.ticketRepository = ticketRepository;
+        this.shardRouter = shardRouter;
+        this.eventBus = eventBus;
+        this.clientDeletionService = clientDeletionService;
     }
 
     // === CORE CRUD OPERATIONS ===
@@ -50,13 +63,16 @@ public class ClientService {
     public Client createClient(String firstName, String lastName, String email, String phone, 
                               String address, String notes) {
         // Validate email uniqueness
-        if (clientRepository.existsByEmail(email)) {
+        if (emailExists(email)) {
             throw new IllegalArgumentException("Client with email " + email + " already exists");
         }
 
         // Validate required fields
         validateRequiredFields(firstName, lastName, email);
 
+        // New clients are homed on the shard their email hashes to
+        shardRouter.routeByKey(email);
+
         // Create client
         Client client = new Client();
         client.setFirstName(firstName.trim());
@@ -67,7 +83,9 @@ public class ClientService {
         client.setNotes(notes != null ? notes.trim() : null);
         client.setStatus(ClientStatus.ACTIVE);
 
-        return clientRepository.save(client);
+        Client savedClient = clientRepository.save(client);
+        eventBus.publish(new ClientCreated(client));
+        return savedClient;
     }
 
     /**
@@ -79,7 +97,7 @@ public class ClientService {
 
         // Check email uniqueness if email is being changed
         if (email != null && !email.equalsIgnoreCase(client.getEmail())) {
-            if (clientRepository.existsByEmail(email)) {
+            if (emailExists(email)) {
                 throw new IllegalArgumentException("Client with email " + email + " already exists");
             }
             client.setEmail(email.trim().toLowerCase());
@@ -107,7 +125,9 @@ public class ClientService {
 
     /**
      * Deletes a client by ID with proper validation.
-     * Automatically unassigns any tickets from the client before deletion.
+     * Automatically unassigns any tickets from the client before deletion, one
+     * chunk of ids at a time, all in this transaction. For very large clients prefer
+     * {@link ClientDeletionService#startDeletion(Long)}, which commits each chunk.
      */
     public void deleteClient(Long clientId) {
         Client client = getClientById(clientId);
@@ -118,14 +138,13 @@ public class ClientService {
         }
 
         // Unassign tickets from this client before deletion
-        List<Ticket> clientTickets = ticketRepository.findByClient(client);
-        for (Ticket ticket : clientTickets) {
-            ticket.setClient(null);
-            ticketRepository.save(ticket);
+        while (clientDeletionService.detachNextTickets(clientId) > 0) {
+            // Each chunk publishes the ids it detached
         }
 
         // Now delete the client
         clientRepository.deleteById(clientId);
+        eventBus.publish(new ClientDeleted(client));
     }
 
     // === STATUS MANAGEMENT ===
@@ -141,8 +160,13 @@ public class ClientService {
                 "Invalid status transition from " + client.getStatus() + " to " + newStatus);
         }
 
+        ClientStatus previousStatus = client.getStatus();
         client.setStatus(newStatus);
-        return clientRepository.save(client);
+        Client savedClient = clientRepository.save(client);
+        if (newStatus != previousStatus) {
+            eventBus.publish(new ClientStatusChanged(client, previousStatus));
+        }
+        return savedClient;
     }
 
     /**
@@ -170,11 +194,13 @@ public class ClientService {
 
     @Transactional(readOnly = true)
     public Optional<Client> findById(Long clientId) {
+        shardRouter.routeById(clientId);
         return clientRepository.findById(clientId);
     }
 
     @Transactional(readOnly = true)
     public Client getClientById(Long clientId) {
+        shardRouter.routeById(clientId);
         return clientRepository.findById(clientId)
             .orElseThrow(() -> new IllegalArgumentException("Client not found with ID: " + clientId));
     }
@@ -184,7 +210,10 @@ public class ClientService {
         if (email == null || email.trim().isEmpty()) {
             return Optional.empty();
         }
-        return clientRepository.findByEmail(email.trim().toLowerCase());
+        String normalizedEmail = email.trim().toLowerCase();
+        return shardRouter.fanOut(() -> clientRepository.findByEmail(normalizedEmail)).stream()
+            .flatMap(Optional::stream)
+            .findFirst();
     }
 
     @Transactional(readOnly = true)
@@ -195,12 +224,12 @@ public class ClientService {
 
     @Transactional(readOnly = true)
     public Page<Client> findAllClients(Pageable pageable) {
-        return clientRepository.findAll(pageable);
+        return shardRouter.collectPage(clientRepository::findAll, pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<Client> findClientsByStatus(ClientStatus status, Pageable pageable) {
-        return clientRepository.findByStatus(status, pageable);
+        return shardRouter.collectPage(page -> clientRepository.findByStatus(status, page), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -208,17 +237,19 @@ public class ClientService {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return findAllClients(pageable);
         }
-        return clientRepository.searchClients(searchTerm.trim(), pageable);
+        String term = searchTerm.trim();
+        return shardRouter.collectPage(page -> clientRepository.searchClients(term, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<Client> findRecentClients(LocalDateTime since, Pageable pageable) {
-        return clientRepository.findByCreatedAtAfter(since, pageable);
+        return shardRouter.collectPage(page -> clientRepository.findByCreatedAtAfter(since, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<Client> findClientsByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
-        return clientRepository.findByCreatedAtBetween(startDate, endDate, pageable);
+        return shardRouter.collectPage(
+            page -> clientRepository.findByCreatedAtBetween(startDate, endDate, page), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -236,16 +267,45 @@ public class ClientService {
         return findClientsByStatus(ClientStatus.SUSPENDED, pageable);
     }
 
+    // === LISTINGS ===
+
+    /**
+     * Client rows for list responses, read as columns rather than entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ClientListing> findClientListings(Pageable pageable) {
+        return shardRouter.collectPage(clientRepository::findListingsBy, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ClientListing> findClientListingsByStatus(ClientStatus status, Pageable pageable) {
+        return shardRouter.collectPage(page -> clientRepository.findListingsByStatus(status, page), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ClientListing> searchClientListings(String searchTerm, Pageable pageable) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return findClientListings(pageable);
+        }
+        String term = searchTerm.trim();
+        return shardRouter.collectPage(page -> clientRepository.searchListings(term, page), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ClientListing> findRecentClientListings(LocalDateTime since, Pageable pageable) {
+        return shardRouter.collectPage(page -> clientRepository.findListingsByCreatedAtAfter(since, page), pageable);
+    }
+
     // === STATISTICS AND REPORTING ===
 
     @Transactional(readOnly = true)
     public long countAllClients() {
-        return clientRepository.count();
+        return shardRouter.sum(clientRepository::count);
     }
 
     @Transactional(readOnly = true)
     public long countClientsByStatus(ClientStatus status) {
-        return clientRepository.countByStatus(status);
+        return shardRouter.sum(() -> clientRepository.countByStatus(status));
     }
 
     @Transactional(readOnly = true)
@@ -265,7 +325,7 @@ public class ClientService {
 
     @Transactional(readOnly = true)
     public long countRecentClients(LocalDateTime since) {
-        return clientRepository.countByCreatedAtAfter(since);
+        return shardRouter.sum(() -> clientRepository.countByCreatedAtAfter(since));
     }
 
     @Transactional(readOnly = true)
@@ -308,7 +368,7 @@ public class ClientService {
         if (email == null || email.trim().isEmpty()) {
             return false;
         }
-        return !clientRepository.existsByEmail(email.trim().toLowerCase());
+        return !emailExists(email.trim().toLowerCase());
     }
 
     @Transactional(readOnly = true)
@@ -318,6 +378,13 @@ public class ClientService {
 
     // === PRIVATE HELPER METHODS ===
 
+    /**
+     * Checks every shard, since a client keeps its home shard when its email changes.
+     */
+    private boolean emailExists(String email) {
+        return shardRouter.fanOut(() -> clientRepository.existsByEmail(email)).contains(true);
+    }
+
     private void validateRequiredFields(String firstName, String lastName, String email) {
         if (firstName == null || firstName.trim().isEmpty()) {
             throw new IllegalArgumentException("First name is required");
@@ -0,0 +1,36 @@
+package com.localtechsupport.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Splits time intervals into per-day seconds for day-bucketed reports.
+ */
+final class DailyIntervals {
+
+    static final long SECONDS_PER_DAY = 86_400L;
+
+    private DailyIntervals() {
+    }
+
+    @FunctionalInterface
+    interface DayConsumer {
+        void accept(int dayIndex, long seconds);
+    }
+
+    /**
+     * Clips [start, end) to [periodStart, periodEnd) and reports the seconds falling on
+     * each day, where day 0 starts at periodStart.
+     */
+    static void splitByDay(Instant start, Instant end, Instant periodStart, Instant periodEnd, DayConsumer consumer) {
+        Instant from = start.isBefore(periodStart) ? periodStart : start;
+        Instant to = end.isAfter(periodEnd) ? periodEnd : end;
+        while (from.isBefore(to)) {
+            int day = (int) (Duration.between(periodStart, from).getSeconds() / SECONDS_PER_DAY);
+            Instant dayEnd = periodStart.plusSeconds((day + 1) * SECONDS_PER_DAY);
+            Instant sliceEnd = to.isBefore(dayEnd) ? to : dayEnd;
+            consumer.accept(day, Duration.between(from, sliceEnd).getSeconds());
+            from = sliceEnd;
+        }
+    }
+}
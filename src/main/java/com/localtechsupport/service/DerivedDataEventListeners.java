@@ -0,0 +1,35 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.event.AppointmentEvent;
+import com.localtechsupport.event.ClientEvent;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.DomainEventBus.Dispatch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps in-memory derived data in step with committed changes.
+ *
+ * Appointment rollups and booked-hours days are dropped synchronously after
+ * commit, so a report read right after a booking already reflects it. The
+ * capacity forecast's ticket-derived snapshot is not tied to ticket events: it
+ * is reloaded once older than app.capacity.refresh-interval, so steady ticket
+ * traffic does not force a reload on every forecast. Client changes drop the
+ * client's cached status used by the ticket write path.
+ */
+@Component
+public class DerivedDataEventListeners {
+
+    @Autowired
+    public DerivedDataEventListeners(DomainEventBus eventBus,
+                                     AppointmentRollupCache rollupCache,
+                                     CapacityAggregateCache capacityCache,
+                                     WriteValidationCache validationCache) {
+        eventBus.subscribe(AppointmentEvent.class, "appointment-rollups", Dispatch.AFTER_COMMIT,
+            event -> rollupCache.invalidate());
+        eventBus.subscribe(AppointmentEvent.class, "capacity-bookings", Dispatch.AFTER_COMMIT,
+            event -> capacityCache.invalidateBookings(event.getStartTime(), event.getEndTime()));
+        eventBus.subscribe(ClientEvent.class, "write-validation", Dispatch.AFTER_COMMIT,
+            event -> validationCache.invalidateClient(event.getClientId()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.localtechsupport.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory rating histograms for all feedback.
+ *
+ * Keeps one global histogram plus one histogram per calendar day of submission, so
+ * satisfaction metrics, averages and trends are answered without queries. The
+ * histograms are seeded once from a grouped query and then maintained by the
+ * feedback and ticket services. Memory grows with the number of distinct
+ * submission days, not with feedback volume.
+ *
+ * Updates issued inside a transaction are applied only after it commits. The
+ * seed query is repeated if it overlapped an update (see {@link AggregateSeedGate}),
+ * so each committed rating is counted exactly once Reads never fail on write load:
+ * if no attempt could be installed they are answered from the query rows.
+ */
+@Component
+public class FeedbackRatingHistograms {
+
+    private final RatingHistogram overall = new RatingHistogram();
+    private final ConcurrentSkipListMap<LocalDate, RatingHistogram> daily = new ConcurrentSkipListMap<>();
+    private final AggregateSeedGate seedGate = new AggregateSeedGate();
+
+    // === INITIALIZATION ===
+
+    public boolean isInitialized() {
+        return seedGate.isSeeded();
+    }
+
+    /**
+     * Seeds the histograms from a query returning rows of (submission date, rating, count),
+     * unless they are already seeded, and returns the histograms to read from. When
+     * concurrent updates keep the seed from being installed, that is a detached copy
+     * built from the query rows.
+     */
+    public FeedbackRatingHistograms initialize(Supplier<List<Object[]>> distributionQuery) {
+        List<Object[]> uninstalled = seedGate.seed(distributionQuery, this::load);
+        if (uninstalled == null) {
+            return this;
+        }
+        FeedbackRatingHistograms detached = new FeedbackRatingHistograms();
+        detached.load(uninstalled);
+        return detached;
+    }
+
+    /**
+     * Drops all histograms so the next read reloads them from the database.
+     */
+    public void invalidate() {
+        seedGate.unseed(this::clear);
+    }
+
+    // === INCREMENTAL UPDATES ===
+
+    public void recordRating(Instant submittedAt, int rating) {
+        seedGate.afterCommit(() -> adjust(submittedAt, rating, 1));
+    }
+
+    public void removeRating(Instant submittedAt, int rating) {
+        seedGate.afterCommit(() -> adjust(submittedAt, rating, -1));
+    }
+
+    public void changeRating(Instant submittedAt, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        seedGate.afterCommit(() -> {
+            adjust(submittedAt, oldRating, -1);
+            adjust(submittedAt, newRating, 1);
+        });
+    }
+
+    // === READ OPERATIONS ===
+
+    public RatingHistogram getOverall() {
+        return overall;
+    }
+
+    /**
+     * Merges the daily histograms from the day containing the given instant
+     * onwards. Trends are therefore resolved at day granularity.
+     */
+    public RatingHistogram getSince(Instant sinceTime) {
+        RatingHistogram merged = new RatingHistogram();
+        daily.tailMap(toDay(sinceTime), true).values().forEach(merged::addAll);
+        return merged;
+    }
+
+    /**
+     * Returns (date, average rating) rows for each day with feedback since the given instant.
+     */
+    public List<Object[]> getDailyAverages(Instant sinceTime) {
+        List<Object[]> rows = new ArrayList<>();
+        daily.tailMap(toDay(sinceTime), true).forEach((day, histogram) -> {
+            long[] counts = histogram.snapshot();
+            if (RatingHistogram.total(counts) > 0) {
+                rows.add(new Object[] { day, RatingHistogram.average(counts) });
+            }
+        });
+        return rows;
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private void adjust(Instant submittedAt, int rating, long delta) {
+        overall.add(rating, delta);
+        dayHistogram(toDay(submittedAt != null ? submittedAt : Instant.now())).add(rating, delta);
+    }
+
+    private void load(List<Object[]> distributionRows) {
+        clear();
+        for (Object[] row : distributionRows) {
+            LocalDate day = (LocalDate) row[0];
+            int rating = ((Number) row[1]).intValue();
+            long count = ((Number) row[2]).longValue();
+            overall.add(rating, count);
+            dayHistogram(day).add(rating, count);
+        }
+    }
+
+    private void clear() {
+        overall.reset();
+        daily.clear();
+    }
+
+    private RatingHistogram dayHistogram(LocalDate day) {
+        return daily.computeIfAbsent(day, d -> new RatingHistogram());
+    }
+
+    private static LocalDate toDay(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
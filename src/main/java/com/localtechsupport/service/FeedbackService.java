@@ -1,14 +1,23 @@
 package com.localtechsupport.service;
 
+import com.localtechsupport.config.SingleFlight;
 import com.localtechsupport.entity.FeedbackEntry;
+import com.localtechsupport.entity.Technician;
 import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.FeedbackDeleted;
+import com.localtechsupport.event.FeedbackSubmitted;
+import com.localtechsupport.event.FeedbackUpdated;
 import com.localtechsupport.repository.FeedbackEntryRepository;
+import com.localtechsupport.repository.TechnicianRepository;
 import com.localtechsupport.repository.TicketRepository;
+import com.localtechsupport.service.TechnicianFeedbackAggregator.RatingSummary;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -16,6 +25,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for FeedbackEntry management operations.
@@ -27,18 +39,40 @@ import java.util.Optional;
  * - Search and filtering capabilities
  * - Statistics and analytics for customer satisfaction
  * - Feedback trends and reporting
+ * - Per-technician satisfaction analytics and leaderboard
+ * - Query-free satisfaction metrics from in-memory rating histograms
+ *
+ * New feedback is validated before its write transaction starts.
  */
 @Service
-@Transactional
 public class FeedbackService {
 
     private final FeedbackEntryRepository feedbackRepository;
     private final TicketRepository ticketRepository;
+    private final TechnicianRepository technicianRepository;
+    private final TechnicianFeedbackAggregator technicianFeedbackAggregator;
+    private final FeedbackRatingHistograms ratingHistograms;
+    private final ShardRouter shardRouter;
+    private final TransactionOperations transactionOperations;
+    private final DomainEventBus eventBus;
 
     @Autowired
-    public FeedbackService(FeedbackEntryRepository feedbackRepository, TicketRepository ticketRepository) {
+    public FeedbackService(FeedbackEntryRepository feedbackRepository,
+                          TicketRepository ticketRepository,
+                          TechnicianRepository technicianRepository,
+                          TechnicianFeedbackAggregator technicianFeedbackAggregator,
+                          FeedbackRatingHistograms ratingHistograms,
+                          ShardRouter shardRouter,
+                          TransactionOperations transactionOperations,
+                          DomainEventBus eventBus) {
         this.feedbackRepository = feedbackRepository;
         this.ticketRepository = ticketRepository;
+        this.technicianRepository = technicianRepository;
+        this.technicianFeedbackAggregator = technicianFeedbackAggregator;
+        this.ratingHistograms = ratingHistograms;
+        this.shardRouter = shardRouter;
+        this.transactionOperations = transactionOperations;
+        this.eventBus = eventBus;
     }
 
     // === CORE CRUD OPERATIONS ===
@@ -47,28 +81,36 @@ public class FeedbackService {
      * Creates a new feedback entry with validation.
      */
     public FeedbackEntry createFeedback(Long ticketId, int rating, String comment, String createdBy) {
-        // Validate ticket exists
-        Ticket ticket = ticketRepository.findById(ticketId)
-            .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
-
         // Validate required fields
         validateFeedbackFields(rating, comment, createdBy);
 
-        // Create feedback entry
-        FeedbackEntry feedback = new FeedbackEntry();
-        feedback.setTicket(ticket);
-        feedback.setRating(rating);
-        feedback.setComment(comment.trim());
-        feedback.setCreatedBy(createdBy.trim());
+        return transactionOperations.execute(status -> {
+            // Validate ticket exists
+            Ticket ticket = getTicketById(ticketId);
+
+            // Create feedback entry
+            FeedbackEntry feedback = new FeedbackEntry();
+            feedback.setTicket(ticket);
+            feedback.setRating(rating);
+            feedback.setComment(comment.trim());
+            feedback.setCreatedBy(createdBy.trim());
+
+            FeedbackEntry savedFeedback = feedbackRepository.save(feedback);
+            technicianFeedbackAggregator.recordRating(assignedTechnicianId(ticket), rating);
+            ratingHistograms.recordRating(submittedAt(savedFeedback), rating);
+            eventBus.publish(new FeedbackSubmitted(feedback, assignedTechnicianId(ticket)));
 
-        return feedbackRepository.save(feedback);
+            return savedFeedback;
+        });
     }
 
     /**
      * Updates an existing feedback entry with validation.
      */
+    @Transactional
     public FeedbackEntry updateFeedback(Long feedbackId, Integer rating, String comment) {
         FeedbackEntry feedback = getFeedbackById(feedbackId);
+        int previousRating = feedback.getRating();
 
         // Update fields if provided
         if (rating != null) {
@@ -81,62 +123,70 @@ public class FeedbackService {
             feedback.setComment(comment.trim());
         }
 
-        return feedbackRepository.save(feedback);
+        FeedbackEntry savedFeedback = feedbackRepository.save(feedback);
+        technicianFeedbackAggregator.changeRating(
+            assignedTechnicianId(feedback.getTicket()), previousRating, feedback.getRating());
+        ratingHistograms.changeRating(feedback.getSubmittedAt(), previousRating, feedback.getRating());
+        eventBus.publish(new FeedbackUpdated(feedback, assignedTechnicianId(feedback.getTicket()), previousRating));
+
+        return savedFeedback;
     }
 
     /**
      * Deletes a feedback entry by ID.
      */
+    @Transactional
     public void deleteFeedback(Long feedbackId) {
         FeedbackEntry feedback = getFeedbackById(feedbackId);
         feedbackRepository.deleteById(feedbackId);
+        technicianFeedbackAggregator.removeRating(assignedTechnicianId(feedback.getTicket()), feedback.getRating());
+        ratingHistograms.removeRating(feedback.getSubmittedAt(), feedback.getRating());
+        eventBus.publish(new FeedbackDeleted(feedback, assignedTechnicianId(feedback.getTicket())));
     }
 
     // === SEARCH AND RETRIEVAL METHODS ===
 
     @Transactional(readOnly = true)
     public Optional<FeedbackEntry> findById(Long feedbackId) {
+        shardRouter.routeById(feedbackId);
         return feedbackRepository.findById(feedbackId);
     }
 
     @Transactional(readOnly = true)
     public FeedbackEntry getFeedbackById(Long feedbackId) {
+        shardRouter.routeById(feedbackId);
         return feedbackRepository.findById(feedbackId)
             .orElseThrow(() -> new IllegalArgumentException("Feedback not found with ID: " + feedbackId));
     }
 
     @Transactional(readOnly = true)
     public Page<FeedbackEntry> findAllFeedback(Pageable pageable) {
-        return feedbackRepository.findAll(pageable);
+        return shardRouter.collectPage(feedbackRepository::findAll, pageable);
     }
 
     // === TICKET-BASED OPERATIONS ===
 
     @Transactional(readOnly = true)
     public Page<FeedbackEntry> findFeedbackByTicket(Long ticketId, Pageable pageable) {
-        Ticket ticket = ticketRepository.findById(ticketId)
-            .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
+        Ticket ticket = getTicketById(ticketId);
         return feedbackRepository.findByTicket(ticket, pageable);
     }
 
     @Transactional(readOnly = true)
     public List<FeedbackEntry> findFeedbackByTicket(Long ticketId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
-            .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
+        Ticket ticket = getTicketById(ticketId);
         return feedbackRepository.findByTicket(ticket);
     }
 
     @Transactional(readOnly = true)
     public Optional<FeedbackEntry> getLatestFeedbackForTicket(Long ticketId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
-            .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
+        Ticket ticket = getTicketById(ticketId);
         return feedbackRepository.findTopByTicketOrderBySubmittedAtDesc(ticket);
     }
 
     @Transactional(readOnly = true)
     public Double getAverageRatingForTicket(Long ticketId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
-            .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
+        Ticket ticket = getTicketById(ticketId);
         return feedbackRepository.getAverageRatingForTicket(ticket);
     }
 
@@ -145,7 +195,7 @@ public class FeedbackService {
     @Transactional(readOnly = true)
     public Page<FeedbackEntry> findFeedbackByRating(int rating, Pageable pageable) {
         validateRating(rating);
-        return feedbackRepository.findByRating(rating, pageable);
+        return shardRouter.collectPage(page -> feedbackRepository.findByRating(rating, page), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -155,7 +205,8 @@ public class FeedbackService {
         if (minRating > maxRating) {
             throw new IllegalArgumentException("Minimum rating cannot be greater than maximum rating");
         }
-        return feedbackRepository.findByRatingBetween(minRating, maxRating, pageable);
+        return shardRouter.collectPage(
+            page -> feedbackRepository.findByRatingBetween(minRating, maxRating, page), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -163,7 +214,8 @@ public class FeedbackService {
         if (createdBy == null || createdBy.trim().isEmpty()) {
             throw new IllegalArgumentException("CreatedBy cannot be null or empty");
         }
-        return feedbackRepository.findByCreatedBy(createdBy.trim(), pageable);
+        String creator = createdBy.trim();
+        return shardRouter.collectPage(page -> feedbackRepository.findByCreatedBy(creator, page), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -174,7 +226,8 @@ public class FeedbackService {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
-        return feedbackRepository.findBySubmittedAtBetween(startDate, endDate, pageable);
+        return shardRouter.collectPage(
+            page -> feedbackRepository.findBySubmittedAtBetween(startDate, endDate, page), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -182,84 +235,76 @@ public class FeedbackService {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return findAllFeedback(pageable);
         }
-        return feedbackRepository.searchByComment(searchTerm.trim(), pageable);
+        String term = searchTerm.trim();
+        return shardRouter.collectPage(page -> feedbackRepository.searchByComment(term, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<FeedbackEntry> findHighSatisfactionFeedback(Pageable pageable) {
-        return feedbackRepository.findByRatingGreaterThanEqual(4, pageable);
+        return shardRouter.collectPage(page -> feedbackRepository.findByRatingGreaterThanEqual(4, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<FeedbackEntry> findLowSatisfactionFeedback(Pageable pageable) {
-        return feedbackRepository.findByRatingLessThanEqual(2, pageable);
+        return shardRouter.collectPage(page -> feedbackRepository.findByRatingLessThanEqual(2, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<FeedbackEntry> findRecentFeedback(int days, Pageable pageable) {
         Instant sinceTime = Instant.now().minus(days, ChronoUnit.DAYS);
-        return feedbackRepository.findRecentFeedback(sinceTime, pageable);
+        return shardRouter.collectPage(page -> feedbackRepository.findRecentFeedback(sinceTime, page), pageable);
     }
 
     // === ANALYTICS & STATISTICS ===
 
+    /**
+     * Returns the overall average rating from the in-memory histogram, or null when there is no feedback.
+     */
     @Transactional(readOnly = true)
     public Double getAverageRating() {
-        return feedbackRepository.getAverageRating();
+        RatingHistogram histogram = loadedRatingHistograms().getOverall();
+        return histogram.total() > 0 ? histogram.average() : null;
     }
 
     @Transactional(readOnly = true)
     public Map<Integer, Long> getRatingDistribution() {
-        List<Object[]> results = feedbackRepository.getRatingDistribution();
-        Map<Integer, Long> distribution = new HashMap<>();
-        
-        // Initialize all ratings 1-5 with 0 count
-        for (int i = 1; i <= 5; i++) {
-            distribution.put(i, 0L);
-        }
-        
-        // Populate with actual counts
-        for (Object[] result : results) {
-            Integer rating = (Integer) result[0];
-            Long count = (Long) result[1];
-            distribution.put(rating, count);
-        }
-        
-        return distribution;
+        return loadedRatingHistograms().getOverall().distribution();
     }
 
     @Transactional(readOnly = true)
     public Map<String, Object> getFeedbackTrends(int days) {
         Instant sinceTime = Instant.now().minus(days, ChronoUnit.DAYS);
+        FeedbackRatingHistograms histograms = loadedRatingHistograms();
+        RatingHistogram recent = histograms.getSince(sinceTime);
+        long[] overall = histograms.getOverall().snapshot();
         
         Map<String, Object> trends = new HashMap<>();
-        trends.put("totalFeedback", feedbackRepository.countBySubmittedAtAfter(sinceTime));
-        trends.put("averageRating", feedbackRepository.getAverageRatingSince(sinceTime));
-        trends.put("highSatisfaction", feedbackRepository.countByRatingGreaterThanEqual(4));
-        trends.put("lowSatisfaction", feedbackRepository.countByRatingLessThanEqual(2));
+        trends.put("totalFeedback", recent.total());
+        trends.put("averageRating", recent.total() > 0 ? recent.average() : null);
+        trends.put("highSatisfaction", RatingHistogram.countAtLeast(overall, 4));
+        trends.put("lowSatisfaction", RatingHistogram.countAtMost(overall, 2));
         
         // Daily trends
-        List<Object[]> dailyRatings = feedbackRepository.getDailyAverageRatings(sinceTime);
-        trends.put("dailyAverages", dailyRatings);
+        trends.put("dailyAverages", histograms.getDailyAverages(sinceTime));
         
         return trends;
     }
 
+    @SingleFlight("feedback-statistics")
     @Transactional(readOnly = true)
     public Map<String, Object> getCustomerSatisfactionMetrics() {
         Map<String, Object> metrics = new HashMap<>();
         
-        Double averageRating = getAverageRating();
-        metrics.put("overallAverageRating", averageRating != null ? averageRating : 0.0);
-        
-        Map<Integer, Long> distribution = getRatingDistribution();
-        metrics.put("ratingDistribution", distribution);
+        // Single snapshot so all figures are mutually consistent
+        long[] counts = loadedRatingHistograms().getOverall().snapshot();
+        long totalFeedback = RatingHistogram.total(counts);
         
-        long totalFeedback = feedbackRepository.count();
+        metrics.put("overallAverageRating", RatingHistogram.average(counts));
+        metrics.put("ratingDistribution", RatingHistogram.distribution(counts));
         metrics.put("totalFeedbackCount", totalFeedback);
         
-        long highSatisfaction = feedbackRepository.countByRatingGreaterThanEqual(4);
-        long lowSatisfaction = feedbackRepository.countByRatingLessThanEqual(2);
+        long highSatisfaction = RatingHistogram.countAtLeast(counts, 4);
+        long lowSatisfaction = RatingHistogram.countAtMost(counts, 2);
         
         metrics.put("highSatisfactionCount", highSatisfaction);
         metrics.put("lowSatisfactionCount", lowSatisfaction);
@@ -277,41 +322,145 @@ public class FeedbackService {
 
     @Transactional(readOnly = true)
     public Map<String, Object> getTechnicianFeedbackSummary(Long technicianId) {
-        // Get tickets assigned to the technician and then get feedback for those tickets
-        Map<String, Object> summary = new HashMap<>();
-        
-        // This would require joining through tickets - simplified version
-        // In real implementation, we'd need to join FeedbackEntry -> Ticket -> Technician
-        summary.put("message", "Technician feedback summary requires ticket-technician relationship analysis");
-        summary.put("technicianId", technicianId);
-        
+        return getTechnicianFeedbackSummary(technicianId, 30);
+    }
+
+    /**
+     * Summarizes feedback for tickets assigned to a technician, with a daily trend over the last N days.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getTechnicianFeedbackSummary(Long technicianId, int trendDays) {
+        Technician technician = technicianRepository.findById(technicianId)
+            .orElseThrow(() -> new IllegalArgumentException("Technician not found with ID: " + technicianId));
+
+        RatingSummary ratings = loadedTechnicianAggregates().getSummary(technicianId);
+        Map<String, Object> summary = toSummaryMap(ratings);
+        summary.put("technicianName", technician.getFullName());
+
+        // The technician's tickets may sit on any shard; days reported by several shards are merged
+        Instant sinceTime = Instant.now().minus(trendDays, ChronoUnit.DAYS);
+        Map<String, Object[]> dailyRows = new TreeMap<>();
+        shardRouter.collect(() -> feedbackRepository.getDailyAverageRatingsForTechnician(technicianId, sinceTime))
+            .forEach(row -> dailyRows.merge(row[0].toString(), row, FeedbackService::mergeDailyAverages));
+        List<Map<String, Object>> dailyTrend = dailyRows.values().stream()
+            .map(arr -> {
+                Map<String, Object> day = new HashMap<>();
+                day.put("date", arr[0].toString());
+                day.put("averageRating", ((Number) arr[1]).doubleValue());
+                day.put("feedbackCount", ((Number) arr[2]).longValue());
+                return day;
+            })
+            .collect(Collectors.toList());
+        summary.put("trendDays", trendDays);
+        summary.put("dailyAverages", dailyTrend);
+
         return summary;
     }
 
+    /**
+     * Ranks technicians by average feedback rating from the in-memory aggregates.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTechnicianFeedbackLeaderboard(long minFeedbackCount, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+
+        List<RatingSummary> leaderboard = loadedTechnicianAggregates().getLeaderboard(minFeedbackCount, limit);
+        List<Long> technicianIds = leaderboard.stream()
+            .map(RatingSummary::getTechnicianId)
+            .collect(Collectors.toList());
+        Map<Long, Technician> technicians = technicianRepository.findAllById(technicianIds).stream()
+            .collect(Collectors.toMap(Technician::getId, Function.identity()));
+
+        return leaderboard.stream()
+            .map(ratings -> {
+                Map<String, Object> entry = toSummaryMap(ratings);
+                Technician technician = technicians.get(ratings.getTechnicianId());
+                entry.put("technicianName", technician != null ? technician.getFullName() : null);
+                return entry;
+            })
+            .collect(Collectors.toList());
+    }
+
     // === COUNT METHODS ===
 
     @Transactional(readOnly = true)
     public long countAllFeedback() {
-        return feedbackRepository.count();
+        return loadedRatingHistograms().getOverall().total();
     }
 
     @Transactional(readOnly = true)
     public long countFeedbackByRating(int rating) {
         validateRating(rating);
-        return feedbackRepository.countByRating(rating);
+        return loadedRatingHistograms().getOverall().count(rating);
     }
 
     @Transactional(readOnly = true)
     public long countFeedbackByTicket(Long ticketId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
-            .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
+        Ticket ticket = getTicketById(ticketId);
         return feedbackRepository.countByTicket(ticket);
     }
 
     @Transactional(readOnly = true)
     public long countRecentFeedback(int days) {
         Instant sinceTime = Instant.now().minus(days, ChronoUnit.DAYS);
-        return feedbackRepository.countBySubmittedAtAfter(sinceTime);
+        return loadedRatingHistograms().getSince(sinceTime).total();
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private TechnicianFeedbackAggregator loadedTechnicianAggregates() {
+        if (technicianFeedbackAggregator.isInitialized()) {
+            return technicianFeedbackAggregator;
+        }
+        return technicianFeedbackAggregator.initialize(
+            () -> shardRouter.collect(feedbackRepository::getRatingDistributionByTechnician));
+    }
+
+    private FeedbackRatingHistograms loadedRatingHistograms() {
+        if (ratingHistograms.isInitialized()) {
+            return ratingHistograms;
+        }
+        return ratingHistograms.initialize(() -> shardRouter.collect(feedbackRepository::getDailyRatingDistribution));
+    }
+
+    /**
+     * Combines two (date, average rating, count) rows for the same day.
+     */
+    private static Object[] mergeDailyAverages(Object[] first, Object[] second) {
+        long firstCount = ((Number) first[2]).longValue();
+        long secondCount = ((Number) second[2]).longValue();
+        double ratingSum = ((Number) first[1]).doubleValue() * firstCount
+            + ((Number) second[1]).doubleValue() * secondCount;
+        return new Object[] { first[0], ratingSum / (firstCount + secondCount), firstCount + secondCount };
+    }
+
+    private Map<String, Object> toSummaryMap(RatingSummary ratings) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("technicianId", ratings.getTechnicianId());
+        summary.put("averageRating", ratings.getAverageRating());
+        summary.put("totalFeedbackCount", ratings.getTotalCount());
+        summary.put("ratingDistribution", ratings.getDistribution());
+        summary.put("highSatisfactionCount", ratings.getCountAtLeast(4));
+        summary.put("lowSatisfactionCount", ratings.getCountAtMost(2));
+        return summary;
+    }
+
+    private Instant submittedAt(FeedbackEntry feedback) {
+        return feedback != null && feedback.getSubmittedAt() != null ? feedback.getSubmittedAt() : Instant.now();
+    }
+
+    private Ticket getTicketById(Long ticketId) {
+        shardRouter.routeById(ticketId);
+        return ticketRepository.findById(ticketId)
+            .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
+    }
+
+    private Long assignedTechnicianId(Ticket ticket) {
+        return ticket != null && ticket.getAssignedTechnician() != null
+            ? ticket.getAssignedTechnician().getId()
+            : null;
     }
 
     // === VALIDATION METHODS ===
@@ -0,0 +1,373 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.dto.response.LiveFeedEventResponse;
+import com.localtechsupport.event.AppointmentEvent;
+import com.localtechsupport.event.DomainEvent;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.DomainEventBus.Dispatch;
+import com.localtechsupport.event.TicketEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed ticket and appointment changes out to live feed subscribers.
+ *
+ * Events arrive once from the domain event bus's asynchronous consumer and are
+ * offered to every subscriber whose filter matches. Each subscriber has a
+ * bounded buffer with its own overflow policy:
+ * - COALESCE keeps only the latest queued change per ticket or appointment and
+ *   drops the oldest entry when the buffer is still full
+ * - DROP_OLDEST and DROP_NEWEST discard from the front or reject the incoming change
+ * Dropped changes are reported to the subscriber so it can refetch.
+ *
+ * No thread is tied to a connection: a subscriber's buffer is drained by a
+ * short-lived virtual thread started only when changes are waiting, so idle
+ * subscribers cost a map entry. The last replay-size changes are kept so a
+ * reconnecting client can resume from its Last-Event-ID.
+ *
+ * Change ids start above the server's start time in microseconds, so ids issued
+ * after a restart are higher than any id a client kept from before it: the
+ * client is told about the gap instead of silently matching unrelated changes.
+ * An id above anything this server has issued (e.g. after the clock moved back)
+ * resets the client, which should then refetch.
+ */
+@Component
+public class LiveFeedBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveFeedBroadcaster.class);
+
+    public enum OverflowPolicy {
+        COALESCE,
+        DROP_OLDEST,
+        DROP_NEWEST
+    }
+
+    /**
+     * Connection a subscription writes to, typically an SSE emitter.
+     */
+    public interface Sink {
+        void send(LiveFeedEventResponse event) throws IOException;
+
+        void dropped(long count) throws IOException;
+
+        /**
+         * The client's Last-Event-ID is unknown to this server; it should refetch.
+         */
+        void reset() throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void complete();
+    }
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int replaySize;
+    private final Map<Long, Subscription> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriptionIds = new AtomicLong();
+    private final ArrayDeque<LiveFeedEventResponse> recent = new ArrayDeque<>();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats;
+    private final Counter deliveredCounter;
+    private final Counter droppedCounter;
+    private long sequence;
+
+    @Autowired
+    public LiveFeedBroadcaster(DomainEventBus eventBus,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.live-feed.buffer-size:256}") int bufferSize,
+                               @Value("${app.live-feed.max-subscribers:10000}") int maxSubscribers,
+                               @Value("${app.live-feed.replay-size:1024}") int replaySize,
+                               @Value("${app.live-feed.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this(eventBus, meterRegistry, bufferSize, maxSubscribers, replaySize, heartbeatInterval,
+            TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+    }
+
+    LiveFeedBroadcaster(DomainEventBus eventBus, MeterRegistry meterRegistry, int bufferSize, int maxSubscribers,
+                        int replaySize, Duration heartbeatInterval, long initialSequence) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Live feed buffer size must be at least 1");
+        }
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.replaySize = replaySize;
+        this.sequence = initialSequence;
+        this.deliveredCounter = Counter.builder("app.live-feed.delivered")
+            .description("Changes written to live feed subscribers")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("app.live-feed.dropped")
+            .description("Changes dropped from full live feed buffers")
+            .register(meterRegistry);
+        Gauge.builder("app.live-feed.subscribers", subscribers, Map::size)
+            .description("Open live feed subscriptions")
+            .register(meterRegistry);
+
+        eventBus.subscribe(TicketEvent.class, "live-feed", Dispatch.ASYNC, this::broadcast);
+        eventBus.subscribe(AppointmentEvent.class, "live-feed", Dispatch.ASYNC, this::broadcast);
+
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("live-feed-heartbeat").daemon().factory());
+        long intervalMillis = heartbeatInterval.toMillis();
+        heartbeats.scheduleAtFixedRate(this::heartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // === SUBSCRIPTIONS ===
+
+    /**
+     * Opens a subscription. With a lastEventId, retained changes after it are
+     * replayed first; if the gap is older than the replay window the subscriber
+     * is told how many changes it may have missed. A lastEventId this server
+     * never issued resets the subscriber instead.
+     */
+    public Subscription subscribe(LiveFeedFilter filter, OverflowPolicy policy, Long lastEventId, Sink sink) {
+        synchronized (recent) {
+            if (subscribers.size() >= maxSubscribers) {
+                throw new IllegalStateException("Live feed subscriber limit of " + maxSubscribers + " reached");
+            }
+            Subscription subscription = new Subscription(subscriptionIds.incrementAndGet(),
+                filter != null ? filter : LiveFeedFilter.all(), policy != null ? policy : OverflowPolicy.COALESCE, sink);
+            if (lastEventId != null && lastEventId > sequence) {
+                subscription.requestReset();
+            } else if (lastEventId != null) {
+                long oldest = recent.isEmpty() ? sequence + 1 : recent.peekFirst().getId();
+                if (lastEventId < oldest - 1) {
+                    subscription.missed(oldest - 1 - lastEventId);
+                }
+                for (LiveFeedEventResponse event : recent) {
+                    if (event.getId() > lastEventId) {
+                        subscription.offer(event);
+                    }
+                }
+            }
+            subscribers.put(subscription.id, subscription);
+            subscription.start();
+            return subscription;
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // === BROADCAST ===
+
+    void broadcast(DomainEvent event) {
+        synchronized (recent) {
+            LiveFeedEventResponse response = LiveFeedEventResponse.from(++sequence, event);
+            recent.addLast(response);
+            if (recent.size() > replaySize) {
+                recent.removeFirst();
+            }
+            for (Subscription subscription : subscribers.values()) {
+                subscription.offer(response);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscription subscription : subscribers.values()) {
+            subscription.requestHeartbeat();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.values().forEach(Subscription::close);
+        deliveryExecutor.shutdown();
+    }
+
+    /**
+     * One subscriber's filter, bounded buffer and delivery state.
+     */
+    public final class Subscription {
+
+        private final long id;
+        private final LiveFeedFilter filter;
+        private final OverflowPolicy policy;
+        private final Sink sink;
+        private final LinkedHashMap<Object, LiveFeedEventResponse> buffer = new LinkedHashMap<>();
+        private long pendingDrops;
+        private long totalDropped;
+        private boolean heartbeatDue;
+        private boolean resetDue;
+        // Held until start() so replayed changes are buffered before the first drain
+        private boolean draining = true;
+        private volatile boolean closed;
+
+        private Subscription(long id, LiveFeedFilter filter, OverflowPolicy policy, Sink sink) {
+            this.id = id;
+            this.filter = filter;
+            this.policy = policy;
+            this.sink = sink;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public synchronized long getDropped() {
+            return totalDropped;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Stops delivery after the client went away; the sink is not touched.
+         */
+        public void cancel() {
+            closed = true;
+            subscribers.remove(id);
+        }
+
+        private void start() {
+            synchronized (this) {
+                draining = false;
+            }
+            scheduleDrain();
+        }
+
+        private void offer(LiveFeedEventResponse event) {
+            if (closed || !filter.matches(event)) {
+                return;
+            }
+            synchronized (this) {
+                Object key = policy == OverflowPolicy.COALESCE ? event.coalesceKey() : event.getId();
+                if (buffer.remove(key) == null && buffer.size() >= bufferSize) {
+                    recordDrops(1);
+                    if (policy == OverflowPolicy.DROP_NEWEST) {
+                        return;
+                    }
+                    Iterator<LiveFeedEventResponse> oldest = buffer.values().iterator();
+                    oldest.next();
+                    oldest.remove();
+                }
+                buffer.put(key, event);
+            }
+            scheduleDrain();
+        }
+
+        private void missed(long count) {
+            synchronized (this) {
+                pendingDrops += count;
+                totalDropped += count;
+            }
+            scheduleDrain();
+        }
+
+        private void requestReset() {
+            synchronized (this) {
+                resetDue = true;
+            }
+            scheduleDrain();
+        }
+
+        private void requestHeartbeat() {
+            synchronized (this) {
+                heartbeatDue = true;
+            }
+            scheduleDrain();
+        }
+
+        private void recordDrops(long count) {
+            pendingDrops += count;
+            totalDropped += count;
+            droppedCounter.increment(count);
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (draining || closed) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                deliveryExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                List<LiveFeedEventResponse> batch;
+                long drops;
+                boolean reset;
+                boolean heartbeat;
+                synchronized (this) {
+                    if (closed || (buffer.isEmpty() && pendingDrops == 0 && !resetDue && !heartbeatDue)) {
+                        draining = false;
+                        return;
+                    }
+                    batch = new ArrayList<>(buffer.values());
+                    buffer.clear();
+                    drops = pendingDrops;
+                    pendingDrops = 0;
+                    reset = resetDue;
+                    resetDue = false;
+                    heartbeat = heartbeatDue && batch.isEmpty() && drops == 0 && !reset;
+                    heartbeatDue = false;
+                }
+                try {
+                    if (reset) {
+                        sink.reset();
+                    }
+                    if (drops > 0) {
+                        sink.dropped(drops);
+                    }
+                    for (LiveFeedEventResponse event : batch) {
+                        sink.send(event);
+                    }
+                    if (heartbeat) {
+                        sink.heartbeat();
+                    }
+                    deliveredCounter.increment(batch.size());
+                } catch (IOException | RuntimeException e) {
+                    log.debug("Closing live feed subscription {}: {}", id, e.getMessage());
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            closed = true;
+            if (subscribers.remove(id) == null) {
+                return;
+            }
+            try {
+                sink.complete();
+            } catch (RuntimeException e) {
+                log.debug("Live feed subscription {} already completed", id);
+            }
+        }
+    }
+}
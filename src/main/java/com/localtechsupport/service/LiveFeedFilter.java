@@ -0,0 +1,63 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.dto.response.LiveFeedEventResponse;
+import com.localtechsupport.entity.AppointmentStatus;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.TicketStatus;
+
+import java.util.Arrays;
+
+/**
+ * Subscriber-side filter for the live feed. Unset criteria match everything.
+ *
+ * A technician filter also matches changes that move work away from the
+ * technician, so their dashboard sees unassignments and reassignments. The
+ * status filter takes a ticket or an appointment status name.
+ */
+public final class LiveFeedFilter {
+
+    private final Long technicianId;
+    private final ServiceType serviceType;
+    private final String status;
+
+    public LiveFeedFilter(Long technicianId, ServiceType serviceType, String status) {
+        if (status != null && !isKnownStatus(status)) {
+            throw new IllegalArgumentException("Unknown ticket or appointment status: " + status);
+        }
+        this.technicianId = technicianId;
+        this.serviceType = serviceType;
+        this.status = status;
+    }
+
+    public static LiveFeedFilter all() {
+        return new LiveFeedFilter(null, null, null);
+    }
+
+    public boolean matches(LiveFeedEventResponse event) {
+        if (technicianId != null && !technicianId.equals(event.getTechnicianId())
+                && !technicianId.equals(event.getPreviousTechnicianId())) {
+            return false;
+        }
+        if (serviceType != null && serviceType != event.getServiceType()) {
+            return false;
+        }
+        return status == null || status.equals(event.getStatus());
+    }
+
+    public Long getTechnicianId() {
+        return technicianId;
+    }
+
+    public ServiceType getServiceType() {
+        return serviceType;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    private static boolean isKnownStatus(String status) {
+        return Arrays.stream(TicketStatus.values()).anyMatch(value -> value.name().equals(status))
+            || Arrays.stream(AppointmentStatus.values()).anyMatch(value -> value.name().equals(status));
+    }
+}
@@ -0,0 +1,127 @@
+package com.localtechsupport.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size histogram of feedback ratings (1-5).
+ *
+ * Each bucket is a striped LongAdder, so concurrent writers never contend on a
+ * single counter and a histogram's size does not depend on how many ratings it
+ * holds. Reads are not atomic across buckets, which is acceptable for reporting.
+ */
+public final class RatingHistogram {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    private final LongAdder[] buckets = new LongAdder[MAX_RATING + 1];
+
+    public RatingHistogram() {
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            buckets[rating] = new LongAdder();
+        }
+    }
+
+    public static boolean isValidRating(int rating) {
+        return rating >= MIN_RATING && rating <= MAX_RATING;
+    }
+
+    public void add(int rating, long delta) {
+        if (isValidRating(rating)) {
+            buckets[rating].add(delta);
+        }
+    }
+
+    public void addAll(RatingHistogram other) {
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            buckets[rating].add(other.buckets[rating].sum());
+        }
+    }
+
+    public void reset() {
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            buckets[rating].reset();
+        }
+    }
+
+    public long count(int rating) {
+        return isValidRating(rating) ? buckets[rating].sum() : 0L;
+    }
+
+    /**
+     * Copies the current counts into an array indexed by rating (index 0 unused).
+     */
+    public long[] snapshot() {
+        long[] counts = new long[MAX_RATING + 1];
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            counts[rating] = buckets[rating].sum();
+        }
+        return counts;
+    }
+
+    public long total() {
+        return total(snapshot());
+    }
+
+    public long countAtLeast(int rating) {
+        return countAtLeast(snapshot(), rating);
+    }
+
+    public long countAtMost(int rating) {
+        return countAtMost(snapshot(), rating);
+    }
+
+    public double average() {
+        return average(snapshot());
+    }
+
+    public Map<Integer, Long> distribution() {
+        return distribution(snapshot());
+    }
+
+    // === SNAPSHOT HELPERS ===
+
+    static long total(long[] counts) {
+        long total = 0;
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            total += counts[rating];
+        }
+        return total;
+    }
+
+    static double average(long[] counts) {
+        long total = 0;
+        long sum = 0;
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            total += counts[rating];
+            sum += counts[rating] * rating;
+        }
+        return total > 0 ? (double) sum / total : 0.0;
+    }
+
+    static long countAtLeast(long[] counts, int rating) {
+        long total = 0;
+        for (int r = Math.max(rating, MIN_RATING); r <= MAX_RATING; r++) {
+            total += counts[r];
+        }
+        return total;
+    }
+
+    static long countAtMost(long[] counts, int rating) {
+        long total = 0;
+        for (int r = MIN_RATING; r <= Math.min(rating, MAX_RATING); r++) {
+            total += counts[r];
+        }
+        return total;
+    }
+
+    static Map<Integer, Long> distribution(long[] counts) {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        for (int rating = MIN_RATING; rating <= MAX_RATING; rating++) {
+            distribution.put(rating, counts[rating]);
+        }
+        return distribution;
+    }
+}
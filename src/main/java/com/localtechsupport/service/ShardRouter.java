@@ -0,0 +1,269 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.config.ShardContext;
+import com.localtechsupport.config.ShardRoutingDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.support.PropertyComparator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Service-facing entry point of the sharded deployment mode.
+ *
+ * Binds single-client operations to the owning shard and fans cross-shard reads
+ * out in parallel, merging the results. Without a {@link ShardRoutingDataSource}
+ * there is a single shard: routing is a no-op and fan-out queries run inline in
+ * the caller's transaction, so non-sharded behaviour is unchanged.
+ *
+ * Ids are interleaved across shards, so the shard of any client, ticket,
+ * feedback, history entry or appointment follows from its id. New clients are
+ * placed by a hash of their email address. Technicians are written on
+ * {@link #TECHNICIAN_SHARD} only and copied to every other shard by
+ * {@link TechnicianReplicator}, so technician reads stay on one shard and any
+ * ticket can reference any technician.
+ */
+@Component
+public class ShardRouter {
+
+    public static final int TECHNICIAN_SHARD = 0;
+
+    private final int shardCount;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService fanOutExecutor;
+
+    /**
+     * Single-shard router.
+     */
+    ShardRouter() {
+        this.shardCount = 1;
+        this.readOnlyTransaction = null;
+        this.fanOutExecutor = null;
+    }
+
+    @Autowired
+    public ShardRouter(ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource,
+                       ObjectProvider<PlatformTransactionManager> transactionManager) {
+        ShardRoutingDataSource routingDataSource = shardRoutingDataSource.getIfAvailable();
+        this.shardCount = routingDataSource != null ? routingDataSource.getShardCount() : 1;
+        if (shardCount > 1) {
+            this.readOnlyTransaction = new TransactionTemplate(transactionManager.getObject());
+            this.readOnlyTransaction.setReadOnly(true);
+            this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            this.fanOutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            this.readOnlyTransaction = null;
+            this.fanOutExecutor = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdown();
+        }
+    }
+
+    // === SHARD RESOLUTION ===
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardForId(Long id) {
+        return (int) Math.floorMod(id - 1, (long) shardCount);
+    }
+
+    public int shardForKey(String key) {
+        return Math.floorMod(key.trim().toLowerCase(Locale.ROOT).hashCode(), shardCount);
+    }
+
+    // === ROUTING ===
+
+    /**
+     * Routes the current transaction to the shard owning the given id.
+     * Must be called before the transaction issues its first query.
+     */
+    public void routeById(Long id) {
+        if (isSharded() && id != null) {
+            routeTo(shardForId(id));
+        }
+    }
+
+    /**
+     * Routes the current transaction to the shard owning the given key (e.g. an email).
+     */
+    public void routeByKey(String key) {
+        if (isSharded() && key != null) {
+            routeTo(shardForKey(key));
+        }
+    }
+
+    public void routeTo(int shard) {
+        if (!isSharded()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Shard routing requires an active transaction");
+        }
+
+        Integer bound = ShardContext.current();
+        if (bound == null) {
+            ShardContext.set(shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ShardContext.clear();
+                }
+            });
+        } else if (bound != shard) {
+            throw new IllegalStateException("Operation spans shards " + bound + " and " + shard);
+        }
+    }
+
+    // === FAN-OUT READS ===
+
+    /**
+     * Runs the query once per shard in parallel, each in its own read-only transaction.
+     */
+    public <T> List<T> fanOut(Supplier<T> query) {
+        return fanOutByShard(shard -> query.get());
+    }
+
+    /**
+     * Like {@link #fanOut(Supplier)}, passing each query the shard it runs on;
+     * results are in shard order.
+     */
+    public <T> List<T> fanOutByShard(IntFunction<T> query) {
+        if (!isSharded()) {
+            return List.of(query.apply(0));
+        }
+
+        List<Future<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(fanOutExecutor.submit(() -> {
+                ShardContext.set(target);
+                try {
+                    return readOnlyTransaction.execute(status -> query.apply(target));
+                } finally {
+                    ShardContext.clear();
+                }
+            }));
+        }
+
+        List<T> results = new ArrayList<>(shardCount);
+        for (Future<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    public long sum(LongSupplier query) {
+        return fanOut(query::getAsLong).stream().mapToLong(Long::longValue).sum();
+    }
+
+    public <T> List<T> collect(Supplier<List<T>> query) {
+        return collect(query, null);
+    }
+
+    /**
+     * Concatenates per-shard lists, re-sorting them when a comparator is given.
+     */
+    public <T> List<T> collect(Supplier<List<T>> query, Comparator<? super T> order) {
+        if (!isSharded()) {
+            return query.get();
+        }
+        List<T> merged = new ArrayList<>();
+        fanOut(query).forEach(merged::addAll);
+        if (order != null) {
+            merged.sort(order);
+        }
+        return merged;
+    }
+
+    /**
+     * Merges a paged query across shards: every shard returns its first
+     * offset + size rows in the requested order, which are merged and sliced.
+     */
+    public <T> Page<T> collectPage(Function<Pageable, Page<T>> query, Pageable pageable) {
+        if (!isSharded()) {
+            return query.apply(pageable);
+        }
+        if (pageable.isUnpaged()) {
+            List<T> all = collect(() -> query.apply(pageable).getContent(), comparatorFor(pageable.getSort()));
+            return new PageImpl<>(all);
+        }
+
+        int window = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        Pageable head = PageRequest.of(0, window, pageable.getSort());
+        List<Page<T>> pages = fanOut(() -> query.apply(head));
+
+        long total = 0;
+        List<T> merged = new ArrayList<>();
+        for (Page<T> page : pages) {
+            total += page.getTotalElements();
+            merged.addAll(page.getContent());
+        }
+        Comparator<T> order = comparatorFor(pageable.getSort());
+        if (order != null) {
+            merged.sort(order);
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable, total);
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private <T> Comparator<T> comparatorFor(Sort sort) {
+        Comparator<T> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<T> next = new PropertyComparator<>(order.getProperty(), order.isIgnoreCase(), order.isAscending());
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+    }
+}
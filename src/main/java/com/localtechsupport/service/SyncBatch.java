@@ -0,0 +1,106 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.Appointment;
+import com.localtechsupport.entity.FeedbackEntry;
+import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.entity.TicketHistory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of delta-sync changes and the token to resume from.
+ *
+ * Changed entities are returned in their current state; an entity changed
+ * several times within the page appears once. History lists the complete
+ * history of every ticket whose history changed. Deleted tickets take their
+ * history, feedback and appointments with them.
+ */
+public final class SyncBatch {
+
+    private final String nextToken;
+    private final boolean hasMore;
+    private final List<Ticket> tickets = new ArrayList<>();
+    private final List<TicketHistory> history = new ArrayList<>();
+    private final List<FeedbackEntry> feedback = new ArrayList<>();
+    private final List<Appointment> appointments = new ArrayList<>();
+    private final List<Long> deletedTicketIds = new ArrayList<>();
+    private final List<Long> deletedFeedbackIds = new ArrayList<>();
+
+    SyncBatch(String nextToken, boolean hasMore) {
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    void addChanges(SyncBatch shard) {
+        tickets.addAll(shard.tickets);
+        history.addAll(shard.history);
+        feedback.addAll(shard.feedback);
+        appointments.addAll(shard.appointments);
+        deletedTicketIds.addAll(shard.deletedTicketIds);
+        deletedFeedbackIds.addAll(shard.deletedFeedbackIds);
+    }
+
+    List<Ticket> tickets() {
+        return tickets;
+    }
+
+    List<TicketHistory> history() {
+        return history;
+    }
+
+    List<FeedbackEntry> feedback() {
+        return feedback;
+    }
+
+    List<Appointment> appointments() {
+        return appointments;
+    }
+
+    List<Long> deletedTicketIds() {
+        return deletedTicketIds;
+    }
+
+    List<Long> deletedFeedbackIds() {
+        return deletedFeedbackIds;
+    }
+
+    /**
+     * Opaque token for the next request; unchanged when nothing new was readable.
+     */
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /**
+     * Whether more changes were already available than fit in this page.
+     */
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public List<Ticket> getTickets() {
+        return Collections.unmodifiableList(tickets);
+    }
+
+    public List<TicketHistory> getHistory() {
+        return Collections.unmodifiableList(history);
+    }
+
+    public List<FeedbackEntry> getFeedback() {
+        return Collections.unmodifiableList(feedback);
+    }
+
+    public List<Appointment> getAppointments() {
+        return Collections.unmodifiableList(appointments);
+    }
+
+    public List<Long> getDeletedTicketIds() {
+        return Collections.unmodifiableList(deletedTicketIds);
+    }
+
+    public List<Long> getDeletedFeedbackIds() {
+        return Collections.unmodifiableList(deletedFeedbackIds);
+    }
+}
@@ -0,0 +1,236 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.ChangeLogEntry;
+import com.localtechsupport.entity.ChangeOperation;
+import com.localtechsupport.entity.ChangeType;
+import com.localtechsupport.repository.AppointmentRepository;
+import com.localtechsupport.repository.ChangeLogRepository;
+import com.localtechsupport.repository.FeedbackEntryRepository;
+import com.localtechsupport.repository.TicketHistoryRepository;
+import com.localtechsupport.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service layer for delta sync of tickets, history, feedback and appointments.
+ *
+ * Clients keep an opaque token holding the last change log sequence they have
+ * seen on every shard and receive only what changed after it. Sequences are
+ * handed out when a change is written, not when it commits, so a later change
+ * can become visible before an earlier one. A shard's cursor therefore stops at
+ * a missing sequence until it is older than the gap grace period; after that it
+ * is treated as a rolled-back change and skipped.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private static final String TOKEN_VERSION = "v1:";
+
+    private final ChangeLogRepository changeLogRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketHistoryRepository ticketHistoryRepository;
+    private final FeedbackEntryRepository feedbackRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final ShardRouter shardRouter;
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final Duration gapGrace;
+
+    @Autowired
+    public SyncService(ChangeLogRepository changeLogRepository,
+                       TicketRepository ticketRepository,
+                       TicketHistoryRepository ticketHistoryRepository,
+                       FeedbackEntryRepository feedbackRepository,
+                       AppointmentRepository appointmentRepository,
+                       ShardRouter shardRouter,
+                       @Value("${app.sync.default-limit:500}") int defaultLimit,
+                       @Value("${app.sync.max-limit:1000}") int maxLimit,
+                       @Value("${app.sync.gap-grace:10s}") Duration gapGrace) {
+        this.changeLogRepository = changeLogRepository;
+        this.ticketRepository = ticketRepository;
+        this.ticketHistoryRepository = ticketHistoryRepository;
+        this.feedbackRepository = feedbackRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.shardRouter = shardRouter;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.gapGrace = gapGrace;
+    }
+
+    // === DELTA SYNC ===
+
+    /**
+     * Returns the changes after the given token, at most limit change log
+     * entries per shard. Without a token no changes are returned, only a token
+     * to start from: clients load their initial data through the regular list
+     * endpoints after taking it, so nothing committed in between is missed.
+     */
+    public SyncBatch getChangesSince(String since, Integer limit) {
+        int pageSize = resolveLimit(limit);
+        Instant settledBefore = Instant.now().minus(gapGrace);
+
+        if (since == null || since.isBlank()) {
+            List<Long> cursors = shardRouter.fanOutByShard(shard -> changeLogRepository
+                .findFirstByChangedAtBeforeOrderByIdDesc(settledBefore)
+                .map(ChangeLogEntry::getId)
+                .orElse(0L));
+            return new SyncBatch(encodeToken(cursors), false);
+        }
+
+        long[] cursors = decodeToken(since, shardRouter.getShardCount());
+        List<ShardDelta> deltas = shardRouter.fanOutByShard(
+            shard -> readShard(shard, cursors[shard], pageSize, settledBefore));
+
+        List<Long> nextCursors = new ArrayList<>(deltas.size());
+        boolean hasMore = false;
+        for (ShardDelta delta : deltas) {
+            nextCursors.add(delta.cursor);
+            hasMore |= delta.hasMore;
+        }
+        SyncBatch batch = new SyncBatch(encodeToken(nextCursors), hasMore);
+        deltas.forEach(delta -> batch.addChanges(delta.changes));
+        return batch;
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private ShardDelta readShard(int shard, long cursor, int pageSize, Instant settledBefore) {
+        List<ChangeLogEntry> entries =
+            changeLogRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(pageSize + 1));
+        int step = shardRouter.getShardCount();
+
+        // Latest operation per changed entity, in sequence order
+        Map<ChangeType, Map<Long, ChangeOperation>> changes = new EnumMap<>(ChangeType.class);
+        long position = cursor;
+        int accepted = 0;
+        boolean hasMore = false;
+        for (ChangeLogEntry entry : entries) {
+            if (accepted == pageSize) {
+                hasMore = true;
+                break;
+            }
+            long expected = position == 0 ? shard + 1 : position + step;
+            if (entry.getId() != expected && entry.getChangedAt().isAfter(settledBefore)) {
+                break;
+            }
+            Map<Long, ChangeOperation> ofType = changes.computeIfAbsent(entry.getEntityType(), type -> new LinkedHashMap<>());
+            ofType.remove(entry.getEntityId());
+            ofType.put(entry.getEntityId(), entry.getOperation());
+            position = entry.getId();
+            accepted++;
+        }
+
+        SyncBatch batch = new SyncBatch(null, false);
+        List<Long> ticketIds = upserted(changes, ChangeType.TICKET);
+        if (!ticketIds.isEmpty()) {
+            batch.tickets().addAll(ticketRepository.findAllForSync(ticketIds));
+        }
+        List<Long> historyTicketIds = upserted(changes, ChangeType.HISTORY);
+        if (!historyTicketIds.isEmpty()) {
+            batch.history().addAll(ticketHistoryRepository.findAllForSyncByTicketIds(historyTicketIds));
+        }
+        List<Long> feedbackIds = upserted(changes, ChangeType.FEEDBACK);
+        if (!feedbackIds.isEmpty()) {
+            batch.feedback().addAll(feedbackRepository.findAllForSync(feedbackIds));
+        }
+        List<Long> appointmentIds = upserted(changes, ChangeType.APPOINTMENT);
+        if (!appointmentIds.isEmpty()) {
+            batch.appointments().addAll(appointmentRepository.findAllForSync(appointmentIds));
+        }
+        batch.deletedTicketIds().addAll(deleted(changes, ChangeType.TICKET));
+        batch.deletedFeedbackIds().addAll(deleted(changes, ChangeType.FEEDBACK));
+        return new ShardDelta(position, hasMore, batch);
+    }
+
+    private static List<Long> upserted(Map<ChangeType, Map<Long, ChangeOperation>> changes, ChangeType type) {
+        return withOperation(changes, type, ChangeOperation.UPSERT);
+    }
+
+    private static List<Long> deleted(Map<ChangeType, Map<Long, ChangeOperation>> changes, ChangeType type) {
+        return withOperation(changes, type, ChangeOperation.DELETE);
+    }
+
+    private static List<Long> withOperation(Map<ChangeType, Map<Long, ChangeOperation>> changes,
+                                            ChangeType type, ChangeOperation operation) {
+        return changes.getOrDefault(type, Map.of()).entrySet().stream()
+            .filter(change -> change.getValue() == operation)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Sync limit must be at least 1");
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    static String encodeToken(List<Long> cursors) {
+        StringBuilder token = new StringBuilder(TOKEN_VERSION);
+        for (int i = 0; i < cursors.size(); i++) {
+            if (i > 0) {
+                token.append(',');
+            }
+            token.append(cursors.get(i));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static long[] decodeToken(String token, int shardCount) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sync token");
+        }
+        if (!decoded.startsWith(TOKEN_VERSION)) {
+            throw new IllegalArgumentException("Invalid sync token");
+        }
+        String[] parts = decoded.substring(TOKEN_VERSION.length()).split(",", -1);
+        if (parts.length != shardCount) {
+            throw new IllegalArgumentException("Sync token does not match the current shard layout; sync from scratch");
+        }
+        long[] cursors = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                cursors[i] = Long.parseLong(parts[i]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            if (cursors[i] < 0) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+        }
+        return cursors;
+    }
+
+    private static final class ShardDelta {
+
+        private final long cursor;
+        private final boolean hasMore;
+        private final SyncBatch changes;
+
+        private ShardDelta(long cursor, boolean hasMore, SyncBatch changes) {
+            this.cursor = cursor;
+            this.hasMore = hasMore;
+            this.changes = changes;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.localtechsupport.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory per-technician feedback aggregates.
+ *
+ * Keeps a rating histogram (1-5) for every technician, attributed through
+ * FeedbackEntry -> Ticket -> assignedTechnician. The histograms are seeded once
+ * from a grouped query and then maintained incrementally by the feedback and
+ * ticket services, so summaries and leaderboards never touch the database.
+ *
+ * Updates issued inside a transaction are applied only after it commits. The
+ * seed query is repeated if it overlapped an update (see {@link AggregateSeedGate}),
+ * so each committed rating is counted exactly once. Reads never fail on write load:
+ * if no attempt could be installed they are answered from the query rows.
+ */
+@Component
+public class TechnicianFeedbackAggregator {
+
+    private final Map<Long, RatingHistogram> histogramsByTechnician = new ConcurrentHashMap<>();
+    private final AggregateSeedGate seedGate = new AggregateSeedGate();
+
+    // === INITIALIZATION ===
+
+    public boolean isInitialized() {
+        return seedGate.isSeeded();
+    }
+
+    /**
+     * Seeds the aggregates from a query returning rows of (technicianId, rating, count),
+     * unless they are already seeded, and returns the aggregates to read from. When
+     * concurrent updates keep the seed from being installed, that is a detached copy
+     * built from the query rows.
+     */
+    public TechnicianFeedbackAggregator initialize(Supplier<List<Object[]>> distributionQuery) {
+        List<Object[]> uninstalled = seedGate.seed(distributionQuery, this::load);
+        if (uninstalled == null) {
+            return this;
+        }
+        TechnicianFeedbackAggregator detached = new TechnicianFeedbackAggregator();
+        detached.load(uninstalled);
+        return detached;
+    }
+
+    /**
+     * Drops all aggregates so the next read reloads them from the database.
+     */
+    public void invalidate() {
+        seedGate.unseed(histogramsByTechnician::clear);
+    }
+
+    // === INCREMENTAL UPDATES ===
+
+    public void recordRating(Long technicianId, int rating) {
+        seedGate.afterCommit(() -> adjust(technicianId, rating, 1));
+    }
+
+    public void removeRating(Long technicianId, int rating) {
+        seedGate.afterCommit(() -> adjust(technicianId, rating, -1));
+    }
+
+    public void changeRating(Long technicianId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        seedGate.afterCommit(() -> {
+            adjust(technicianId, oldRating, -1);
+            adjust(technicianId, newRating, 1);
+        });
+    }
+
+    /**
+     * Moves a ticket's ratings between technicians. Either side may be null
+     * (ticket becoming assigned, unassigned or deleted).
+     */
+    public void reassign(Long fromTechnicianId, Long toTechnicianId, Collection<Integer> ratings) {
+        if (ratings.isEmpty() || (fromTechnicianId == null && toTechnicianId == null)
+                || (fromTechnicianId != null && fromTechnicianId.equals(toTechnicianId))) {
+            return;
+        }
+        List<Integer> snapshot = new ArrayList<>(ratings);
+        seedGate.afterCommit(() -> {
+            for (int rating : snapshot) {
+                adjust(fromTechnicianId, rating, -1);
+                adjust(toTechnicianId, rating, 1);
+            }
+        });
+    }
+
+    // === READ OPERATIONS ===
+
+    public RatingSummary getSummary(Long technicianId) {
+        RatingHistogram histogram = histogramsByTechnician.get(technicianId);
+        return new RatingSummary(technicianId, histogram != null ? histogram.snapshot() : null);
+    }
+
+    /**
+     * Ranks technicians by average rating (ties broken by feedback volume).
+     */
+    public List<RatingSummary> getLeaderboard(long minFeedbackCount, int limit) {
+        List<RatingSummary> summaries = new ArrayList<>(histogramsByTechnician.size());
+        histogramsByTechnician.forEach((technicianId, histogram) -> {
+            RatingSummary summary = new RatingSummary(technicianId, histogram.snapshot());
+            if (summary.getTotalCount() > 0 && summary.getTotalCount() >= minFeedbackCount) {
+                summaries.add(summary);
+            }
+        });
+
+        summaries.sort(Comparator.comparingDouble(RatingSummary::getAverageRating).reversed()
+            .thenComparing(Comparator.comparingLong(RatingSummary::getTotalCount).reversed())
+            .thenComparing(RatingSummary::getTechnicianId));
+
+        return summaries.size() > limit ? summaries.subList(0, limit) : summaries;
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private void load(List<Object[]> distributionRows) {
+        histogramsByTechnician.clear();
+        for (Object[] row : distributionRows) {
+            Long technicianId = ((Number) row[0]).longValue();
+            int rating = ((Number) row[1]).intValue();
+            long count = ((Number) row[2]).longValue();
+            histogramFor(technicianId).add(rating, count);
+        }
+    }
+
+    private void adjust(Long technicianId, int rating, long delta) {
+        if (technicianId == null) {
+            return;
+        }
+        histogramFor(technicianId).add(rating, delta);
+    }
+
+    private RatingHistogram histogramFor(Long technicianId) {
+        return histogramsByTechnician.computeIfAbsent(technicianId, id -> new RatingHistogram());
+    }
+
+    /**
+     * Immutable point-in-time view of one technician's rating histogram.
+     */
+    public static final class RatingSummary {
+
+        private final Long technicianId;
+        private final long[] counts;
+        private final long totalCount;
+        private final double averageRating;
+
+        RatingSummary(Long technicianId, long[] counts) {
+            this.technicianId = technicianId;
+            this.counts = counts != null ? counts : new long[RatingHistogram.MAX_RATING + 1];
+            this.totalCount = RatingHistogram.total(this.counts);
+            this.averageRating = RatingHistogram.average(this.counts);
+        }
+
+        public Long getTechnicianId() {
+            return technicianId;
+        }
+
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        public double getAverageRating() {
+            return averageRating;
+        }
+
+        public long getCount(int rating) {
+            return RatingHistogram.isValidRating(rating) ? counts[rating] : 0L;
+        }
+
+        public long getCountAtLeast(int rating) {
+            return RatingHistogram.countAtLeast(counts, rating);
+        }
+
+        public long getCountAtMost(int rating) {
+            return RatingHistogram.countAtMost(counts, rating);
+        }
+
+        public Map<Integer, Long> getDistribution() {
+            return RatingHistogram.distribution(counts);
+        }
+    }
+}
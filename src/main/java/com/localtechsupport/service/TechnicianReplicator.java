@@ -0,0 +1,128 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.config.ShardRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a copy of every technician and its skills on each shard.
+ *
+ * Tickets and appointments on any shard may reference any technician, so the
+ * technicians and technician_skills tables are replicated from
+ * {@link ShardRouter#TECHNICIAN_SHARD}, the only shard they are written on.
+ * After a technician write commits, its current rows are read from that shard
+ * and written to every other one, or removed there if the technician is gone.
+ * Copies are serialized, so the last copy always reflects the latest commit.
+ * Without a {@link ShardRoutingDataSource} there is nothing to copy.
+ */
+@Component
+public class TechnicianReplicator implements SmartInitializingSingleton {
+
+    private final ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired
+    public TechnicianReplicator(ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        ShardRoutingDataSource routingDataSource = shardRoutingDataSource.getIfAvailable();
+        this.shardRoutingDataSource =
+            routingDataSource != null && routingDataSource.getShardCount() > 1 ? routingDataSource : null;
+    }
+
+    /**
+     * Reconciles every shard at startup, e.g. with technicians loaded by data.sql.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        replicateAll();
+    }
+
+    /**
+     * Copies the technician to the other shards once the current transaction commits.
+     */
+    public void replicateAfterCommit(Long technicianId) {
+        if (shardRoutingDataSource != null && technicianId != null) {
+            TransactionCallbacks.afterCommit(() -> replicate(technicianId));
+        }
+    }
+
+    public synchronized void replicateAll() {
+        if (shardRoutingDataSource == null) {
+            return;
+        }
+        TreeSet<Long> technicianIds = new TreeSet<>();
+        for (int shard = 0; shard < shardRoutingDataSource.getShardCount(); shard++) {
+            technicianIds.addAll(new JdbcTemplate(shardRoutingDataSource.getShard(shard))
+                .queryForList("SELECT id FROM technicians", Long.class));
+        }
+        technicianIds.forEach(this::replicate);
+    }
+
+    synchronized void replicate(Long technicianId) {
+        if (shardRoutingDataSource == null) {
+            return;
+        }
+        JdbcTemplate home = new JdbcTemplate(shardRoutingDataSource.getShard(ShardRouter.TECHNICIAN_SHARD));
+        List<Map<String, Object>> technician =
+            home.queryForList("SELECT * FROM technicians WHERE id = ?", technicianId);
+        List<Map<String, Object>> skills =
+            home.queryForList("SELECT * FROM technician_skills WHERE technician_id = ?", technicianId);
+
+        for (int shard = 0; shard < shardRoutingDataSource.getShardCount(); shard++) {
+            if (shard == ShardRouter.TECHNICIAN_SHARD) {
+                continue;
+            }
+            DataSource replica = shardRoutingDataSource.getShard(shard);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica);
+            transactionOn(replica).executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM technician_skills WHERE technician_id = ?", technicianId);
+                if (technician.isEmpty()) {
+                    jdbcTemplate.update("DELETE FROM technicians WHERE id = ?", technicianId);
+                    return;
+                }
+                upsert(jdbcTemplate, "technicians", technician.get(0));
+                skills.forEach(skill -> insert(jdbcTemplate, "technician_skills", skill));
+            });
+        }
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private static TransactionTemplate transactionOn(DataSource dataSource) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    private static void upsert(JdbcTemplate jdbcTemplate, String table, Map<String, Object> row) {
+        List<String> columns = new ArrayList<>(row.keySet());
+        columns.removeIf(column -> column.equalsIgnoreCase("id"));
+        List<Object> values = new ArrayList<>();
+        columns.forEach(column -> values.add(row.get(column)));
+        values.add(row.get("id"));
+
+        String assignments = columns.stream().map(column -> column + " = ?").collect(Collectors.joining(", "));
+        if (jdbcTemplate.update("UPDATE " + table + " SET " + assignments + " WHERE id = ?", values.toArray()) == 0) {
+            insert(jdbcTemplate, table, row);
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, String table, Map<String, Object> row) {
+        String columns = String.join(", ", row.keySet());
+        String placeholders = String.join(", ", Collections.nCopies(row.size(), "?"));
+        jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")",
+            row.values().toArray());
+    }
+}
@@ -1,9 +1,11 @@
 package com.localtechsupport.service;
 
+import com.localtechsupport.config.SingleFlight;
 import com.localtechsupport.entity.Technician;
 import com.localtechsupport.entity.TechnicianStatus;
 import com.localtechsupport.entity.ServiceType;
 import com.localtechsupport.entity.TechnicianSkill;
+import com.localtechsupport.repository.TechnicianListing;
 import com.localtechsupport.repository.TechnicianRepository;
 import com.localtechsupport.repository.TechnicianSkillRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,15 +40,31 @@ public class TechnicianService {
 
     private final TechnicianRepository technicianRepository;
     private final TechnicianSkillRepository technicianSkillRepository;
+    private final ShardRouter shardRouter;
+    private final WriteValidationCache validationCache;
+    private final AppointmentRollupCache rollupCache;
+    private final TechnicianReplicator replicator;
 
     // Constants for business logic
     private static final long DEFAULT_MAX_WORKLOAD = 10L;
 
+    // Indexes into the per-technician ticket counts summed across shards
+    private static final int ASSIGNED_TICKETS = 0;
+    private static final int OPEN_TICKETS = 1;
+
     @Autowired
     public TechnicianService(TechnicianRepository technicianRepository, 
-                           TechnicianSkillRepository technicianSkillRepository) {
+                           TechnicianSkillRepository technicianSkillRepository,
+                           ShardRouter shardRouter,
+                           WriteValidationCache validationCache,
+                           AppointmentRollupCache rollupCache,
+                           TechnicianReplicator replicator) {
         this.technicianRepository = technicianRepository;
         this.technicianSkillRepository = technicianSkillRepository;
+        this.shardRouter = shardRouter;
+        this.validationCache = validationCache;
+        this.rollupCache = rollupCache;
+        this.replicator = replicator;
     }
 
     // === CORE CRUD OPERATIONS ===
@@ -60,8 +79,11 @@ public class TechnicianService {
         // Normalize email for consistency
         String normalizedEmail = normalizeEmail(email);
 
+        // Technicians are written on one shard and replicated to the others
+        shardRouter.routeTo(ShardRouter.TECHNICIAN_SHARD);
+
         // Validate email uniqueness with normalized email
-        if (technicianRepository.existsByEmail(normalizedEmail)) {
+        if (emailExists(normalizedEmail)) {
             throw new IllegalArgumentException("Technician with email " + normalizedEmail + " already exists");
         }
 
@@ -73,6 +95,7 @@ public class TechnicianService {
 
         // Save technician first
         technician = technicianRepository.save(technician);
+        technicianChanged(technician.getId());
 
         // Add skills if provided
         if (skills != null && !skills.isEmpty()) {
@@ -100,7 +123,7 @@ public class TechnicianService {
         // Check email uniqueness if email is being changed
         if (email != null && !email.equalsIgnoreCase(technician.getEmail())) {
             String normalizedEmail = normalizeEmail(email);
-            if (technicianRepository.existsByEmail(normalizedEmail)) {
+            if (emailExists(normalizedEmail)) {
                 throw new IllegalArgumentException("Technician with email " + normalizedEmail + " already exists");
             }
             technician.setEmail(normalizedEmail);
@@ -111,6 +134,7 @@ public class TechnicianService {
             technician.setFullName(fullName.trim());
         }
 
+        technicianChanged(technicianId);
         return technicianRepository.save(technician);
     }
 
@@ -133,11 +157,12 @@ public class TechnicianService {
         }
 
         // Check for active assignments
-        if (technician.getCurrentLoad() > 0) {
+        if (currentLoad(technician) > 0) {
             throw new IllegalStateException("Cannot delete technician with active ticket assignments.");
         }
 
         technicianRepository.deleteById(technicianId);
+        technicianChanged(technicianId);
     }
 
     // === STATUS MANAGEMENT ===
@@ -154,6 +179,7 @@ public class TechnicianService {
         }
 
         technician.setStatus(newStatus);
+        technicianChanged(technicianId);
         return technicianRepository.save(technician);
     }
 
@@ -182,11 +208,13 @@ public class TechnicianService {
 
     @Transactional(readOnly = true)
     public Optional<Technician> findById(Long technicianId) {
+        shardRouter.routeById(technicianId);
         return technicianRepository.findById(technicianId);
     }
 
     @Transactional(readOnly = true)
     public Technician getTechnicianById(Long technicianId) {
+        shardRouter.routeById(technicianId);
         return technicianRepository.findById(technicianId)
             .orElseThrow(() -> new IllegalArgumentException("Technician not found with ID: " + technicianId));
     }
@@ -233,6 +261,47 @@ public class TechnicianService {
         return technicianRepository.findByStatusAndServiceType(TechnicianStatus.ACTIVE, serviceType, pageable);
     }
 
+    // === LISTINGS ===
+
+    /**
+     * Technician rows for list responses: skills come as a bitmask and the
+     * workload as a joined count, so no collection is loaded. When sharded the
+     * workload is recounted across shards.
+     */
+    @Transactional(readOnly = true)
+    public Page<TechnicianListing> findTechnicianListings(TechnicianStatus status, Pageable pageable) {
+        if (status == null) {
+            return withShardWorkloads(technicianRepository.findListings(pageable));
+        }
+        return withShardWorkloads(technicianRepository.findListingsByStatus(status, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TechnicianListing> searchTechnicianListings(String searchTerm, Pageable pageable) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return findTechnicianListings(null, pageable);
+        }
+        return withShardWorkloads(technicianRepository.searchListings(searchTerm.trim(), pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TechnicianListing> findAvailableTechnicianListings(ServiceType serviceType) {
+        // When sharded the local workload is partial, so filter on the cross-shard one
+        long maxLoad = shardRouter.isSharded() ? Long.MAX_VALUE : DEFAULT_MAX_WORKLOAD;
+        List<TechnicianListing> listings = serviceType == null
+            ? technicianRepository.findAvailableListings(TechnicianStatus.ACTIVE, maxLoad)
+            : technicianRepository.findAvailableListingsForService(TechnicianStatus.ACTIVE, serviceType, maxLoad);
+        if (!shardRouter.isSharded()) {
+            return listings;
+        }
+        Map<Long, long[]> ticketCounts = ticketCountsAcrossShards(
+            listings.stream().map(TechnicianListing::getId).collect(Collectors.toList()));
+        return listings.stream()
+            .filter(listing -> ticketCount(ticketCounts, listing.getId(), ASSIGNED_TICKETS) < DEFAULT_MAX_WORKLOAD)
+            .map(listing -> new ShardedListing(listing, ticketCount(ticketCounts, listing.getId(), OPEN_TICKETS)))
+            .collect(Collectors.toList());
+    }
+
     // === SKILL MANAGEMENT ===
 
     /**
@@ -241,6 +310,7 @@ public class TechnicianService {
     public Technician addSkill(Long technicianId, ServiceType serviceType) {
         Technician technician = getTechnicianById(technicianId);
         addSkillInternal(technician, serviceType);
+        replicator.replicateAfterCommit(technicianId);
         return technicianRepository.findById(technicianId).orElse(technician);
     }
 
@@ -255,6 +325,7 @@ public class TechnicianService {
         
         if (skillToRemove.isPresent()) {
             technicianSkillRepository.delete(skillToRemove.get());
+            replicator.replicateAfterCommit(technicianId);
         }
         
         return technicianRepository.findById(technicianId).orElse(technician);
@@ -278,36 +349,44 @@ public class TechnicianService {
     @Transactional(readOnly = true)
     public long getTechnicianWorkload(Long technicianId) {
         Technician technician = getTechnicianById(technicianId);
-        return technician.getCurrentLoad();
+        return currentLoad(technician);
     }
 
     @Transactional(readOnly = true)
     public List<Technician> getAvailableTechniciansForService(ServiceType serviceType) {
+        if (shardRouter.isSharded()) {
+            return underMaxWorkload(technicianRepository.findAvailableTechniciansForService(
+                TechnicianStatus.ACTIVE, serviceType, Long.MAX_VALUE));
+        }
         return technicianRepository.findAvailableTechniciansForService(
             TechnicianStatus.ACTIVE, serviceType, DEFAULT_MAX_WORKLOAD);
     }
 
     @Transactional(readOnly = true)
     public List<Technician> getAvailableTechnicians() {
-        return technicianRepository.findAvailableTechnicians(
-            TechnicianStatus.ACTIVE, DEFAULT_MAX_WORKLOAD);
+        if (shardRouter.isSharded()) {
+            return underMaxWorkload(technicianRepository.findAvailableTechnicians(TechnicianStatus.ACTIVE, Long.MAX_VALUE));
+        }
+        return technicianRepository.findAvailableTechnicians(TechnicianStatus.ACTIVE, DEFAULT_MAX_WORKLOAD);
     }
 
     // === STATISTICS AND ANALYTICS ===
 
+    @SingleFlight("technician-statistics")
     @Transactional(readOnly = true)
     public Map<String, Object> getTechnicianStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
         stats.put("totalTechnicians", technicianRepository.count());
-        stats.put("activeTechnicians", technicianRepository.countByStatus(TechnicianStatus.ACTIVE));
-        stats.put("inactiveTechnicians", technicianRepository.countByStatus(TechnicianStatus.INACTIVE));
-        stats.put("inTrainingTechnicians", technicianRepository.countByStatus(TechnicianStatus.IN_TRAINING));
-        stats.put("onVacationTechnicians", technicianRepository.countByStatus(TechnicianStatus.ON_VACATION));
-        stats.put("terminatedTechnicians", technicianRepository.countByStatus(TechnicianStatus.TERMINATED));
+        stats.put("activeTechnicians", countTechniciansByStatus(TechnicianStatus.ACTIVE));
+        stats.put("inactiveTechnicians", countTechniciansByStatus(TechnicianStatus.INACTIVE));
+        stats.put("inTrainingTechnicians", countTechniciansByStatus(TechnicianStatus.IN_TRAINING));
+        stats.put("onVacationTechnicians", countTechniciansByStatus(TechnicianStatus.ON_VACATION));
+        stats.put("terminatedTechnicians", countTechniciansByStatus(TechnicianStatus.TERMINATED));
         
-        stats.put("availableTechnicians", technicianRepository.countAvailableTechnicians(
-            TechnicianStatus.ACTIVE, DEFAULT_MAX_WORKLOAD));
+        stats.put("availableTechnicians", shardRouter.isSharded()
+            ? (long) getAvailableTechnicians().size()
+            : technicianRepository.countAvailableTechnicians(TechnicianStatus.ACTIVE, DEFAULT_MAX_WORKLOAD));
             
         return stats;
     }
@@ -317,7 +396,7 @@ public class TechnicianService {
         Map<TechnicianStatus, Long> distribution = new HashMap<>();
         
         for (TechnicianStatus status : TechnicianStatus.values()) {
-            distribution.put(status, technicianRepository.countByStatus(status));
+            distribution.put(status, countTechniciansByStatus(status));
         }
         
         return distribution;
@@ -341,7 +420,7 @@ public class TechnicianService {
         if (email == null || email.trim().isEmpty()) {
             return false;
         }
-        return !technicianRepository.existsByEmail(email.trim().toLowerCase());
+        return !emailExists(email.trim().toLowerCase());
     }
 
     @Transactional(readOnly = true)
@@ -354,6 +433,77 @@ public class TechnicianService {
 
     // === PRIVATE HELPER METHODS ===
 
+    /**
+     * Once the change commits: copies the technician to the other shards, and drops
+     * the write paths' cached status of it and the appointment rollups built over
+     * the technician roster.
+     */
+    private void technicianChanged(Long technicianId) {
+        replicator.replicateAfterCommit(technicianId);
+        TransactionCallbacks.afterCommit(() -> {
+            validationCache.invalidateTechnician(technicianId);
+            rollupCache.invalidate();
+        });
+    }
+
+    private long countTechniciansByStatus(TechnicianStatus status) {
+        return technicianRepository.countByStatus(status);
+    }
+
+    private boolean emailExists(String email) {
+        return technicianRepository.existsByEmail(email);
+    }
+
+    /**
+     * Open tickets assigned to the technician, on every shard when sharded.
+     */
+    private long currentLoad(Technician technician) {
+        if (!shardRouter.isSharded()) {
+            return technician.getCurrentLoad();
+        }
+        return ticketCount(ticketCountsAcrossShards(List.of(technician.getId())), technician.getId(), OPEN_TICKETS);
+    }
+
+    /**
+     * Assigned and open ticket counts per technician, summed over the shards,
+     * since tickets on any shard may reference any technician.
+     */
+    private Map<Long, long[]> ticketCountsAcrossShards(Collection<Long> technicianIds) {
+        Map<Long, long[]> counts = new HashMap<>();
+        if (technicianIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : shardRouter.collect(() -> technicianRepository.countTicketsByTechnician(technicianIds))) {
+            long[] technicianCounts = counts.computeIfAbsent(((Number) row[0]).longValue(), id -> new long[2]);
+            technicianCounts[ASSIGNED_TICKETS] += ((Number) row[1]).longValue();
+            technicianCounts[OPEN_TICKETS] += ((Number) row[2]).longValue();
+        }
+        return counts;
+    }
+
+    private static long ticketCount(Map<Long, long[]> ticketCounts, Long technicianId, int index) {
+        long[] technicianCounts = ticketCounts.get(technicianId);
+        return technicianCounts != null ? technicianCounts[index] : 0L;
+    }
+
+    private List<Technician> underMaxWorkload(List<Technician> technicians) {
+        Map<Long, long[]> ticketCounts = ticketCountsAcrossShards(
+            technicians.stream().map(Technician::getId).collect(Collectors.toList()));
+        return technicians.stream()
+            .filter(technician -> ticketCount(ticketCounts, technician.getId(), ASSIGNED_TICKETS) < DEFAULT_MAX_WORKLOAD)
+            .collect(Collectors.toList());
+    }
+
+    private Page<TechnicianListing> withShardWorkloads(Page<TechnicianListing> listings) {
+        if (!shardRouter.isSharded() || listings.isEmpty()) {
+            return listings;
+        }
+        Map<Long, long[]> ticketCounts = ticketCountsAcrossShards(
+            listings.stream().map(TechnicianListing::getId).collect(Collectors.toList()));
+        return listings.map(listing ->
+            new ShardedListing(listing, ticketCount(ticketCounts, listing.getId(), OPEN_TICKETS)));
+    }
+
     private void validateRequiredFields(String fullName, String email) {
         if (fullName == null || fullName.trim().isEmpty()) {
             throw new IllegalArgumentException("Full name is required");
@@ -407,4 +557,48 @@ public class TechnicianService {
             technicianSkillRepository.save(skill);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Listing row whose open ticket count was summed across shards.
+     */
+    private static final class ShardedListing implements TechnicianListing {
+
+        private final TechnicianListing listing;
+        private final long currentLoad;
+
+        ShardedListing(TechnicianListing listing, long currentLoad) {
+            this.listing = listing;
+            this.currentLoad = currentLoad;
+        }
+
+        @Override
+        public Long getId() {
+            return listing.getId();
+        }
+
+        @Override
+        public String getFullName() {
+            return listing.getFullName();
+        }
+
+        @Override
+        public String getEmail() {
+            return listing.getEmail();
+        }
+
+        @Override
+        public TechnicianStatus getStatus() {
+            return listing.getStatus();
+        }
+
+        @Override
+        public long getSkillMask() {
+            return listing.getSkillMask();
+        }
+
+        @Override
+        public long getCurrentLoad() {
+            return currentLoad;
+        }
+    }
+}
@@ -28,12 +28,15 @@ public class TechnicianSkillService {
 
     private final TechnicianSkillRepository technicianSkillRepository;
     private final TechnicianRepository technicianRepository;
+    private final TechnicianReplicator replicator;
 
     @Autowired
     public TechnicianSkillService(TechnicianSkillRepository technicianSkillRepository,
-                                 TechnicianRepository technicianRepository) {
+                                 TechnicianRepository technicianRepository,
+                                 TechnicianReplicator replicator) {
         this.technicianSkillRepository = technicianSkillRepository;
         this.technicianRepository = technicianRepository;
+        this.replicator = replicator;
     }
 
     // === CORE CRUD OPERATIONS ===
@@ -57,7 +60,9 @@ public class TechnicianSkillService {
         skill.setTechnician(technician);
         skill.setServiceType(serviceType);
 
-        return technicianSkillRepository.save(skill);
+        TechnicianSkill saved = technicianSkillRepository.save(skill);
+        replicator.replicateAfterCommit(technicianId);
+        return saved;
     }
 
     /**
@@ -71,6 +76,7 @@ public class TechnicianSkillService {
                 " does not have skill: " + serviceType));
 
         technicianSkillRepository.delete(skill);
+        replicator.replicateAfterCommit(technicianId);
     }
 
     /**
@@ -98,6 +104,14 @@ public class TechnicianSkillService {
         return technicianSkillRepository.findAll(pageable);
     }
 
+    /**
+     * Retrieves skill rows joined with their technician's details for list responses.
+     */
+    @Transactional(readOnly = true)
+    public Page<SkillListing> findSkillListings(Pageable pageable) {
+        return technicianSkillRepository.findListings(pageable);
+    }
+
     // === TECHNICIAN-BASED OPERATIONS ===
 
     /**
@@ -109,6 +123,17 @@ public class TechnicianSkillService {
         return technicianSkillRepository.findByTechnician(technician, pageable);
     }
 
+    /**
+     * Retrieves skill rows of a specific technician for list responses.
+     */
+    @Transactional(readOnly = true)
+    public Page<SkillListing> findSkillListingsByTechnician(Long technicianId, Pageable pageable) {
+        if (!technicianRepository.existsById(technicianId)) {
+            throw new IllegalArgumentException("Technician not found with ID: " + technicianId);
+        }
+        return technicianSkillRepository.findListingsByTechnicianId(technicianId, pageable);
+    }
+
     /**
      * Gets all service types that a technician is qualified for.
      */
@@ -155,6 +180,15 @@ public class TechnicianSkillService {
         return technicianSkillRepository.findTechniciansWithSkill(serviceType, pageable);
     }
 
+    /**
+     * Finds technician rows qualified for a specific service type, with their
+     * skills and workload, for list responses.
+     */
+    @Transactional(readOnly = true)
+    public Page<TechnicianListing> findTechnicianListingsByServiceType(ServiceType serviceType, Pageable pageable) {
+        return technicianRepository.findListingsByServiceType(serviceType, pageable);
+    }
+
     /**
      * Counts technicians qualified for a specific service type.
      */
@@ -390,6 +424,7 @@ public class TechnicianSkillService {
     public void removeAllSkills(Long technicianId) {
         Technician technician = getTechnicianById(technicianId);
         technicianSkillRepository.deleteByTechnician(technician);
+        replicator.replicateAfterCommit(technicianId);
     }
 
     // === VALIDATION METHODS ===
@@ -2,6 +2,8 @@ package com.localtechsupport.service;
 
 import com.localtechsupport.dto.request.CreateHistoryRequest;
 import com.localtechsupport.entity.*;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.TicketHistoryAdded;
 import com.localtechsupport.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -31,12 +33,18 @@ public class TicketHistoryService {
 
     private final TicketHistoryRepository ticketHistoryRepository;
     private final TicketRepository ticketRepository;
+    private final ShardRouter shardRouter;
+    private final DomainEventBus eventBus;
 
     @Autowired
     public TicketHistoryService(TicketHistoryRepository ticketHistoryRepository,
-                               TicketRepository ticketRepository) {
+                               TicketRepository ticketRepository,
+                               ShardRouter shardRouter,
+                               DomainEventBus eventBus) {
         this.ticketHistoryRepository = ticketHistoryRepository;
         this.ticketRepository = ticketRepository;
+        this.shardRouter = shardRouter;
+        this.eventBus = eventBus;
     }
 
     // === CORE CRUD OPERATIONS ===
@@ -46,8 +54,7 @@ public class TicketHistoryService {
      */
     public TicketHistory createHistoryEntry(CreateHistoryRequest request) {
         // Validate ticket exists
-        Ticket ticket = ticketRepository.findById(request.getTicketId())
-            .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + request.getTicketId()));
+        Ticket ticket = getTicketById(request.getTicketId());
 
         // Validate input
         validateHistoryRequest(request);
@@ -59,7 +66,9 @@ public class TicketHistoryService {
         history.setDescription(sanitizeDescription(request.getDescription()));
         history.setCreatedBy(request.getCreatedBy().trim());
 
-        return ticketHistoryRepository.save(history);
+        TicketHistory savedHistory = ticketHistoryRepository.save(history);
+        eventBus.publish(new TicketHistoryAdded(ticket.getId()));
+        return savedHistory;
     }
 
     /**
@@ -67,6 +76,7 @@ public class TicketHistoryService {
      */
     @Transactional(readOnly = true)
     public Optional<TicketHistory> findById(Long historyId) {
+        shardRouter.routeById(historyId);
         return ticketHistoryRepository.findById(historyId);
     }
 
@@ -75,6 +85,7 @@ public class TicketHistoryService {
      */
     @Transactional(readOnly = true)
     public TicketHistory getHistoryById(Long historyId) {
+        shardRouter.routeById(historyId);
         return ticketHistoryRepository.findById(historyId)
             .orElseThrow(() -> new IllegalArgumentException("History entry not found with ID: " + historyId));
     }
@@ -84,7 +95,7 @@ public class TicketHistoryService {
      */
     @Transactional(readOnly = true)
     public Page<TicketHistory> findAllHistory(Pageable pageable) {
-        return ticketHistoryRepository.findAll(pageable);
+        return shardRouter.collectPage(ticketHistoryRepository::findAll, pageable);
     }
 
     // === TICKET-BASED OPERATIONS ===
@@ -132,7 +143,7 @@ public class TicketHistoryService {
      */
     @Transactional(readOnly = true)
     public Page<TicketHistory> findHistoryByStatus(TicketStatus status, Pageable pageable) {
-        return ticketHistoryRepository.findByStatus(status, pageable);
+        return shardRouter.collectPage(page -> ticketHistoryRepository.findByStatus(status, page), pageable);
     }
 
     /**
@@ -143,7 +154,8 @@ public class TicketHistoryService {
         if (createdBy == null || createdBy.trim().isEmpty()) {
             throw new IllegalArgumentException("Created by cannot be null or empty");
         }
-        return ticketHistoryRepository.findByCreatedBy(createdBy.trim(), pageable);
+        String creator = createdBy.trim();
+        return shardRouter.collectPage(page -> ticketHistoryRepository.findByCreatedBy(creator, page), pageable);
     }
 
     /**
@@ -157,7 +169,8 @@ public class TicketHistoryService {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date");
         }
-        return ticketHistoryRepository.findByCreatedAtBetween(startDate, endDate, pageable);
+        return shardRouter.collectPage(
+            page -> ticketHistoryRepository.findByCreatedAtBetween(startDate, endDate, page), pageable);
     }
 
     /**
@@ -168,7 +181,8 @@ public class TicketHistoryService {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             throw new IllegalArgumentException("Search term cannot be null or empty");
         }
-        return ticketHistoryRepository.searchByDescription(searchTerm.trim(), pageable);
+        String term = searchTerm.trim();
+        return shardRouter.collectPage(page -> ticketHistoryRepository.searchByDescription(term, page), pageable);
     }
 
     /**
@@ -177,7 +191,7 @@ public class TicketHistoryService {
     @Transactional(readOnly = true)
     public Page<TicketHistory> findRecentChanges(int hoursBack, Pageable pageable) {
         Instant cutoffTime = Instant.now().minus(hoursBack, ChronoUnit.HOURS);
-        return ticketHistoryRepository.findRecentChanges(cutoffTime, pageable);
+        return shardRouter.collectPage(page -> ticketHistoryRepository.findRecentChanges(cutoffTime, page), pageable);
     }
 
     /**
@@ -189,7 +203,9 @@ public class TicketHistoryService {
             throw new IllegalArgumentException("Created by cannot be null or empty");
         }
         Instant cutoffTime = Instant.now().minus(hoursBack, ChronoUnit.HOURS);
-        return ticketHistoryRepository.findUserActivity(createdBy.trim(), cutoffTime, pageable);
+        String creator = createdBy.trim();
+        return shardRouter.collectPage(
+            page -> ticketHistoryRepository.findUserActivity(creator, cutoffTime, page), pageable);
     }
 
     // === ANALYTICS AND STATISTICS ===
@@ -366,7 +382,7 @@ public class TicketHistoryService {
      */
     @Transactional(readOnly = true)
     public long countHistoryByStatus(TicketStatus status) {
-        return ticketHistoryRepository.countByStatus(status);
+        return shardRouter.sum(() -> ticketHistoryRepository.countByStatus(status));
     }
 
     /**
@@ -377,7 +393,8 @@ public class TicketHistoryService {
         if (createdBy == null || createdBy.trim().isEmpty()) {
             throw new IllegalArgumentException("Created by cannot be null or empty");
         }
-        return ticketHistoryRepository.countByCreatedBy(createdBy.trim());
+        String creator = createdBy.trim();
+        return shardRouter.sum(() -> ticketHistoryRepository.countByCreatedBy(creator));
     }
 
     /**
@@ -386,7 +403,7 @@ public class TicketHistoryService {
     @Transactional(readOnly = true)
     public long countRecentHistory(int hoursBack) {
         Instant cutoffTime = Instant.now().minus(hoursBack, ChronoUnit.HOURS);
-        return ticketHistoryRepository.countByCreatedAtAfter(cutoffTime);
+        return shardRouter.sum(() -> ticketHistoryRepository.countByCreatedAtAfter(cutoffTime));
     }
 
     // === PRIVATE HELPER METHODS ===
@@ -411,6 +428,7 @@ public class TicketHistoryService {
     }
 
     private Ticket getTicketById(Long ticketId) {
+        shardRouter.routeById(ticketId);
         return ticketRepository.findById(ticketId)
             .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
     }
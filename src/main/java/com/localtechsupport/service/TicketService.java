@@ -1,17 +1,24 @@
 package com.localtechsupport.service;
 
+import com.localtechsupport.config.RetryOnConflict;
+import com.localtechsupport.config.SingleFlight;
 import com.localtechsupport.entity.*;
+import com.localtechsupport.event.*;
 import com.localtechsupport.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Service layer for Ticket management operations.
@@ -23,25 +30,62 @@ import java.util.Optional;
  * - Search and filtering operations
  * - Overdue ticket monitoring
  * - Assignment optimization
+ *
+ * Creation, assignment and closing run their writes in a transaction of their
+ * own, started only after input and cached reference checks have passed, so a
+ * connection is held just for the loads and writes themselves.
+ *
+ * Concurrent changes of one ticket are serialized by its version column: the
+ * losing transaction fails and {@link RetryOnConflict} methods run again on the
+ * current state. With {@code app.ticket-locking.mode=PESSIMISTIC} the ticket row
+ * is locked when it is loaded instead, so writers queue rather than retry.
  */
 @Service
-@Transactional
 public class TicketService {
 
+    /**
+     * How ticket mutations guard against concurrent writers.
+     */
+    public enum LockMode {
+        OPTIMISTIC,
+        PESSIMISTIC
+    }
+
     private final TicketRepository ticketRepository;
     private final ClientRepository clientRepository;
     private final TechnicianRepository technicianRepository;
     private final TicketHistoryRepository ticketHistoryRepository;
+    private final TechnicianFeedbackAggregator technicianFeedbackAggregator;
+    private final FeedbackRatingHistograms feedbackRatingHistograms;
+    private final ShardRouter shardRouter;
+    private final WriteValidationCache validationCache;
+    private final TransactionOperations transactionOperations;
+    private final DomainEventBus eventBus;
+    private final LockMode lockMode;
 
     @Autowired
     public TicketService(TicketRepository ticketRepository,
                         ClientRepository clientRepository,
                         TechnicianRepository technicianRepository,
-                        TicketHistoryRepository ticketHistoryRepository) {
+                        TicketHistoryRepository ticketHistoryRepository,
+                        TechnicianFeedbackAggregator technicianFeedbackAggregator,
+                        FeedbackRatingHistograms feedbackRatingHistograms,
+                        ShardRouter shardRouter,
+                        WriteValidationCache validationCache,
+                        TransactionOperations transactionOperations,
+                        DomainEventBus eventBus,
+                        @Value("${app.ticket-locking.mode:OPTIMISTIC}") LockMode lockMode) {
         this.ticketRepository = ticketRepository;
         this.clientRepository = clientRepository;
         this.technicianRepository = technicianRepository;
         this.ticketHistoryRepository = ticketHistoryRepository;
+        this.technicianFeedbackAggregator = technicianFeedbackAggregator;
+        this.feedbackRatingHistograms = feedbackRatingHistograms;
+        this.shardRouter = shardRouter;
+        this.validationCache = validationCache;
+        this.transactionOperations = transactionOperations;
+        this.eventBus = eventBus;
+        this.lockMode = lockMode != null ? lockMode : LockMode.OPTIMISTIC;
     }
 
     /**
@@ -55,34 +99,53 @@ public class TicketService {
      * Creates a new support ticket with an optional priority.
      */
     public Ticket createTicket(Long clientId, ServiceType serviceType, String description, TicketPriority priority) {
-        // Validate client exists and is active
-        Client client = clientRepository.findById(clientId)
-            .orElseThrow(() -> new IllegalArgumentException("Client not found with ID: " + clientId));
-        
-        if (client.getStatus() != Client.ClientStatus.ACTIVE) {
-            throw new IllegalStateException("Cannot create ticket for inactive client: " + client.getEmail());
+        // Reject clients already known to be missing or inactive without taking a connection
+        WriteValidationCache.Reference cachedClient = validationCache.getClient(clientId);
+        if (cachedClient != null && !cachedClient.exists()) {
+            throw clientNotFound(clientId);
+        }
+        if (cachedClient != null && !cachedClient.isActive()) {
+            throw inactiveClient(cachedClient.getEmail());
         }
 
         // Calculate due date (default: 24 hours for hardware, 48 hours for software)
         int hoursToAdd = (serviceType == ServiceType.HARDWARE) ? 24 : 48;
         Instant dueDate = Instant.now().plus(hoursToAdd, ChronoUnit.HOURS);
 
-        // Create and save ticket
-        Ticket ticket = new Ticket(client, serviceType, description, dueDate);
-        // Set priority, defaulting to NORMAL if not provided
-        ticket.setPriority(priority != null ? priority : TicketPriority.NORMAL);
-        Ticket savedTicket = ticketRepository.save(ticket);
-        
-        // Create initial history entry
-        createHistoryEntry(savedTicket, TicketStatus.OPEN, "Ticket created", "SYSTEM");
-        
-        return savedTicket;
+        long loadGeneration = validationCache.generation();
+        return transactionOperations.execute(status -> {
+            // Tickets live on their client's shard
+            shardRouter.routeById(clientId);
+
+            // Validate client exists and is active
+            Client client = clientRepository.findById(clientId).orElse(null);
+            validationCache.rememberClient(clientId, client, loadGeneration);
+            if (client == null) {
+                throw clientNotFound(clientId);
+            }
+            if (client.getStatus() != Client.ClientStatus.ACTIVE) {
+                throw inactiveClient(client.getEmail());
+            }
+
+            // Create and save ticket
+            Ticket ticket = new Ticket(client, serviceType, description, dueDate);
+            // Set priority, defaulting to NORMAL if not provided
+            ticket.setPriority(priority != null ? priority : TicketPriority.NORMAL);
+            Ticket savedTicket = ticketRepository.save(ticket);
+
+            // Create initial history entry
+            createHistoryEntry(savedTicket, TicketStatus.OPEN, "Ticket created", "SYSTEM");
+            eventBus.publish(new TicketCreated(ticket));
+
+            return savedTicket;
+        });
     }
 
     /**
      * Deletes a ticket by ID with proper validation.
      * Business rule: Only allow deletion of closed tickets to preserve audit trail.
      */
+    @Transactional
     public void deleteTicket(Long ticketId) {
         Ticket ticket = getTicketById(ticketId);
         
@@ -93,46 +156,72 @@ public class TicketService {
 
         // Delete the ticket (cascade will handle related entities)
         ticketRepository.deleteById(ticketId);
+        moveFeedbackRatings(ticket, assignedTechnicianId(ticket), null);
+        if (ticket.getFeedbackEntries() != null) {
+            ticket.getFeedbackEntries().forEach(feedback ->
+                feedbackRatingHistograms.removeRating(feedback.getSubmittedAt(), feedback.getRating()));
+        }
+        eventBus.publish(new TicketDeleted(ticket));
     }
 
     /**
      * Assigns a technician to a ticket with validation and history tracking.
      */
+    @RetryOnConflict
     public Ticket assignTechnician(Long ticketId, Long technicianId) {
-        Ticket ticket = getTicketById(ticketId);
-        
-        if (ticket.getStatus() != TicketStatus.OPEN) {
-            throw new IllegalStateException("Cannot assign technician to closed ticket");
-        }
-
-        Technician technician = technicianRepository.findById(technicianId)
-            .orElseThrow(() -> new IllegalArgumentException("Technician not found with ID: " + technicianId));
-        
-        if (technician.getStatus() != TechnicianStatus.ACTIVE) {
-            throw new IllegalStateException("Cannot assign inactive technician: " + technician.getEmail());
+        // Reject technicians already known to be missing or inactive without taking a connection
+        WriteValidationCache.Reference cachedTechnician = validationCache.getTechnician(technicianId);
+        if (cachedTechnician != null && !cachedTechnician.exists()) {
+            throw technicianNotFound(technicianId);
         }
-
-        // Validate technician can handle this service type (basic validation)
-        if (!canTechnicianHandleServiceType(technician, ticket.getServiceType())) {
-            throw new IllegalStateException("Technician does not have skills for " + ticket.getServiceType() + " tickets");
+        if (cachedTechnician != null && !cachedTechnician.isActive()) {
+            throw inactiveTechnician(cachedTechnician.getEmail());
         }
 
-        // Assign technician
-        ticket.setAssignedTechnician(technician);
-        Ticket savedTicket = ticketRepository.save(ticket);
-        
-        // Create history entry
-        createHistoryEntry(savedTicket, TicketStatus.OPEN, 
-            "Assigned to technician: " + technician.getFullName(), "SYSTEM");
-        
-        return savedTicket;
+        long loadGeneration = validationCache.generation();
+        return transactionOperations.execute(status -> {
+            Ticket ticket = loadForUpdate(ticketId);
+
+            if (ticket.getStatus() != TicketStatus.OPEN) {
+                throw new IllegalStateException("Cannot assign technician to closed ticket");
+            }
+
+            Technician technician = technicianRepository.findById(technicianId).orElse(null);
+            validationCache.rememberTechnician(technicianId, technician, loadGeneration);
+            if (technician == null) {
+                throw technicianNotFound(technicianId);
+            }
+            if (technician.getStatus() != TechnicianStatus.ACTIVE) {
+                throw inactiveTechnician(technician.getEmail());
+            }
+
+            // Validate technician can handle this service type (basic validation)
+            if (!canTechnicianHandleServiceType(technician, ticket.getServiceType())) {
+                throw new IllegalStateException("Technician does not have skills for " + ticket.getServiceType() + " tickets");
+            }
+
+            // Assign technician
+            Long previousTechnicianId = assignedTechnicianId(ticket);
+            ticket.setAssignedTechnician(technician);
+            Ticket savedTicket = ticketRepository.save(ticket);
+            moveFeedbackRatings(ticket, previousTechnicianId, technician.getId());
+
+            // Create history entry
+            createHistoryEntry(savedTicket, TicketStatus.OPEN,
+                "Assigned to technician: " + technician.getFullName(), "SYSTEM");
+            eventBus.publish(new TicketAssigned(ticket, previousTechnicianId));
+
+            return savedTicket;
+        });
     }
 
     /**
      * Updates ticket status with validation and history tracking.
      */
+    @RetryOnConflict
+    @Transactional
     public Ticket updateStatus(Long ticketId, TicketStatus newStatus, String reason, String updatedBy) {
-        Ticket ticket = getTicketById(ticketId);
+        Ticket ticket = loadForUpdate(ticketId);
         
         if (!isValidStatusTransition(ticket.getStatus(), newStatus)) {
             throw new IllegalStateException("Invalid status transition from " + ticket.getStatus() + " to " + newStatus);
@@ -149,6 +238,11 @@ public class TicketService {
         }
         
         createHistoryEntry(savedTicket, newStatus, historyDescription, updatedBy);
+        if (newStatus != oldStatus) {
+            eventBus.publish(newStatus == TicketStatus.CLOSED ? new TicketClosed(ticket) : new TicketReopened(ticket));
+        } else {
+            eventBus.publish(new TicketHistoryAdded(ticketId));
+        }
         
         return savedTicket;
     }
@@ -156,40 +250,47 @@ public class TicketService {
     /**
      * Closes a ticket with resolution details.
      */
+    @RetryOnConflict
     public Ticket closeTicket(Long ticketId, String resolutionNotes, String closedBy) {
-        Ticket ticket = getTicketById(ticketId);
-        
-        if (ticket.getStatus() != TicketStatus.OPEN) {
-            throw new IllegalStateException("Cannot close ticket that is not open");
-        }
+        // History entry with resolution
+        String historyDescription = resolutionNotes != null && !resolutionNotes.trim().isEmpty()
+            ? "Ticket closed - Resolution: " + resolutionNotes
+            : "Ticket closed";
 
-        ticket.setStatus(TicketStatus.CLOSED);
-        Ticket savedTicket = ticketRepository.save(ticket);
-        
-        // Create history entry with resolution
-        String historyDescription = "Ticket closed";
-        if (resolutionNotes != null && !resolutionNotes.trim().isEmpty()) {
-            historyDescription += " - Resolution: " + resolutionNotes;
-        }
-        
-        createHistoryEntry(savedTicket, TicketStatus.CLOSED, historyDescription, closedBy);
-        
-        return savedTicket;
+        return transactionOperations.execute(status -> {
+            Ticket ticket = loadForUpdate(ticketId);
+
+            if (ticket.getStatus() != TicketStatus.OPEN) {
+                throw new IllegalStateException("Cannot close ticket that is not open");
+            }
+
+            ticket.setStatus(TicketStatus.CLOSED);
+            Ticket savedTicket = ticketRepository.save(ticket);
+
+            createHistoryEntry(savedTicket, TicketStatus.CLOSED, historyDescription, closedBy);
+            eventBus.publish(new TicketClosed(ticket));
+
+            return savedTicket;
+        });
     }
 
     /**
      * Removes technician assignment from a ticket.
      */
+    @RetryOnConflict
+    @Transactional
     public Ticket unassignTechnician(Long ticketId, String reason, String updatedBy) {
-        Ticket ticket = getTicketById(ticketId);
+        Ticket ticket = loadForUpdate(ticketId);
         
         if (ticket.getAssignedTechnician() == null) {
             throw new IllegalStateException("Ticket is not currently assigned to any technician");
         }
 
         String technicianName = ticket.getAssignedTechnician().getFullName();
+        Long previousTechnicianId = assignedTechnicianId(ticket);
         ticket.setAssignedTechnician(null);
         Ticket savedTicket = ticketRepository.save(ticket);
+        moveFeedbackRatings(ticket, previousTechnicianId, null);
         
         // Create history entry
         String historyDescription = "Unassigned from technician: " + technicianName;
@@ -198,6 +299,7 @@ public class TicketService {
         }
         
         createHistoryEntry(savedTicket, ticket.getStatus(), historyDescription, updatedBy);
+        eventBus.publish(new TicketUnassigned(ticket, previousTechnicianId));
         
         return savedTicket;
     }
@@ -206,27 +308,30 @@ public class TicketService {
 
     @Transactional(readOnly = true)
     public Optional<Ticket> findById(Long ticketId) {
+        shardRouter.routeById(ticketId);
         return ticketRepository.findById(ticketId);
     }
 
     @Transactional(readOnly = true)
     public Ticket getTicketById(Long ticketId) {
+        shardRouter.routeById(ticketId);
         return ticketRepository.findById(ticketId)
             .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
     }
 
     @Transactional(readOnly = true)
     public Page<Ticket> findAllTickets(Pageable pageable) {
-        return ticketRepository.findAll(pageable);
+        return shardRouter.collectPage(ticketRepository::findAll, pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<Ticket> findTicketsByStatus(TicketStatus status, Pageable pageable) {
-        return ticketRepository.findByStatus(status, pageable);
+        return shardRouter.collectPage(page -> ticketRepository.findByStatus(status, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<Ticket> findTicketsByClient(Long clientId, Pageable pageable) {
+        shardRouter.routeById(clientId);
         Client client = clientRepository.findById(clientId)
             .orElseThrow(() -> new IllegalArgumentException("Client not found with ID: " + clientId));
         return ticketRepository.findByClient(client, pageable);
@@ -236,39 +341,45 @@ public class TicketService {
     public Page<Ticket> findTicketsByTechnician(Long technicianId, Pageable pageable) {
         Technician technician = technicianRepository.findById(technicianId)
             .orElseThrow(() -> new IllegalArgumentException("Technician not found with ID: " + technicianId));
-        return ticketRepository.findByAssignedTechnician(technician, pageable);
+        return shardRouter.collectPage(page -> ticketRepository.findByAssignedTechnician(technician, page), pageable);
     }
 
+    @SingleFlight("unassigned-tickets")
     @Transactional(readOnly = true)
     public Page<Ticket> findUnassignedTickets(Pageable pageable) {
-        return ticketRepository.findByAssignedTechnicianIsNullAndStatus(TicketStatus.OPEN, pageable);
+        return shardRouter.collectPage(
+            page -> ticketRepository.findByAssignedTechnicianIsNullAndStatus(TicketStatus.OPEN, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<Ticket> searchTickets(String searchTerm, Pageable pageable) {
-        return ticketRepository.searchTickets(searchTerm, pageable);
+        return shardRouter.collectPage(page -> ticketRepository.searchTickets(searchTerm, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public List<Ticket> findOverdueTickets() {
-        return ticketRepository.findOverdueTickets(Instant.now());
+        Instant now = Instant.now();
+        return shardRouter.collect(() -> ticketRepository.findOverdueTickets(now),
+            Comparator.comparing(Ticket::getDueAt));
     }
 
     @Transactional(readOnly = true)
     public List<Ticket> findTicketsDueSoon(int hoursThreshold) {
         Instant now = Instant.now();
         Instant threshold = now.plus(hoursThreshold, ChronoUnit.HOURS);
-        return ticketRepository.findTicketsDueSoon(now, threshold);
+        return shardRouter.collect(() -> ticketRepository.findTicketsDueSoon(now, threshold),
+            Comparator.comparing(Ticket::getDueAt));
     }
 
     @Transactional(readOnly = true)
     public Page<Ticket> findTicketsByServiceType(ServiceType serviceType, Pageable pageable) {
-        return ticketRepository.findByServiceType(serviceType, pageable);
+        return shardRouter.collectPage(page -> ticketRepository.findByServiceType(serviceType, page), pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<Ticket> findTicketsByStatusAndServiceType(TicketStatus status, ServiceType serviceType, Pageable pageable) {
-        return ticketRepository.findByStatusAndServiceType(status, serviceType, pageable);
+        return shardRouter.collectPage(
+            page -> ticketRepository.findByStatusAndServiceType(status, serviceType, page), pageable);
     }
 
     // === ASSIGNMENT OPTIMIZATION ===
@@ -298,36 +409,73 @@ public class TicketService {
         return availableTechnicians.stream()
             .filter(tech -> canTechnicianHandleServiceType(tech, serviceType))
             .min((t1, t2) -> {
-                long workload1 = ticketRepository.countByAssignedTechnicianAndStatus(t1, TicketStatus.OPEN);
-                long workload2 = ticketRepository.countByAssignedTechnicianAndStatus(t2, TicketStatus.OPEN);
+                long workload1 = shardRouter.sum(
+                    () -> ticketRepository.countByAssignedTechnicianAndStatus(t1, TicketStatus.OPEN));
+                long workload2 = shardRouter.sum(
+                    () -> ticketRepository.countByAssignedTechnicianAndStatus(t2, TicketStatus.OPEN));
                 return Long.compare(workload1, workload2);
             });
     }
 
     // === STATISTICS AND REPORTING ===
 
+    @SingleFlight("ticket-statistics")
     @Transactional(readOnly = true)
     public long countTicketsByStatus(TicketStatus status) {
-        return ticketRepository.countByStatus(status);
+        return shardRouter.sum(() -> ticketRepository.countByStatus(status));
     }
 
+    @SingleFlight("ticket-statistics")
     @Transactional(readOnly = true)
     public long countOverdueTickets() {
-        return ticketRepository.countOverdueTickets(Instant.now());
+        Instant now = Instant.now();
+        return shardRouter.sum(() -> ticketRepository.countOverdueTickets(now));
     }
 
+    @SingleFlight("ticket-statistics")
     @Transactional(readOnly = true)
     public long countUnassignedTickets() {
-        return ticketRepository.countByAssignedTechnicianIsNull();
+        return shardRouter.sum(ticketRepository::countByAssignedTechnicianIsNull);
     }
 
+    @SingleFlight("ticket-statistics")
     @Transactional(readOnly = true)
     public long countTicketsByServiceType(ServiceType serviceType) {
-        return ticketRepository.countByServiceType(serviceType);
+        return shardRouter.sum(() -> ticketRepository.countByServiceType(serviceType));
     }
 
     // === PRIVATE HELPER METHODS ===
 
+    private static IllegalArgumentException clientNotFound(Long clientId) {
+        return new IllegalArgumentException("Client not found with ID: " + clientId);
+    }
+
+    private static IllegalStateException inactiveClient(String email) {
+        return new IllegalStateException("Cannot create ticket for inactive client: " + email);
+    }
+
+    private static IllegalArgumentException technicianNotFound(Long technicianId) {
+        return new IllegalArgumentException("Technician not found with ID: " + technicianId);
+    }
+
+    private static IllegalStateException inactiveTechnician(String email) {
+        return new IllegalStateException("Cannot assign inactive technician: " + email);
+    }
+
+    /**
+     * Loads a ticket about to be changed. Its version is incremented on commit
+     * even if only history is added (re-assigning the same technician changes no
+     * column), so a concurrent change of the ticket always conflicts; in
+     * pessimistic mode the row is also locked until commit.
+     */
+    private Ticket loadForUpdate(Long ticketId) {
+        shardRouter.routeById(ticketId);
+        Optional<Ticket> ticket = lockMode == LockMode.PESSIMISTIC
+            ? ticketRepository.findByIdForLockedChange(ticketId)
+            : ticketRepository.findByIdForChange(ticketId);
+        return ticket.orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
+    }
+
     private void createHistoryEntry(Ticket ticket, TicketStatus status, String description, String createdBy) {
         TicketHistory history = new TicketHistory();
         history.setTicket(ticket);
@@ -339,6 +487,23 @@ public class TicketService {
 
     // intentionally empty for now; due date is derived during creation
 
+    /**
+     * Keeps per-technician feedback aggregates in step with ticket (re)assignment.
+     */
+    private void moveFeedbackRatings(Ticket ticket, Long fromTechnicianId, Long toTechnicianId) {
+        if (ticket.getFeedbackEntries() == null || ticket.getFeedbackEntries().isEmpty()) {
+            return;
+        }
+        List<Integer> ratings = ticket.getFeedbackEntries().stream()
+            .map(FeedbackEntry::getRating)
+            .collect(Collectors.toList());
+        technicianFeedbackAggregator.reassign(fromTechnicianId, toTechnicianId, ratings);
+    }
+
+    private Long assignedTechnicianId(Ticket ticket) {
+        return ticket.getAssignedTechnician() != null ? ticket.getAssignedTechnician().getId() : null;
+    }
+
     private boolean isValidStatusTransition(TicketStatus from, TicketStatus to) {
         // Simple validation: Can only go from OPEN to CLOSED or stay the same
         return from == to || (from == TicketStatus.OPEN && to == TicketStatus.CLOSED);
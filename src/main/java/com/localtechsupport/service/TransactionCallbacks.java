@@ -0,0 +1,56 @@
+package com.localtechsupport.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for deferring in-memory side effects until a transaction commits.
+ */
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or immediately when
+     * no transaction synchronization is active. Rolled-back work never runs it.
+     */
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Like {@link #afterCommit(Runnable)}, then runs the cleanup once the transaction
+     * completes, whether it committed or rolled back.
+     */
+    static void afterCommit(Runnable action, Runnable cleanup) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    cleanup.run();
+                }
+            });
+        } else {
+            try {
+                action.run();
+            } finally {
+                cleanup.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.Technician;
+import com.localtechsupport.entity.TechnicianStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Last known existence and status of clients and technicians, so the hot write
+ * paths can reject requests for unknown or inactive ones before opening a
+ * transaction.
+ *
+ * Entries are remembered by the write transactions that load them and only
+ * ever used to fail fast: the transaction re-checks the row it loads, so a
+ * stale "active" entry costs nothing. Client changes are dropped through domain
+ * events (see {@link DerivedDataEventListeners}), technician changes by
+ * {@link TechnicianService}; entries also expire after the TTL to pick up
+ * changes made elsewhere. Loads record the generation they started in; a load
+ * that overlaps an invalidation is not stored.
+ */
+@Component
+public class WriteValidationCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final Map<Long, Reference> clients = new ConcurrentHashMap<>();
+    private final Map<Long, Reference> technicians = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public WriteValidationCache(@Value("${app.write-validation.ttl:30s}") Duration ttl,
+                                @Value("${app.write-validation.max-entries:10000}") int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    WriteValidationCache(Duration ttl, int maxEntries, LongSupplier clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Write validation cache size must be at least 1");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    // === CLIENTS ===
+
+    /**
+     * The cached reference, or null when the client is not cached.
+     */
+    public Reference getClient(Long clientId) {
+        return get(clients, clientId);
+    }
+
+    /**
+     * Remembers the client as loaded by a transaction; null records that it does not exist.
+     */
+    public void rememberClient(Long clientId, Client client, long loadGeneration) {
+        Reference reference = client == null ? Reference.missing(expiresAt())
+            : new Reference(client.getStatus() == Client.ClientStatus.ACTIVE, client.getEmail(), null, expiresAt());
+        put(clients, clientId, reference, loadGeneration);
+    }
+
+    public void invalidateClient(Long clientId) {
+        generation.incrementAndGet();
+        clients.remove(clientId);
+    }
+
+    // === TECHNICIANS ===
+
+    /**
+     * The cached reference, or null when the technician is not cached.
+     */
+    public Reference getTechnician(Long technicianId) {
+        return get(technicians, technicianId);
+    }
+
+    /**
+     * Remembers the technician as loaded by a transaction; null records that it does not exist.
+     */
+    public void rememberTechnician(Long technicianId, Technician technician, long loadGeneration) {
+        Reference reference = technician == null ? Reference.missing(expiresAt())
+            : new Reference(technician.getStatus() == TechnicianStatus.ACTIVE, technician.getEmail(),
+                technician.getFullName(), expiresAt());
+        put(technicians, technicianId, reference, loadGeneration);
+    }
+
+    public void invalidateTechnician(Long technicianId) {
+        generation.incrementAndGet();
+        technicians.remove(technicianId);
+    }
+
+    /**
+     * Drops every cached reference.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        clients.clear();
+        technicians.clear();
+    }
+
+    public int size() {
+        return clients.size() + technicians.size();
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private Reference get(Map<Long, Reference> references, Long id) {
+        Reference reference = id != null ? references.get(id) : null;
+        if (reference == null) {
+            return null;
+        }
+        if (clock.getAsLong() - reference.expiresAt >= 0) {
+            references.remove(id, reference);
+            return null;
+        }
+        return reference;
+    }
+
+    private void put(Map<Long, Reference> references, Long id, Reference reference, long loadGeneration) {
+        if (id == null || generation.get() != loadGeneration) {
+            return;
+        }
+        if (references.size() >= maxEntries) {
+            references.clear();
+        }
+        references.put(id, reference);
+        if (generation.get() != loadGeneration) {
+            references.remove(id, reference);
+        }
+    }
+
+    private long expiresAt() {
+        return clock.getAsLong() + ttlNanos;
+    }
+
+    /**
+     * What a write path needs to know to reject a client or technician.
+     */
+    public static final class Reference {
+
+        private final boolean exists;
+        private final boolean active;
+        private final String email;
+        private final String name;
+        private final long expiresAt;
+
+        private Reference(boolean active, String email, String name, long expiresAt) {
+            this(true, active, email, name, expiresAt);
+        }
+
+        private Reference(boolean exists, boolean active, String email, String name, long expiresAt) {
+            this.exists = exists;
+            this.active = active;
+            this.email = email;
+            this.name = name;
+            this.expiresAt = expiresAt;
+        }
+
+        private static Reference missing(long expiresAt) {
+            return new Reference(false, false, null, null, expiresAt);
+        }
+
+        public boolean exists() {
+            return exists;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
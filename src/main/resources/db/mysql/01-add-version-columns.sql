@@ -0,0 +1,9 @@
+-- Optimistic locking version columns for existing MySQL schemas
+-- The production profile runs ddl-auto: validate, so apply this script once
+-- before deploying a build whose entities carry @Version columns.
+-- Existing rows start at version 0, matching rows inserted with plain SQL.
+
+ALTER TABLE tickets ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE clients ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE technicians ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE appointments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- Delta-sync change log for existing MySQL schemas
+-- The production profile runs ddl-auto: validate, so apply this script once
+-- before deploying a build that records changes for delta sync.
+-- Column types match what Hibernate generates for ChangeLogEntry on MySQL.
+
+CREATE TABLE change_log (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    entity_type ENUM ('APPOINTMENT', 'FEEDBACK', 'HISTORY', 'TICKET') NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation ENUM ('DELETE', 'UPSERT') NOT NULL,
+    changed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
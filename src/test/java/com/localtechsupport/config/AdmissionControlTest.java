@@ -0,0 +1,234 @@
+package com.localtechsupport.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.localtechsupport.config.AdmissionControl.Outcome;
+import com.localtechsupport.config.AdmissionControl.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Admission Control Tests")
+class AdmissionControlTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should shed bulk requests first while critical requests keep being admitted")
+    void shouldShedByPriority() {
+        // Given: a limit of 10, of which bulk requests may fill half
+        AdmissionProperties properties = properties(10);
+        properties.getRules().get(1).setRate(0);
+        AdmissionControl control = control(properties);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThat(control.tryAdmit("POST", "/api/tickets", "agent-" + i).isAdmitted()).isTrue();
+        }
+        AdmissionControl.Decision bulk = control.tryAdmit("POST", "/api/tickets", "agent-5");
+        for (int i = 0; i < 4; i++) {
+            assertThat(control.tryAdmit("GET", "/api/clients", null).isAdmitted()).isTrue();
+        }
+        AdmissionControl.Decision normal = control.tryAdmit("GET", "/api/clients", null);
+        AdmissionControl.Decision critical = control.tryAdmit("POST", "/api/tickets/7/close", "agent-0");
+
+        // Then
+        assertThat(bulk.getOutcome()).isEqualTo(Outcome.SHED);
+        assertThat(bulk.getPriority()).isEqualTo(Priority.BULK);
+        assertThat(normal.getOutcome()).isEqualTo(Outcome.SHED);
+        assertThat(critical.isAdmitted()).isTrue();
+        assertThat(control.getLimit().getInFlight()).isEqualTo(10);
+        assertThat(meterRegistry.get(AdmissionControl.METRIC_NAME)
+            .tags("priority", "bulk", "outcome", "shed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rate limit each client's writes but not its reads or critical writes")
+    void shouldRateLimitClientWrites() {
+        // Given: two writes per second per client
+        AdmissionProperties properties = properties(100);
+        properties.setClientRate(2);
+        properties.setClientBurst(2);
+        AdmissionControl control = control(properties);
+
+        // When
+        admitAndRelease(control, "PUT", "/api/clients/1", "agent-1");
+        admitAndRelease(control, "PUT", "/api/clients/1", "agent-1");
+        AdmissionControl.Decision limited = control.tryAdmit("PUT", "/api/clients/1", "agent-1");
+
+        // Then
+        assertThat(limited.getOutcome()).isEqualTo(Outcome.CLIENT_RATE_LIMITED);
+        assertThat(limited.getRetryAfterNanos()).isEqualTo(Duration.ofMillis(500).toNanos());
+        assertThat(control.tryAdmit("PUT", "/api/clients/1", "agent-2").isAdmitted()).isTrue();
+        assertThat(control.tryAdmit("GET", "/api/clients/1", "agent-1").isAdmitted()).isTrue();
+        assertThat(control.tryAdmit("POST", "/api/tickets/3/close", "agent-1").isAdmitted()).isTrue();
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(control.tryAdmit("PUT", "/api/clients/1", "agent-1").isAdmitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should rate limit an endpoint across clients and answer 429 with Retry-After")
+    void shouldRateLimitEndpoint() throws Exception {
+        // Given: ticket creation allows a burst of 3 at 1 per second
+        AdmissionControl control = control(properties(100));
+        AdmissionFilter filter = new AdmissionFilter(control, new ObjectMapper());
+        for (int i = 0; i < 3; i++) {
+            admitAndRelease(control, "POST", "/api/tickets", "agent-" + i);
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tickets");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("Endpoint rate limit exceeded");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(control.getLimit().getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cap tracked clients and make clients beyond the cap share one bucket")
+    void shouldCapTrackedClients() {
+        // Given: room for two clients, one write each
+        AdmissionProperties properties = properties(100);
+        properties.setClientRate(1);
+        properties.setClientBurst(1);
+        properties.setMaxTrackedClients(2);
+        AdmissionControl control = control(properties);
+        admitAndRelease(control, "PUT", "/api/clients/1", "10.0.0.1");
+        admitAndRelease(control, "PUT", "/api/clients/1", "10.0.0.2");
+
+        // When: a flood of new client keys while the tracked ones are still busy
+        admitAndRelease(control, "PUT", "/api/clients/1", "10.0.0.3");
+        AdmissionControl.Decision rotated = control.tryAdmit("PUT", "/api/clients/1", "10.0.0.4");
+
+        // Then: no new entries, and the newcomers are limited together
+        assertThat(control.getTrackedClientCount()).isEqualTo(2);
+        assertThat(rotated.getOutcome()).isEqualTo(Outcome.CLIENT_RATE_LIMITED);
+
+        // Once the tracked clients idle out, the next sweep makes room
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        admitAndRelease(control, "PUT", "/api/clients/1", "10.0.0.5");
+        assertThat(control.getTrackedClientCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should key clients on the remote address, not on a header the caller chooses")
+    void shouldIgnoreCallerSuppliedClientId() throws Exception {
+        // Given: one write per client
+        AdmissionProperties properties = properties(100);
+        properties.setClientRate(1);
+        properties.setClientBurst(1);
+        AdmissionFilter filter = new AdmissionFilter(control(properties), new ObjectMapper());
+
+        // When: the same address rotates its client header
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(write("agent-1"), first, new MockFilterChain());
+        filter.doFilter(write("agent-2"), second, new MockFilterChain());
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getContentAsString()).contains("Client rate limit exceeded");
+    }
+
+    @Test
+    @DisplayName("Should cut the limit on latency spikes and grow it back while busy")
+    void shouldAdaptLimitToLatency() {
+        // Given: requests that normally take 20ms
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(properties(20), clock::get);
+        long normal = Duration.ofMillis(20).toNanos();
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire(1.0);
+        }
+        for (int i = 0; i < 10; i++) {
+            limit.release(normal, true);
+            limit.tryAcquire(1.0);
+        }
+        int before = limit.getLimit();
+
+        // When: a burst of 200ms responses arrives within one average latency
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        for (int i = 0; i < 5; i++) {
+            limit.release(Duration.ofMillis(200).toNanos(), true);
+            limit.tryAcquire(1.0);
+        }
+        int afterSpike = limit.getLimit();
+
+        // Then: one multiplicative cut, then additive growth on healthy samples
+        assertThat(before).isGreaterThanOrEqualTo(20);
+        assertThat(afterSpike).isEqualTo((int) (before * 0.9));
+        for (int i = 0; i < 200; i++) {
+            limit.release(normal, true);
+            limit.tryAcquire(1.0);
+        }
+        assertThat(limit.getLimit()).isGreaterThan(afterSpike);
+        assertThat(limit.getAverageLatencyMillis()).isBetween(19.0, 25.0);
+    }
+
+    @Test
+    @DisplayName("Should allow a burst and then one request per interval")
+    void shouldRefillBucketAtRate() {
+        // Given
+        RateBucket bucket = new RateBucket(10, 3, 0);
+
+        // When / Then
+        assertThat(List.of(bucket.tryAcquire(0), bucket.tryAcquire(0), bucket.tryAcquire(0))).containsOnly(0L);
+        assertThat(bucket.tryAcquire(0)).isEqualTo(Duration.ofMillis(100).toNanos());
+        assertThat(bucket.tryAcquire(Duration.ofMillis(100).toNanos())).isZero();
+        assertThat(bucket.isIdle(Duration.ofMillis(400).toNanos())).isTrue();
+        assertThatThrownBy(() -> new RateBucket(0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdmissionControl control(AdmissionProperties properties) {
+        return new AdmissionControl(properties, meterRegistry, clock::get);
+    }
+
+    private static MockHttpServletRequest write(String clientHeader) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/clients/1");
+        request.setRemoteAddr("192.0.2.7");
+        request.addHeader("X-Client-Id", clientHeader);
+        return request;
+    }
+
+    private static void admitAndRelease(AdmissionControl control, String method, String path, String clientId) {
+        assertThat(control.tryAdmit(method, path, clientId).isAdmitted()).isTrue();
+        control.release(Duration.ofMillis(5).toNanos(), true);
+    }
+
+    private static AdmissionProperties properties(int limit) {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setInitialLimit(limit);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(1000);
+        properties.setClientRate(0);
+        properties.setRules(List.of(
+            rule("POST /api/tickets/{id}/close", Priority.CRITICAL, 0, 1),
+            rule("POST /api/tickets", Priority.BULK, 1, 3)));
+        return properties;
+    }
+
+    private static AdmissionProperties.Rule rule(String endpoint, Priority priority, double rate, int burst) {
+        AdmissionProperties.Rule rule = new AdmissionProperties.Rule();
+        rule.setEndpoint(endpoint);
+        rule.setPriority(priority);
+        rule.setRate(rate);
+        rule.setBurst(burst);
+        return rule;
+    }
+}
@@ -0,0 +1,76 @@
+package com.localtechsupport.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Concurrency Limit Filter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should hold a permit while the request runs and release it afterwards")
+    void shouldHoldPermitDuringRequest() throws Exception {
+        // Given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, Duration.ofMillis(10));
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, objectMapper);
+        AtomicInteger inFlight = new AtomicInteger();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request,
+                                   HttpServletResponse response) {
+                inFlight.set(limiter.getInFlight());
+            }
+        });
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/clients"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(inFlight.get()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getRejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject with 503 when no permit frees up in time")
+    void shouldRejectWhenLimitReached() throws Exception {
+        // Given
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, Duration.ofMillis(10));
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, objectMapper);
+        assertThat(limiter.tryAcquire()).isTrue();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tickets"), response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("\"path\":\"/api/tickets\"");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a limit below one")
+    void shouldRejectInvalidLimit() {
+        assertThatThrownBy(() -> new ConcurrencyLimiter(0, Duration.ofSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Concurrency limit must be at least 1");
+    }
+}
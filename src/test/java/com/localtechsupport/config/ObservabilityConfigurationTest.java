@@ -0,0 +1,128 @@
+package com.localtechsupport.config;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.service.ClientService;
+import com.localtechsupport.service.TicketService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:observability_test;DB_CLOSE_DELAY=-1",
+    "app.observability.slow-query-threshold=0ms",
+    "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Observability Configuration Tests")
+class ObservabilityConfigurationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Test
+    @DisplayName("Should time service methods by service, method and exception")
+    void shouldTimeServiceMethods() {
+        // When
+        clientService.countAllClients();
+        assertThatThrownBy(() -> ticketService.getTicketById(-1L)).isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+            .tags("service", "ClientService", "method", "countAllClients", "exception", "none")
+            .timer().count()).isPositive();
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+            .tags("service", "TicketService", "method", "getTicketById", "exception", "IllegalArgumentException")
+            .timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should collect Hibernate statistics without logging metrics for every session")
+    void shouldCollectHibernateStatisticsWithoutSessionLog() {
+        // When
+        clientService.countAllClients();
+
+        // Then
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getStatistics().isStatisticsEnabled()).isTrue();
+        assertThat(entityManagerFactory.getProperties()).containsEntry(AvailableSettings.LOG_SESSION_METRICS, false);
+    }
+
+    @Test
+    @DisplayName("Should count repository calls over the slow-query threshold")
+    void shouldCountSlowQueries() {
+        // When
+        ticketService.countTicketsByStatus(TicketStatus.OPEN);
+
+        // Then
+        assertThat(meterRegistry.get(SlowQueryLogAspect.METRIC_NAME)
+            .tags("repository", "TicketRepository", "method", "countByStatus")
+            .counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should describe bind parameters by shape without their values")
+    void shouldDescribeBindParameterShape() {
+        // When
+        String shape = SlowQueryLogAspect.describeArguments(new Object[] {
+            42L, "secret@example.com", List.of(1L, 2L), ServiceType.HARDWARE,
+            PageRequest.of(2, 20, Sort.by("createdAt")), null, new long[3]
+        });
+
+        // Then
+        assertThat(shape).isEqualTo("Long, String[len=18], List[size=2], ServiceType.HARDWARE, " +
+            "Pageable[page=2, size=20, sort=createdAt: ASC], null, long[3]");
+        assertThat(shape).doesNotContain("secret");
+    }
+
+    @Test
+    @DisplayName("Should expose service, repository, pool, Hibernate and endpoint metrics to Prometheus")
+    void shouldExposePrometheusMetrics() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/clients")).andExpect(status().isOk());
+
+        // When
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(scrape)
+            .contains("app_service_invocations_seconds_bucket")
+            .contains("spring_data_repository_invocations_seconds_bucket")
+            .contains("http_server_requests_seconds_bucket")
+            .contains("uri=\"/api/clients\"")
+            .contains("hikaricp_connections_active")
+            .contains("hibernate_statements_total")
+            .contains("hibernate_entities_loads_total")
+            .contains("app_repository_slow_queries_total");
+    }
+}
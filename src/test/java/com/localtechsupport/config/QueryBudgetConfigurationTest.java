@@ -0,0 +1,97 @@
+package com.localtechsupport.config;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.service.ClientService;
+import com.localtechsupport.service.TechnicianService;
+import com.localtechsupport.service.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the budgeted hot-path endpoints from application.yml in strict mode,
+ * so a change that adds statements to any of them fails the build.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query_budget_test;DB_CLOSE_DELAY=-1",
+    "app.query-budget.enabled=true",
+    "app.query-budget.strict=true",
+    "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@DisplayName("Query Budget Tests")
+class QueryBudgetConfigurationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TechnicianService technicianService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    private Long clientId;
+    private Long technicianId;
+    private Long ticketId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM ticket_history");
+        jdbcTemplate.execute("DELETE FROM tickets");
+        jdbcTemplate.execute("DELETE FROM technician_skills");
+        jdbcTemplate.execute("DELETE FROM technicians");
+        jdbcTemplate.execute("DELETE FROM clients");
+
+        for (int i = 0; i < 3; i++) {
+            technicianId = technicianService.createTechnician("Tech " + i, "tech" + i + "@example.com",
+                Set.of(ServiceType.HARDWARE, ServiceType.SOFTWARE), null).getId();
+        }
+        for (int i = 0; i < 4; i++) {
+            clientId = clientService.createClient("Client", "No" + i, "client" + i + "@example.com", null, null, null).getId();
+            for (int j = 0; j < 3; j++) {
+                ticketId = ticketService.createTicket(clientId, ServiceType.HARDWARE, "Issue " + j).getId();
+                ticketService.assignTechnician(ticketId, technicianId);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/api/clients", "/api/clients/{client}", "/api/clients/statistics",
+        "/api/tickets/{ticket}", "/api/tickets/statistics",
+        "/api/technicians", "/api/technicians/search?query=tech", "/api/technicians/available",
+        "/api/technicians/{technician}", "/api/technicians/{technician}/workload", "/api/technicians/statistics",
+        "/api/appointments", "/api/appointments/utilization?from=2026-01-05&to=2026-01-11",
+        "/api/history/ticket/{ticket}", "/api/skills", "/api/skills/service-type/HARDWARE/technicians"
+    })
+    @DisplayName("Should keep hot-path endpoints within their statement budgets")
+    void shouldStayWithinBudget(String path) throws Exception {
+        String uri = path.replace("{client}", clientId.toString())
+            .replace("{ticket}", ticketId.toString())
+            .replace("{technician}", technicianId.toString());
+
+        mockMvc.perform(get(uri))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(QueryBudgetFilter.QUERY_COUNT_HEADER))
+            .andExpect(header().exists(QueryBudgetFilter.QUERY_BUDGET_HEADER));
+    }
+}
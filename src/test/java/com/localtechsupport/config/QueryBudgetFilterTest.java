@@ -0,0 +1,110 @@
+package com.localtechsupport.config;
+
+import com.localtechsupport.exception.QueryBudgetExceededException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Query Budget Filter Tests")
+class QueryBudgetFilterTest {
+
+    private static final String TECHNICIANS = "select t1_0.id,t1_0.full_name from technicians t1_0";
+    private static final String SKILLS = "select s1_0.id from technician_skills s1_0 where s1_0.technician_id=?";
+
+    @Test
+    @DisplayName("Should report the statement count and flag repeated statement shapes")
+    void shouldReportCountAndRepeatedShapes() throws Exception {
+        // Given
+        QueryBudgetFilter filter = new QueryBudgetFilter(properties(false, 10));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request(), response, chainIssuing(TECHNICIANS, SKILLS, SKILLS, SKILLS, SKILLS));
+
+        // Then
+        assertThat(response.getHeader(QueryBudgetFilter.QUERY_COUNT_HEADER)).isEqualTo("5");
+        assertThat(response.getHeader(QueryBudgetFilter.QUERY_BUDGET_HEADER)).isEqualTo("10");
+        assertThat(response.getHeader(QueryBudgetFilter.N_PLUS_ONE_HEADER)).isEqualTo("4");
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+        assertThat(QueryCountContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should only log an exceeded budget when not strict")
+    void shouldLogExceededBudgetWhenLenient() throws Exception {
+        // Given
+        QueryBudgetFilter filter = new QueryBudgetFilter(properties(false, 2));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request(), response, chainIssuing(TECHNICIANS, SKILLS, SKILLS));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(QueryBudgetFilter.QUERY_COUNT_HEADER)).isEqualTo("3");
+        assertThat(response.getHeader(QueryBudgetFilter.N_PLUS_ONE_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fail an exceeded budget in strict mode")
+    void shouldFailExceededBudgetWhenStrict() {
+        // Given
+        QueryBudgetFilter filter = new QueryBudgetFilter(properties(true, 3));
+
+        // When / Then
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(),
+                chainIssuing(TECHNICIANS, SKILLS, SKILLS, SKILLS)))
+            .isInstanceOf(QueryBudgetExceededException.class)
+            .hasMessageStartingWith("GET /api/technicians issued 4 SQL statements, budget is 3; repeated statements: 3x ");
+        assertThat(QueryCountContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should group statements differing only in literals and IN-list length")
+    void shouldNormalizeStatementShapes() {
+        assertThat(QueryCountContext.shapeOf("select *  from tickets\n where id in (?, ?,?) and status='OPEN' and t1_0.x > 42"))
+            .isEqualTo("select * from tickets where id in (?...) and status=? and t1_0.x > ?");
+        assertThat(QueryCountContext.shapeOf("select * from tickets where id in (?,?)"))
+            .isEqualTo(QueryCountContext.shapeOf("select * from tickets where id in (?,?,?,?)"));
+    }
+
+    private static QueryBudgetProperties properties(boolean strict, int budget) {
+        QueryBudgetProperties.Budget technicians = new QueryBudgetProperties.Budget();
+        technicians.setEndpoint("GET /api/technicians");
+        technicians.setMaxStatements(budget);
+
+        QueryBudgetProperties properties = new QueryBudgetProperties();
+        properties.setStrict(strict);
+        properties.setBudgets(List.of(technicians));
+        return properties;
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/technicians");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/technicians");
+        return request;
+    }
+
+    private static MockFilterChain chainIssuing(String... statements) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                for (String statement : statements) {
+                    QueryCountContext.record(statement);
+                }
+                response.getWriter().write("[]");
+            }
+        });
+    }
+}
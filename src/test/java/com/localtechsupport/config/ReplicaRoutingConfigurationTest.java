@@ -0,0 +1,149 @@
+package com.localtechsupport.config;
+
+import com.localtechsupport.service.ClientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replica_test_primary;DB_CLOSE_DELAY=-1",
+    "app.replica.enabled=true",
+    "app.replica.initialize-schema=true",
+    "app.replica.url=jdbc:h2:mem:replica_test_replica;DB_CLOSE_DELAY=-1",
+    "app.replica.username=sa",
+    "app.replica.max-lag=5s",
+    "app.replica.lag-check-interval=1h",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Read Replica Routing Tests")
+class ReplicaRoutingConfigurationTest {
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private ClientService clientService;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(routingDataSource.getPrimary());
+        replica = new JdbcTemplate(routingDataSource.getReplica());
+        primary.execute("DELETE FROM clients");
+        replica.execute("DELETE FROM clients");
+
+        // A row only the replica has, so reads reveal where they were served from
+        replica.update("INSERT INTO clients (first_name, last_name, email, status, created_at, updated_at) " +
+            "VALUES ('Rita', 'Replica', 'rita@example.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        replicateHeartbeat(Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.end();
+    }
+
+    @Test
+    @DisplayName("Should send writes to the primary and read-only transactions to the replica")
+    void shouldRouteReadsToReplicaAndWritesToPrimary() {
+        // When
+        clientService.createClient("Pat", "Primary", "pat@example.com", null, null, null);
+
+        // Then
+        assertThat(countRows(primary)).isEqualTo(1);
+        assertThat(countRows(replica)).isEqualTo(1);
+        assertThat(clientService.countAllClients()).isEqualTo(1);
+        assertThat(clientService.findByEmail("rita@example.com")).isPresent();
+        assertThat(clientService.findByEmail("pat@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags behind")
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        // Given
+        replicateHeartbeat(Duration.ofMinutes(1));
+
+        // Then
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(lagMonitor.getLastObservedLag()).isGreaterThan(lagMonitor.getMaxLag());
+        assertThat(clientService.findByEmail("rita@example.com")).isEmpty();
+
+        // When the replica catches up
+        replicateHeartbeat(Duration.ZERO);
+
+        // Then
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+        assertThat(clientService.findByEmail("rita@example.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica has no heartbeat")
+    void shouldFallBackToPrimaryWithoutHeartbeat() {
+        // Given
+        replica.update("DELETE FROM " + ReplicaLagMonitor.HEARTBEAT_TABLE);
+
+        // When
+        lagMonitor.check();
+
+        // Then
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(lagMonitor.getLastObservedLag()).isNull();
+        assertThat(clientService.countAllClients()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary after the request has written")
+    void shouldReadYourWritesWithinRequest() {
+        // Given
+        ReplicaRoutingContext.begin(false);
+        assertThat(clientService.findByEmail("pat@example.com")).isEmpty();
+
+        // When
+        clientService.createClient("Pat", "Primary", "pat@example.com", null, null, null);
+
+        // Then
+        assertThat(clientService.findByEmail("pat@example.com")).isPresent();
+        assertThat(clientService.findByEmail("rita@example.com")).isEmpty();
+
+        // And the next request reads from the replica again
+        ReplicaRoutingContext.end();
+        ReplicaRoutingContext.begin(false);
+        assertThat(clientService.findByEmail("rita@example.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should pin a request to the primary when asked to")
+    void shouldPinRequestToPrimary() {
+        // When
+        ReplicaRoutingContext.begin(true);
+
+        // Then
+        assertThat(clientService.findByEmail("rita@example.com")).isEmpty();
+    }
+
+    private void replicateHeartbeat(Duration lag) {
+        replica.update("DELETE FROM " + ReplicaLagMonitor.HEARTBEAT_TABLE);
+        replica.update("INSERT INTO " + ReplicaLagMonitor.HEARTBEAT_TABLE + " (id, beat_at) VALUES (1, ?)",
+            Timestamp.from(Instant.now().minus(lag)));
+        lagMonitor.check();
+    }
+
+    private int countRows(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clients", Integer.class);
+    }
+}
@@ -0,0 +1,224 @@
+package com.localtechsupport.config;
+
+import com.jayway.jsonpath.JsonPath;
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.service.ClientService;
+import com.localtechsupport.service.FeedbackService;
+import com.localtechsupport.service.ShardRouter;
+import com.localtechsupport.service.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "app.sharding.enabled=true",
+    "app.sharding.initialize-schema=true",
+    "app.sharding.shards[0].url=jdbc:h2:mem:sharding_test0;DB_CLOSE_DELAY=-1",
+    "app.sharding.shards[0].username=sa",
+    "app.sharding.shards[1].url=jdbc:h2:mem:sharding_test1;DB_CLOSE_DELAY=-1",
+    "app.sharding.shards[1].username=sa",
+    "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+@DisplayName("Sharded Deployment Mode Tests")
+class ShardingConfigurationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    private Client firstClient;
+    private Client secondClient;
+
+    @BeforeEach
+    void setUp() {
+        for (int shard = 0; shard < shardRoutingDataSource.getShardCount(); shard++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shardRoutingDataSource.getShard(shard));
+            jdbcTemplate.execute("DELETE FROM feedback_entries");
+            jdbcTemplate.execute("DELETE FROM ticket_history");
+            jdbcTemplate.execute("DELETE FROM appointments");
+            jdbcTemplate.execute("DELETE FROM tickets");
+            jdbcTemplate.execute("DELETE FROM clients");
+            jdbcTemplate.execute("DELETE FROM technician_skills");
+            jdbcTemplate.execute("DELETE FROM technicians");
+        }
+
+        firstClient = clientService.createClient("Ada", "One", emailOnShard(0), null, null, null);
+        secondClient = clientService.createClient("Bob", "Two", emailOnShard(1), null, null, null);
+    }
+
+    @Test
+    @DisplayName("Should home clients on the shard their email hashes to")
+    void shouldHomeClientsOnHashedShard() {
+        // Then
+        assertThat(shardRouter.isSharded()).isTrue();
+        assertThat(shardRouter.shardForId(firstClient.getId())).isZero();
+        assertThat(shardRouter.shardForId(secondClient.getId())).isEqualTo(1);
+        assertThat(clientService.getClientById(secondClient.getId()).getEmail()).isEqualTo(secondClient.getEmail());
+        assertThat(clientService.findByEmail(secondClient.getEmail())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should store tickets, history and feedback on the client's shard")
+    void shouldStoreTicketDataOnClientShard() {
+        // When
+        Ticket ticket = ticketService.createTicket(secondClient.getId(), ServiceType.HARDWARE, "Broken screen");
+        ticketService.closeTicket(ticket.getId(), "Replaced", "tech");
+        feedbackService.createFeedback(ticket.getId(), 5, "Great", "bob");
+
+        // Then
+        assertThat(shardRouter.shardForId(ticket.getId())).isEqualTo(1);
+        assertThat(countRows(1, "tickets")).isEqualTo(1);
+        assertThat(countRows(1, "ticket_history")).isEqualTo(2);
+        assertThat(countRows(1, "feedback_entries")).isEqualTo(1);
+        assertThat(countRows(0, "tickets")).isZero();
+        assertThat(ticketService.getTicketById(ticket.getId()).getStatus()).isEqualTo(TicketStatus.CLOSED);
+        assertThat(feedbackService.findFeedbackByTicket(ticket.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should fan out and merge cross-shard reads")
+    void shouldFanOutCrossShardReads() {
+        // Given
+        ticketService.createTicket(firstClient.getId(), ServiceType.SOFTWARE, "Printer driver");
+        ticketService.createTicket(secondClient.getId(), ServiceType.HARDWARE, "Printer jam");
+        ticketService.createTicket(secondClient.getId(), ServiceType.SOFTWARE, "Email setup");
+
+        // When
+        Page<Ticket> firstPage = ticketService.findAllTickets(PageRequest.of(0, 2, Sort.by("description")));
+        Page<Ticket> secondPage = ticketService.findAllTickets(PageRequest.of(1, 2, Sort.by("description")));
+        Page<Ticket> search = ticketService.searchTickets("printer", PageRequest.of(0, 10));
+
+        // Then
+        assertThat(ticketService.countTicketsByStatus(TicketStatus.OPEN)).isEqualTo(3);
+        assertThat(ticketService.countTicketsByServiceType(ServiceType.SOFTWARE)).isEqualTo(2);
+        assertThat(firstPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent()).extracting(Ticket::getDescription)
+            .containsExactly("Email setup", "Printer driver");
+        assertThat(secondPage.getContent()).extracting(Ticket::getDescription).containsExactly("Printer jam");
+        assertThat(search.getTotalElements()).isEqualTo(2);
+        assertThat(ticketService.findOverdueTickets()).isEmpty();
+        assertThat(clientService.countAllClients()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should assign a ticket to a technician from another shard over HTTP")
+    void shouldAssignTicketToTechnicianFromAnotherShard() throws Exception {
+        // Given
+        String created = mockMvc.perform(post("/api/technicians")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fullName\":\"Tess Tech\",\"email\":\"tess@example.com\",\"skills\":[\"HARDWARE\"]}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        long technicianId = ((Number) JsonPath.read(created, "$.id")).longValue();
+        Ticket ticket = ticketService.createTicket(secondClient.getId(), ServiceType.HARDWARE, "Dead drive");
+
+        // When
+        mockMvc.perform(post("/api/tickets/{id}/assign", ticket.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"technicianId\":" + technicianId + "}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.assignedTechnician.id").value(technicianId));
+
+        // Then
+        assertThat(shardRouter.shardForId(technicianId)).isEqualTo(ShardRouter.TECHNICIAN_SHARD);
+        assertThat(shardRouter.shardForId(ticket.getId())).isEqualTo(1);
+        assertThat(countRows(1, "technicians")).isEqualTo(1);
+        assertThat(countRows(1, "technician_skills")).isEqualTo(1);
+        mockMvc.perform(get("/api/technicians"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].currentWorkload").value(1));
+        mockMvc.perform(get("/api/technicians/{id}/workload", technicianId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.currentWorkload").value(1));
+        assertThat(ticketService.findTicketsByTechnician(technicianId, PageRequest.of(0, 10)).getContent())
+            .extracting(Ticket::getId).containsExactly(ticket.getId());
+    }
+
+    @Test
+    @DisplayName("Should copy technician changes to every shard")
+    void shouldCopyTechnicianChangesToEveryShard() throws Exception {
+        // Given
+        String created = mockMvc.perform(post("/api/technicians")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fullName\":\"Ray Replica\",\"email\":\"ray@example.com\",\"skills\":[\"SOFTWARE\"]}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        long technicianId = ((Number) JsonPath.read(created, "$.id")).longValue();
+
+        // When
+        mockMvc.perform(post("/api/technicians/{id}/deactivate", technicianId)
+                .param("reason", "Leave").param("updatedBy", "admin"))
+            .andExpect(status().isOk());
+
+        // Then
+        String replicatedStatus = new JdbcTemplate(shardRoutingDataSource.getShard(1))
+            .queryForObject("SELECT status FROM technicians WHERE id = ?", String.class, technicianId);
+        assertThat(replicatedStatus).isEqualTo("INACTIVE");
+        assertThat(countRows(1, "technician_skills")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should interleave identity values across shards")
+    void shouldInterleaveIdentityValues() {
+        // When
+        List<Long> ids = List.of(
+            ticketService.createTicket(secondClient.getId(), ServiceType.HARDWARE, "One").getId(),
+            ticketService.createTicket(secondClient.getId(), ServiceType.HARDWARE, "Two").getId());
+
+        // Then
+        assertThat(ids).allMatch(id -> (id - 1) % 2 == 1);
+        assertThat(ShardSchemaInitializer.nextIdForShard(0, 1, 3)).isEqualTo(2);
+        assertThat(ShardSchemaInitializer.nextIdForShard(5, 2, 3)).isEqualTo(6);
+        assertThat(ShardSchemaInitializer.nextIdForShard(6, 0, 3)).isEqualTo(7);
+    }
+
+    private String emailOnShard(int shard) {
+        for (int i = 0; ; i++) {
+            String email = "client" + i + "@example.com";
+            if (shardRouter.shardForKey(email) == shard) {
+                return email;
+            }
+        }
+    }
+
+    private int countRows(int shard, String table) {
+        return new JdbcTemplate(shardRoutingDataSource.getShard(shard))
+            .queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
@@ -0,0 +1,155 @@
+package com.localtechsupport.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Single-Flight Tests")
+class SingleFlightAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.end();
+    }
+
+    @Test
+    @DisplayName("Should run concurrent identical calls once and share the result")
+    void shouldShareInFlightCall() throws Exception {
+        // Given: a read that blocks until every caller has arrived
+        Statistics statistics = new Statistics();
+        Statistics proxy = proxy(statistics, new SingleFlightProperties());
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<Long>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> proxy.count("OPEN")));
+            }
+            assertThat(statistics.started.await(5, TimeUnit.SECONDS)).isTrue();
+            // Followers register with the in-flight call before it is released
+            Thread.sleep(200);
+            statistics.release.countDown();
+
+            // Then
+            for (Future<Long> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(statistics.executions.get()).isEqualTo(1);
+        assertThat(meterRegistry.get(SingleFlightAspect.METRIC_NAME)
+            .tags("name", "statistics", "outcome", "shared").counter().count()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    @DisplayName("Should keep results only for the cache window and per distinct arguments")
+    void shouldCacheWithinWindow() throws Throwable {
+        // Given
+        AtomicLong clock = new AtomicLong();
+        SingleFlightGroup group = new SingleFlightGroup(clock::get);
+        AtomicInteger executions = new AtomicInteger();
+        long window = Duration.ofSeconds(2).toNanos();
+
+        // When / Then
+        assertThat(group.execute("open", window, executions::incrementAndGet).getOutcome())
+            .isEqualTo(SingleFlightGroup.Outcome.EXECUTED);
+        SingleFlightGroup.Result cached = group.execute("open", window, executions::incrementAndGet);
+        assertThat(cached.getOutcome()).isEqualTo(SingleFlightGroup.Outcome.CACHED);
+        assertThat(cached.getValue()).isEqualTo(1);
+        assertThat(group.execute("closed", window, executions::incrementAndGet).getValue()).isEqualTo(2);
+
+        clock.addAndGet(window);
+        assertThat(group.execute("open", window, executions::incrementAndGet).getValue()).isEqualTo(3);
+        assertThat(group.size()).isEqualTo(1);
+        assertThat(group.execute("open", 0, executions::incrementAndGet).getOutcome())
+            .isEqualTo(SingleFlightGroup.Outcome.CACHED);
+    }
+
+    @Test
+    @DisplayName("Should hand failures to the caller without caching them")
+    void shouldNotCacheFailures() throws Throwable {
+        // Given
+        SingleFlightGroup group = new SingleFlightGroup();
+        long window = Duration.ofSeconds(2).toNanos();
+
+        // When
+        assertThatThrownBy(() -> group.execute("open", window, () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(group.size()).isZero();
+        assertThat(group.execute("open", window, () -> 5L).getValue()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Should bypass coalescing for disabled methods and requests pinned to the primary")
+    void shouldBypassWhenNotSafeToShare() {
+        // Given
+        SingleFlightProperties properties = new SingleFlightProperties();
+        SingleFlightProperties.Method settings = new SingleFlightProperties.Method();
+        settings.setCacheWindow(Duration.ofMinutes(1));
+        properties.getMethods().put("statistics", settings);
+        Statistics statistics = new Statistics();
+        Statistics proxy = proxy(statistics, properties);
+        statistics.release.countDown();
+
+        // When
+        proxy.count("OPEN");
+        proxy.count("OPEN");
+        ReplicaRoutingContext.begin(true);
+        proxy.count("OPEN");
+        ReplicaRoutingContext.end();
+        settings.setEnabled(false);
+        proxy.count("OPEN");
+
+        // Then
+        assertThat(statistics.executions.get()).isEqualTo(3);
+    }
+
+    private Statistics proxy(Statistics target, SingleFlightProperties properties) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(properties, meterRegistry));
+        return factory.getProxy();
+    }
+
+    static class Statistics {
+
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @SingleFlight("statistics")
+        public long count(String status) {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return executions.get();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.localtechsupport.config;
+
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.repository.ClientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:datagen_test;DB_CLOSE_DELAY=-1",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Synthetic Data Generator Tests")
+class SyntheticDataGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-02T12:00:00Z");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String table : List.of("appointments", "feedback_entries", "ticket_history", "tickets",
+                                    "technician_skills", "technicians", "clients")) {
+            jdbcTemplate.execute("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    @DisplayName("Should generate the configured number of rows in every table")
+    void shouldGenerateConfiguredRows() {
+        // When
+        Map<String, Long> rows = generator(42L).generate();
+
+        // Then
+        assertThat(rows).containsEntry("clients", 500L).containsEntry("technicians", 20L).containsEntry("tickets", 5000L);
+        assertThat(count("tickets")).isEqualTo(5000);
+        assertThat(count("clients")).isEqualTo(500);
+        assertThat(count("ticket_history")).isEqualTo(rows.get("ticket_history")).isGreaterThan(5000);
+        assertThat(count("feedback_entries")).isEqualTo(rows.get("feedback_entries")).isPositive();
+        assertThat(count("appointments")).isEqualTo(rows.get("appointments")).isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tickets WHERE status = 'OPEN' AND due_at < ?", Long.class, NOW)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should skew tickets towards few clients and technicians")
+    void shouldSkewLoad() {
+        // When
+        generator(42L).generate();
+
+        // Then
+        long busiestClient = jdbcTemplate.queryForObject(
+            "SELECT MAX(c) FROM (SELECT COUNT(*) c FROM tickets GROUP BY client_id)", Long.class);
+        long busiestTechnician = jdbcTemplate.queryForObject(
+            "SELECT MAX(c) FROM (SELECT COUNT(*) c FROM tickets WHERE technician_id IS NOT NULL GROUP BY technician_id)", Long.class);
+        long assigned = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tickets WHERE technician_id IS NOT NULL", Long.class);
+
+        assertThat(busiestClient).isGreaterThan(5000 / 500 * 5);
+        assertThat(busiestTechnician).isGreaterThan(assigned / 17 * 3);
+    }
+
+    @Test
+    @DisplayName("Should produce identical data for the same seed")
+    void shouldBeDeterministic() {
+        // Given
+        generator(7L).generate();
+        List<Map<String, Object>> first = fingerprint();
+        setUp();
+
+        // When
+        generator(7L).generate();
+
+        // Then
+        assertThat(fingerprint()).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should let the application insert rows after generation")
+    void shouldRestartIdentities() {
+        // Given
+        generator(42L).generate();
+        Client client = new Client();
+        client.setFirstName("New");
+        client.setLastName("Client");
+        client.setEmail("new.client@example.com");
+
+        // When
+        Client saved = clientRepository.save(client);
+
+        // Then
+        assertThat(saved.getId()).isEqualTo(501L);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid settings")
+    void shouldRejectInvalidSettings() {
+        SyntheticDataProperties properties = properties(1L);
+        properties.setOverdueRate(1.5);
+
+        assertThatThrownBy(() -> new SyntheticDataGenerator(dataSource, properties, NOW).generate())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Overdue rate must be between 0 and 1");
+    }
+
+    private SyntheticDataGenerator generator(long seed) {
+        return new SyntheticDataGenerator(dataSource, properties(seed), NOW);
+    }
+
+    private SyntheticDataProperties properties(long seed) {
+        SyntheticDataProperties properties = new SyntheticDataProperties();
+        properties.setClients(500);
+        properties.setTechnicians(20);
+        properties.setTickets(5000);
+        properties.setSeed(seed);
+        properties.setThreads(4);
+        properties.setBatchSize(250);
+        properties.setDays(90);
+        return properties;
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private List<Map<String, Object>> fingerprint() {
+        return jdbcTemplate.queryForList(
+            "SELECT t.status, COUNT(*) tickets, SUM(t.client_id) clients, SUM(COALESCE(t.technician_id, 0)) technicians, " +
+            "MIN(t.created_at) first_created, MAX(t.due_at) last_due, " +
+            "(SELECT SUM(rating) FROM feedback_entries) ratings, (SELECT COUNT(*) FROM appointments) appointments " +
+            "FROM tickets t GROUP BY t.status ORDER BY t.status");
+    }
+}
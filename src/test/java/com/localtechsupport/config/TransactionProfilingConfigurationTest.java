@@ -0,0 +1,98 @@
+package com.localtechsupport.config;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.service.ClientService;
+import com.localtechsupport.service.TicketService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:transaction_profiling_test;DB_CLOSE_DELAY=-1",
+    "app.transaction-profiling.enabled=true",
+    "spring.jpa.show-sql=false"
+})
+@AutoConfigureObservability
+@DisplayName("Transaction Profiling Configuration Tests")
+class TransactionProfilingConfigurationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ConnectionHoldProfiler profiler;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Test
+    @DisplayName("Should record connection hold time per outermost service method")
+    void shouldRecordHoldTimePerServiceMethod() {
+        // Given
+        long clientHoldsBefore = holds("ClientService", "createClient");
+        long ticketHoldsBefore = holds("TicketService", "createTicket");
+        Long clientId = clientService.createClient("Hold", "Time", "hold.time@example.com", null, null, null).getId();
+
+        // When
+        ticketService.createTicket(clientId, ServiceType.HARDWARE, "Printer jam");
+
+        // Then
+        assertThat(holds("ClientService", "createClient")).isEqualTo(clientHoldsBefore + 1);
+        assertThat(holds("TicketService", "createTicket")).isEqualTo(ticketHoldsBefore + 1);
+        assertThat(meterRegistry.get(ConnectionHoldProfiler.METRIC_NAME)
+            .tags("service", "TicketService", "method", "createTicket")
+            .timer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(profiler.getHeldConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a client known to be inactive without taking a connection")
+    void shouldRejectCachedInactiveClientWithoutConnection() {
+        // Given
+        Long clientId = clientService.createClient("Gone", "Away", "gone.away@example.com", null, null, null).getId();
+        clientService.suspendClient(clientId, "Unpaid");
+        assertThatThrownBy(() -> ticketService.createTicket(clientId, ServiceType.SOFTWARE, "First try"))
+            .isInstanceOf(IllegalStateException.class);
+        long holdsBefore = holds("TicketService", "createTicket");
+
+        // When & Then
+        assertThatThrownBy(() -> ticketService.createTicket(clientId, ServiceType.SOFTWARE, "Second try"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("gone.away@example.com");
+        assertThat(holds("TicketService", "createTicket")).isEqualTo(holdsBefore);
+    }
+
+    @Test
+    @DisplayName("Should accept a client again once its reactivation commits")
+    void shouldForgetCachedStatusWhenClientChanges() {
+        // Given
+        Long clientId = clientService.createClient("Back", "Again", "back.again@example.com", null, null, null).getId();
+        clientService.suspendClient(clientId, "Unpaid");
+        assertThatThrownBy(() -> ticketService.createTicket(clientId, ServiceType.SOFTWARE, "Suspended"))
+            .isInstanceOf(IllegalStateException.class);
+
+        // When
+        clientService.activateClient(clientId, "Paid");
+
+        // Then
+        assertThat(ticketService.createTicket(clientId, ServiceType.SOFTWARE, "Active again").getId()).isNotNull();
+    }
+
+    private long holds(String service, String method) {
+        Timer timer = meterRegistry.find(ConnectionHoldProfiler.METRIC_NAME)
+            .tags("service", service, "method", method)
+            .timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
@@ -0,0 +1,121 @@
+package com.localtechsupport.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.service.ClientService;
+import com.localtechsupport.service.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:wire_format_test;DB_CLOSE_DELAY=-1",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Wire Format Tests")
+class WireFormatConfigurationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        for (String table : new String[] {"change_log", "appointments", "feedback_entries", "ticket_history", "tickets", "clients"}) {
+            jdbcTemplate.execute("DELETE FROM " + table);
+        }
+        Long clientId = clientService.createClient("Wire", "Client", "wire@example.com", null, null, null).getId();
+        for (int i = 0; i < 60; i++) {
+            ticketService.createTicket(clientId, ServiceType.HARDWARE, "Workstation " + i + " does not boot after update");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default and serve the same page as CBOR and Smile")
+    void shouldNegotiateBinaryFormats() throws Exception {
+        // When
+        HttpResponse<byte[]> json = get("*/*", null);
+        HttpResponse<byte[]> cbor = get("application/cbor", null);
+        HttpResponse<byte[]> smile = get("application/x-jackson-smile", null);
+
+        // Then
+        assertThat(json.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("application/json"));
+        assertThat(cbor.headers().firstValue("Content-Type")).hasValue("application/cbor");
+        assertThat(smile.headers().firstValue("Content-Type")).hasValue("application/x-jackson-smile");
+
+        JsonNode expected = objectMapper.readTree(json.body());
+        assertThat(normalize(new CBORMapper().readTree(cbor.body()))).isEqualTo(expected);
+        assertThat(normalize(new SmileMapper().readTree(smile.body()))).isEqualTo(expected);
+        assertThat(expected.get("content")).hasSize(60);
+        assertThat(cbor.body().length).isLessThan(json.body().length);
+        assertThat(smile.body().length).isLessThan(json.body().length);
+    }
+
+    @Test
+    @DisplayName("Should serialize through Blackbird in every format")
+    void shouldRegisterBlackbird() {
+        assertThat(objectMapper.getRegisteredModuleIds()).contains(BlackbirdModule.class.getName());
+    }
+
+    @Test
+    @DisplayName("Should compress large pages for clients accepting gzip")
+    void shouldCompressLargePages() throws Exception {
+        // When
+        HttpResponse<byte[]> plain = get("application/json", null);
+        HttpResponse<byte[]> gzipped = get("application/json", "gzip");
+        HttpResponse<byte[]> small = get("application/json", "gzip", "/api/tickets?size=1");
+
+        // Then
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gzipped.body().length).isLessThan(plain.body().length / 4);
+        assertThat(small.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    private HttpResponse<byte[]> get(String accept, String acceptEncoding) throws Exception {
+        return get(accept, acceptEncoding, "/api/tickets?size=60");
+    }
+
+    private HttpResponse<byte[]> get(String accept, String acceptEncoding, String path) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Accept", accept);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+
+    // Binary formats keep int and long apart; JSON text does not
+    private JsonNode normalize(JsonNode node) throws Exception {
+        return objectMapper.readTree(objectMapper.writeValueAsString(node));
+    }
+}
@@ -22,10 +22,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -473,6 +475,28 @@ class AppointmentControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Utilization Reporting Operations")
+    class UtilizationReportingTests {
+
+        @Test
+        @DisplayName("Should return technician utilization report")
+        void shouldReturnTechnicianUtilizationReport() {
+            // Given
+            LocalDate from = LocalDate.of(2026, 1, 5);
+            LocalDate to = from.plusDays(6);
+            Map<String, Object> report = Map.of("utilization", 0.5, "technicians", List.of());
+            when(appointmentService.getTechnicianUtilizationReport(from, to, 8)).thenReturn(report);
+
+            // When
+            ResponseEntity<Map<String, Object>> response = appointmentController.getTechnicianUtilization(from, to, 8);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(report);
+        }
+    }
+
     @Nested
     @DisplayName("Pagination and Sorting Operations")
     class PaginationAndSortingTests {
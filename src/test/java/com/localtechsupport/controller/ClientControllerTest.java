@@ -4,6 +4,9 @@ import com.localtechsupport.dto.request.*;
 import com.localtechsupport.dto.response.*;
 import com.localtechsupport.entity.Client;
 import com.localtechsupport.entity.Client.ClientStatus;
+import com.localtechsupport.repository.ClientListing;
+import com.localtechsupport.service.ClientDeletionJob;
+import com.localtechsupport.service.ClientDeletionService;
 import com.localtechsupport.service.ClientService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -40,6 +44,9 @@ class ClientControllerTest {
     @Mock
     private ClientService clientService;
 
+    @Mock
+    private ClientDeletionService clientDeletionService;
+
     @InjectMocks
     private ClientController clientController;
 
@@ -96,6 +103,11 @@ class ClientControllerTest {
         return client;
     }
 
+    private List<ClientListing> listingsOf(List<Client> clients) {
+        SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+        return clients.stream().map(client -> projectionFactory.createProjection(ClientListing.class, client)).toList();
+    }
+
     @Nested
     @DisplayName("Core CRUD Operations")
     class CoreCrudOperationTests {
@@ -194,13 +206,46 @@ class ClientControllerTest {
             verify(clientService).deleteClient(2L);
         }
 
+        @Test
+        @DisplayName("Should accept an asynchronous client deletion")
+        void startClientDeletion_Accepted() {
+            // Given
+            ClientDeletionJob job = mock(ClientDeletionJob.class);
+            when(job.getId()).thenReturn("job-1");
+            when(job.getClientId()).thenReturn(2L);
+            when(job.getStatus()).thenReturn(ClientDeletionJob.Status.QUEUED);
+            when(clientDeletionService.startDeletion(2L)).thenReturn(job);
+
+            // When
+            ResponseEntity<ClientDeletionJobResponse> response = clientController.startClientDeletion(2L);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            assertThat(response.getHeaders().getLocation()).hasToString("/api/clients/deletion-jobs/job-1");
+            assertThat(response.getBody().getClientId()).isEqualTo(2L);
+            assertThat(response.getBody().getStatus()).isEqualTo(ClientDeletionJob.Status.QUEUED);
+        }
+
+        @Test
+        @DisplayName("Should return 404 for an unknown deletion job")
+        void getClientDeletionJob_NotFound() {
+            // Given
+            when(clientDeletionService.findJob("missing")).thenReturn(Optional.empty());
+
+            // When
+            ResponseEntity<ClientDeletionJobResponse> response = clientController.getClientDeletionJob("missing");
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+
         @Test
         @DisplayName("Should get all clients with pagination")
         void getAllClients_WithPagination() {
             // Given
             List<Client> clients = Arrays.asList(activeClient, inactiveClient);
-            Page<Client> clientPage = new PageImpl<>(clients, PageRequest.of(0, 20), 2);
-            when(clientService.findAllClients(any(Pageable.class))).thenReturn(clientPage);
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(clients), PageRequest.of(0, 20), 2);
+            when(clientService.findClientListings(any(Pageable.class))).thenReturn(clientPage);
 
             // When
             ResponseEntity<Page<ClientResponse>> response = clientController.getAllClients(
@@ -213,7 +258,7 @@ class ClientControllerTest {
             assertThat(response.getBody().getContent().get(0).getId()).isEqualTo(1L);
             assertThat(response.getBody().getContent().get(1).getId()).isEqualTo(2L);
             
-            verify(clientService).findAllClients(any(Pageable.class));
+            verify(clientService).findClientListings(any(Pageable.class));
         }
 
         @Test
@@ -335,8 +380,8 @@ class ClientControllerTest {
         void getAllClients_FilterByStatus() {
             // Given
             List<Client> activeClients = Arrays.asList(activeClient);
-            Page<Client> clientPage = new PageImpl<>(activeClients, PageRequest.of(0, 20), 1);
-            when(clientService.findClientsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class)))
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(activeClients), PageRequest.of(0, 20), 1);
+            when(clientService.findClientListingsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class)))
                 .thenReturn(clientPage);
 
             // When
@@ -349,7 +394,7 @@ class ClientControllerTest {
             assertThat(response.getBody().getContent()).hasSize(1);
             assertThat(response.getBody().getContent().get(0).getStatus()).isEqualTo(ClientStatus.ACTIVE);
             
-            verify(clientService).findClientsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class));
+            verify(clientService).findClientListingsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class));
         }
 
         @Test
@@ -357,8 +402,8 @@ class ClientControllerTest {
         void searchClients_Success() {
             // Given
             List<Client> searchResults = Arrays.asList(activeClient);
-            Page<Client> clientPage = new PageImpl<>(searchResults, PageRequest.of(0, 20), 1);
-            when(clientService.searchClients(eq("John"), any(Pageable.class))).thenReturn(clientPage);
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(searchResults), PageRequest.of(0, 20), 1);
+            when(clientService.searchClientListings(eq("John"), any(Pageable.class))).thenReturn(clientPage);
 
             // When
             ResponseEntity<Page<ClientResponse>> response = clientController.searchClients(
@@ -370,7 +415,7 @@ class ClientControllerTest {
             assertThat(response.getBody().getContent()).hasSize(1);
             assertThat(response.getBody().getContent().get(0).getFirstName()).isEqualTo("John");
             
-            verify(clientService).searchClients(eq("John"), any(Pageable.class));
+            verify(clientService).searchClientListings(eq("John"), any(Pageable.class));
         }
 
         @Test
@@ -378,8 +423,8 @@ class ClientControllerTest {
         void getClientsByStatus_Success() {
             // Given
             List<Client> activeClients = Arrays.asList(activeClient);
-            Page<Client> clientPage = new PageImpl<>(activeClients, PageRequest.of(0, 20), 1);
-            when(clientService.findClientsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class)))
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(activeClients), PageRequest.of(0, 20), 1);
+            when(clientService.findClientListingsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class)))
                 .thenReturn(clientPage);
 
             // When
@@ -391,7 +436,7 @@ class ClientControllerTest {
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody().getContent()).hasSize(1);
             
-            verify(clientService).findClientsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class));
+            verify(clientService).findClientListingsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class));
         }
 
         @Test
@@ -399,8 +444,8 @@ class ClientControllerTest {
         void getActiveClients_Success() {
             // Given
             List<Client> activeClients = Arrays.asList(activeClient);
-            Page<Client> clientPage = new PageImpl<>(activeClients, PageRequest.of(0, 20), 1);
-            when(clientService.findActiveClients(any(Pageable.class))).thenReturn(clientPage);
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(activeClients), PageRequest.of(0, 20), 1);
+            when(clientService.findClientListingsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class))).thenReturn(clientPage);
 
             // When
             ResponseEntity<Page<ClientResponse>> response = clientController.getActiveClients(
@@ -412,7 +457,7 @@ class ClientControllerTest {
             assertThat(response.getBody().getContent()).hasSize(1);
             assertThat(response.getBody().getContent().get(0).isActive()).isTrue();
             
-            verify(clientService).findActiveClients(any(Pageable.class));
+            verify(clientService).findClientListingsByStatus(eq(ClientStatus.ACTIVE), any(Pageable.class));
         }
 
         @Test
@@ -420,8 +465,8 @@ class ClientControllerTest {
         void getInactiveClients_Success() {
             // Given
             List<Client> inactiveClients = Arrays.asList(inactiveClient);
-            Page<Client> clientPage = new PageImpl<>(inactiveClients, PageRequest.of(0, 20), 1);
-            when(clientService.findInactiveClients(any(Pageable.class))).thenReturn(clientPage);
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(inactiveClients), PageRequest.of(0, 20), 1);
+            when(clientService.findClientListingsByStatus(eq(ClientStatus.INACTIVE), any(Pageable.class))).thenReturn(clientPage);
 
             // When
             ResponseEntity<Page<ClientResponse>> response = clientController.getInactiveClients(
@@ -433,7 +478,7 @@ class ClientControllerTest {
             assertThat(response.getBody().getContent()).hasSize(1);
             assertThat(response.getBody().getContent().get(0).getStatus()).isEqualTo(ClientStatus.INACTIVE);
             
-            verify(clientService).findInactiveClients(any(Pageable.class));
+            verify(clientService).findClientListingsByStatus(eq(ClientStatus.INACTIVE), any(Pageable.class));
         }
 
         @Test
@@ -441,8 +486,8 @@ class ClientControllerTest {
         void getRecentClients_Success() {
             // Given
             List<Client> recentClients = Arrays.asList(activeClient);
-            Page<Client> clientPage = new PageImpl<>(recentClients, PageRequest.of(0, 20), 1);
-            when(clientService.findRecentClients(any(LocalDateTime.class), any(Pageable.class)))
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(recentClients), PageRequest.of(0, 20), 1);
+            when(clientService.findRecentClientListings(any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(clientPage);
 
             // When
@@ -454,7 +499,7 @@ class ClientControllerTest {
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody().getContent()).hasSize(1);
             
-            verify(clientService).findRecentClients(any(LocalDateTime.class), any(Pageable.class));
+            verify(clientService).findRecentClientListings(any(LocalDateTime.class), any(Pageable.class));
         }
     }
 
@@ -697,8 +742,8 @@ class ClientControllerTest {
         void getAllClients_CustomSorting() {
             // Given
             List<Client> clients = Arrays.asList(activeClient, inactiveClient);
-            Page<Client> clientPage = new PageImpl<>(clients, PageRequest.of(0, 20), 2);
-            when(clientService.findAllClients(any(Pageable.class))).thenReturn(clientPage);
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(clients), PageRequest.of(0, 20), 2);
+            when(clientService.findClientListings(any(Pageable.class))).thenReturn(clientPage);
 
             // When
             ResponseEntity<Page<ClientResponse>> response = clientController.getAllClients(
@@ -709,7 +754,7 @@ class ClientControllerTest {
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody().getContent()).hasSize(2);
             
-            verify(clientService).findAllClients(any(Pageable.class));
+            verify(clientService).findClientListings(any(Pageable.class));
         }
 
         @Test
@@ -717,8 +762,8 @@ class ClientControllerTest {
         void getAllClients_CustomPagination() {
             // Given
             List<Client> clients = Arrays.asList(activeClient);
-            Page<Client> clientPage = new PageImpl<>(clients, PageRequest.of(1, 5), 10);
-            when(clientService.findAllClients(any(Pageable.class))).thenReturn(clientPage);
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(clients), PageRequest.of(1, 5), 10);
+            when(clientService.findClientListings(any(Pageable.class))).thenReturn(clientPage);
 
             // When
             ResponseEntity<Page<ClientResponse>> response = clientController.getAllClients(
@@ -730,7 +775,7 @@ class ClientControllerTest {
             assertThat(response.getBody().getNumber()).isEqualTo(1);
             assertThat(response.getBody().getSize()).isEqualTo(5);
             
-            verify(clientService).findAllClients(any(Pageable.class));
+            verify(clientService).findClientListings(any(Pageable.class));
         }
 
         @Test
@@ -738,8 +783,8 @@ class ClientControllerTest {
         void searchClients_WithSortingAndPagination() {
             // Given
             List<Client> searchResults = Arrays.asList(activeClient);
-            Page<Client> clientPage = new PageImpl<>(searchResults, PageRequest.of(0, 10), 1);
-            when(clientService.searchClients(eq("John"), any(Pageable.class))).thenReturn(clientPage);
+            Page<ClientListing> clientPage = new PageImpl<>(listingsOf(searchResults), PageRequest.of(0, 10), 1);
+            when(clientService.searchClientListings(eq("John"), any(Pageable.class))).thenReturn(clientPage);
 
             // When
             ResponseEntity<Page<ClientResponse>> response = clientController.searchClients(
@@ -751,7 +796,7 @@ class ClientControllerTest {
             assertThat(response.getBody().getContent()).hasSize(1);
             assertThat(response.getBody().getSize()).isEqualTo(10);
             
-            verify(clientService).searchClients(eq("John"), any(Pageable.class));
+            verify(clientService).searchClientListings(eq("John"), any(Pageable.class));
         }
     }
 
@@ -228,6 +228,54 @@ class FeedbackControllerTest {
             verify(feedbackService).getAverageRating();
             verify(feedbackService).countAllFeedback();
         }
+
+        @Test
+        @DisplayName("Should get technician feedback summary")
+        void shouldGetTechnicianFeedbackSummary() throws Exception {
+            // Given
+            Map<String, Object> summary = new HashMap<>();
+            summary.put("technicianId", 7L);
+            summary.put("averageRating", 4.5);
+            summary.put("totalFeedbackCount", 2L);
+            when(feedbackService.getTechnicianFeedbackSummary(7L, 30)).thenReturn(summary);
+
+            // When & Then
+            mockMvc.perform(get("/api/feedback/technician/7"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.technicianId").value(7))
+                    .andExpect(jsonPath("$.averageRating").value(4.5))
+                    .andExpect(jsonPath("$.totalFeedbackCount").value(2));
+        }
+
+        @Test
+        @DisplayName("Should return 404 for unknown technician feedback summary")
+        void shouldReturn404ForUnknownTechnicianFeedbackSummary() throws Exception {
+            // Given
+            when(feedbackService.getTechnicianFeedbackSummary(999L, 30))
+                .thenThrow(new IllegalArgumentException("Technician not found with ID: 999"));
+
+            // When & Then
+            mockMvc.perform(get("/api/feedback/technician/999"))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should get technician feedback leaderboard")
+        void shouldGetTechnicianFeedbackLeaderboard() throws Exception {
+            // Given
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("technicianId", 8L);
+            entry.put("averageRating", 5.0);
+            when(feedbackService.getTechnicianFeedbackLeaderboard(2L, 5)).thenReturn(List.of(entry));
+
+            // When & Then
+            mockMvc.perform(get("/api/feedback/technicians/leaderboard")
+                    .param("minFeedback", "2")
+                    .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].technicianId").value(8));
+        }
     }
 
     @Nested
@@ -0,0 +1,79 @@
+package com.localtechsupport.controller;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.service.LiveFeedBroadcaster;
+import com.localtechsupport.service.LiveFeedBroadcaster.OverflowPolicy;
+import com.localtechsupport.service.LiveFeedFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveFeedController Tests")
+class LiveFeedControllerTest {
+
+    @Mock
+    private LiveFeedBroadcaster broadcaster;
+
+    @Mock
+    private LiveFeedBroadcaster.Subscription subscription;
+
+    private LiveFeedController liveFeedController;
+
+    @BeforeEach
+    void setUp() {
+        liveFeedController = new LiveFeedController(broadcaster, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Should open a filtered subscription and return its emitter")
+    void subscribe_Success() {
+        // Given
+        when(broadcaster.subscribe(any(), any(), any(), any())).thenReturn(subscription);
+
+        // When
+        SseEmitter emitter = liveFeedController.subscribe(1L, ServiceType.HARDWARE, "OPEN", OverflowPolicy.DROP_OLDEST, 42L);
+
+        // Then
+        assertThat(emitter.getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        ArgumentCaptor<LiveFeedFilter> filterCaptor = ArgumentCaptor.forClass(LiveFeedFilter.class);
+        verify(broadcaster).subscribe(filterCaptor.capture(), eq(OverflowPolicy.DROP_OLDEST), eq(42L), notNull());
+        assertThat(filterCaptor.getValue().getTechnicianId()).isEqualTo(1L);
+        assertThat(filterCaptor.getValue().getServiceType()).isEqualTo(ServiceType.HARDWARE);
+        assertThat(filterCaptor.getValue().getStatus()).isEqualTo("OPEN");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown status filters before subscribing")
+    void subscribe_UnknownStatus() {
+        assertThatThrownBy(() -> liveFeedController.subscribe(null, null, "PARKED", OverflowPolicy.COALESCE, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(broadcaster);
+    }
+
+    @Test
+    @DisplayName("Should report the number of open subscriptions")
+    void getSubscribers_Success() {
+        // Given
+        when(broadcaster.getSubscriberCount()).thenReturn(3);
+
+        // When
+        Map<String, Object> result = liveFeedController.getSubscribers();
+
+        // Then
+        assertThat(result).containsEntry("subscribers", 3);
+    }
+}
@@ -5,6 +5,8 @@ import com.localtechsupport.dto.response.*;
 import com.localtechsupport.entity.Technician;
 import com.localtechsupport.entity.TechnicianStatus;
 import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.repository.TechnicianListing;
+import com.localtechsupport.service.CapacityForecastService;
 import com.localtechsupport.service.TechnicianService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -40,6 +43,9 @@ class TechnicianControllerTest {
     @Mock
     private TechnicianService technicianService;
 
+    @Mock
+    private CapacityForecastService capacityForecastService;
+
     @InjectMocks
     private TechnicianController technicianController;
 
@@ -85,6 +91,21 @@ class TechnicianControllerTest {
         return technician;
     }
 
+    private TechnicianListing createTestListing(Technician technician, long skillMask, long currentLoad) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", technician.getId());
+        row.put("fullName", technician.getFullName());
+        row.put("email", technician.getEmail());
+        row.put("status", technician.getStatus());
+        row.put("skillMask", skillMask);
+        row.put("currentLoad", currentLoad);
+        return new SpelAwareProxyProjectionFactory().createProjection(TechnicianListing.class, row);
+    }
+
+    private List<TechnicianListing> listingsOf(List<Technician> technicians) {
+        return technicians.stream().map(technician -> createTestListing(technician, 0L, 0L)).toList();
+    }
+
     @Nested
     @DisplayName("Core CRUD Operations")
     class CoreCrudOperationTests {
@@ -184,8 +205,8 @@ class TechnicianControllerTest {
         void getAllTechnicians_WithPagination() {
             // Given
             List<Technician> technicians = Arrays.asList(activeTechnician, inactiveTechnician);
-            Page<Technician> page = new PageImpl<>(technicians);
-            when(technicianService.findAllTechnicians(any(Pageable.class))).thenReturn(page);
+            Page<TechnicianListing> page = new PageImpl<>(listingsOf(technicians));
+            when(technicianService.findTechnicianListings(isNull(), any(Pageable.class))).thenReturn(page);
 
             // When
             ResponseEntity<Page<TechnicianResponse>> response = 
@@ -196,7 +217,7 @@ class TechnicianControllerTest {
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody().getContent()).hasSize(2);
             
-            verify(technicianService).findAllTechnicians(any(Pageable.class));
+            verify(technicianService).findTechnicianListings(isNull(), any(Pageable.class));
         }
 
         @Test
@@ -204,8 +225,8 @@ class TechnicianControllerTest {
         void getAllTechnicians_FilterByStatus() {
             // Given
             List<Technician> activeTechnicians = Arrays.asList(activeTechnician);
-            Page<Technician> page = new PageImpl<>(activeTechnicians);
-            when(technicianService.findTechniciansByStatus(eq(TechnicianStatus.ACTIVE), any(Pageable.class)))
+            Page<TechnicianListing> page = new PageImpl<>(listingsOf(activeTechnicians));
+            when(technicianService.findTechnicianListings(eq(TechnicianStatus.ACTIVE), any(Pageable.class)))
                 .thenReturn(page);
 
             // When
@@ -217,7 +238,7 @@ class TechnicianControllerTest {
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody().getContent()).hasSize(1);
             
-            verify(technicianService).findTechniciansByStatus(TechnicianStatus.ACTIVE, 
+            verify(technicianService).findTechnicianListings(TechnicianStatus.ACTIVE, 
                 PageRequest.of(0, 20, org.springframework.data.domain.Sort.by("fullName").ascending()));
         }
 
@@ -343,8 +364,8 @@ class TechnicianControllerTest {
         void searchTechnicians_Success() {
             // Given
             List<Technician> technicians = Arrays.asList(activeTechnician);
-            Page<Technician> page = new PageImpl<>(technicians);
-            when(technicianService.searchTechnicians(eq("John"), any(Pageable.class))).thenReturn(page);
+            Page<TechnicianListing> page = new PageImpl<>(listingsOf(technicians));
+            when(technicianService.searchTechnicianListings(eq("John"), any(Pageable.class))).thenReturn(page);
 
             // When
             ResponseEntity<Page<TechnicianResponse>> response = 
@@ -355,7 +376,7 @@ class TechnicianControllerTest {
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody().getContent()).hasSize(1);
             
-            verify(technicianService).searchTechnicians(eq("John"), any(Pageable.class));
+            verify(technicianService).searchTechnicianListings(eq("John"), any(Pageable.class));
         }
 
         @Test
@@ -363,8 +384,8 @@ class TechnicianControllerTest {
         void getTechniciansByStatus_Success() {
             // Given
             List<Technician> activeTechnicians = Arrays.asList(activeTechnician);
-            Page<Technician> page = new PageImpl<>(activeTechnicians);
-            when(technicianService.findTechniciansByStatus(eq(TechnicianStatus.ACTIVE), any(Pageable.class)))
+            Page<TechnicianListing> page = new PageImpl<>(listingsOf(activeTechnicians));
+            when(technicianService.findTechnicianListings(eq(TechnicianStatus.ACTIVE), any(Pageable.class)))
                 .thenReturn(page);
 
             // When
@@ -376,7 +397,7 @@ class TechnicianControllerTest {
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody().getContent()).hasSize(1);
             
-            verify(technicianService).findTechniciansByStatus(eq(TechnicianStatus.ACTIVE), any(Pageable.class));
+            verify(technicianService).findTechnicianListings(eq(TechnicianStatus.ACTIVE), any(Pageable.class));
         }
     }
 
@@ -463,8 +484,8 @@ class TechnicianControllerTest {
         void getAvailableTechnicians_WithServiceType() {
             // Given
             List<Technician> availableTechnicians = Arrays.asList(activeTechnician);
-            when(technicianService.getAvailableTechniciansForService(ServiceType.HARDWARE))
-                .thenReturn(availableTechnicians);
+            when(technicianService.findAvailableTechnicianListings(ServiceType.HARDWARE))
+                .thenReturn(listingsOf(availableTechnicians));
 
             // When
             ResponseEntity<List<TechnicianResponse>> response = 
@@ -475,7 +496,7 @@ class TechnicianControllerTest {
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody()).hasSize(1);
             
-            verify(technicianService).getAvailableTechniciansForService(ServiceType.HARDWARE);
+            verify(technicianService).findAvailableTechnicianListings(ServiceType.HARDWARE);
         }
 
         @Test
@@ -483,7 +504,7 @@ class TechnicianControllerTest {
         void getAvailableTechnicians_WithoutServiceType() {
             // Given
             List<Technician> availableTechnicians = Arrays.asList(activeTechnician, inactiveTechnician);
-            when(technicianService.getAvailableTechnicians()).thenReturn(availableTechnicians);
+            when(technicianService.findAvailableTechnicianListings(null)).thenReturn(listingsOf(availableTechnicians));
 
             // When
             ResponseEntity<List<TechnicianResponse>> response = 
@@ -494,7 +515,7 @@ class TechnicianControllerTest {
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody()).hasSize(2);
             
-            verify(technicianService).getAvailableTechnicians();
+            verify(technicianService).findAvailableTechnicianListings(null);
         }
 
         @Test
@@ -607,6 +628,24 @@ class TechnicianControllerTest {
             verify(technicianService).getSkillCoverage();
         }
 
+        @Test
+        @DisplayName("Should get capacity forecast successfully")
+        void getCapacityForecast_Success() {
+            // Given
+            Map<String, Object> forecast = new HashMap<>();
+            forecast.put("days", 7);
+            forecast.put("shortfallDays", 2);
+            when(capacityForecastService.forecast(7)).thenReturn(forecast);
+
+            // When
+            ResponseEntity<Map<String, Object>> response = technicianController.getCapacityForecast(7);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(forecast);
+            verify(capacityForecastService).forecast(7);
+        }
+
         @Test
         @DisplayName("Should handle empty statistics")
         void getStatistics_EmptyData() {
@@ -732,6 +771,28 @@ class TechnicianControllerTest {
             assertThat(body.getStatus()).isEqualTo(TechnicianStatus.INACTIVE);
             assertThat(body.isAvailable()).isFalse(); // Inactive technicians are not available
         }
+        @Test
+        @DisplayName("Should map listing rows with skills decoded from the skill mask")
+        void mapListingToTechnicianResponse() {
+            // Given
+            long bothSkills = TechnicianListing.skillBit(ServiceType.HARDWARE) | TechnicianListing.skillBit(ServiceType.SOFTWARE);
+            TechnicianListing fullStack = createTestListing(activeTechnician, bothSkills, 3L);
+            TechnicianListing overloaded = createTestListing(inTrainingTechnician, TechnicianListing.skillBit(ServiceType.SOFTWARE), 12L);
+            when(technicianService.findTechnicianListings(isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(fullStack, overloaded)));
+
+            // When
+            ResponseEntity<Page<TechnicianResponse>> response =
+                technicianController.getAllTechnicians(0, 20, "fullName", "asc", null);
+
+            // Then
+            List<TechnicianResponse> content = response.getBody().getContent();
+            assertThat(content.get(0).getSkills()).containsExactlyInAnyOrder(ServiceType.HARDWARE, ServiceType.SOFTWARE);
+            assertThat(content.get(0).getCurrentWorkload()).isEqualTo(3L);
+            assertThat(content.get(0).isAvailable()).isTrue();
+            assertThat(content.get(1).getSkills()).containsExactly(ServiceType.SOFTWARE);
+            assertThat(content.get(1).isAvailable()).isFalse();
+        }
     }
 
     @Nested
@@ -743,8 +804,8 @@ class TechnicianControllerTest {
         void getAllTechnicians_CustomSorting() {
             // Given
             List<Technician> technicians = Arrays.asList(activeTechnician, inactiveTechnician);
-            Page<Technician> page = new PageImpl<>(technicians);
-            when(technicianService.findAllTechnicians(any(Pageable.class))).thenReturn(page);
+            Page<TechnicianListing> page = new PageImpl<>(listingsOf(technicians));
+            when(technicianService.findTechnicianListings(isNull(), any(Pageable.class))).thenReturn(page);
 
             // When
             ResponseEntity<Page<TechnicianResponse>> response = 
@@ -756,7 +817,7 @@ class TechnicianControllerTest {
             assertThat(response.getBody().getContent()).hasSize(2);
             
             // Verify sorting parameters are passed correctly
-            verify(technicianService).findAllTechnicians(
+            verify(technicianService).findTechnicianListings(null,
                 PageRequest.of(0, 10, org.springframework.data.domain.Sort.by("email").descending()));
         }
 
@@ -765,8 +826,8 @@ class TechnicianControllerTest {
         void getAllTechnicians_CustomPagination() {
             // Given
             List<Technician> technicians = Arrays.asList(activeTechnician);
-            Page<Technician> page = new PageImpl<>(technicians);
-            when(technicianService.findAllTechnicians(any(Pageable.class))).thenReturn(page);
+            Page<TechnicianListing> page = new PageImpl<>(listingsOf(technicians));
+            when(technicianService.findTechnicianListings(isNull(), any(Pageable.class))).thenReturn(page);
 
             // When
             ResponseEntity<Page<TechnicianResponse>> response = 
@@ -777,7 +838,7 @@ class TechnicianControllerTest {
             assertThat(response.getBody()).isNotNull();
             
             // Verify pagination parameters
-            verify(technicianService).findAllTechnicians(
+            verify(technicianService).findTechnicianListings(null,
                 PageRequest.of(2, 5, org.springframework.data.domain.Sort.by("fullName").ascending()));
         }
 
@@ -786,8 +847,8 @@ class TechnicianControllerTest {
         void searchTechnicians_WithSortingAndPagination() {
             // Given
             List<Technician> technicians = Arrays.asList(activeTechnician);
-            Page<Technician> page = new PageImpl<>(technicians);
-            when(technicianService.searchTechnicians(eq("John"), any(Pageable.class))).thenReturn(page);
+            Page<TechnicianListing> page = new PageImpl<>(listingsOf(technicians));
+            when(technicianService.searchTechnicianListings(eq("John"), any(Pageable.class))).thenReturn(page);
 
             // When
             ResponseEntity<Page<TechnicianResponse>> response = 
@@ -797,7 +858,7 @@ class TechnicianControllerTest {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
             
-            verify(technicianService).searchTechnicians(eq("John"), 
+            verify(technicianService).searchTechnicianListings(eq("John"), 
                 eq(PageRequest.of(1, 15, org.springframework.data.domain.Sort.by("email").descending())));
         }
     }
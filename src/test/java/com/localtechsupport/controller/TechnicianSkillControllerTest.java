@@ -4,6 +4,8 @@ import com.localtechsupport.dto.request.AddSkillRequest;
 import com.localtechsupport.dto.response.SkillResponse;
 import com.localtechsupport.dto.response.SkillCoverageResponse;
 import com.localtechsupport.entity.*;
+import com.localtechsupport.repository.SkillListing;
+import com.localtechsupport.repository.TechnicianListing;
 import com.localtechsupport.service.TechnicianSkillService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -42,6 +45,7 @@ class TechnicianSkillControllerTest {
     private ObjectMapper objectMapper;
 
     private TechnicianSkill testSkill;
+    private SkillListing testSkillListing;
     private SkillResponse testSkillResponse;
     private AddSkillRequest testAddSkillRequest;
 
@@ -60,6 +64,15 @@ class TechnicianSkillControllerTest {
 
         testSkillResponse = SkillResponse.fromEntity(testSkill);
 
+        Map<String, Object> skillRow = new HashMap<>();
+        skillRow.put("skillId", 1L);
+        skillRow.put("technicianId", 1L);
+        skillRow.put("technicianName", "John Doe");
+        skillRow.put("technicianEmail", "john.doe@example.com");
+        skillRow.put("technicianStatus", TechnicianStatus.ACTIVE);
+        skillRow.put("serviceType", ServiceType.HARDWARE);
+        testSkillListing = new SpelAwareProxyProjectionFactory().createProjection(SkillListing.class, skillRow);
+
         testAddSkillRequest = new AddSkillRequest();
         testAddSkillRequest.setTechnicianId(1L);
         testAddSkillRequest.setServiceType(ServiceType.HARDWARE);
@@ -152,24 +165,27 @@ class TechnicianSkillControllerTest {
     @DisplayName("Should get all skills with pagination")
     void shouldGetAllSkillsWithPagination() throws Exception {
         // Given
-        Page<TechnicianSkill> skillsPage = new PageImpl<>(Collections.singletonList(testSkill));
-        when(technicianSkillService.findAllSkills(any())).thenReturn(skillsPage);
+        Page<SkillListing> skillsPage = new PageImpl<>(Collections.singletonList(testSkillListing));
+        when(technicianSkillService.findSkillListings(any())).thenReturn(skillsPage);
 
         // When & Then
         mockMvc.perform(get("/api/skills"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray())
-                .andExpect(jsonPath("$.content[0].skillId").value(1L));
+                .andExpect(jsonPath("$.content[0].skillId").value(1L))
+                .andExpect(jsonPath("$.content[0].technicianName").value("John Doe"))
+                .andExpect(jsonPath("$.content[0].technicianStatus").value("ACTIVE"))
+                .andExpect(jsonPath("$.content[0].serviceTypeDescription").value("Hardware Installation & Repair"));
 
-        verify(technicianSkillService).findAllSkills(any());
+        verify(technicianSkillService).findSkillListings(any());
     }
 
     @Test
     @DisplayName("Should get skills by technician")
     void shouldGetSkillsByTechnician() throws Exception {
         // Given
-        Page<TechnicianSkill> skillsPage = new PageImpl<>(Collections.singletonList(testSkill));
-        when(technicianSkillService.findSkillsByTechnician(eq(1L), any())).thenReturn(skillsPage);
+        Page<SkillListing> skillsPage = new PageImpl<>(Collections.singletonList(testSkillListing));
+        when(technicianSkillService.findSkillListingsByTechnician(eq(1L), any())).thenReturn(skillsPage);
 
         // When & Then
         mockMvc.perform(get("/api/skills/technician/1"))
@@ -177,7 +193,32 @@ class TechnicianSkillControllerTest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content[0].skillId").value(1L));
 
-        verify(technicianSkillService).findSkillsByTechnician(eq(1L), any());
+        verify(technicianSkillService).findSkillListingsByTechnician(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("Should get qualified technicians as listing responses")
+    void shouldGetTechniciansByServiceType() throws Exception {
+        // Given
+        Map<String, Object> technicianRow = new HashMap<>();
+        technicianRow.put("id", 1L);
+        technicianRow.put("fullName", "John Doe");
+        technicianRow.put("email", "john.doe@example.com");
+        technicianRow.put("status", TechnicianStatus.ACTIVE);
+        technicianRow.put("skillMask", TechnicianListing.skillBit(ServiceType.HARDWARE));
+        technicianRow.put("currentLoad", 2L);
+        TechnicianListing listing =
+            new SpelAwareProxyProjectionFactory().createProjection(TechnicianListing.class, technicianRow);
+        when(technicianSkillService.findTechnicianListingsByServiceType(eq(ServiceType.HARDWARE), any()))
+            .thenReturn(new PageImpl<>(List.of(listing)));
+
+        // When & Then
+        mockMvc.perform(get("/api/skills/service-type/HARDWARE/technicians"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].skills[0]").value("HARDWARE"))
+                .andExpect(jsonPath("$.content[0].currentWorkload").value(2))
+                .andExpect(jsonPath("$.content[0].available").value(true));
     }
 
     @Test
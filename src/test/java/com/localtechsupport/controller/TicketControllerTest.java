@@ -3,6 +3,9 @@ package com.localtechsupport.controller;
 import com.localtechsupport.dto.request.*;
 import com.localtechsupport.dto.response.*;
 import com.localtechsupport.entity.*;
+import com.localtechsupport.service.BulkTicketFilter;
+import com.localtechsupport.service.BulkTicketResult;
+import com.localtechsupport.service.BulkTicketService;
 import com.localtechsupport.service.TicketService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,6 +46,9 @@ class TicketControllerTest {
     @Mock
     private TicketService ticketService;
 
+    @Mock
+    private BulkTicketService bulkTicketService;
+
     @InjectMocks
     private TicketController ticketController;
 
@@ -297,6 +303,48 @@ class TicketControllerTest {
             
             verify(ticketService).closeTicket(1L, "Issue resolved", "admin");
         }
+
+        @Test
+        @DisplayName("Should bulk close tickets matching the filter")
+        void bulkCloseTickets_Success() {
+            // Given
+            BulkTicketRequest request = new BulkTicketRequest();
+            request.setServiceType(ServiceType.HARDWARE);
+            request.setResolutionNotes("Outage resolved");
+            request.setUpdatedBy("ops");
+            BulkTicketResult result = mock(BulkTicketResult.class);
+            when(result.getOperation()).thenReturn(BulkTicketService.CLOSE);
+            when(result.getUpdated()).thenReturn(12);
+            when(bulkTicketService.closeTickets(any(BulkTicketFilter.class), eq("Outage resolved"), eq("ops")))
+                .thenReturn(result);
+
+            // When
+            ResponseEntity<BulkTicketOperationResponse> response = ticketController.bulkCloseTickets(request);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().getOperation()).isEqualTo("close");
+            assertThat(response.getBody().getUpdatedTickets()).isEqualTo(12);
+            verify(bulkTicketService).closeTickets(argThat(filter -> filter.getServiceType() == ServiceType.HARDWARE),
+                eq("Outage resolved"), eq("ops"));
+        }
+
+        @Test
+        @DisplayName("Should propagate bulk reassignment validation errors")
+        void bulkReassignTickets_InvalidTechnician() {
+            // Given
+            BulkTicketRequest request = new BulkTicketRequest();
+            request.setTechnicianId(1L);
+            request.setTargetTechnicianId(99L);
+            request.setUpdatedBy("lead");
+            when(bulkTicketService.reassignTickets(any(BulkTicketFilter.class), eq(99L), eq("lead")))
+                .thenThrow(new IllegalArgumentException("Technician not found with ID: 99"));
+
+            // When & Then
+            assertThatThrownBy(() -> ticketController.bulkReassignTickets(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Technician not found with ID: 99");
+        }
     }
 
     @Nested
@@ -0,0 +1,237 @@
+package com.localtechsupport.event;
+
+import com.localtechsupport.event.DomainEventBus.Dispatch;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DomainEventBus Tests")
+class DomainEventBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DomainEventBus eventBus;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (eventBus != null) {
+            eventBus.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver immediately when no transaction is active")
+    void shouldDeliverImmediatelyWithoutTransaction() {
+        // Given
+        eventBus = new DomainEventBus(meterRegistry, false, 16);
+        List<Ping> received = new ArrayList<>();
+        eventBus.subscribe(Ping.class, "recorder", Dispatch.AFTER_COMMIT, received::add);
+
+        // When
+        Ping ping = new Ping(0, 1);
+        eventBus.publish(ping);
+
+        // Then
+        assertThat(received).containsExactly(ping);
+        assertThat(meterRegistry.get("app.events.published").tag("event", "Ping").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should hold events until commit and drop them on rollback")
+    void shouldDeliverOnlyAfterCommit() {
+        // Given
+        eventBus = new DomainEventBus(meterRegistry, false, 16);
+        List<Ping> received = new ArrayList<>();
+        eventBus.subscribe(Ping.class, "recorder", Dispatch.AFTER_COMMIT, received::add);
+
+        // When: one transaction commits, another rolls back
+        TransactionSynchronizationManager.initSynchronization();
+        eventBus.publish(new Ping(0, 1));
+        assertThat(received).isEmpty();
+        List<TransactionSynchronization> committed = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        committed.forEach(TransactionSynchronization::afterCommit);
+
+        TransactionSynchronizationManager.initSynchronization();
+        eventBus.publish(new Ping(0, 2));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        assertThat(received).extracting(ping -> ping.sequence).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Should deliver every event from concurrent producers in per-producer order")
+    void shouldDeliverAsyncEventsInOrder() throws Exception {
+        // Given: a ring much smaller than the event count, so producers wrap and wait
+        eventBus = new DomainEventBus(meterRegistry, true, 64);
+        int producers = 4;
+        int perProducer = 5_000;
+        CountDownLatch done = new CountDownLatch(producers * perProducer);
+        Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        eventBus.subscribe(Ping.class, "recorder", Dispatch.ASYNC, ping -> {
+            received.computeIfAbsent(ping.producer, p -> new ArrayList<>()).add(ping.sequence);
+            if (threads.isEmpty()) {
+                threads.add(Thread.currentThread().getName());
+            }
+            done.countDown();
+        });
+
+        // When
+        List<Thread> publishers = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            publishers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    eventBus.publish(new Ping(producer, i));
+                }
+            }));
+        }
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+
+        // Then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(producers);
+        received.values().forEach(sequences -> {
+            assertThat(sequences).hasSize(perProducer);
+            assertThat(sequences).isSorted();
+        });
+        assertThat(threads).containsExactly("domain-events");
+        assertThat(meterRegistry.get("app.events.listener").tag("dispatch", "async").timer().count())
+            .isEqualTo(producers * perProducer);
+    }
+
+    @Test
+    @DisplayName("Should park the idle async consumer until an event is published")
+    void shouldParkIdleConsumerUntilPublished() throws Exception {
+        // Given
+        eventBus = new DomainEventBus(meterRegistry, true, 16);
+        List<Thread> consumers = new CopyOnWriteArrayList<>();
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(2);
+        eventBus.subscribe(Ping.class, "recorder", Dispatch.ASYNC, ping -> {
+            consumers.add(Thread.currentThread());
+            first.countDown();
+            second.countDown();
+        });
+        eventBus.publish(new Ping(0, 1));
+        assertThat(first.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When: the consumer has nothing left to do
+        Thread consumer = consumers.get(0);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (consumer.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // Then: it waits without a timeout and still wakes for the next event
+        assertThat(consumer.getState()).isEqualTo(Thread.State.WAITING);
+        eventBus.publish(new Ping(0, 2));
+        assertThat(second.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should isolate failing listeners and time them with their exception")
+    void shouldIsolateFailingListeners() {
+        // Given
+        eventBus = new DomainEventBus(meterRegistry, false, 16);
+        AtomicInteger delivered = new AtomicInteger();
+        eventBus.subscribe(Ping.class, "broken", Dispatch.AFTER_COMMIT, ping -> {
+            throw new IllegalStateException("boom");
+        });
+        eventBus.subscribe(DomainEvent.class, "counter", Dispatch.AFTER_COMMIT, event -> delivered.incrementAndGet());
+
+        // When
+        assertThatCode(() -> eventBus.publish(new Ping(0, 1))).doesNotThrowAnyException();
+
+        // Then
+        assertThat(delivered).hasValue(1);
+        Timer failed = meterRegistry.get("app.events.listener")
+            .tags("listener", "broken", "exception", "IllegalStateException").timer();
+        assertThat(failed.count()).isEqualTo(1);
+        Timer succeeded = meterRegistry.get("app.events.listener")
+            .tags("listener", "counter", "event", "Ping", "dispatch", "after_commit", "exception", "none").timer();
+        assertThat(succeeded.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run async listeners after commit when asynchronous dispatch is disabled")
+    void shouldFallBackToAfterCommitWhenAsyncDisabled() {
+        // Given
+        eventBus = new DomainEventBus(meterRegistry, false, 16);
+        List<String> threads = new ArrayList<>();
+        eventBus.subscribe(Ping.class, "recorder", Dispatch.ASYNC, ping -> threads.add(Thread.currentThread().getName()));
+
+        // When
+        eventBus.publish(new Ping(0, 1));
+
+        // Then
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+        assertThat(eventBus.asyncBacklog()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run before-commit listeners inside the transaction and propagate their failures")
+    void shouldRunBeforeCommitListenersInsideTransaction() {
+        // Given
+        eventBus = new DomainEventBus(meterRegistry, false, 16);
+        List<String> calls = new ArrayList<>();
+        eventBus.subscribe(Ping.class, "writer", Dispatch.BEFORE_COMMIT, ping -> {
+            if (ping.sequence < 0) {
+                throw new IllegalStateException("constraint violated");
+            }
+            calls.add("before:" + ping.sequence);
+        });
+        eventBus.subscribe(Ping.class, "recorder", Dispatch.AFTER_COMMIT, ping -> calls.add("after:" + ping.sequence));
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        eventBus.publish(new Ping(0, 1));
+        eventBus.publish(new Ping(0, -1));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(calls).isEmpty();
+        synchronizations.get(0).beforeCommit(false);
+
+        // Then
+        assertThat(calls).containsExactly("before:1");
+        assertThatThrownBy(() -> synchronizations.get(1).beforeCommit(false))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("app.events.listener")
+            .tags("listener", "writer", "dispatch", "before_commit", "exception", "IllegalStateException")
+            .timer().count()).isEqualTo(1);
+    }
+
+    private static final class Ping extends DomainEvent {
+
+        private final int producer;
+        private final int sequence;
+
+        private Ping(int producer, int sequence) {
+            this.producer = producer;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.localtechsupport.load;
+
+import com.localtechsupport.TechSupportServerApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Replays the agent traffic mix against the application on localhost.
+ *
+ * Skipped unless run explicitly. By default the application is started here on
+ * a random port with an embedded database filled by the synthetic data generator;
+ * pass {@code -Dloadtest.base-url=http://localhost:8080} to target a running server.
+ * {@code mvn test -Dtest=AgentTrafficLoadTest -Dloadtest=true [-Dloadtest.workers=100]
+ * [-Dloadtest.seconds=30] [-Dloadtest.pacing-ms=50] [-Dloadtest.tickets=50000]}
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("Agent Traffic Load Test")
+class AgentTrafficLoadTest {
+
+    private static final int WORKERS = Integer.getInteger("loadtest.workers", 100);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final Integer PACING_MS = Integer.getInteger("loadtest.pacing-ms");
+    private static final int TICKETS = Integer.getInteger("loadtest.tickets", 50_000);
+
+    @Test
+    @DisplayName("Should replay agent traffic and report per-endpoint latency")
+    void shouldReplayAgentTraffic() throws Exception {
+        String baseUrl = System.getProperty("loadtest.base-url");
+        if (baseUrl != null) {
+            assertReport(run(baseUrl));
+            return;
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TechSupportServerApplication.class)
+                .profiles("datagen")
+                .run(
+                    "--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:mem:agent_traffic;DB_CLOSE_DELAY=-1",
+                    "--app.datagen.tickets=" + TICKETS,
+                    "--app.datagen.clients=" + Math.max(100, TICKETS / 10),
+                    "--app.datagen.technicians=" + Math.max(20, TICKETS / 1000),
+                    "--logging.level.com.localtechsupport=WARN",
+                    "--logging.level.org.springframework.web=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            assertReport(run("http://localhost:" + port));
+        }
+    }
+
+    private LoadReport run(String baseUrl) throws Exception {
+        AgentTrafficScenario scenario = new AgentTrafficScenario();
+        scenario.discover(baseUrl);
+        LoadReport report = new LoadGenerator(baseUrl, scenario.operations()).run(
+            "Agent traffic, " + WORKERS + " workers" + (PACING_MS != null ? ", one request per " + PACING_MS + " ms each" : ""),
+            WORKERS, Duration.ofSeconds(WARMUP_SECONDS), Duration.ofSeconds(SECONDS),
+            PACING_MS != null ? Duration.ofMillis(PACING_MS) : null);
+        report.print(System.out);
+        return report;
+    }
+
+    private void assertReport(LoadReport report) {
+        assertThat(report.total().requests()).isPositive();
+    }
+}
@@ -0,0 +1,154 @@
+package com.localtechsupport.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Weighted mix replaying the traffic of support agents working the queue.
+ *
+ * Agents create tickets, auto-assign and close them, book appointments, record
+ * client feedback on closed tickets, look at ticket timelines and keep the
+ * unassigned list and dashboard statistics open. Ids created during the run
+ * feed later operations, so tickets move through their real lifecycle.
+ */
+public class AgentTrafficScenario {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final String[] DESCRIPTIONS = {
+        "Printer jam on second floor", "Laptop will not boot", "Email not syncing on phone",
+        "VPN drops every hour", "Monitor flickering", "Password reset needed"
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> clientIds = new CopyOnWriteArrayList<>();
+    private final List<Long> technicianIds = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedDeque<Long> openTickets = new ConcurrentLinkedDeque<>();
+    private final ConcurrentLinkedDeque<Long> closedTickets = new ConcurrentLinkedDeque<>();
+    private final List<Long> knownTickets = new CopyOnWriteArrayList<>();
+    private final AtomicLong nextAppointmentSlot = new AtomicLong();
+    private final Instant firstAppointmentSlot = Instant.now().plus(Duration.ofDays(1));
+
+    /**
+     * Loads the active clients, technicians and open tickets the run starts from.
+     */
+    public void discover(String baseUrl) throws IOException, InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        clientIds.addAll(ids(httpClient, baseUrl + "/api/clients?status=ACTIVE&size=500"));
+        technicianIds.addAll(ids(httpClient, baseUrl + "/api/technicians?status=ACTIVE&size=500"));
+        List<Long> open = ids(httpClient, baseUrl + "/api/tickets?status=OPEN&size=500");
+        openTickets.addAll(open);
+        knownTickets.addAll(open);
+        knownTickets.addAll(ids(httpClient, baseUrl + "/api/tickets?status=CLOSED&size=500"));
+
+        if (clientIds.isEmpty() || technicianIds.isEmpty()) {
+            throw new IllegalStateException("Load scenario needs at least one active client and technician");
+        }
+    }
+
+    public List<LoadOperation> operations() {
+        List<LoadOperation> operations = new ArrayList<>();
+        operations.add(new LoadOperation("ticket create", 10, baseUrl -> Optional.of(post(baseUrl + "/api/tickets", Map.of(
+                "clientId", random(clientIds),
+                "serviceType", ThreadLocalRandom.current().nextBoolean() ? "HARDWARE" : "SOFTWARE",
+                "description", DESCRIPTIONS[ThreadLocalRandom.current().nextInt(DESCRIPTIONS.length)]))),
+            (request, response) -> id(response).ifPresent(id -> {
+                openTickets.add(id);
+                knownTickets.add(id);
+            })));
+        operations.add(LoadOperation.of("ticket auto-assign", 8, baseUrl -> peek(openTickets)
+            .map(id -> post(baseUrl + "/api/tickets/" + id + "/auto-assign", null))));
+        operations.add(new LoadOperation("ticket close", 7, baseUrl -> Optional.ofNullable(openTickets.pollFirst())
+            .map(id -> post(baseUrl + "/api/tickets/" + id + "/close",
+                Map.of("resolutionNotes", "Resolved during load test", "closedBy", "agent"))),
+            (request, response) -> id(response).ifPresent(closedTickets::add)));
+        operations.add(LoadOperation.of("list unassigned", 20, baseUrl -> Optional.of(
+            get(baseUrl + "/api/tickets/unassigned?page=0&size=20"))));
+        operations.add(LoadOperation.of("dashboard statistics", 15, baseUrl -> Optional.of(
+            get(baseUrl + "/api/tickets/statistics"))));
+        operations.add(LoadOperation.of("history timeline", 20, baseUrl -> randomOptional(knownTickets)
+            .map(id -> get(baseUrl + "/api/history/ticket/" + id + "/timeline"))));
+        operations.add(LoadOperation.of("feedback submit", 6, baseUrl -> Optional.ofNullable(closedTickets.pollFirst())
+            .map(id -> post(baseUrl + "/api/feedback", Map.of(
+                "ticketId", id,
+                "rating", 1 + ThreadLocalRandom.current().nextInt(5),
+                "comment", "Submitted during load test",
+                "createdBy", "client")))));
+        operations.add(LoadOperation.of("appointment booking", 6, baseUrl -> peek(openTickets).map(id -> {
+            Instant start = firstAppointmentSlot.plus(Duration.ofHours(nextAppointmentSlot.getAndIncrement()));
+            return post(baseUrl + "/api/appointments", Map.of(
+                "technicianId", random(technicianIds),
+                "ticketId", id,
+                "startTime", start.toString(),
+                "endTime", start.plus(Duration.ofMinutes(60)).toString()));
+        })));
+        return operations;
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT).GET().build();
+    }
+
+    private HttpRequest post(String url, Map<String, Object> body) {
+        try {
+            String json = body != null ? objectMapper.writeValueAsString(body) : "";
+            return HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+
+    private Optional<Long> id(HttpResponse<String> response) {
+        try {
+            JsonNode id = objectMapper.readTree(response.body()).get("id");
+            return id != null ? Optional.of(id.asLong()) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private List<Long> ids(HttpClient httpClient, String url) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(get(url), HttpResponse.BodyHandlers.ofString());
+        List<Long> ids = new ArrayList<>();
+        if (response.statusCode() == 200) {
+            objectMapper.readTree(response.body()).path("content").forEach(node -> ids.add(node.get("id").asLong()));
+        }
+        return ids;
+    }
+
+    /**
+     * A recently created open ticket; it stays in the queue for other operations.
+     */
+    private Optional<Long> peek(ConcurrentLinkedDeque<Long> tickets) {
+        return Optional.ofNullable(tickets.peekLast());
+    }
+
+    private Optional<Long> randomOptional(List<Long> ids) {
+        return ids.isEmpty() ? Optional.empty() : Optional.of(random(ids));
+    }
+
+    private Long random(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.localtechsupport.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a weighted operation mix against a running server.
+ *
+ * Each worker is a virtual thread issuing one request at a time. Without a
+ * pacing interval workers send back to back (closed model). With one, each
+ * worker aims for a fixed request rate and latencies are corrected for
+ * coordinated omission, so a stalled server is not hidden by workers simply
+ * sending less.
+ */
+public class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String baseUrl;
+    private final List<LoadOperation> operations;
+    private final int totalWeight;
+    private final HttpClient httpClient;
+
+    public LoadGenerator(String baseUrl, List<LoadOperation> operations) {
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        this.baseUrl = baseUrl;
+        this.operations = List.copyOf(operations);
+        this.totalWeight = operations.stream().mapToInt(LoadOperation::weight).sum();
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    /**
+     * Runs the mix and reports only the requests started after the warmup.
+     *
+     * @param pacing interval between request starts per worker, or null for back-to-back requests
+     */
+    public LoadReport run(String title, int workers, Duration warmup, Duration duration, Duration pacing) throws Exception {
+        Map<String, Histogram> latencies = new LinkedHashMap<>();
+        Map<String, LongAdder> errors = new LinkedHashMap<>();
+        for (LoadOperation operation : operations) {
+            latencies.put(operation.name(), new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation.name(), new LongAdder());
+        }
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long interval = pacing != null ? pacing.toNanos() : 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < workers; worker++) {
+                executor.submit(() -> {
+                    long nextStart = System.nanoTime() + ThreadLocalRandom.current().nextLong(Math.max(1, interval));
+                    while (true) {
+                        if (interval > 0) {
+                            LockSupport.parkNanos(nextStart - System.nanoTime());
+                        }
+                        long started = System.nanoTime();
+                        if (started >= end) {
+                            return;
+                        }
+                        Pick pick = pick();
+                        boolean ok = send(pick);
+                        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, (System.nanoTime() - started) / 1000);
+                        if (started >= measureFrom) {
+                            Histogram histogram = latencies.get(pick.operation().name());
+                            if (interval > 0) {
+                                histogram.recordValueWithExpectedInterval(micros, interval / 1000);
+                            } else {
+                                histogram.recordValue(micros);
+                            }
+                            if (!ok) {
+                                errors.get(pick.operation().name()).increment();
+                            }
+                        }
+                        nextStart += interval;
+                    }
+                });
+            }
+        }
+
+        List<LoadReport.Entry> entries = new ArrayList<>();
+        for (LoadOperation operation : operations) {
+            entries.add(new LoadReport.Entry(operation.name(), latencies.get(operation.name()),
+                errors.get(operation.name()).sum()));
+        }
+        return new LoadReport(title, duration, entries);
+    }
+
+    private record Pick(LoadOperation operation, HttpRequest request) {
+    }
+
+    private Pick pick() {
+        while (true) {
+            int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+            for (LoadOperation operation : operations) {
+                roll -= operation.weight();
+                if (roll < 0) {
+                    Optional<HttpRequest> request = operation.requestFactory().apply(baseUrl);
+                    if (request.isPresent()) {
+                        return new Pick(operation, request.get());
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean send(Pick pick) {
+        try {
+            HttpResponse<String> response = httpClient.send(pick.request(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                pick.operation().onSuccess().accept(pick.request(), response);
+                return true;
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.localtechsupport.load;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * One weighted entry of a traffic mix.
+ *
+ * The request factory returns empty when the operation has nothing to act on
+ * yet (e.g. closing a ticket before any was created); the generator then picks
+ * another operation. Successful responses are passed to the callback so the
+ * scenario can track the ids it created.
+ */
+public record LoadOperation(String name,
+                            int weight,
+                            Function<String, Optional<HttpRequest>> requestFactory,
+                            BiConsumer<HttpRequest, HttpResponse<String>> onSuccess) {
+
+    public LoadOperation {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Operation weight must be at least 1: " + name);
+        }
+    }
+
+    public static LoadOperation of(String name, int weight, Function<String, Optional<HttpRequest>> requestFactory) {
+        return new LoadOperation(name, weight, requestFactory, (request, response) -> { });
+    }
+}
@@ -0,0 +1,58 @@
+package com.localtechsupport.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Per-operation results of a load run. Latencies are in microseconds.
+ */
+public record LoadReport(String title, Duration duration, List<Entry> entries) {
+
+    public record Entry(String operation, Histogram latencies, long errors) {
+
+        public long requests() {
+            return latencies.getTotalCount();
+        }
+
+        public double errorRate() {
+            return requests() == 0 ? 0 : (double) errors / requests();
+        }
+
+        public double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+
+    public Entry total() {
+        Histogram all = new Histogram(entries.isEmpty() ? 3 : entries.get(0).latencies().getNumberOfSignificantValueDigits());
+        long errors = 0;
+        for (Entry entry : entries) {
+            all.add(entry.latencies());
+            errors += entry.errors();
+        }
+        return new Entry("TOTAL", all, errors);
+    }
+
+    public double throughput(Entry entry) {
+        return entry.requests() / (duration.toMillis() / 1000.0);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n%s (%ds)%n", title, duration.toSeconds());
+        out.printf("%-24s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+            "operation", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        entries.stream().sorted(Comparator.comparing(Entry::operation)).forEach(entry -> printEntry(out, entry));
+        printEntry(out, total());
+    }
+
+    private void printEntry(PrintStream out, Entry entry) {
+        out.printf("%-24s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            entry.operation(), entry.requests(), throughput(entry), entry.errorRate() * 100,
+            entry.percentileMillis(50), entry.percentileMillis(90), entry.percentileMillis(99),
+            entry.percentileMillis(99.9), entry.latencies().getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,102 @@
+package com.localtechsupport.load;
+
+import com.localtechsupport.TechSupportServerApplication;
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.service.ClientService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compares throughput and tail latency of the request execution modes:
+ * Tomcat platform threads, virtual threads, and virtual threads behind the
+ * pool-sized concurrency limiter.
+ *
+ * Skipped unless run explicitly:
+ * {@code mvn test -Dtest=ThreadModeLoadTest -Dloadtest=true [-Dloadtest.concurrency=400]
+ * [-Dloadtest.seconds=10] [-Dloadtest.pool-size=5]}
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("Thread Mode Load Test")
+class ThreadModeLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 10);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 2);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 5);
+    private static final int CLIENTS = 200;
+
+    @Test
+    @DisplayName("Should compare platform threads, virtual threads and virtual threads with limiter")
+    void shouldCompareThreadModes() throws Exception {
+        List<LoadReport> reports = new ArrayList<>();
+        reports.add(run("platform threads", false, false));
+        reports.add(run("virtual threads", true, false));
+        reports.add(run("virtual + limiter", true, true));
+
+        System.out.printf("%nconcurrency=%d, pool=%d, duration=%ds%n", CONCURRENCY, POOL_SIZE, SECONDS);
+        System.out.printf("%-20s %12s %10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (LoadReport report : reports) {
+            LoadReport.Entry total = report.total();
+            System.out.printf("%-20s %12.1f %10.2f %10.2f %10.2f %8d%n", report.title(), report.throughput(total),
+                total.percentileMillis(50), total.percentileMillis(99), total.latencies().getMaxValue() / 1000.0,
+                total.errors());
+        }
+
+        assertThat(reports).allMatch(report -> report.total().requests() > 0);
+    }
+
+    private LoadReport run(String mode, boolean virtualThreads, boolean limiter) throws Exception {
+        String database = mode.replaceAll("\\W", "_");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TechSupportServerApplication.class)
+                .run(
+                    "--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:mem:load_" + database + ";DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                    "--spring.threads.virtual.enabled=" + virtualThreads,
+                    "--app.concurrency-limit.enabled=" + limiter,
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.com.localtechsupport=WARN",
+                    "--logging.level.org.springframework.web=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN")) {
+            List<Long> clientIds = seed(context.getBean(ClientService.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return new LoadGenerator("http://localhost:" + port, operations(clientIds))
+                .run(mode, CONCURRENCY, Duration.ofSeconds(WARMUP_SECONDS), Duration.ofSeconds(SECONDS), null);
+        }
+    }
+
+    private List<Long> seed(ClientService clientService) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Client client = clientService.createClient("Load", "Client" + i, "load" + i + "@example.com", null, null, null);
+            ids.add(client.getId());
+        }
+        return ids;
+    }
+
+    private List<LoadOperation> operations(List<Long> clientIds) {
+        return List.of(
+            LoadOperation.of("client by id", 1, baseUrl -> Optional.of(get(baseUrl + "/api/clients/" +
+                clientIds.get(ThreadLocalRandom.current().nextInt(clientIds.size()))))),
+            LoadOperation.of("client page", 1, baseUrl -> Optional.of(get(baseUrl + "/api/clients?page=" +
+                ThreadLocalRandom.current().nextInt(10) + "&size=20"))));
+    }
+
+    private HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60)).GET().build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.localtechsupport.load;
+
+import com.localtechsupport.TechSupportServerApplication;
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.Technician;
+import com.localtechsupport.entity.TicketHistory;
+import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.repository.TicketHistoryRepository;
+import com.localtechsupport.repository.TicketRepository;
+import com.localtechsupport.service.ClientService;
+import com.localtechsupport.service.TechnicianService;
+import com.localtechsupport.service.TicketService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compares the ticket lock modes when hundreds of threads assign, unassign and
+ * annotate the same few tickets: optimistic versions with retry, optimistic
+ * versions without retry, and pessimistic row locks.
+ *
+ * Threads call the services directly, so the numbers reflect locking rather
+ * than HTTP handling. After each run every hot ticket's history must replay to
+ * its current assignee. Errors are calls that still conflicted after their
+ * retries; unassigning an unassigned ticket is a normal rejection.
+ *
+ * Skipped unless run explicitly:
+ * {@code mvn test -Dtest=TicketContentionLoadTest -Dloadtest=true [-Dloadtest.concurrency=400]
+ * [-Dloadtest.seconds=10] [-Dloadtest.hot-tickets=4] [-Dloadtest.pool-size=10]}
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("Ticket Contention Load Test")
+class TicketContentionLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 10);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 2);
+    private static final int HOT_TICKETS = Integer.getInteger("loadtest.hot-tickets", 4);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 10);
+    private static final int TECHNICIANS = 3;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final String ASSIGNED = "Assigned to technician: ";
+    private static final String UNASSIGNED = "Unassigned from technician: ";
+
+    @Test
+    @DisplayName("Should compare optimistic retry, optimistic without retry and pessimistic locking")
+    void shouldCompareLockModes() throws Exception {
+        // Discarded, so the first measured mode does not pay for JIT compilation
+        run("jvm warmup", "OPTIMISTIC", true);
+
+        List<Result> results = new ArrayList<>();
+        results.add(run("optimistic + retry", "OPTIMISTIC", true));
+        results.add(run("optimistic, no retry", "OPTIMISTIC", false));
+        results.add(run("pessimistic", "PESSIMISTIC", true));
+
+        System.out.printf("%nconcurrency=%d, hot tickets=%d, pool=%d, duration=%ds%n",
+            CONCURRENCY, HOT_TICKETS, POOL_SIZE, SECONDS);
+        System.out.printf("%-22s %10s %9s %9s %9s %9s %9s%n",
+            "mode", "changes/s", "p50 ms", "p99 ms", "max ms", "retries", "errors");
+        for (Result result : results) {
+            LoadReport.Entry total = result.report().total();
+            System.out.printf("%-22s %10.1f %9.2f %9.2f %9.2f %9d %9d%n", result.report().title(),
+                result.report().throughput(total), total.percentileMillis(50), total.percentileMillis(99),
+                total.latencies().getMaxValue() / 1000.0, result.retries(), total.errors());
+        }
+
+        assertThat(results).allMatch(result -> result.report().total().requests() > 0);
+    }
+
+    private record Result(LoadReport report, long retries) {
+    }
+
+    private Result run(String title, String lockMode, boolean retry) throws Exception {
+        String database = title.replaceAll("\\W", "_");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TechSupportServerApplication.class)
+                .run(
+                    "--spring.main.web-application-type=none",
+                    "--spring.datasource.url=jdbc:h2:mem:contention_" + database + ";DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                    "--app.ticket-locking.mode=" + lockMode,
+                    "--app.conflict-retry.enabled=" + retry,
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.com.localtechsupport=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN")) {
+            TicketService ticketService = context.getBean(TicketService.class);
+            List<Long> technicianIds = seedTechnicians(context.getBean(TechnicianService.class));
+            List<Long> ticketIds = seedTickets(context.getBean(ClientService.class), ticketService);
+
+            LoadReport report = drive(title, ticketService, ticketIds, technicianIds);
+            report.print(System.out);
+            assertHistoryReplays(context, ticketIds);
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            meterRegistry.find("app.conflict-retry.conflicts").counters().forEach(counter ->
+                System.out.printf("%s %s %s: %.0f%n", counter.getId().getTag("method"),
+                    counter.getId().getTag("exception"), counter.getId().getTag("outcome"), counter.count()));
+            long retries = (long) meterRegistry.find("app.conflict-retry.conflicts").tag("outcome", "retried")
+                .counters().stream().mapToDouble(Counter::count).sum();
+            return new Result(report, retries);
+        }
+    }
+
+    private LoadReport drive(String title, TicketService ticketService, List<Long> ticketIds,
+                             List<Long> technicianIds) throws InterruptedException {
+        Map<String, Histogram> latencies = new LinkedHashMap<>();
+        Map<String, LongAdder> errors = new LinkedHashMap<>();
+        for (String operation : List.of("assign", "unassign", "status note")) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(SECONDS);
+        // Platform threads: a virtual thread parked while pinned inside the driver would stall its carrier
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int worker = 0; worker < CONCURRENCY; worker++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (true) {
+                    long started = System.nanoTime();
+                    if (started >= end) {
+                        return;
+                    }
+                    Long ticketId = ticketIds.get(random.nextInt(ticketIds.size()));
+                    int roll = random.nextInt(10);
+                    String operation = roll < 4 ? "assign" : roll < 8 ? "unassign" : "status note";
+                    boolean ok = true;
+                    try {
+                        switch (operation) {
+                            case "assign" -> ticketService.assignTechnician(ticketId,
+                                technicianIds.get(random.nextInt(technicianIds.size())));
+                            case "unassign" -> ticketService.unassignTechnician(ticketId, null, "load");
+                            default -> ticketService.updateStatus(ticketId, TicketStatus.OPEN, "Customer called", "load");
+                        }
+                    } catch (IllegalStateException e) {
+                        // Unassigning a ticket nobody holds
+                    } catch (ConcurrencyFailureException e) {
+                        ok = false;
+                    }
+                    if (started >= measureFrom) {
+                        latencies.get(operation).recordValue(
+                            Math.min(HIGHEST_TRACKABLE_MICROS, (System.nanoTime() - started) / 1000));
+                        if (!ok) {
+                            errors.get(operation).increment();
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(SECONDS + WARMUP_SECONDS + 120, TimeUnit.SECONDS)).isTrue();
+
+        List<LoadReport.Entry> entries = new ArrayList<>();
+        latencies.forEach((operation, histogram) ->
+            entries.add(new LoadReport.Entry(operation, histogram, errors.get(operation).sum())));
+        return new LoadReport(title, Duration.ofSeconds(SECONDS), entries);
+    }
+
+    private void assertHistoryReplays(ConfigurableApplicationContext context, List<Long> ticketIds) {
+        TicketRepository ticketRepository = context.getBean(TicketRepository.class);
+        TicketHistoryRepository historyRepository = context.getBean(TicketHistoryRepository.class);
+        for (Long ticketId : ticketIds) {
+            String assignee = null;
+            List<TicketHistory> history = new ArrayList<>(
+                historyRepository.findByTicket(ticketRepository.findById(ticketId).orElseThrow()));
+            history.sort(Comparator.comparing(TicketHistory::getId));
+            for (TicketHistory entry : history) {
+                String description = entry.getDescription();
+                if (description.startsWith(ASSIGNED)) {
+                    assignee = description.substring(ASSIGNED.length());
+                } else if (description.startsWith(UNASSIGNED)) {
+                    assertThat(description.substring(UNASSIGNED.length()))
+                        .as("unassignment of ticket %d", ticketId).isEqualTo(assignee);
+                    assignee = null;
+                }
+            }
+            Technician current = ticketRepository.findById(ticketId).orElseThrow().getAssignedTechnician();
+            assertThat(current != null ? current.getFullName() : null).isEqualTo(assignee);
+        }
+    }
+
+    private List<Long> seedTechnicians(TechnicianService technicianService) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < TECHNICIANS; i++) {
+            ids.add(technicianService.createTechnician("Load Tech " + i, "load.tech" + i + "@example.com",
+                Set.of(ServiceType.HARDWARE), null).getId());
+        }
+        return ids;
+    }
+
+    private List<Long> seedTickets(ClientService clientService, TicketService ticketService) {
+        Long clientId = clientService.createClient("Hot", "Tickets", "hot.tickets@example.com", null, null, null).getId();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < HOT_TICKETS; i++) {
+            ids.add(ticketService.createTicket(clientId, ServiceType.HARDWARE, "Hot ticket " + i).getId());
+        }
+        return ids;
+    }
+}
@@ -713,6 +713,74 @@ class AppointmentRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Grouped Technician Rollup Tests")
+    class GroupedRollupTests {
+
+        @BeforeEach
+        void setupRollupData() {
+            setupTestData();
+        }
+
+        @Test
+        @DisplayName("Should count appointments per technician in one grouped query")
+        void shouldCountAppointmentsGroupedByTechnician() {
+            // When
+            List<Object[]> rows = appointmentRepository.countAppointmentsGroupedByTechnician();
+
+            // Then
+            assertThat(rows).extracting(row -> row[0], row -> row[1]).containsExactlyInAnyOrder(
+                tuple(testTechnician1.getId(), 2L),
+                tuple(testTechnician2.getId(), 1L));
+        }
+
+        @Test
+        @DisplayName("Should count appointments per technician and status")
+        void shouldCountAppointmentsGroupedByTechnicianAndStatus() {
+            // When
+            List<Object[]> rows = appointmentRepository.countAppointmentsGroupedByTechnicianAndStatus();
+
+            // Then
+            assertThat(rows).extracting(row -> row[0], row -> row[1], row -> row[2]).containsExactlyInAnyOrder(
+                tuple(testTechnician1.getId(), AppointmentStatus.CONFIRMED, 1L),
+                tuple(testTechnician1.getId(), AppointmentStatus.COMPLETED, 1L),
+                tuple(testTechnician2.getId(), AppointmentStatus.PENDING, 1L));
+        }
+
+        @Test
+        @DisplayName("Should count active appointments in period per technician")
+        void shouldCountAppointmentsInPeriodGroupedByTechnician() {
+            // Given
+            List<AppointmentStatus> activeStatuses = Arrays.asList(
+                AppointmentStatus.CONFIRMED, AppointmentStatus.PENDING, AppointmentStatus.IN_PROGRESS);
+
+            // When
+            List<Object[]> rows = appointmentRepository.countAppointmentsInPeriodGroupedByTechnician(
+                dayAgo, dayFromNow.minus(1, ChronoUnit.MINUTES), activeStatuses);
+
+            // Then
+            assertThat(rows).extracting(row -> row[0], row -> row[1])
+                .containsExactly(tuple(testTechnician1.getId(), 1L));
+        }
+
+        @Test
+        @DisplayName("Should find booked intervals overlapping a period")
+        void shouldFindBookedIntervals() {
+            // Given
+            List<AppointmentStatus> excludedStatuses = Arrays.asList(
+                AppointmentStatus.CANCELLED, AppointmentStatus.NO_SHOW);
+
+            // When
+            List<Object[]> rows = appointmentRepository.findBookedIntervals(
+                now, dayFromNow.plus(30, ChronoUnit.MINUTES), excludedStatuses);
+
+            // Then
+            assertThat(rows).extracting(row -> row[0]).containsExactlyInAnyOrder(
+                testTechnician1.getId(), testTechnician2.getId());
+            assertThat(rows).allMatch(row -> row[1] instanceof Instant && row[2] instanceof Instant);
+        }
+    }
+
     @Nested
     @DisplayName("Upcoming and Missed Appointments Tests")
     class UpcomingAndMissedTests {
@@ -936,6 +936,65 @@ class ClientRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Listing Projection Tests")
+    class ListingProjectionTests {
+
+        @BeforeEach
+        void setupListingData() {
+            setupTestData();
+        }
+
+        @Test
+        @DisplayName("Should read listing columns without loading entities")
+        void shouldReadListingColumns() {
+            // When
+            Page<ClientListing> result = clientRepository.findListingsBy(PageRequest.of(0, 10, Sort.by("email")));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            assertThat(result.getContent()).extracting(ClientListing::getEmail)
+                .containsExactly("bob.johnson@example.com", "jane.smith@example.com", "john.doe@example.com");
+            ClientListing bob = result.getContent().get(0);
+            assertThat(bob.getId()).isEqualTo(testClient3.getId());
+            assertThat(bob.getFirstName()).isEqualTo("Bob");
+            assertThat(bob.getLastName()).isEqualTo("Johnson");
+            assertThat(bob.getPhone()).isEqualTo("555-0123");
+            assertThat(bob.getAddress()).isEqualTo("123 Test St");
+            assertThat(bob.getNotes()).isEqualTo("Test notes");
+            assertThat(bob.getStatus()).isEqualTo(ClientStatus.SUSPENDED);
+            assertThat(bob.getCreatedAt()).isNotNull();
+            assertThat(bob.getUpdatedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should filter listings by status and creation time")
+        void shouldFilterListings() {
+            // When
+            Page<ClientListing> inactive = clientRepository.findListingsByStatus(ClientStatus.INACTIVE, PageRequest.of(0, 10));
+            Page<ClientListing> recent = clientRepository.findListingsByCreatedAtAfter(
+                LocalDateTime.now().minusDays(1), PageRequest.of(0, 2));
+
+            // Then
+            assertThat(inactive.getContent()).extracting(ClientListing::getEmail).containsExactly("jane.smith@example.com");
+            assertThat(recent.getContent()).hasSize(2);
+            assertThat(recent.getTotalElements()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should search listings with the same filter as the entity search")
+        void shouldSearchListings() {
+            // When
+            Page<ClientListing> result = clientRepository.searchListings("smith", PageRequest.of(0, 10));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            assertThat(result.getContent()).extracting(ClientListing::getId)
+                .containsExactlyElementsOf(clientRepository.searchClients("smith", PageRequest.of(0, 10))
+                    .map(Client::getId).getContent());
+        }
+    }
+
     @Nested
     @DisplayName("Data Integrity Tests")
     class DataIntegrityTests {
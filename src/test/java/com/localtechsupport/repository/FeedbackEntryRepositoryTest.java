@@ -3,6 +3,7 @@ package com.localtechsupport.repository;
 import com.localtechsupport.entity.FeedbackEntry;
 import com.localtechsupport.entity.Ticket;
 import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.Technician;
 import com.localtechsupport.entity.ServiceType;
 import com.localtechsupport.entity.TicketStatus;
 import com.localtechsupport.entity.Client.ClientStatus;
@@ -19,6 +20,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
@@ -811,6 +813,19 @@ class FeedbackEntryRepositoryTest {
             assertThat(distribution).hasSize(3);
         }
 
+        @Test
+        @DisplayName("Should get rating distribution grouped by submission day")
+        void shouldGetDailyRatingDistribution() {
+            // When
+            List<Object[]> distribution = feedbackEntryRepository.getDailyRatingDistribution();
+
+            // Then
+            assertThat(distribution).isNotEmpty();
+            assertThat(distribution).allMatch(row -> row[0] instanceof LocalDate);
+            long total = distribution.stream().mapToLong(row -> ((Number) row[2]).longValue()).sum();
+            assertThat(total).isEqualTo(3L);
+        }
+
         @Test
         @DisplayName("Should find recent low ratings")
         void shouldFindRecentLowRatings() {
@@ -871,6 +886,65 @@ class FeedbackEntryRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Technician Satisfaction Tests")
+    class TechnicianSatisfactionTests {
+
+        private Technician technician;
+
+        @BeforeEach
+        void setupTechnicianData() {
+            setupTestData();
+            technician = new Technician();
+            technician.setFullName("Tech One");
+            technician.setEmail("tech.one@example.com");
+            entityManager.persistAndFlush(technician);
+
+            Ticket ticket = entityManager.find(Ticket.class, testTicket1.getId());
+            ticket.setAssignedTechnician(technician);
+            entityManager.persistAndFlush(ticket);
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("Should group rating distribution by assigned technician")
+        void shouldGroupRatingDistributionByAssignedTechnician() {
+            // When
+            List<Object[]> distribution = feedbackEntryRepository.getRatingDistributionByTechnician();
+
+            // Then - only testTicket1 (ratings 5 and 4) is assigned
+            assertThat(distribution).hasSize(2);
+            assertThat(distribution).allMatch(row -> technician.getId().equals(row[0]));
+            assertThat(distribution).extracting(row -> ((Number) row[1]).intValue())
+                .containsExactlyInAnyOrder(4, 5);
+        }
+
+        @Test
+        @DisplayName("Should get daily average ratings for technician")
+        void shouldGetDailyAverageRatingsForTechnician() {
+            // Given
+            Instant hourAgo = Instant.now().minus(1, ChronoUnit.HOURS);
+
+            // When
+            List<Object[]> daily = feedbackEntryRepository.getDailyAverageRatingsForTechnician(technician.getId(), hourAgo);
+
+            // Then
+            long total = daily.stream().mapToLong(row -> ((Number) row[2]).longValue()).sum();
+            assertThat(total).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("Should return no daily averages for technician without feedback")
+        void shouldReturnNoDailyAveragesForTechnicianWithoutFeedback() {
+            // When
+            List<Object[]> daily = feedbackEntryRepository.getDailyAverageRatingsForTechnician(
+                technician.getId() + 1000, Instant.now().minus(1, ChronoUnit.DAYS));
+
+            // Then
+            assertThat(daily).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("Data Integrity Tests")
     class DataIntegrityTests {
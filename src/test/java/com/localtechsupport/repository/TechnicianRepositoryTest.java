@@ -16,7 +16,9 @@ import org.springframework.data.domain.Sort;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -1000,6 +1002,146 @@ class TechnicianRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Listing Projection Tests")
+    class ListingProjectionTests {
+
+        private Technician fullStackTech;
+        private Technician hardwareTech;
+        private Technician untrainedTech;
+
+        @BeforeEach
+        void setupListingData() {
+            Client client = createTestClient("listing.client@example.com");
+            entityManager.persistAndFlush(client);
+
+            fullStackTech = createTestTechnician("Alex Full", "alex.full@example.com", TechnicianStatus.ACTIVE);
+            hardwareTech = createTestTechnician("Harper Hardware", "harper.hw@example.com", TechnicianStatus.ACTIVE);
+            untrainedTech = createTestTechnician("Uma Untrained", "uma.new@example.com", TechnicianStatus.IN_TRAINING);
+            entityManager.persist(fullStackTech);
+            entityManager.persist(hardwareTech);
+            entityManager.persist(untrainedTech);
+
+            for (ServiceType type : ServiceType.values()) {
+                entityManager.persist(createTechnicianSkill(fullStackTech, type));
+            }
+            entityManager.persist(createTechnicianSkill(hardwareTech, ServiceType.HARDWARE));
+
+            entityManager.persist(createTestTicket(client, fullStackTech, ServiceType.HARDWARE, TicketStatus.OPEN));
+            entityManager.persist(createTestTicket(client, fullStackTech, ServiceType.SOFTWARE, TicketStatus.OPEN));
+            entityManager.persist(createTestTicket(client, fullStackTech, ServiceType.SOFTWARE, TicketStatus.CLOSED));
+            entityManager.persist(createTestTicket(client, hardwareTech, ServiceType.HARDWARE, TicketStatus.CLOSED));
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("Should fold every service type into the skill mask and count only open tickets")
+        void shouldFoldSkillsAndCountOpenTickets() {
+            // When
+            Page<TechnicianListing> result = technicianRepository.findListings(PageRequest.of(0, 10, Sort.by("fullName")));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            assertThat(result.getContent()).extracting(TechnicianListing::getEmail)
+                .containsExactly("alex.full@example.com", "harper.hw@example.com", "uma.new@example.com");
+
+            TechnicianListing fullStack = result.getContent().get(0);
+            assertThat(fullStack.getId()).isEqualTo(fullStackTech.getId());
+            assertThat(fullStack.getFullName()).isEqualTo("Alex Full");
+            assertThat(fullStack.getStatus()).isEqualTo(TechnicianStatus.ACTIVE);
+            assertThat(fullStack.getSkills()).containsExactlyInAnyOrder(ServiceType.values());
+            assertThat(fullStack.getCurrentLoad()).isEqualTo(2);
+
+            TechnicianListing hardware = result.getContent().get(1);
+            assertThat(hardware.getSkills()).containsExactly(ServiceType.HARDWARE);
+            assertThat(hardware.isQualifiedFor(ServiceType.SOFTWARE)).isFalse();
+            assertThat(hardware.getCurrentLoad()).isZero();
+
+            TechnicianListing untrained = result.getContent().get(2);
+            assertThat(untrained.getSkillMask()).isZero();
+            assertThat(untrained.getCurrentLoad()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should round-trip every service type through the skill mask on its own")
+        void shouldRoundTripEachServiceType() {
+            // Given: one technician per service type
+            for (ServiceType type : ServiceType.values()) {
+                Technician technician = createTestTechnician("Solo " + type, "solo." + type.name().toLowerCase()
+                    + "@example.com", TechnicianStatus.ACTIVE);
+                entityManager.persist(technician);
+                entityManager.persist(createTechnicianSkill(technician, type));
+            }
+            entityManager.flush();
+
+            // When
+            Map<String, TechnicianListing> listings = technicianRepository.findListings(PageRequest.of(0, 20))
+                .getContent().stream()
+                .collect(Collectors.toMap(TechnicianListing::getFullName, listing -> listing));
+
+            // Then
+            for (ServiceType type : ServiceType.values()) {
+                TechnicianListing listing = listings.get("Solo " + type);
+                assertThat(listing.getSkillMask()).as("mask of %s", type).isEqualTo(TechnicianListing.skillBit(type));
+                assertThat(listing.getSkills()).containsExactly(type);
+            }
+        }
+
+        @Test
+        @DisplayName("Should page listings by status with a separate count")
+        void shouldPageListingsByStatus() {
+            // When
+            Page<TechnicianListing> result = technicianRepository.findListingsByStatus(
+                TechnicianStatus.ACTIVE, PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "fullName")));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.getContent()).extracting(TechnicianListing::getEmail)
+                .containsExactly("harper.hw@example.com");
+        }
+
+        @Test
+        @DisplayName("Should search listings by name or email")
+        void shouldSearchListings() {
+            // When
+            Page<TechnicianListing> result = technicianRepository.searchListings("HARPER", PageRequest.of(0, 10));
+
+            // Then
+            assertThat(result.getContent()).extracting(TechnicianListing::getEmail)
+                .containsExactly("harper.hw@example.com");
+            assertThat(result.getContent().get(0).getSkills()).containsExactly(ServiceType.HARDWARE);
+        }
+
+        @Test
+        @DisplayName("Should filter listings by skill without narrowing the skill mask")
+        void shouldFilterListingsBySkill() {
+            // When
+            Page<TechnicianListing> result = technicianRepository.findListingsByServiceType(
+                ServiceType.SOFTWARE, PageRequest.of(0, 10));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            assertThat(result.getContent().get(0).getSkills()).containsExactlyInAnyOrder(ServiceType.values());
+        }
+
+        @Test
+        @DisplayName("Should list available technicians with the same filter as the entity query")
+        void shouldListAvailableTechnicians() {
+            // When
+            List<TechnicianListing> available = technicianRepository.findAvailableListings(TechnicianStatus.ACTIVE, 3L);
+            List<TechnicianListing> forSoftware = technicianRepository.findAvailableListingsForService(
+                TechnicianStatus.ACTIVE, ServiceType.SOFTWARE, 10L);
+
+            // Then
+            assertThat(available).extracting(TechnicianListing::getEmail)
+                .containsExactlyInAnyOrderElementsOf(technicianRepository.findAvailableTechnicians(TechnicianStatus.ACTIVE, 3L)
+                    .stream().map(Technician::getEmail).toList())
+                .containsExactly("harper.hw@example.com");
+            assertThat(forSoftware).extracting(TechnicianListing::getEmail).containsExactly("alex.full@example.com");
+        }
+    }
+
     @Nested
     @DisplayName("Data Integrity Tests")
     class DataIntegrityTests {
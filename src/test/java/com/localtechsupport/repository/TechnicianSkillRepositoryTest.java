@@ -11,6 +11,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -210,6 +211,47 @@ class TechnicianSkillRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Listing Projection Tests")
+    class ListingProjectionTests {
+
+        @BeforeEach
+        void setupListingData() {
+            setupBasicTestData();
+        }
+
+        @Test
+        @DisplayName("Should join technician columns into skill listings")
+        void shouldJoinTechnicianColumns() {
+            // When
+            Page<SkillListing> result = technicianSkillRepository.findListings(PageRequest.of(0, 2, Sort.by("id")));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(3);
+            assertThat(result.getContent()).hasSize(2);
+            SkillListing first = result.getContent().get(0);
+            assertThat(first.getSkillId()).isEqualTo(testSkill1.getId());
+            assertThat(first.getTechnicianId()).isEqualTo(testTechnician1.getId());
+            assertThat(first.getTechnicianName()).isEqualTo("John Doe");
+            assertThat(first.getTechnicianEmail()).isEqualTo("john.doe@example.com");
+            assertThat(first.getTechnicianStatus()).isEqualTo(TechnicianStatus.ACTIVE);
+            assertThat(first.getServiceType()).isEqualTo(ServiceType.HARDWARE);
+        }
+
+        @Test
+        @DisplayName("Should list the skills of one technician")
+        void shouldListSkillsOfTechnician() {
+            // When
+            Page<SkillListing> result = technicianSkillRepository.findListingsByTechnicianId(
+                testTechnician1.getId(), PageRequest.of(0, 10));
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(result.getContent()).extracting(SkillListing::getServiceType)
+                .containsExactlyInAnyOrder(ServiceType.HARDWARE, ServiceType.SOFTWARE);
+        }
+    }
+
     @Nested
     @DisplayName("Technician-Based Query Tests")
     class TechnicianBasedTests {
@@ -1320,6 +1362,7 @@ class TechnicianSkillRepositoryTest {
             // Given
             Technician nonExistentTechnician = createTestTechnician("nonexistent@example.com");
             nonExistentTechnician.setId(999L); // Set a non-existent ID
+            nonExistentTechnician.setVersion(0L); // Detached references carry their version
             List<Technician> technicians = List.of(testTechnician1, nonExistentTechnician);
 
             // When
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -1339,6 +1340,49 @@ class TicketRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Bulk Client Detachment Tests")
+    class BulkClientDetachmentTests {
+
+        @BeforeEach
+        void setUp() {
+            setupTestData();
+            entityManager.persistAndFlush(createTestTicket(testClient1, ServiceType.SOFTWARE, "Second issue"));
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("Should detach every ticket of a client in one statement")
+        void shouldDetachAllTicketsOfClient() {
+            // When
+            int detached = ticketRepository.detachClient(testClient1.getId());
+
+            // Then
+            assertThat(detached).isEqualTo(3);
+            assertThat(ticketRepository.countByClientId(testClient1.getId())).isZero();
+            assertThat(ticketRepository.countByClientId(testClient2.getId())).isEqualTo(1);
+            assertThat(ticketRepository.count()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should detach tickets chunk by chunk in id order")
+        void shouldDetachTicketsInChunks() {
+            // Given
+            List<Long> firstChunk = ticketRepository.findIdsByClientId(testClient1.getId(), Limit.of(2));
+
+            // When
+            int detached = ticketRepository.detachClientFromTickets(firstChunk);
+
+            // Then
+            assertThat(firstChunk).hasSize(2).isSorted();
+            assertThat(detached).isEqualTo(2);
+            assertThat(ticketRepository.countByClientId(testClient1.getId())).isEqualTo(1);
+            assertThat(ticketRepository.findIdsByClientId(testClient1.getId(), Limit.of(2)))
+                .hasSize(1)
+                .doesNotContainAnyElementsOf(firstChunk);
+        }
+    }
+
     @Nested
     @DisplayName("Data Integrity Tests")
     class DataIntegrityTests {
@@ -1,7 +1,11 @@
 package com.localtechsupport.service;
 
 import com.localtechsupport.entity.*;
+import com.localtechsupport.event.AppointmentBooked;
+import com.localtechsupport.event.AppointmentStatusChanged;
+import com.localtechsupport.event.DomainEventBus;
 import com.localtechsupport.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,13 +14,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 
@@ -37,6 +46,23 @@ class AppointmentServiceTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @Spy
+    private AppointmentRollupCache rollupCache = new AppointmentRollupCache();
+
+    private final CapacityAggregateCache capacityCache = new CapacityAggregateCache();
+
+    @Spy
+    private WriteValidationCache validationCache = new WriteValidationCache(Duration.ofSeconds(30), 1000, System::nanoTime);
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Spy
+    private DomainEventBus eventBus = new DomainEventBus(new SimpleMeterRegistry(), false, 2);
+
     @InjectMocks
     private AppointmentService appointmentService;
 
@@ -59,6 +85,8 @@ class AppointmentServiceTest {
 
     @BeforeEach
     void setUp() {
+        new DerivedDataEventListeners(eventBus, rollupCache, capacityCache, validationCache);
+
         // Initialize timestamps
         now = Instant.now();
         startTime = now.plus(2, ChronoUnit.HOURS);
@@ -170,6 +198,7 @@ class AppointmentServiceTest {
             verify(appointmentRepository).findConflictingAppointments(
                 eq(activeTechnician), eq(startTime), eq(endTime), any());
             verify(appointmentRepository).save(any(Appointment.class));
+            verify(eventBus).publish(any(AppointmentBooked.class));
         }
 
         @Test
@@ -886,21 +915,168 @@ class AppointmentServiceTest {
         @DisplayName("Should get appointment counts by technician")
         void shouldGetAppointmentCountsByTechnician() {
             // Given
-            List<Technician> technicians = Arrays.asList(activeTechnician, inactiveTechnician);
-            when(technicianRepository.findAll()).thenReturn(technicians);
-            when(appointmentRepository.countByTechnician(activeTechnician)).thenReturn(5L);
-            when(appointmentRepository.countByTechnician(inactiveTechnician)).thenReturn(2L);
+            when(appointmentRepository.countAppointmentsGroupedByTechnician()).thenReturn(Arrays.asList(
+                new Object[]{1L, 5L}, new Object[]{2L, 2L}));
+            when(technicianRepository.findAllIds()).thenReturn(Arrays.asList(1L, 2L, 3L));
 
             // When
             Map<Long, Long> result = appointmentService.getAppointmentCountsByTechnician();
 
             // Then
-            assertThat(result).hasSize(2);
-            assertThat(result.get(1L)).isEqualTo(5L);
-            assertThat(result.get(2L)).isEqualTo(2L);
-            verify(technicianRepository).findAll();
-            verify(appointmentRepository).countByTechnician(activeTechnician);
-            verify(appointmentRepository).countByTechnician(inactiveTechnician);
+            assertThat(result).containsOnly(entry(1L, 5L), entry(2L, 2L), entry(3L, 0L));
+            verify(appointmentRepository).countAppointmentsGroupedByTechnician();
+            verify(appointmentRepository, never()).countByTechnician(any());
+        }
+
+        @Test
+        @DisplayName("Should get appointment status counts by technician")
+        void shouldGetAppointmentStatusCountsByTechnician() {
+            // Given
+            when(appointmentRepository.countAppointmentsGroupedByTechnicianAndStatus()).thenReturn(Arrays.asList(
+                new Object[]{1L, AppointmentStatus.PENDING, 3L},
+                new Object[]{1L, AppointmentStatus.COMPLETED, 4L},
+                new Object[]{2L, AppointmentStatus.CANCELLED, 1L}));
+
+            // When
+            Map<Long, Map<AppointmentStatus, Long>> result = appointmentService.getAppointmentStatusCountsByTechnician();
+
+            // Then
+            assertThat(result.get(1L)).containsEntry(AppointmentStatus.PENDING, 3L)
+                .containsEntry(AppointmentStatus.COMPLETED, 4L).hasSize(2);
+            assertThat(result.get(2L)).containsOnly(entry(AppointmentStatus.CANCELLED, 1L));
+        }
+
+        @Test
+        @DisplayName("Should get active appointment counts by technician in period")
+        void shouldGetAppointmentCountsByTechnicianInPeriod() {
+            // Given
+            when(appointmentRepository.countAppointmentsInPeriodGroupedByTechnician(eq(now), eq(futureTime), anyList()))
+                .thenReturn(Collections.singletonList(new Object[]{1L, 2L}));
+
+            // When
+            Map<Long, Long> result = appointmentService.getAppointmentCountsByTechnicianInPeriod(now, futureTime);
+
+            // Then
+            assertThat(result).containsOnly(entry(1L, 2L));
+            verify(appointmentRepository).countAppointmentsInPeriodGroupedByTechnician(now, futureTime,
+                Arrays.asList(AppointmentStatus.PENDING, AppointmentStatus.CONFIRMED, AppointmentStatus.IN_PROGRESS));
+        }
+
+        @Test
+        @DisplayName("Should serve rollups from cache until an appointment changes")
+        void shouldServeRollupsFromCacheUntilAppointmentChanges() {
+            // Given
+            when(appointmentRepository.countAppointmentsGroupedByTechnician())
+                .thenReturn(Collections.singletonList(new Object[]{1L, 5L}));
+            when(appointmentRepository.findById(1L)).thenReturn(Optional.of(pendingAppointment));
+            when(appointmentRepository.save(any(Appointment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            appointmentService.getAppointmentCountsByTechnician();
+            appointmentService.getAppointmentCountsByTechnician();
+            appointmentService.cancelAppointment(1L, "Client request");
+            appointmentService.getAppointmentCountsByTechnician();
+
+            // Then
+            verify(appointmentRepository, times(2)).countAppointmentsGroupedByTechnician();
+            verify(eventBus).publish(any(AppointmentStatusChanged.class));
+            verify(rollupCache).invalidate();
+        }
+    }
+
+    // === UTILIZATION REPORT TESTS ===
+
+    @Nested
+    @DisplayName("Utilization Report Tests")
+    class UtilizationReportTests {
+
+        private final LocalDate monday = LocalDate.of(2026, 1, 5);
+
+        private Instant at(LocalDate date, int hour) {
+            return date.atStartOfDay(ZoneOffset.UTC).toInstant().plus(hour, ChronoUnit.HOURS);
+        }
+
+        @Test
+        @DisplayName("Should compute booked vs available hours per technician and day")
+        @SuppressWarnings("unchecked")
+        void shouldComputeUtilizationPerTechnicianAndDay() {
+            // Given
+            when(appointmentRepository.findBookedIntervals(any(Instant.class), any(Instant.class), anyList()))
+                .thenReturn(Arrays.asList(
+                    new Object[]{1L, at(monday, 9), at(monday, 13)},
+                    new Object[]{1L, at(monday, 22), at(monday.plusDays(1), 2)},
+                    new Object[]{2L, at(monday.plusDays(1), 10), at(monday.plusDays(1), 12)}));
+            when(technicianRepository.findAll()).thenReturn(Arrays.asList(activeTechnician, inactiveTechnician));
+
+            // When
+            Map<String, Object> report = appointmentService.getTechnicianUtilizationReport(monday, monday.plusDays(1), 8);
+
+            // Then
+            assertThat(report).containsEntry("days", 2)
+                .containsEntry("totalBookedHours", 10.0)
+                .containsEntry("totalAvailableHours", 16.0);
+            List<Map<String, Object>> technicians = (List<Map<String, Object>>) report.get("technicians");
+            assertThat(technicians).hasSize(2);
+            assertThat(technicians.get(0)).containsEntry("technicianId", 1L)
+                .containsEntry("appointmentCount", 2L)
+                .containsEntry("bookedHours", 8.0)
+                .containsEntry("availableHours", 16.0)
+                .containsEntry("utilization", 0.5);
+            List<Map<String, Object>> daily = (List<Map<String, Object>>) technicians.get(0).get("daily");
+            assertThat(daily).extracting(day -> day.get("bookedHours")).containsExactly(6.0, 2.0);
+            assertThat(technicians.get(1)).containsEntry("technicianId", 2L)
+                .containsEntry("bookedHours", 2.0)
+                .containsEntry("availableHours", 0.0)
+                .containsEntry("utilization", 0.0);
+            verify(appointmentRepository).findBookedIntervals(at(monday, 0), at(monday.plusDays(2), 0),
+                Arrays.asList(AppointmentStatus.CANCELLED, AppointmentStatus.NO_SHOW));
+        }
+
+        @Test
+        @DisplayName("Should omit inactive technicians without bookings")
+        @SuppressWarnings("unchecked")
+        void shouldOmitInactiveTechniciansWithoutBookings() {
+            // Given
+            when(appointmentRepository.findBookedIntervals(any(Instant.class), any(Instant.class), anyList()))
+                .thenReturn(Collections.emptyList());
+            when(technicianRepository.findAll()).thenReturn(Arrays.asList(activeTechnician, inactiveTechnician));
+
+            // When
+            Map<String, Object> report = appointmentService.getTechnicianUtilizationReport(monday, monday, 8);
+
+            // Then
+            assertThat((List<Map<String, Object>>) report.get("technicians"))
+                .extracting(row -> row.get("technicianId")).containsExactly(1L);
+            assertThat(report).containsEntry("utilization", 0.0);
+        }
+
+        @Test
+        @DisplayName("Should cache utilization reports per date range")
+        void shouldCacheUtilizationReports() {
+            // Given
+            when(appointmentRepository.findBookedIntervals(any(Instant.class), any(Instant.class), anyList()))
+                .thenReturn(Collections.emptyList());
+            when(technicianRepository.findAll()).thenReturn(Collections.singletonList(activeTechnician));
+
+            // When
+            appointmentService.getTechnicianUtilizationReport(monday, monday.plusDays(6), 8);
+            appointmentService.getTechnicianUtilizationReport(monday, monday.plusDays(6), 8);
+            appointmentService.getTechnicianUtilizationReport(monday, monday.plusDays(1), 8);
+
+            // Then
+            verify(appointmentRepository, times(2)).findBookedIntervals(any(Instant.class), any(Instant.class), anyList());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid utilization ranges")
+        void shouldRejectInvalidUtilizationRanges() {
+            assertThatThrownBy(() -> appointmentService.getTechnicianUtilizationReport(monday, monday.minusDays(1), 8))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> appointmentService.getTechnicianUtilizationReport(monday, monday.plusDays(92), 8))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> appointmentService.getTechnicianUtilizationReport(monday, monday, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(appointmentRepository);
         }
     }
 
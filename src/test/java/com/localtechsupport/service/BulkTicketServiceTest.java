@@ -0,0 +1,191 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bulk_ticket_test;DB_CLOSE_DELAY=-1",
+    "app.bulk-operations.chunk-size=2",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Bulk Ticket Operation Tests")
+class BulkTicketServiceTest {
+
+    @Autowired
+    private BulkTicketService bulkTicketService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TechnicianService technicianService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long leavingTechnicianId;
+    private Long replacementTechnicianId;
+    private List<Long> hardwareTickets;
+    private Long softwareTicket;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM feedback_entries");
+        jdbcTemplate.execute("DELETE FROM ticket_history");
+        jdbcTemplate.execute("DELETE FROM tickets");
+        jdbcTemplate.execute("DELETE FROM technician_skills");
+        jdbcTemplate.execute("DELETE FROM technicians");
+        jdbcTemplate.execute("DELETE FROM clients");
+
+        leavingTechnicianId = technicianService.createTechnician("Leaving Tech", "leaving@example.com",
+            Set.of(ServiceType.HARDWARE, ServiceType.SOFTWARE), null).getId();
+        replacementTechnicianId = technicianService.createTechnician("Replacement Tech", "replacement@example.com",
+            Set.of(ServiceType.HARDWARE, ServiceType.SOFTWARE), null).getId();
+        Long clientId = clientService.createClient("Bulk", "Client", "bulk@example.com", null, null, null).getId();
+
+        hardwareTickets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long ticketId = ticketService.createTicket(clientId, ServiceType.HARDWARE, "Outage " + i).getId();
+            ticketService.assignTechnician(ticketId, leavingTechnicianId);
+            hardwareTickets.add(ticketId);
+        }
+        softwareTicket = ticketService.createTicket(clientId, ServiceType.SOFTWARE, "Unrelated").getId();
+        ticketService.closeTicket(hardwareTickets.get(4), "Fixed earlier", "tech");
+    }
+
+    @Test
+    @DisplayName("Should close matching open tickets in chunks and write their history")
+    void shouldCloseMatchingTicketsInChunks() {
+        // When
+        BulkTicketResult result = bulkTicketService.closeTickets(
+            new BulkTicketFilter(null, null, ServiceType.HARDWARE, null), "Outage resolved", "ops");
+
+        // Then
+        assertThat(result.getMatched()).isEqualTo(4);
+        assertThat(result.getUpdated()).isEqualTo(4);
+        assertThat(result.getChunks()).hasSize(2).allMatch(chunk -> chunk.getUpdated() == 2);
+        assertThat(result.getFailedChunks()).isZero();
+        assertThat(countRows("SELECT COUNT(*) FROM tickets WHERE status = 'CLOSED'")).isEqualTo(5);
+        assertThat(ticketService.getTicketById(softwareTicket).getStatus()).isEqualTo(TicketStatus.OPEN);
+        assertThat(countRows("SELECT COUNT(*) FROM ticket_history WHERE description = " +
+            "'Ticket closed - Resolution: Outage resolved' AND created_by = 'ops' AND status = " +
+            TicketStatus.CLOSED.ordinal())).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should report explicitly listed tickets the operation does not change as skipped")
+    void shouldSkipTicketsThatAreAlreadyChanged() {
+        // When
+        BulkTicketResult result = bulkTicketService.closeTickets(
+            new BulkTicketFilter(List.of(hardwareTickets.get(3), hardwareTickets.get(4), softwareTicket), null, null, null),
+            null, "ops");
+
+        // Then
+        assertThat(result.getMatched()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(2);
+        assertThat(result.getSkipped()).isZero();
+        assertThat(ticketService.getTicketById(softwareTicket).getStatus()).isEqualTo(TicketStatus.CLOSED);
+
+        // When
+        BulkTicketResult repeated = bulkTicketService.changePriority(
+            new BulkTicketFilter(List.of(softwareTicket), null, null, null), TicketPriority.NORMAL, "ops");
+
+        // Then
+        assertThat(repeated.getMatched()).isEqualTo(1);
+        assertThat(repeated.getSkipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reassign a technician's open tickets and move their feedback ratings")
+    void shouldReassignOpenTickets() {
+        // Given
+        feedbackService.createFeedback(hardwareTickets.get(0), 5, "Quick", "client");
+
+        // When
+        BulkTicketResult result = bulkTicketService.reassignTickets(
+            new BulkTicketFilter(null, leavingTechnicianId, null, null), replacementTechnicianId, "lead");
+
+        // Then
+        assertThat(result.getUpdated()).isEqualTo(4);
+        assertThat(countRows("SELECT COUNT(*) FROM tickets WHERE technician_id = " + replacementTechnicianId)).isEqualTo(4);
+        assertThat(countRows("SELECT COUNT(*) FROM tickets WHERE technician_id = " + leavingTechnicianId)).isEqualTo(1);
+        assertThat(countRows("SELECT COUNT(*) FROM ticket_history WHERE description = " +
+            "'Assigned to technician: Replacement Tech' AND created_by = 'lead'")).isEqualTo(4);
+        assertThat(feedbackService.getTechnicianFeedbackSummary(replacementTechnicianId)).containsEntry("totalFeedbackCount", 1L);
+        assertThat(feedbackService.getTechnicianFeedbackSummary(leavingTechnicianId)).containsEntry("totalFeedbackCount", 0L);
+    }
+
+    @Test
+    @DisplayName("Should not reassign tickets to a technician without their skill and report them as rejected")
+    void shouldRejectTicketsTheTechnicianLacksTheSkillFor() {
+        // Given
+        Long softwareOnlyTechnicianId = technicianService.createTechnician("Software Tech", "software@example.com",
+            Set.of(ServiceType.SOFTWARE), null).getId();
+
+        // When
+        BulkTicketResult result = bulkTicketService.reassignTickets(
+            new BulkTicketFilter(List.of(hardwareTickets.get(0), hardwareTickets.get(1), softwareTicket), null, null, null),
+            softwareOnlyTechnicianId, "lead");
+
+        // Then
+        assertThat(result.getMatched()).isEqualTo(3);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getSkipped()).isZero();
+        assertThat(result.getRejectedTicketIds()).containsExactly(hardwareTickets.get(0), hardwareTickets.get(1));
+        assertThat(ticketService.getTicketById(softwareTicket).getAssignedTechnician().getId()).isEqualTo(softwareOnlyTechnicianId);
+        assertThat(countRows("SELECT COUNT(*) FROM tickets WHERE technician_id = " + leavingTechnicianId)).isEqualTo(5);
+        assertThat(countRows("SELECT COUNT(*) FROM ticket_history WHERE description = " +
+            "'Assigned to technician: Software Tech'")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should change priority of every matching ticket")
+    void shouldChangePriority() {
+        // When
+        BulkTicketResult result = bulkTicketService.changePriority(
+            new BulkTicketFilter(null, null, null, TicketStatus.OPEN), TicketPriority.URGENT, "ops");
+
+        // Then
+        assertThat(result.getUpdated()).isEqualTo(5);
+        assertThat(countRows("SELECT COUNT(*) FROM tickets WHERE priority = 'URGENT'")).isEqualTo(5);
+        assertThat(countRows("SELECT COUNT(*) FROM ticket_history WHERE description = 'Priority changed to URGENT'"))
+            .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reject unfiltered operations and invalid targets")
+    void shouldValidateRequests() {
+        assertThatThrownBy(() -> bulkTicketService.closeTickets(new BulkTicketFilter(List.of(), null, null, null), null, "ops"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Bulk operations require at least one filter criterion");
+        assertThatThrownBy(() -> bulkTicketService.reassignTickets(
+                new BulkTicketFilter(null, leavingTechnicianId, null, null), -1L, "ops"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Technician not found with ID: -1");
+        assertThatThrownBy(() -> bulkTicketService.changePriority(
+                new BulkTicketFilter(null, leavingTechnicianId, null, null), TicketPriority.HIGH, " "))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Updated by is required");
+    }
+
+    private int countRows(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,224 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.config.SyntheticDataGenerator;
+import com.localtechsupport.config.SyntheticDataProperties;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.TicketsBulkUpdated;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:capacity_forecast_test;DB_CLOSE_DELAY=-1",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("CapacityForecastService Tests")
+class CapacityForecastServiceTest {
+
+    @Autowired
+    private CapacityForecastService capacityForecastService;
+
+    @Autowired
+    private CapacityAggregateCache capacityCache;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private LocalDate today;
+    private long hardwareTechnicianId;
+    private long clientId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String table : List.of("appointments", "feedback_entries", "ticket_history", "tickets",
+                                    "technician_skills", "technicians", "clients")) {
+            jdbcTemplate.execute("DELETE FROM " + table);
+        }
+        capacityCache.invalidate();
+        today = LocalDate.now(ZoneOffset.UTC);
+
+        hardwareTechnicianId = insertTechnician("hardware@example.com", "ACTIVE", "HARDWARE");
+        insertTechnician("both@example.com", "ACTIVE", "HARDWARE", "SOFTWARE");
+        insertTechnician("inactive@example.com", "INACTIVE", "SOFTWARE");
+        jdbcTemplate.update("INSERT INTO clients (first_name, last_name, email, status, created_at, updated_at) " +
+            "VALUES ('Ada', 'Client', 'ada@example.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        clientId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM clients", Long.class);
+    }
+
+    @Test
+    @DisplayName("Should subtract booked hours and split free capacity across skills")
+    @SuppressWarnings("unchecked")
+    void shouldComputeCapacityPerServiceType() {
+        // Given
+        long ticketId = insertTicket("HARDWARE", "NORMAL", "OPEN", at(today, 12), at(today.plusDays(30), 12));
+        insertAppointment(hardwareTechnicianId, ticketId, at(today.plusDays(1), 10), at(today.plusDays(1), 14), 1);
+
+        // When
+        Map<String, Object> report = capacityForecastService.forecast(3);
+
+        // Then
+        assertThat(report).containsEntry("technicianCount", 2).containsEntry("days", 3);
+        List<Map<String, Object>> days = (List<Map<String, Object>>) report.get("forecast");
+        assertThat(days).extracting(day -> day.get("capacityHours")).containsExactly(16.0, 12.0, 16.0);
+        assertThat(days.get(1)).containsEntry("bookedHours", 4.0);
+        Map<String, Map<String, Object>> byType = (Map<String, Map<String, Object>>) days.get(1).get("byServiceType");
+        assertThat(byType.get("HARDWARE")).containsEntry("capacityHours", 8.0);
+        assertThat(byType.get("SOFTWARE")).containsEntry("capacityHours", 4.0);
+    }
+
+    @Test
+    @DisplayName("Should place backlog on its expected resolution day using history and due dates")
+    @SuppressWarnings("unchecked")
+    void shouldPlaceBacklogByResolutionHistory() {
+        // Given: a HARDWARE/HIGH ticket closed 48 hours after creation with 3 hours on site
+        Instant closedCreated = at(today.minusDays(10), 12);
+        long closedId = insertTicket("HARDWARE", "HIGH", "CLOSED", closedCreated, at(today.minusDays(5), 12));
+        insertHistory(closedId, 1, closedCreated.plus(Duration.ofHours(48)));
+        insertAppointment(hardwareTechnicianId, closedId, at(today.minusDays(9), 9), at(today.minusDays(9), 12), 3);
+
+        insertTicket("HARDWARE", "LOW", "OPEN", at(today.minusDays(40), 12), at(today.minusDays(30), 12));
+        insertTicket("SOFTWARE", "NORMAL", "OPEN", at(today, 12), at(today.plusDays(1), 12));
+        insertTicket("HARDWARE", "HIGH", "OPEN", at(today, 12), at(today.plusDays(10), 12));
+
+        // When
+        Map<String, Object> report = capacityForecastService.forecast(3);
+
+        // Then
+        List<Map<String, Object>> days = (List<Map<String, Object>>) report.get("forecast");
+        assertThat(days).extracting(day -> day.get("backlogTickets")).containsExactly(1L, 1L, 1L);
+        assertThat(days).extracting(day -> day.get("backlogHours")).containsExactly(3.0, 2.0, 3.0);
+        assertThat(report).containsEntry("openTickets", 3L).containsEntry("ticketsBeyondHorizon", 0L);
+        Map<String, Object> assumptions = (Map<String, Object>) report.get("assumptions");
+        assertThat((Map<String, Object>) assumptions.get("effortHoursPerTicket"))
+            .containsEntry("HARDWARE", 3.0).containsEntry("SOFTWARE", 2.0);
+        assertThat(((Map<String, Map<String, Object>>) assumptions.get("resolutionHours")).get("HARDWARE"))
+            .containsEntry("HIGH", 48.0).containsEntry("LOW", null);
+        assertThat(capacityForecastService.forecast(2)).containsEntry("ticketsBeyondHorizon", 1L);
+    }
+
+    @Test
+    @DisplayName("Should keep ticket-derived inputs across ticket changes until the refresh interval passes")
+    void shouldKeepInputsAcrossTicketChanges() {
+        // Given
+        DomainEventBus eventBus = new DomainEventBus(new SimpleMeterRegistry(), false, 2);
+        new DerivedDataEventListeners(eventBus, new AppointmentRollupCache(), capacityCache,
+            new WriteValidationCache(Duration.ofSeconds(30), 1000, System::nanoTime));
+        long ticketId = insertTicket("HARDWARE", "NORMAL", "OPEN", at(today, 12), at(today.plusDays(30), 12));
+        capacityForecastService.forecast(3);
+        CapacityForecastService.ForecastInputs inputs = capacityCache.getInputs();
+
+        // When
+        eventBus.publish(new TicketsBulkUpdated("CLOSE", List.of(ticketId)));
+
+        // Then
+        assertThat(inputs).isNotNull();
+        assertThat(capacityCache.getInputs()).isSameAs(inputs);
+    }
+
+    @Test
+    @DisplayName("Should reuse cached days and reload only days touched by an appointment change")
+    @SuppressWarnings("unchecked")
+    void shouldReloadOnlyChangedDays() {
+        // Given
+        long ticketId = insertTicket("HARDWARE", "NORMAL", "OPEN", at(today, 12), at(today.plusDays(30), 12));
+        capacityForecastService.forecast(5);
+        assertThat(capacityCache.cachedDayCount()).isEqualTo(5);
+
+        // When
+        appointmentService.createAppointment(hardwareTechnicianId, ticketId,
+            at(today.plusDays(2), 10), at(today.plusDays(2), 12));
+
+        // Then
+        assertThat(capacityCache.cachedDayCount()).isEqualTo(4);
+        assertThat(capacityCache.getBookedSeconds(today.plusDays(2))).isNull();
+        List<Map<String, Object>> days = (List<Map<String, Object>>) capacityForecastService.forecast(5).get("forecast");
+        assertThat(days.get(2)).containsEntry("bookedHours", 2.0);
+        assertThat(capacityCache.cachedDayCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reject forecast horizons outside the allowed range")
+    void shouldRejectInvalidHorizons() {
+        assertThatThrownBy(() -> capacityForecastService.forecast(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> capacityForecastService.forecast(91)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should forecast for 1,000 technicians in under 100 ms from cached aggregates")
+    void shouldForecastLargeTeamQuickly() {
+        // Given
+        SyntheticDataProperties properties = new SyntheticDataProperties();
+        properties.setTechnicians(1_000);
+        properties.setClients(1_000);
+        properties.setTickets(10_000);
+        new SyntheticDataGenerator(dataSource, properties).generate();
+        capacityCache.invalidate();
+        capacityForecastService.forecast(30);
+
+        // When
+        long best = Long.MAX_VALUE;
+        Map<String, Object> report = null;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            report = capacityForecastService.forecast(30);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        // Then
+        assertThat((Integer) report.get("technicianCount")).isGreaterThan(800);
+        assertThat(Duration.ofNanos(best)).isLessThan(Duration.ofMillis(100));
+    }
+
+    // === TEST DATA ===
+
+    private long insertTechnician(String email, String status, String... skills) {
+        jdbcTemplate.update("INSERT INTO technicians (full_name, email, status) VALUES (?, ?, ?)", "Tech " + email, email, status);
+        long id = jdbcTemplate.queryForObject("SELECT id FROM technicians WHERE email = ?", Long.class, email);
+        for (String skill : skills) {
+            jdbcTemplate.update("INSERT INTO technician_skills (technician_id, service_type) VALUES (?, ?)", id, skill);
+        }
+        return id;
+    }
+
+    private long insertTicket(String serviceType, String priority, String status, Instant createdAt, Instant dueAt) {
+        jdbcTemplate.update("INSERT INTO tickets (client_id, service_type, description, status, priority, created_at, due_at) " +
+            "VALUES (?, ?, 'Capacity test', ?, ?, ?, ?)",
+            clientId, serviceType, status, priority, Timestamp.from(createdAt), Timestamp.from(dueAt));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM tickets", Long.class);
+    }
+
+    private void insertHistory(long ticketId, int status, Instant createdAt) {
+        jdbcTemplate.update("INSERT INTO ticket_history (ticket_id, status, description, created_by, created_at, updated_at) " +
+            "VALUES (?, ?, 'Closed', 'tech', ?, ?)", ticketId, status, Timestamp.from(createdAt), Timestamp.from(createdAt));
+    }
+
+    private void insertAppointment(long technicianId, long ticketId, Instant start, Instant end, int status) {
+        jdbcTemplate.update("INSERT INTO appointments (technician_id, ticket_id, start_time, end_time, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            technicianId, ticketId, Timestamp.from(start), Timestamp.from(end), status);
+    }
+
+    private Instant at(LocalDate date, int hour) {
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant().plus(Duration.ofHours(hour));
+    }
+}
@@ -0,0 +1,115 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.Client.ClientStatus;
+import com.localtechsupport.entity.ServiceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:client_deletion_test;DB_CLOSE_DELAY=-1",
+    "app.client-deletion.chunk-size=2",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Client Deletion Job Tests")
+class ClientDeletionServiceTest {
+
+    @Autowired
+    private ClientDeletionService clientDeletionService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM ticket_history");
+        jdbcTemplate.execute("DELETE FROM tickets");
+        jdbcTemplate.execute("DELETE FROM clients");
+    }
+
+    @Test
+    @DisplayName("Should detach tickets in chunks and then delete the client")
+    void shouldDeleteClientInChunks() throws Exception {
+        // Given
+        Client client = clientWithTickets("big@example.com", 5);
+        Client other = clientWithTickets("other@example.com", 1);
+        clientService.updateClientStatus(client.getId(), ClientStatus.INACTIVE, "Closing account");
+
+        // When
+        ClientDeletionJob job = clientDeletionService.startDeletion(client.getId());
+        awaitFinished(job);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ClientDeletionJob.Status.COMPLETED);
+        assertThat(job.getTotalTickets()).isEqualTo(5);
+        assertThat(job.getDetachedTickets()).isEqualTo(5);
+        assertThat(clientDeletionService.findJob(job.getId())).containsSame(job);
+        assertThat(clientService.findById(client.getId())).isEmpty();
+        assertThat(countRows("SELECT COUNT(*) FROM tickets WHERE client_id IS NULL")).isEqualTo(5);
+        assertThat(countRows("SELECT COUNT(*) FROM tickets WHERE client_id = " + other.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse to delete an active client")
+    void shouldRefuseActiveClient() {
+        // Given
+        Client client = clientWithTickets("active@example.com", 1);
+
+        // When / Then
+        assertThatThrownBy(() -> clientDeletionService.startDeletion(client.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Cannot delete active client. Please deactivate first.");
+        assertThatThrownBy(() -> clientDeletionService.startDeletion(-1L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Client not found with ID: -1");
+    }
+
+    @Test
+    @DisplayName("Should delete synchronously, detaching tickets chunk by chunk")
+    void shouldDeleteClientSynchronously() {
+        // Given
+        Client client = clientWithTickets("small@example.com", 3);
+        clientService.updateClientStatus(client.getId(), ClientStatus.INACTIVE, "Closing account");
+
+        // When
+        clientService.deleteClient(client.getId());
+
+        // Then
+        assertThat(clientService.findById(client.getId())).isEmpty();
+        assertThat(countRows("SELECT COUNT(*) FROM tickets WHERE client_id IS NULL")).isEqualTo(3);
+    }
+
+    private Client clientWithTickets(String email, int tickets) {
+        Client client = clientService.createClient("Test", "Client", email, null, null, null);
+        for (int i = 0; i < tickets; i++) {
+            ticketService.createTicket(client.getId(), ServiceType.HARDWARE, "Issue " + i);
+        }
+        return client;
+    }
+
+    private void awaitFinished(ClientDeletionJob job) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (!job.isFinished() && Instant.now().isBefore(deadline)) {
+            Thread.sleep(20);
+        }
+    }
+
+    private int countRows(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,133 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:client_overview_test;DB_CLOSE_DELAY=-1",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Client Overview Tests")
+class ClientOverviewServiceTest {
+
+    @Autowired
+    private ClientOverviewService clientOverviewService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TechnicianService technicianService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long clientId;
+    private Long technicianId;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("change_log", "appointments", "feedback_entries", "ticket_history", "tickets",
+                                    "technician_skills", "technicians", "clients")) {
+            jdbcTemplate.execute("DELETE FROM " + table);
+        }
+        technicianId = technicianService.createTechnician("Overview Tech", "overview.tech@example.com",
+            Set.of(ServiceType.HARDWARE, ServiceType.SOFTWARE), null).getId();
+        clientId = clientService.createClient("Overview", "Client", "overview@example.com", null, null, null).getId();
+    }
+
+    @Test
+    @DisplayName("Should summarize the client's tickets, feedback and appointments")
+    void shouldSummarizeClientActivity() {
+        // Given: an overdue assigned ticket, an open ticket, a closed ticket and another client's ticket
+        Long overdueId = ticketService.createTicket(clientId, ServiceType.HARDWARE, "Laptop overheating",
+            TicketPriority.HIGH).getId();
+        ticketService.assignTechnician(overdueId, technicianId);
+        jdbcTemplate.update("UPDATE tickets SET due_at = ? WHERE id = ?",
+            Timestamp.from(Instant.now().minus(2, ChronoUnit.HOURS)), overdueId);
+        Long openId = ticketService.createTicket(clientId, ServiceType.SOFTWARE, "Email sync").getId();
+        Long closedId = ticketService.createTicket(clientId, ServiceType.SOFTWARE, "Password reset").getId();
+        feedbackService.createFeedback(closedId, 5, "Quick", "client");
+        feedbackService.createFeedback(openId, 2, "Still waiting", "client");
+        ticketService.closeTicket(closedId, "Reset", "tech");
+        Instant start = Instant.now().plus(1, ChronoUnit.DAYS);
+        Appointment appointment = appointmentService.createAppointment(technicianId, overdueId,
+            start, start.plus(1, ChronoUnit.HOURS));
+
+        Long otherClientId = clientService.createClient("Other", "Client", "other@example.com", null, null, null).getId();
+        Long otherTicketId = ticketService.createTicket(otherClientId, ServiceType.HARDWARE, "Not mine").getId();
+        feedbackService.createFeedback(otherTicketId, 1, "Bad", "other");
+
+        // When
+        ClientOverview overview = clientOverviewService.getClientOverview(clientId);
+
+        // Then
+        assertThat(overview.getClient().getId()).isEqualTo(clientId);
+        assertThat(overview.getTotalTickets()).isEqualTo(3);
+        assertThat(overview.getTicketsByStatus())
+            .containsEntry(TicketStatus.OPEN, 2L)
+            .containsEntry(TicketStatus.CLOSED, 1L);
+        assertThat(overview.getTicketsByPriority())
+            .containsEntry(TicketPriority.HIGH, 1L)
+            .containsEntry(TicketPriority.NORMAL, 2L)
+            .containsEntry(TicketPriority.LOW, 0L);
+        assertThat(overview.getOverdueTicketCount()).isEqualTo(1);
+        assertThat(overview.getOverdueTickets()).singleElement().satisfies(ticket -> {
+            assertThat(ticket.getId()).isEqualTo(overdueId);
+            assertThat(ticket.getAssignedTechnician().getId()).isEqualTo(technicianId);
+        });
+        assertThat(overview.getFeedbackCount()).isEqualTo(2);
+        assertThat(overview.getAverageRating()).isEqualTo(3.5);
+        assertThat(overview.getUpcomingAppointments()).extracting(Appointment::getId)
+            .containsExactly(appointment.getId());
+        assertThat(overview.getLastActivityAt()).isNotNull()
+            .isAfterOrEqualTo(appointment.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("Should return empty counts for a client without tickets")
+    void shouldReturnEmptyOverviewWithoutTickets() {
+        // When
+        ClientOverview overview = clientOverviewService.getClientOverview(clientId);
+
+        // Then
+        assertThat(overview.getTotalTickets()).isZero();
+        assertThat(overview.getTicketsByStatus()).containsOnlyKeys(TicketStatus.values()).allSatisfy(
+            (status, count) -> assertThat(count).isZero());
+        assertThat(overview.getOverdueTickets()).isEmpty();
+        assertThat(overview.getFeedbackCount()).isZero();
+        assertThat(overview.getAverageRating()).isNull();
+        assertThat(overview.getUpcomingAppointments()).isEmpty();
+        assertThat(overview.getLastActivityAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown client")
+    void shouldRejectUnknownClient() {
+        assertThatThrownBy(() -> clientOverviewService.getClientOverview(Long.MAX_VALUE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Client not found");
+    }
+}
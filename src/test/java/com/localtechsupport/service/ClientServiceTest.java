@@ -4,6 +4,8 @@ import com.localtechsupport.entity.Client;
 import com.localtechsupport.entity.Client.ClientStatus;
 import com.localtechsupport.entity.Ticket;
 import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.event.ClientCreated;
+import com.localtechsupport.event.DomainEventBus;
 import com.localtechsupport.repository.ClientRepository;
 import com.localtechsupport.repository.TicketRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -36,6 +39,15 @@ class ClientServiceTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @Mock
+    private DomainEventBus eventBus;
+
+    @Mock
+    private ClientDeletionService clientDeletionService;
+
     @InjectMocks
     private ClientService clientService;
 
@@ -130,6 +142,7 @@ class ClientServiceTest {
             // Verify interactions
             verify(clientRepository).existsByEmail("new.client@example.com");
             verify(clientRepository).save(any(Client.class));
+            verify(eventBus).publish(any(ClientCreated.class));
         }
 
         @Test
@@ -394,14 +407,14 @@ class ClientServiceTest {
         void shouldDeleteInactiveClientSuccessfully() {
             // Given
             when(clientRepository.findById(2L)).thenReturn(Optional.of(inactiveClient));
-            when(ticketRepository.findByClient(inactiveClient)).thenReturn(new ArrayList<>());
+            when(clientDeletionService.detachNextTickets(2L)).thenReturn(0);
 
             // When
             clientService.deleteClient(2L);
 
             // Then
             verify(clientRepository).findById(2L);
-            verify(ticketRepository).findByClient(inactiveClient);
+            verify(clientDeletionService).detachNextTickets(2L);
             verify(clientRepository).deleteById(2L);
         }
 
@@ -409,18 +422,18 @@ class ClientServiceTest {
         @DisplayName("Should delete inactive client and unassign tickets successfully")
         void shouldDeleteInactiveClientAndUnassignTicketsSuccessfully() {
             // Given
-            List<Ticket> clientTickets = Arrays.asList(testTicket);
             when(clientRepository.findById(2L)).thenReturn(Optional.of(inactiveClient));
-            when(ticketRepository.findByClient(inactiveClient)).thenReturn(clientTickets);
+            when(clientDeletionService.detachNextTickets(2L)).thenReturn(2, 1, 0);
 
             // When
             clientService.deleteClient(2L);
 
             // Then
             verify(clientRepository).findById(2L);
-            verify(ticketRepository).findByClient(inactiveClient);
-            verify(ticketRepository).save(testTicket);
-            assertThat(testTicket.getClient()).isNull();
+            verify(clientDeletionService, times(3)).detachNextTickets(2L);
+            verify(ticketRepository, never()).findIdsByClientId(any(), any());
+            verify(ticketRepository, never()).findByClient(any());
+            verify(ticketRepository, never()).save(any());
             verify(clientRepository).deleteById(2L);
         }
 
@@ -0,0 +1,191 @@
+package com.localtechsupport.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FeedbackRatingHistograms Tests")
+class FeedbackRatingHistogramsTest {
+
+    private FeedbackRatingHistograms histograms;
+
+    @BeforeEach
+    void setUp() {
+        histograms = new FeedbackRatingHistograms();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should seed overall and daily histograms from grouped rows")
+    void shouldSeedOverallAndDailyHistograms() {
+        // Given
+        LocalDate today = LocalDate.now();
+
+        // When
+        histograms.initialize(() -> Arrays.asList(
+            new Object[]{today, 5, 3L},
+            new Object[]{today.minusDays(40), 1, 2L}
+        ));
+
+        // Then
+        assertThat(histograms.isInitialized()).isTrue();
+        assertThat(histograms.getOverall().total()).isEqualTo(5L);
+        assertThat(histograms.getOverall().average()).isEqualTo(17.0 / 5);
+        RatingHistogram recent = histograms.getSince(Instant.now().minus(30, ChronoUnit.DAYS));
+        assertThat(recent.total()).isEqualTo(3L);
+        assertThat(recent.count(5)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should ignore updates until initialized")
+    void shouldIgnoreUpdatesUntilInitialized() {
+        // When
+        histograms.recordRating(Instant.now(), 4);
+        histograms.initialize(Collections::emptyList);
+
+        // Then
+        assertThat(histograms.getOverall().total()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should apply record, change and remove to overall and daily buckets")
+    void shouldApplyIncrementalUpdates() {
+        // Given
+        histograms.initialize(Collections::emptyList);
+        Instant now = Instant.now();
+
+        // When
+        histograms.recordRating(now, 2);
+        histograms.recordRating(now, 3);
+        histograms.changeRating(now, 2, 5);
+        histograms.removeRating(now, 3);
+
+        // Then
+        assertThat(histograms.getOverall().distribution())
+            .containsEntry(2, 0L).containsEntry(3, 0L).containsEntry(5, 1L);
+        List<Object[]> daily = histograms.getDailyAverages(now.minus(1, ChronoUnit.DAYS));
+        assertThat(daily).hasSize(1);
+        assertThat(daily.get(0)[1]).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should defer updates until the transaction commits")
+    void shouldDeferUpdatesUntilCommit() {
+        // Given
+        histograms.initialize(Collections::emptyList);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        histograms.recordRating(Instant.now(), 4);
+
+        // Then
+        assertThat(histograms.getOverall().total()).isZero();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(histograms.getOverall().count(4)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should count concurrent updates exactly")
+    void shouldCountConcurrentUpdatesExactly() throws InterruptedException {
+        // Given
+        histograms.initialize(Collections::emptyList);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Instant now = Instant.now();
+
+        // When
+        for (int i = 0; i < 8000; i++) {
+            int rating = i % 5 + 1;
+            executor.execute(() -> histograms.recordRating(now, rating));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(histograms.getOverall().total()).isEqualTo(8000L);
+        assertThat(histograms.getOverall().count(3)).isEqualTo(1600L);
+        assertThat(histograms.getOverall().average()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should reseed when a rating commits while the seed query runs")
+    void shouldReseedWhenRatingCommitsDuringSeedQuery() throws Exception {
+        // Given
+        LocalDate today = LocalDate.now();
+        AtomicLong committedRatings = new AtomicLong();
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        TransactionSynchronizationManager.initSynchronization();
+        histograms.recordRating(Instant.now(), 5);
+
+        // When
+        CompletableFuture<Void> seed = CompletableFuture.runAsync(() -> histograms.initialize(() -> {
+            long count = committedRatings.get();
+            queryStarted.countDown();
+            try {
+                committed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return count > 0 ? List.<Object[]>of(new Object[]{today, 5, count}) : List.of();
+        }));
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        committedRatings.incrementAndGet();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        committed.countDown();
+        seed.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(histograms.getOverall().count(5)).isEqualTo(1L);
+        assertThat(histograms.getDailyAverages(Instant.now().minus(1, ChronoUnit.DAYS))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should answer from the query rows while updates keep the seed from installing")
+    void shouldAnswerFromQueryRowsUnderWriteLoad() throws Exception {
+        // Given - another transaction keeps an update in flight
+        LocalDate today = LocalDate.now();
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        writer.submit(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            histograms.recordRating(Instant.now(), 5);
+        }).get(5, TimeUnit.SECONDS);
+
+        // When
+        FeedbackRatingHistograms loaded = histograms.initialize(() -> List.<Object[]>of(new Object[]{today, 4, 2L}));
+
+        // Then
+        assertThat(loaded).isNotSameAs(histograms);
+        assertThat(loaded.getOverall().count(4)).isEqualTo(2L);
+        assertThat(loaded.getDailyAverages(Instant.now().minus(1, ChronoUnit.DAYS))).hasSize(1);
+        assertThat(histograms.isInitialized()).isFalse();
+        writer.submit(TransactionSynchronizationManager::clearSynchronization).get(5, TimeUnit.SECONDS);
+        writer.shutdown();
+    }
+}
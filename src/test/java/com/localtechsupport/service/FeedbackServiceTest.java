@@ -1,8 +1,12 @@
 package com.localtechsupport.service;
 
 import com.localtechsupport.entity.FeedbackEntry;
+import com.localtechsupport.entity.Technician;
 import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.FeedbackSubmitted;
 import com.localtechsupport.repository.FeedbackEntryRepository;
+import com.localtechsupport.repository.TechnicianRepository;
 import com.localtechsupport.repository.TicketRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,13 +15,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 
@@ -35,6 +42,24 @@ class FeedbackServiceTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Mock
+    private TechnicianRepository technicianRepository;
+
+    @Spy
+    private TechnicianFeedbackAggregator technicianFeedbackAggregator = new TechnicianFeedbackAggregator();
+
+    @Spy
+    private FeedbackRatingHistograms ratingHistograms = new FeedbackRatingHistograms();
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Mock
+    private DomainEventBus eventBus;
+
     @InjectMocks
     private FeedbackService feedbackService;
 
@@ -90,6 +115,7 @@ class FeedbackServiceTest {
             assertThat(result.getCreatedBy()).isEqualTo("customer@example.com");
             verify(ticketRepository).findById(1L);
             verify(feedbackRepository).save(any(FeedbackEntry.class));
+            verify(eventBus).publish(any(FeedbackSubmitted.class));
         }
 
         @Test
@@ -108,9 +134,6 @@ class FeedbackServiceTest {
         @Test
         @DisplayName("Should throw exception when rating is invalid")
         void shouldThrowExceptionWhenRatingIsInvalid() {
-            // Given
-            when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
-
             // When & Then
             assertThatThrownBy(() -> 
                 feedbackService.createFeedback(1L, 6, "Great service", "customer@example.com"))
@@ -121,14 +144,14 @@ class FeedbackServiceTest {
                 feedbackService.createFeedback(1L, 0, "Great service", "customer@example.com"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Rating must be between 1 and 5");
+
+            // Rejected before the ticket is loaded
+            verify(ticketRepository, never()).findById(any());
         }
 
         @Test
         @DisplayName("Should throw exception when comment is null or empty")
         void shouldThrowExceptionWhenCommentIsNullOrEmpty() {
-            // Given
-            when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
-
             // When & Then
             assertThatThrownBy(() -> 
                 feedbackService.createFeedback(1L, 5, null, "customer@example.com"))
@@ -144,14 +167,14 @@ class FeedbackServiceTest {
                 feedbackService.createFeedback(1L, 5, "   ", "customer@example.com"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Comment cannot be null or empty");
+
+            // Rejected before the ticket is loaded
+            verify(ticketRepository, never()).findById(any());
         }
 
         @Test
         @DisplayName("Should throw exception when createdBy is null or empty")
         void shouldThrowExceptionWhenCreatedByIsNullOrEmpty() {
-            // Given
-            when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
-
             // When & Then
             assertThatThrownBy(() -> 
                 feedbackService.createFeedback(1L, 5, "Great service", null))
@@ -162,6 +185,9 @@ class FeedbackServiceTest {
                 feedbackService.createFeedback(1L, 5, "Great service", ""))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("CreatedBy cannot be null or empty");
+
+            // Rejected before the ticket is loaded
+            verify(ticketRepository, never()).findById(any());
         }
 
         @Test
@@ -381,28 +407,43 @@ class FeedbackServiceTest {
         @DisplayName("Should get average rating")
         void shouldGetAverageRating() {
             // Given
-            when(feedbackRepository.getAverageRating()).thenReturn(4.5);
+            LocalDate today = LocalDate.now();
+            when(feedbackRepository.getDailyRatingDistribution()).thenReturn(Arrays.asList(
+                new Object[]{today, 4, 1L},
+                new Object[]{today.minusDays(3), 5, 1L}
+            ));
 
             // When
             Double result = feedbackService.getAverageRating();
 
             // Then
             assertThat(result).isEqualTo(4.5);
-            verify(feedbackRepository).getAverageRating();
+            verify(feedbackRepository).getDailyRatingDistribution();
+        }
+
+        @Test
+        @DisplayName("Should return null average rating when there is no feedback")
+        void shouldReturnNullAverageRatingWhenNoFeedback() {
+            // Given
+            when(feedbackRepository.getDailyRatingDistribution()).thenReturn(Arrays.asList());
+
+            // When & Then
+            assertThat(feedbackService.getAverageRating()).isNull();
         }
 
         @Test
         @DisplayName("Should get rating distribution")
         void shouldGetRatingDistribution() {
             // Given
+            LocalDate today = LocalDate.now();
             List<Object[]> mockResults = Arrays.asList(
-                new Object[]{1, 5L},
-                new Object[]{2, 10L},
-                new Object[]{3, 15L},
-                new Object[]{4, 25L},
-                new Object[]{5, 45L}
+                new Object[]{today, 1, 5L},
+                new Object[]{today, 2, 10L},
+                new Object[]{today, 3, 15L},
+                new Object[]{today, 4, 25L},
+                new Object[]{today, 5, 45L}
             );
-            when(feedbackRepository.getRatingDistribution()).thenReturn(mockResults);
+            when(feedbackRepository.getDailyRatingDistribution()).thenReturn(mockResults);
 
             // When
             Map<Integer, Long> result = feedbackService.getRatingDistribution();
@@ -414,26 +455,22 @@ class FeedbackServiceTest {
             assertThat(result.get(3)).isEqualTo(15L);
             assertThat(result.get(4)).isEqualTo(25L);
             assertThat(result.get(5)).isEqualTo(45L);
-            verify(feedbackRepository).getRatingDistribution();
+            verify(feedbackRepository).getDailyRatingDistribution();
         }
 
         @Test
         @DisplayName("Should get customer satisfaction metrics")
         void shouldGetCustomerSatisfactionMetrics() {
             // Given
-            when(feedbackRepository.getAverageRating()).thenReturn(4.2);
-            when(feedbackRepository.count()).thenReturn(100L);
-            when(feedbackRepository.countByRatingGreaterThanEqual(4)).thenReturn(75L);
-            when(feedbackRepository.countByRatingLessThanEqual(2)).thenReturn(10L);
-            
+            LocalDate today = LocalDate.now();
             List<Object[]> mockDistribution = Arrays.asList(
-                new Object[]{1, 5L},
-                new Object[]{2, 5L},
-                new Object[]{3, 15L},
-                new Object[]{4, 30L},
-                new Object[]{5, 45L}
+                new Object[]{today, 1, 5L},
+                new Object[]{today, 2, 5L},
+                new Object[]{today.minusDays(10), 3, 15L},
+                new Object[]{today.minusDays(10), 4, 15L},
+                new Object[]{today, 5, 60L}
             );
-            when(feedbackRepository.getRatingDistribution()).thenReturn(mockDistribution);
+            when(feedbackRepository.getDailyRatingDistribution()).thenReturn(mockDistribution);
 
             // When
             Map<String, Object> result = feedbackService.getCustomerSatisfactionMetrics();
@@ -457,13 +494,13 @@ class FeedbackServiceTest {
         void shouldGetFeedbackTrends() {
             // Given
             int days = 30;
-            Instant sinceTime = Instant.now().minus(days, ChronoUnit.DAYS);
-            
-            when(feedbackRepository.countBySubmittedAtAfter(any(Instant.class))).thenReturn(50L);
-            when(feedbackRepository.getAverageRatingSince(any(Instant.class))).thenReturn(4.3);
-            when(feedbackRepository.countByRatingGreaterThanEqual(4)).thenReturn(40L);
-            when(feedbackRepository.countByRatingLessThanEqual(2)).thenReturn(5L);
-            when(feedbackRepository.getDailyAverageRatings(any(Instant.class))).thenReturn(Arrays.asList());
+            LocalDate today = LocalDate.now();
+            when(feedbackRepository.getDailyRatingDistribution()).thenReturn(Arrays.asList(
+                new Object[]{today, 5, 25L},
+                new Object[]{today, 4, 15L},
+                new Object[]{today.minusDays(2), 3, 10L},
+                new Object[]{today.minusDays(60), 1, 5L}
+            ));
 
             // When
             Map<String, Object> result = feedbackService.getFeedbackTrends(days);
@@ -477,6 +514,143 @@ class FeedbackServiceTest {
             
             assertThat(result.get("totalFeedback")).isEqualTo(50L);
             assertThat(result.get("averageRating")).isEqualTo(4.3);
+            assertThat(result.get("highSatisfaction")).isEqualTo(40L);
+            assertThat(result.get("lowSatisfaction")).isEqualTo(5L);
+            assertThat((List<?>) result.get("dailyAverages")).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Should keep statistics current without further queries")
+        void shouldKeepStatisticsCurrentWithoutFurtherQueries() {
+            // Given
+            when(feedbackRepository.getDailyRatingDistribution()).thenReturn(Arrays.<Object[]>asList(
+                new Object[]{LocalDate.now(), 5, 2L}
+            ));
+            assertThat(feedbackService.countAllFeedback()).isEqualTo(2L);
+            when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
+            when(feedbackRepository.save(any(FeedbackEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(feedbackRepository.findById(1L)).thenReturn(Optional.of(feedbackEntry));
+
+            // When
+            feedbackService.createFeedback(1L, 1, "Poor service", "customer@example.com");
+            feedbackService.deleteFeedback(1L);
+
+            // Then
+            assertThat(feedbackService.countAllFeedback()).isEqualTo(2L);
+            assertThat(feedbackService.countFeedbackByRating(1)).isEqualTo(1L);
+            assertThat(feedbackService.countFeedbackByRating(5)).isEqualTo(1L);
+            assertThat(feedbackService.countRecentFeedback(7)).isEqualTo(2L);
+            verify(feedbackRepository, times(1)).getDailyRatingDistribution();
+            verify(feedbackRepository, never()).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Technician Feedback Analytics Tests")
+    class TechnicianFeedbackAnalyticsTests {
+
+        private Technician technician;
+
+        @BeforeEach
+        void setUpTechnician() {
+            technician = new Technician();
+            technician.setId(7L);
+            technician.setFullName("Alex Tech");
+            technician.setEmail("alex@example.com");
+            ticket.setAssignedTechnician(technician);
+        }
+
+        @Test
+        @DisplayName("Should summarize technician feedback from a single grouped load")
+        void shouldSummarizeTechnicianFeedbackFromSingleGroupedLoad() {
+            // Given
+            when(technicianRepository.findById(7L)).thenReturn(Optional.of(technician));
+            when(feedbackRepository.getRatingDistributionByTechnician()).thenReturn(Arrays.asList(
+                new Object[]{7L, 5, 3L},
+                new Object[]{7L, 2, 1L},
+                new Object[]{8L, 4, 2L}
+            ));
+            when(feedbackRepository.getDailyAverageRatingsForTechnician(eq(7L), any(Instant.class)))
+                .thenReturn(Collections.emptyList());
+
+            // When
+            Map<String, Object> first = feedbackService.getTechnicianFeedbackSummary(7L);
+            Map<String, Object> second = feedbackService.getTechnicianFeedbackSummary(7L);
+
+            // Then
+            assertThat(first.get("technicianName")).isEqualTo("Alex Tech");
+            assertThat(first.get("totalFeedbackCount")).isEqualTo(4L);
+            assertThat((Double) first.get("averageRating")).isEqualTo(17.0 / 4);
+            assertThat(first.get("highSatisfactionCount")).isEqualTo(3L);
+            assertThat(first.get("lowSatisfactionCount")).isEqualTo(1L);
+            assertThat(second.get("totalFeedbackCount")).isEqualTo(4L);
+            verify(feedbackRepository, times(1)).getRatingDistributionByTechnician();
+        }
+
+        @Test
+        @DisplayName("Should throw exception when technician not found")
+        void shouldThrowExceptionWhenTechnicianNotFound() {
+            // Given
+            when(technicianRepository.findById(999L)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> feedbackService.getTechnicianFeedbackSummary(999L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Technician not found with ID: 999");
+        }
+
+        @Test
+        @DisplayName("Should maintain technician aggregates on create, update and delete")
+        void shouldMaintainTechnicianAggregatesOnCreateUpdateAndDelete() {
+            // Given
+            technicianFeedbackAggregator.initialize(() -> Collections.singletonList(new Object[]{7L, 5, 1L}));
+            when(ticketRepository.findById(1L)).thenReturn(Optional.of(ticket));
+            when(feedbackRepository.save(any(FeedbackEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(feedbackRepository.findById(1L)).thenReturn(Optional.of(feedbackEntry));
+
+            // When
+            feedbackService.createFeedback(1L, 3, "Okay", "customer@example.com");
+            feedbackService.updateFeedback(1L, 1, null);
+
+            // Then - existing entry moved from 5 to 1, new entry recorded as 3
+            assertThat(technicianFeedbackAggregator.getSummary(7L).getCount(3)).isEqualTo(1L);
+            assertThat(technicianFeedbackAggregator.getSummary(7L).getCount(1)).isEqualTo(1L);
+
+            // When
+            feedbackService.deleteFeedback(1L);
+
+            // Then
+            assertThat(technicianFeedbackAggregator.getSummary(7L).getTotalCount()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Should rank technicians on the leaderboard by average rating")
+        void shouldRankTechniciansOnLeaderboardByAverageRating() {
+            // Given
+            Technician other = new Technician();
+            other.setId(8L);
+            other.setFullName("Sam Tech");
+            when(feedbackRepository.getRatingDistributionByTechnician()).thenReturn(Arrays.asList(
+                new Object[]{7L, 3, 2L},
+                new Object[]{8L, 5, 1L}
+            ));
+            when(technicianRepository.findAllById(anyList())).thenReturn(Arrays.asList(technician, other));
+
+            // When
+            List<Map<String, Object>> leaderboard = feedbackService.getTechnicianFeedbackLeaderboard(1L, 10);
+
+            // Then
+            assertThat(leaderboard).extracting(entry -> entry.get("technicianId")).containsExactly(8L, 7L);
+            assertThat(leaderboard.get(0).get("technicianName")).isEqualTo("Sam Tech");
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive leaderboard limit")
+        void shouldRejectNonPositiveLeaderboardLimit() {
+            // When & Then
+            assertThatThrownBy(() -> feedbackService.getTechnicianFeedbackLeaderboard(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Limit must be at least 1");
         }
     }
 
@@ -0,0 +1,368 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.dto.response.LiveFeedEventResponse;
+import com.localtechsupport.entity.*;
+import com.localtechsupport.event.AppointmentBooked;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.TicketAssigned;
+import com.localtechsupport.event.TicketCreated;
+import com.localtechsupport.service.LiveFeedBroadcaster.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LiveFeedBroadcaster Tests")
+class LiveFeedBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DomainEventBus eventBus;
+    private LiveFeedBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // Synchronous bus: publishing outside a transaction broadcasts on the calling thread
+        meterRegistry = new SimpleMeterRegistry();
+        eventBus = new DomainEventBus(meterRegistry, false, 2);
+        broadcaster = new LiveFeedBroadcaster(eventBus, meterRegistry, 4, 10_000, 8, Duration.ofHours(1), 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should deliver only changes matching the subscriber's filters")
+    void shouldApplyFilters() throws Exception {
+        // Given
+        RecordingSink technicianFeed = new RecordingSink(2);
+        RecordingSink closedSoftwareFeed = new RecordingSink(0);
+        broadcaster.subscribe(new LiveFeedFilter(1L, null, null), OverflowPolicy.COALESCE, null, technicianFeed);
+        broadcaster.subscribe(new LiveFeedFilter(null, ServiceType.SOFTWARE, "CLOSED"), OverflowPolicy.COALESCE,
+            null, closedSoftwareFeed);
+
+        // When
+        eventBus.publish(new TicketCreated(ticket(10L, ServiceType.HARDWARE, null)));
+        eventBus.publish(new TicketAssigned(ticket(11L, ServiceType.SOFTWARE, 2L), 1L));
+        eventBus.publish(new AppointmentBooked(appointment(20L, ticket(12L, ServiceType.HARDWARE, 1L))));
+
+        // Then
+        technicianFeed.await();
+        assertThat(technicianFeed.events).extracting(LiveFeedEventResponse::getType)
+            .containsExactly("TicketAssigned", "AppointmentBooked");
+        assertThat(technicianFeed.events.get(0).getPreviousTechnicianId()).isEqualTo(1L);
+        assertThat(technicianFeed.events.get(1).getStatus()).isEqualTo("PENDING");
+        assertThat(closedSoftwareFeed.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown status filters")
+    void shouldRejectUnknownStatus() {
+        assertThatThrownBy(() -> new LiveFeedFilter(null, null, "PARKED"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should coalesce queued changes to the same ticket while the subscriber is busy")
+    void shouldCoalesceQueuedChanges() throws Exception {
+        // Given
+        BlockingSink sink = new BlockingSink(3);
+        broadcaster.subscribe(LiveFeedFilter.all(), OverflowPolicy.COALESCE, null, sink);
+        eventBus.publish(new TicketCreated(ticket(1L, ServiceType.HARDWARE, null)));
+        sink.awaitFirstSend();
+
+        // When
+        for (long technician = 1; technician <= 3; technician++) {
+            eventBus.publish(new TicketAssigned(ticket(2L, ServiceType.HARDWARE, technician), null));
+        }
+        eventBus.publish(new TicketCreated(ticket(3L, ServiceType.HARDWARE, null)));
+        sink.release();
+
+        // Then
+        sink.await();
+        assertThat(sink.events).extracting(LiveFeedEventResponse::getTicketId).containsExactly(1L, 2L, 3L);
+        assertThat(sink.events.get(1).getTechnicianId()).isEqualTo(3L);
+        assertThat(sink.dropped).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest queued changes and report them when the buffer is full")
+    void shouldDropOldest() throws Exception {
+        // Given
+        BlockingSink sink = new BlockingSink(5);
+        LiveFeedBroadcaster.Subscription subscription =
+            broadcaster.subscribe(LiveFeedFilter.all(), OverflowPolicy.DROP_OLDEST, null, sink);
+        eventBus.publish(new TicketCreated(ticket(1L, ServiceType.HARDWARE, null)));
+        sink.awaitFirstSend();
+
+        // When: six more changes against a buffer of four
+        for (long id = 2; id <= 7; id++) {
+            eventBus.publish(new TicketCreated(ticket(id, ServiceType.HARDWARE, null)));
+        }
+        sink.release();
+
+        // Then
+        sink.await();
+        assertThat(sink.events).extracting(LiveFeedEventResponse::getTicketId).containsExactly(1L, 4L, 5L, 6L, 7L);
+        assertThat(sink.dropped).hasValue(2);
+        assertThat(subscription.getDropped()).isEqualTo(2);
+        assertThat(meterRegistry.get("app.live-feed.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should reject incoming changes when the buffer is full under DROP_NEWEST")
+    void shouldDropNewest() throws Exception {
+        // Given
+        BlockingSink sink = new BlockingSink(5);
+        broadcaster.subscribe(LiveFeedFilter.all(), OverflowPolicy.DROP_NEWEST, null, sink);
+        eventBus.publish(new TicketCreated(ticket(1L, ServiceType.HARDWARE, null)));
+        sink.awaitFirstSend();
+
+        // When
+        for (long id = 2; id <= 7; id++) {
+            eventBus.publish(new TicketCreated(ticket(id, ServiceType.HARDWARE, null)));
+        }
+        sink.release();
+
+        // Then
+        sink.await();
+        assertThat(sink.events).extracting(LiveFeedEventResponse::getTicketId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(sink.dropped).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should replay retained changes after Last-Event-ID and report older gaps")
+    void shouldReplayFromLastEventId() throws Exception {
+        // Given: ten changes against a replay window of eight
+        for (long id = 1; id <= 10; id++) {
+            eventBus.publish(new TicketCreated(ticket(id, ServiceType.HARDWARE, null)));
+        }
+
+        // When
+        RecordingSink resumed = new RecordingSink(2);
+        broadcaster.subscribe(LiveFeedFilter.all(), OverflowPolicy.COALESCE, 8L, resumed);
+        RecordingSink stale = new RecordingSink(4);
+        broadcaster.subscribe(LiveFeedFilter.all(), OverflowPolicy.DROP_NEWEST, 1L, stale);
+
+        // Then
+        resumed.await();
+        assertThat(resumed.events).extracting(LiveFeedEventResponse::getId).containsExactly(9L, 10L);
+        stale.await();
+        assertThat(stale.dropped).hasValue(1 + 4);
+        assertThat(stale.events).extracting(LiveFeedEventResponse::getId).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("Should report the gap to a client resuming with an id from before a restart")
+    void shouldReportGapAfterRestart() throws Exception {
+        // Given: the restarted server numbers its changes from its start time
+        DomainEventBus restartedBus = new DomainEventBus(meterRegistry, false, 2);
+        long startedAt = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        LiveFeedBroadcaster restarted = new LiveFeedBroadcaster(restartedBus, meterRegistry, 4, 10_000, 8,
+            Duration.ofHours(1));
+        try {
+            restartedBus.publish(new TicketCreated(ticket(1L, ServiceType.HARDWARE, null)));
+
+            // When: a client resumes from an id issued before the restart
+            RecordingSink resumed = new RecordingSink(1);
+            restarted.subscribe(LiveFeedFilter.all(), OverflowPolicy.COALESCE, 5_000L, resumed);
+
+            // Then
+            resumed.await();
+            assertThat(resumed.events).extracting(LiveFeedEventResponse::getId)
+                .allMatch(id -> id > startedAt);
+            assertThat(resumed.dropped.get()).isPositive();
+            assertThat(resumed.resets).hasValue(0);
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reset a client whose Last-Event-ID this server never issued")
+    void shouldResetUnknownLastEventId() throws Exception {
+        // Given
+        for (long id = 1; id <= 3; id++) {
+            eventBus.publish(new TicketCreated(ticket(id, ServiceType.HARDWARE, null)));
+        }
+
+        // When
+        RecordingSink ahead = new RecordingSink(1);
+        broadcaster.subscribe(LiveFeedFilter.all(), OverflowPolicy.COALESCE, 50L, ahead);
+        eventBus.publish(new TicketCreated(ticket(4L, ServiceType.HARDWARE, null)));
+
+        // Then: nothing is replayed, later changes still arrive
+        ahead.await();
+        assertThat(ahead.resets).hasValue(1);
+        assertThat(ahead.dropped).hasValue(0);
+        assertThat(ahead.events).extracting(LiveFeedEventResponse::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should close subscriptions whose connection fails")
+    void shouldCloseFailedSubscriptions() throws Exception {
+        // Given
+        RecordingSink broken = new RecordingSink(0) {
+            @Override
+            public void send(LiveFeedEventResponse event) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        LiveFeedBroadcaster.Subscription subscription =
+            broadcaster.subscribe(LiveFeedFilter.all(), OverflowPolicy.COALESCE, null, broken);
+
+        // When
+        eventBus.publish(new TicketCreated(ticket(1L, ServiceType.HARDWARE, null)));
+
+        // Then
+        assertThat(broken.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fan out to 10,000 subscribers without a platform thread per subscriber")
+    void shouldServeTenThousandSubscribers() throws Exception {
+        // Given
+        int subscriberCount = 10_000;
+        int eventCount = 5;
+        CountDownLatch delivered = new CountDownLatch(subscriberCount * eventCount);
+        AtomicLong maxPlatformThreads = new AtomicLong();
+        int platformThreadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        for (int i = 0; i < subscriberCount; i++) {
+            broadcaster.subscribe(LiveFeedFilter.all(), OverflowPolicy.COALESCE, null, new RecordingSink(0) {
+                @Override
+                public void send(LiveFeedEventResponse event) {
+                    delivered.countDown();
+                }
+            });
+        }
+
+        // When
+        for (long id = 1; id <= eventCount; id++) {
+            eventBus.publish(new TicketCreated(ticket(id, ServiceType.HARDWARE, null)));
+            maxPlatformThreads.accumulateAndGet(ManagementFactory.getThreadMXBean().getThreadCount(), Math::max);
+        }
+
+        // Then
+        assertThat(delivered.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(subscriberCount);
+        assertThat(maxPlatformThreads.get() - platformThreadsBefore).isLessThan(100);
+    }
+
+    // === TEST DATA ===
+
+    private Ticket ticket(Long id, ServiceType serviceType, Long technicianId) {
+        Ticket ticket = new Ticket(serviceType, "Live feed test", Instant.now());
+        ticket.setId(id);
+        ticket.setStatus(TicketStatus.OPEN);
+        ticket.setPriority(TicketPriority.NORMAL);
+        if (technicianId != null) {
+            Technician technician = new Technician();
+            technician.setId(technicianId);
+            ticket.setAssignedTechnician(technician);
+        }
+        return ticket;
+    }
+
+    private Appointment appointment(Long id, Ticket ticket) {
+        Appointment appointment = new Appointment();
+        appointment.setId(id);
+        appointment.setTicket(ticket);
+        appointment.setTechnician(ticket.getAssignedTechnician());
+        appointment.setStatus(AppointmentStatus.PENDING);
+        appointment.setStartTime(Instant.now());
+        appointment.setEndTime(Instant.now().plus(Duration.ofHours(1)));
+        return appointment;
+    }
+
+    private static class RecordingSink implements LiveFeedBroadcaster.Sink {
+
+        final List<LiveFeedEventResponse> events = new ArrayList<>();
+        final AtomicLong dropped = new AtomicLong();
+        final AtomicLong resets = new AtomicLong();
+        final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch received;
+
+        RecordingSink(int expectedEvents) {
+            this.received = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void send(LiveFeedEventResponse event) throws IOException {
+            synchronized (events) {
+                events.add(event);
+            }
+            received.countDown();
+        }
+
+        @Override
+        public void dropped(long count) {
+            dropped.addAndGet(count);
+        }
+
+        @Override
+        public void reset() {
+            resets.incrementAndGet();
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    /**
+     * Holds the first delivery until released, so later changes queue up behind it.
+     */
+    private static final class BlockingSink extends RecordingSink {
+
+        private final CountDownLatch firstSend = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingSink(int expectedEvents) {
+            super(expectedEvents);
+        }
+
+        @Override
+        public void send(LiveFeedEventResponse event) throws IOException {
+            firstSend.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.send(event);
+        }
+
+        void awaitFirstSend() throws InterruptedException {
+            assertThat(firstSend.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release() {
+            release.countDown();
+        }
+    }
+}
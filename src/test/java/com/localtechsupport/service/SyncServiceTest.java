@@ -0,0 +1,202 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:sync_test;DB_CLOSE_DELAY=-1",
+    "app.bulk-operations.chunk-size=2",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Delta Sync Tests")
+class SyncServiceTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TechnicianService technicianService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private BulkTicketService bulkTicketService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long clientId;
+    private Long technicianId;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        for (String table : List.of("change_log", "appointments", "feedback_entries", "ticket_history", "tickets",
+                                    "technician_skills", "technicians", "clients")) {
+            jdbcTemplate.execute("DELETE FROM " + table);
+        }
+        // Sequences start over, as on a fresh database
+        jdbcTemplate.execute("ALTER TABLE change_log ALTER COLUMN id RESTART WITH 1");
+        technicianId = technicianService.createTechnician("Sync Tech", "sync.tech@example.com",
+            Set.of(ServiceType.HARDWARE, ServiceType.SOFTWARE), null).getId();
+        clientId = clientService.createClient("Sync", "Client", "sync@example.com", null, null, null).getId();
+        token = syncService.getChangesSince(null, null).getNextToken();
+    }
+
+    @Test
+    @DisplayName("Should start from a token without changes and then return only later changes")
+    void shouldReturnChangesSinceToken() {
+        // Given: a ticket that exists before the client first syncs
+        Long earlier = ticketService.createTicket(clientId, ServiceType.HARDWARE, "Earlier").getId();
+        String start = syncService.getChangesSince(null, null).getNextToken();
+
+        // When: the start token is taken right away, the earlier change is too recent to skip
+        SyncBatch initial = syncService.getChangesSince(token, null);
+
+        // Then
+        assertThat(initial.getTickets()).extracting(Ticket::getId).containsExactly(earlier);
+        assertThat(start).isEqualTo(token);
+
+        // Given: changes after the first sync
+        Long ticketId = ticketService.createTicket(clientId, ServiceType.SOFTWARE, "Printer offline").getId();
+        ticketService.assignTechnician(ticketId, technicianId);
+        FeedbackEntry feedback = feedbackService.createFeedback(earlier, 4, "Good", "client");
+        Instant start1 = Instant.now().plus(1, ChronoUnit.DAYS);
+        Appointment appointment = appointmentService.createAppointment(technicianId, ticketId,
+            start1, start1.plus(1, ChronoUnit.HOURS));
+
+        // When
+        SyncBatch delta = syncService.getChangesSince(initial.getNextToken(), null);
+
+        // Then: each changed entity once, in its current state, with the ticket's full history
+        assertThat(delta.getTickets()).extracting(Ticket::getId).containsExactly(ticketId);
+        assertThat(delta.getTickets().get(0).getAssignedTechnician().getId()).isEqualTo(technicianId);
+        assertThat(delta.getHistory()).extracting(history -> history.getTicket().getId())
+            .containsOnly(ticketId).hasSize(2);
+        assertThat(delta.getFeedback()).extracting(FeedbackEntry::getId).containsExactly(feedback.getId());
+        assertThat(delta.getAppointments()).extracting(Appointment::getId).containsExactly(appointment.getId());
+        assertThat(delta.isHasMore()).isFalse();
+
+        // And: nothing is returned again
+        SyncBatch empty = syncService.getChangesSince(delta.getNextToken(), null);
+        assertThat(empty.getTickets()).isEmpty();
+        assertThat(empty.getHistory()).isEmpty();
+        assertThat(empty.getNextToken()).isEqualTo(delta.getNextToken());
+    }
+
+    @Test
+    @DisplayName("Should return tombstones for deleted tickets and feedback")
+    void shouldReturnTombstones() {
+        // Given
+        Long ticketId = ticketService.createTicket(clientId, ServiceType.HARDWARE, "Disk failure").getId();
+        Long otherTicketId = ticketService.createTicket(clientId, ServiceType.HARDWARE, "Fan noise").getId();
+        Long feedbackId = feedbackService.createFeedback(otherTicketId, 2, "Slow", "client").getId();
+        String afterCreate = syncService.getChangesSince(token, null).getNextToken();
+        ticketService.closeTicket(ticketId, "Replaced", "tech");
+        ticketService.deleteTicket(ticketId);
+        feedbackService.deleteFeedback(feedbackId);
+
+        // When
+        SyncBatch delta = syncService.getChangesSince(afterCreate, null);
+
+        // Then
+        assertThat(delta.getDeletedTicketIds()).containsExactly(ticketId);
+        assertThat(delta.getDeletedFeedbackIds()).containsExactly(feedbackId);
+        assertThat(delta.getTickets()).isEmpty();
+        assertThat(delta.getHistory()).isEmpty();
+        assertThat(delta.getFeedback()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should log bulk updates and client detachment set-based and page through them")
+    void shouldPageThroughBulkChanges() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            ticketService.createTicket(clientId, ServiceType.HARDWARE, "Outage " + i);
+        }
+        String afterCreate = syncService.getChangesSince(token, null).getNextToken();
+        bulkTicketService.closeTickets(new BulkTicketFilter(null, null, ServiceType.HARDWARE, null), "Resolved", "ops");
+        clientService.updateClientStatus(clientId, Client.ClientStatus.INACTIVE, "Moved away");
+        clientService.deleteClient(clientId);
+
+        // When: 9 entries (ticket and history per closed ticket, ticket per detached ticket) in pages of 5
+        SyncBatch first = syncService.getChangesSince(afterCreate, 5);
+        SyncBatch second = syncService.getChangesSince(first.getNextToken(), 5);
+
+        // Then
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(first.getTickets()).hasSize(3);
+        assertThat(first.getHistory()).hasSize(4);
+        assertThat(second.getTickets()).hasSize(3).allMatch(ticket -> ticket.getClient() == null);
+        assertThat(countRows("SELECT COUNT(*) FROM change_log WHERE entity_type = 'HISTORY'")).isEqualTo(3 + 3);
+    }
+
+    @Test
+    @DisplayName("Should wait at a recent sequence gap and skip it once it is older than the grace period")
+    void shouldHoldCursorAtRecentGap() {
+        // Given: a change whose predecessor sequence has not committed
+        Long ticketId = ticketService.createTicket(clientId, ServiceType.HARDWARE, "Visible").getId();
+        String afterCreate = syncService.getChangesSince(token, null).getNextToken();
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM change_log", Long.class);
+        jdbcTemplate.update("INSERT INTO change_log (id, entity_type, entity_id, operation, changed_at) " +
+            "VALUES (?, 'TICKET', ?, 'UPSERT', ?)", maxId + 2, ticketId, Timestamp.from(Instant.now()));
+
+        // When
+        SyncBatch held = syncService.getChangesSince(afterCreate, null);
+
+        // Then
+        assertThat(held.getTickets()).isEmpty();
+        assertThat(held.getNextToken()).isEqualTo(afterCreate);
+
+        // Given: the gap has aged past the grace period
+        jdbcTemplate.update("UPDATE change_log SET changed_at = ? WHERE id = ?",
+            Timestamp.from(Instant.now().minus(1, ChronoUnit.MINUTES)), maxId + 2);
+
+        // When
+        SyncBatch skipped = syncService.getChangesSince(afterCreate, null);
+
+        // Then
+        assertThat(skipped.getTickets()).extracting(Ticket::getId).containsExactly(ticketId);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens and limits")
+    void shouldRejectInvalidInput() {
+        assertThatThrownBy(() -> syncService.getChangesSince("not-a-token!", null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> syncService.getChangesSince(SyncService.encodeToken(List.of(1L, 2L)), null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("shard layout");
+        assertThatThrownBy(() -> syncService.getChangesSince(token, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long countRows(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,288 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.service.TechnicianFeedbackAggregator.RatingSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TechnicianFeedbackAggregator Tests")
+class TechnicianFeedbackAggregatorTest {
+
+    private TechnicianFeedbackAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new TechnicianFeedbackAggregator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should seed histograms from grouped rows")
+    void shouldSeedHistogramsFromGroupedRows() {
+        // When
+        aggregator.initialize(() -> Arrays.asList(
+            new Object[]{1L, 5, 2L},
+            new Object[]{1L, 1, 1L},
+            new Object[]{2L, 3, 4L}
+        ));
+
+        // Then
+        RatingSummary summary = aggregator.getSummary(1L);
+        assertThat(aggregator.isInitialized()).isTrue();
+        assertThat(summary.getTotalCount()).isEqualTo(3L);
+        assertThat(summary.getAverageRating()).isEqualTo(11.0 / 3);
+        assertThat(summary.getDistribution()).containsEntry(5, 2L).containsEntry(1, 1L).containsEntry(3, 0L);
+    }
+
+    @Test
+    @DisplayName("Should ignore updates until initialized")
+    void shouldIgnoreUpdatesUntilInitialized() {
+        // When
+        aggregator.recordRating(1L, 5);
+        aggregator.initialize(() -> Collections.emptyList());
+
+        // Then
+        assertThat(aggregator.getSummary(1L).getTotalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should move ratings between technicians on reassignment")
+    void shouldMoveRatingsBetweenTechniciansOnReassignment() {
+        // Given
+        aggregator.initialize(() -> Arrays.<Object[]>asList(new Object[]{1L, 4, 2L}));
+
+        // When
+        aggregator.reassign(1L, 2L, List.of(4, 4));
+
+        // Then
+        assertThat(aggregator.getSummary(1L).getTotalCount()).isZero();
+        assertThat(aggregator.getSummary(2L).getCount(4)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should defer updates until the surrounding transaction commits")
+    void shouldDeferUpdatesUntilTransactionCommits() {
+        // Given
+        aggregator.initialize(() -> Collections.emptyList());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        aggregator.recordRating(1L, 5);
+
+        // Then
+        assertThat(aggregator.getSummary(1L).getTotalCount()).isZero();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(aggregator.getSummary(1L).getTotalCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should count a rating committed while the seed query runs")
+    void shouldCountRatingCommittedDuringSeedQuery() throws Exception {
+        // Given
+        AtomicLong committedRatings = new AtomicLong();
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        AtomicInteger queries = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        aggregator.recordRating(1L, 5);
+
+        // When - the first query reads the state before the rating commits
+        CompletableFuture<Void> seed = CompletableFuture.runAsync(() -> aggregator.initialize(() -> {
+            List<Object[]> rows = distribution(5, committedRatings.get());
+            if (queries.incrementAndGet() == 1) {
+                queryStarted.countDown();
+                await(committed);
+            }
+            return rows;
+        }));
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        committedRatings.incrementAndGet();
+        completeTransaction();
+        committed.countDown();
+        seed.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(aggregator.getSummary(1L).getCount(5)).isEqualTo(1L);
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not double count a rating the seed query already read")
+    void shouldNotDoubleCountRatingReadBySeedQuery() throws Exception {
+        // Given - committed in the database, commit callbacks not yet run
+        TransactionSynchronizationManager.initSynchronization();
+        aggregator.recordRating(1L, 5);
+        CountDownLatch queryFinished = new CountDownLatch(1);
+        CountDownLatch callbacksRun = new CountDownLatch(1);
+        AtomicInteger queries = new AtomicInteger();
+
+        // When
+        CompletableFuture<Void> seed = CompletableFuture.runAsync(() -> aggregator.initialize(() -> {
+            List<Object[]> rows = distribution(5, 1L);
+            if (queries.incrementAndGet() == 1) {
+                queryFinished.countDown();
+                await(callbacksRun);
+            }
+            return rows;
+        }));
+        assertThat(queryFinished.await(5, TimeUnit.SECONDS)).isTrue();
+        completeTransaction();
+        callbacksRun.countDown();
+        seed.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(aggregator.getSummary(1L).getCount(5)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should match committed ratings after concurrent reseeding")
+    void shouldMatchCommittedRatingsAfterConcurrentReseeding() throws Exception {
+        // Given
+        AtomicLong committedRatings = new AtomicLong();
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+
+        // When
+        for (int writer = 0; writer < 4; writer++) {
+            results.add(writers.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    TransactionSynchronizationManager.initSynchronization();
+                    try {
+                        aggregator.recordRating(1L, 4);
+                        committedRatings.incrementAndGet();
+                        completeTransaction();
+                    } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                    }
+                }
+            }));
+        }
+        while (results.stream().anyMatch(result -> !result.isDone())) {
+            aggregator.invalidate();
+            assertThat(aggregator.initialize(() -> distribution(4, committedRatings.get()))).isNotNull();
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        writers.shutdown();
+        aggregator.initialize(() -> distribution(4, committedRatings.get()));
+
+        // Then
+        assertThat(aggregator.getSummary(1L).getCount(4)).isEqualTo(committedRatings.get()).isEqualTo(8_000L);
+    }
+
+    @Test
+    @DisplayName("Should answer from the query rows when a transaction with its own updates seeds")
+    void shouldAnswerFromQueryRowsForUpdatingTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        aggregator.recordRating(1L, 5);
+
+        // When
+        TechnicianFeedbackAggregator loaded = aggregator.initialize(() -> distribution(5, 1L));
+
+        // Then
+        assertThat(loaded).isNotSameAs(aggregator);
+        assertThat(loaded.getSummary(1L).getCount(5)).isEqualTo(1L);
+        assertThat(aggregator.isInitialized()).isFalse();
+        completeTransaction();
+    }
+
+    @Test
+    @DisplayName("Should answer from the query rows while updates keep the seed from installing")
+    void shouldAnswerFromQueryRowsUnderWriteLoad() throws Exception {
+        // Given - another transaction keeps an update in flight
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        writer.submit(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            aggregator.recordRating(1L, 5);
+        }).get(5, TimeUnit.SECONDS);
+        AtomicInteger queries = new AtomicInteger();
+
+        // When
+        TechnicianFeedbackAggregator loaded = aggregator.initialize(() -> {
+            queries.incrementAndGet();
+            return distribution(4, 2L);
+        });
+
+        // Then
+        assertThat(queries.get()).isEqualTo(AggregateSeedGate.MAX_SEED_ATTEMPTS);
+        assertThat(loaded.getSummary(1L).getCount(4)).isEqualTo(2L);
+        assertThat(aggregator.isInitialized()).isFalse();
+
+        // When - the writer commits, the next read installs its seed
+        writer.submit(() -> {
+            completeTransaction();
+            TransactionSynchronizationManager.clearSynchronization();
+        }).get(5, TimeUnit.SECONDS);
+        writer.shutdown();
+
+        // Then
+        assertThat(aggregator.initialize(() -> distribution(5, 1L))).isSameAs(aggregator);
+        assertThat(aggregator.getSummary(1L).getCount(5)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should rank leaderboard by average then volume")
+    void shouldRankLeaderboardByAverageThenVolume() {
+        // Given
+        aggregator.initialize(() -> Arrays.asList(
+            new Object[]{1L, 4, 1L},
+            new Object[]{2L, 5, 1L},
+            new Object[]{3L, 4, 3L},
+            new Object[]{4L, 2, 1L}
+        ));
+
+        // When
+        List<RatingSummary> leaderboard = aggregator.getLeaderboard(1L, 3);
+
+        // Then
+        assertThat(leaderboard).extracting(RatingSummary::getTechnicianId).containsExactly(2L, 3L, 1L);
+        assertThat(aggregator.getLeaderboard(2L, 10)).extracting(RatingSummary::getTechnicianId).containsExactly(3L);
+    }
+
+    private static List<Object[]> distribution(int rating, long count) {
+        return count > 0 ? List.<Object[]>of(new Object[]{1L, rating, count}) : List.of();
+    }
+
+    private static void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.localtechsupport.entity.Technician;
 import com.localtechsupport.entity.TechnicianStatus;
 import com.localtechsupport.entity.ServiceType;
 import com.localtechsupport.entity.TechnicianSkill;
+import com.localtechsupport.repository.TechnicianListing;
 import com.localtechsupport.repository.TechnicianRepository;
 import com.localtechsupport.repository.TechnicianSkillRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +15,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -35,6 +38,18 @@ class TechnicianServiceTest {
     @Mock
     private TechnicianSkillRepository technicianSkillRepository;
 
+    @Mock
+    private TechnicianReplicator replicator;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @Spy
+    private WriteValidationCache validationCache = new WriteValidationCache(Duration.ofSeconds(30), 1000, System::nanoTime);
+
+    @Spy
+    private AppointmentRollupCache rollupCache = new AppointmentRollupCache();
+
     @InjectMocks
     private TechnicianService technicianService;
 
@@ -408,6 +423,22 @@ class TechnicianServiceTest {
             verify(technicianRepository).save(activeTechnician);
         }
 
+        @Test
+        @DisplayName("Should drop cached appointment rollups when status changes")
+        void shouldDropCachedAppointmentRollupsWhenStatusChanges() {
+            // Given
+            rollupCache.get("utilization:report", () -> "stale roster");
+            when(technicianRepository.findById(1L)).thenReturn(Optional.of(activeTechnician));
+            when(technicianRepository.save(any(Technician.class))).thenReturn(activeTechnician);
+
+            // When
+            technicianService.updateStatus(1L, TechnicianStatus.INACTIVE, "Taking break", "admin");
+
+            // Then
+            assertThat(rollupCache.size()).isZero();
+            verify(rollupCache).invalidate();
+        }
+
         @Test
         @DisplayName("Should activate technician successfully")
         void shouldActivateTechnicianSuccessfully() {
@@ -550,6 +581,41 @@ class TechnicianServiceTest {
             assertThat(result.getContent()).containsExactly(activeTechnician);
             verify(technicianRepository).searchTechnicians("John", Pageable.unpaged());
         }
+
+        @Test
+        @DisplayName("Should read technician listings through the projection queries")
+        void shouldReadTechnicianListingsThroughProjectionQueries() {
+            // Given
+            Page<TechnicianListing> page = new PageImpl<>(List.of(mock(TechnicianListing.class)));
+            when(technicianRepository.findListings(Pageable.unpaged())).thenReturn(page);
+            when(technicianRepository.findListingsByStatus(TechnicianStatus.ACTIVE, Pageable.unpaged())).thenReturn(page);
+
+            // When
+            Page<TechnicianListing> all = technicianService.findTechnicianListings(null, Pageable.unpaged());
+            Page<TechnicianListing> active = technicianService.findTechnicianListings(TechnicianStatus.ACTIVE, Pageable.unpaged());
+            Page<TechnicianListing> blankSearch = technicianService.searchTechnicianListings("  ", Pageable.unpaged());
+
+            // Then
+            assertThat(all).isSameAs(page);
+            assertThat(active).isSameAs(page);
+            assertThat(blankSearch).isSameAs(page);
+            verify(technicianRepository, times(2)).findListings(Pageable.unpaged());
+            verify(technicianRepository, never()).findAll(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should list available technicians with the default workload limit")
+        void shouldListAvailableTechniciansWithDefaultWorkloadLimit() {
+            // Given
+            TechnicianListing listing = mock(TechnicianListing.class);
+            when(technicianRepository.findAvailableListings(TechnicianStatus.ACTIVE, 10L)).thenReturn(List.of(listing));
+            when(technicianRepository.findAvailableListingsForService(TechnicianStatus.ACTIVE, ServiceType.HARDWARE, 10L))
+                .thenReturn(List.of());
+
+            // When & Then
+            assertThat(technicianService.findAvailableTechnicianListings(null)).containsExactly(listing);
+            assertThat(technicianService.findAvailableTechnicianListings(ServiceType.HARDWARE)).isEmpty();
+        }
     }
 
     @Nested
@@ -33,6 +33,9 @@ class TechnicianSkillSimpleServiceTest {
     @Mock
     private TechnicianRepository technicianRepository;
 
+    @Mock
+    private TechnicianReplicator replicator;
+
     @InjectMocks
     private TechnicianSkillService technicianSkillService;
 
@@ -0,0 +1,249 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.ServiceType;
+import com.localtechsupport.entity.Technician;
+import com.localtechsupport.entity.Ticket;
+import com.localtechsupport.entity.TicketHistory;
+import com.localtechsupport.entity.TicketStatus;
+import com.localtechsupport.repository.TicketHistoryRepository;
+import com.localtechsupport.repository.TicketRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.NestedTestConfiguration;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Hundreds of threads changing the same few tickets. Every successful change
+ * must be applied on top of the previous one: a ticket is closed once, and its
+ * history replays to its current assignee without two unassignments in a row.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:ticket_concurrency_test;DB_CLOSE_DELAY=-1",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.localtechsupport=INFO",
+    "logging.level.org.hibernate.SQL=WARN"
+})
+@DisplayName("Ticket Concurrency Tests")
+class TicketConcurrencyTest {
+
+    private static final int THREADS = 200;
+    private static final int OPERATIONS_PER_THREAD = 5;
+    private static final int HOT_TICKETS = 3;
+    private static final String ASSIGNED = "Assigned to technician: ";
+    private static final String UNASSIGNED = "Unassigned from technician: ";
+    private static final AtomicInteger FIXTURES = new AtomicInteger();
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Test
+    @DisplayName("Should reject a write based on a stale ticket version")
+    void shouldRejectStaleWrite() {
+        // Given
+        Long ticketId = createTickets(context, 1).get(0);
+        Ticket stale = ticketRepository.findById(ticketId).orElseThrow();
+        ticketService.closeTicket(ticketId, "Fixed", "tester");
+
+        // When & Then
+        stale.setDescription("Edited from an outdated copy");
+        assertThatThrownBy(() -> ticketRepository.save(stale))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(ticketRepository.findById(ticketId).orElseThrow().getStatus()).isEqualTo(TicketStatus.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should close a hot ticket exactly once with optimistic locking")
+    void shouldCloseHotTicketOnceWithOptimisticLocking() throws Exception {
+        assertClosedExactlyOnce(context);
+    }
+
+    @Test
+    @DisplayName("Should serialize concurrent assignments with optimistic locking")
+    void shouldSerializeAssignmentsWithOptimisticLocking() throws Exception {
+        assertAssignmentsSerialized(context);
+    }
+
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ticket_concurrency_pessimistic_test;DB_CLOSE_DELAY=-1",
+        "app.ticket-locking.mode=PESSIMISTIC",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.localtechsupport=INFO",
+        "logging.level.org.hibernate.SQL=WARN"
+    })
+    @DisplayName("Pessimistic Locking")
+    class PessimisticLockingTests {
+
+        @Autowired
+        private ApplicationContext pessimisticContext;
+
+        @Test
+        @DisplayName("Should close a hot ticket exactly once with pessimistic locking")
+        void shouldCloseHotTicketOnceWithPessimisticLocking() throws Exception {
+            assertClosedExactlyOnce(pessimisticContext);
+        }
+
+        @Test
+        @DisplayName("Should serialize concurrent assignments with pessimistic locking")
+        void shouldSerializeAssignmentsWithPessimisticLocking() throws Exception {
+            assertAssignmentsSerialized(pessimisticContext);
+        }
+    }
+
+    // === SCENARIOS ===
+
+    private void assertClosedExactlyOnce(ApplicationContext context) throws Exception {
+        // Given
+        TicketService service = context.getBean(TicketService.class);
+        Long ticketId = createTickets(context, 1).get(0);
+        LongAdder closed = new LongAdder();
+
+        // When
+        Queue<Throwable> failures = runConcurrently(() -> {
+            service.closeTicket(ticketId, "Fixed", "tester");
+            closed.increment();
+        });
+
+        // Then
+        assertThat(closed.sum()).isEqualTo(1);
+        assertThat(failures).allMatch(this::isRejectionOrConflict);
+        assertThat(history(context, ticketId)).filteredOn(entry -> entry.getDescription().startsWith("Ticket closed"))
+            .hasSize(1);
+    }
+
+    private void assertAssignmentsSerialized(ApplicationContext context) throws Exception {
+        // Given
+        TicketService service = context.getBean(TicketService.class);
+        List<Long> ticketIds = createTickets(context, HOT_TICKETS);
+        List<Long> technicianIds = createTechnicians(context, 2);
+        Map<Long, LongAdder> changes = new ConcurrentHashMap<>();
+
+        // When
+        Queue<Throwable> failures = runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                Long ticketId = ticketIds.get(random.nextInt(ticketIds.size()));
+                try {
+                    if (random.nextBoolean()) {
+                        service.assignTechnician(ticketId, technicianIds.get(random.nextInt(technicianIds.size())));
+                    } else {
+                        service.unassignTechnician(ticketId, null, "tester");
+                    }
+                    changes.computeIfAbsent(ticketId, id -> new LongAdder()).increment();
+                } catch (IllegalStateException e) {
+                    // Unassigning a ticket nobody holds
+                }
+            }
+        });
+
+        // Then
+        assertThat(failures).allMatch(this::isRejectionOrConflict);
+        TicketRepository repository = context.getBean(TicketRepository.class);
+        for (Long ticketId : ticketIds) {
+            String assignee = null;
+            int recorded = 0;
+            for (TicketHistory entry : history(context, ticketId)) {
+                String description = entry.getDescription();
+                if (description.startsWith(ASSIGNED)) {
+                    assignee = description.substring(ASSIGNED.length());
+                    recorded++;
+                } else if (description.startsWith(UNASSIGNED)) {
+                    assertThat(description.substring(UNASSIGNED.length()))
+                        .as("unassignment of ticket %d", ticketId).isEqualTo(assignee);
+                    assignee = null;
+                    recorded++;
+                }
+            }
+            Technician current = repository.findById(ticketId).orElseThrow().getAssignedTechnician();
+            assertThat(current != null ? current.getFullName() : null).isEqualTo(assignee);
+            LongAdder applied = changes.get(ticketId);
+            assertThat(recorded).isEqualTo(applied != null ? applied.intValue() : 0);
+        }
+    }
+
+    // === HELPER METHODS ===
+
+    private Queue<Throwable> runConcurrently(Runnable task) throws InterruptedException {
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        task.run();
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        return failures;
+    }
+
+    private boolean isRejectionOrConflict(Throwable failure) {
+        return failure instanceof IllegalStateException || failure instanceof ConcurrencyFailureException;
+    }
+
+    private List<Long> createTickets(ApplicationContext context, int count) {
+        int fixture = FIXTURES.incrementAndGet();
+        Long clientId = context.getBean(ClientService.class)
+            .createClient("Hot", "Ticket" + fixture, "hot.ticket" + fixture + "@example.com", null, null, null)
+            .getId();
+        TicketService service = context.getBean(TicketService.class);
+        return IntStream.range(0, count)
+            .mapToObj(i -> service.createTicket(clientId, ServiceType.HARDWARE, "Contended ticket " + i).getId())
+            .toList();
+    }
+
+    private List<Long> createTechnicians(ApplicationContext context, int count) {
+        int fixture = FIXTURES.incrementAndGet();
+        TechnicianService service = context.getBean(TechnicianService.class);
+        return IntStream.range(0, count)
+            .mapToObj(i -> service.createTechnician("Tech " + fixture + "-" + i,
+                "tech" + fixture + "-" + i + "@example.com", Set.of(ServiceType.HARDWARE), null).getId())
+            .toList();
+    }
+
+    private List<TicketHistory> history(ApplicationContext context, Long ticketId) {
+        Ticket ticket = context.getBean(TicketRepository.class).findById(ticketId).orElseThrow();
+        return context.getBean(TicketHistoryRepository.class).findByTicket(ticket).stream()
+            .sorted(Comparator.comparing(TicketHistory::getId))
+            .toList();
+    }
+}
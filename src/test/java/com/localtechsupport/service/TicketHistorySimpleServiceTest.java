@@ -2,6 +2,8 @@ package com.localtechsupport.service;
 
 import com.localtechsupport.dto.request.CreateHistoryRequest;
 import com.localtechsupport.entity.*;
+import com.localtechsupport.event.DomainEventBus;
+import com.localtechsupport.event.TicketHistoryAdded;
 import com.localtechsupport.repository.TicketHistoryRepository;
 import com.localtechsupport.repository.TicketRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -35,6 +38,12 @@ class TicketHistorySimpleServiceTest {
     @Mock
     private TicketRepository ticketRepository;
 
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @Mock
+    private DomainEventBus eventBus;
+
     @InjectMocks
     private TicketHistoryService ticketHistoryService;
 
@@ -93,6 +102,8 @@ class TicketHistorySimpleServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
         verify(ticketRepository).findById(1L);
         verify(ticketHistoryRepository).save(any(TicketHistory.class));
+        verify(eventBus).publish(argThat(event -> event instanceof TicketHistoryAdded added
+            && added.getTicketId().equals(1L)));
     }
 
     @Test
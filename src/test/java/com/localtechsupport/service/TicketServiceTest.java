@@ -1,6 +1,7 @@
 package com.localtechsupport.service;
 
 import com.localtechsupport.entity.*;
+import com.localtechsupport.event.*;
 import com.localtechsupport.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,12 +11,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -48,6 +52,24 @@ class TicketServiceTest {
     @Mock
     private TicketHistoryRepository ticketHistoryRepository;
 
+    @Spy
+    private TechnicianFeedbackAggregator technicianFeedbackAggregator = new TechnicianFeedbackAggregator();
+
+    @Spy
+    private FeedbackRatingHistograms feedbackRatingHistograms = new FeedbackRatingHistograms();
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter();
+
+    @Spy
+    private WriteValidationCache validationCache = new WriteValidationCache(Duration.ofSeconds(30), 1000, System::nanoTime);
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Mock
+    private DomainEventBus eventBus;
+
     @InjectMocks
     private TicketService ticketService;
 
@@ -103,6 +125,7 @@ class TicketServiceTest {
             assertThat(capturedTicket.getDescription()).isEqualTo(description);
             assertThat(capturedTicket.getStatus()).isEqualTo(TicketStatus.OPEN);
             assertThat(capturedTicket.getDueAt()).isNotNull();
+            verify(eventBus).publish(any(TicketCreated.class));
 
             // Verify history entry creation
             ArgumentCaptor<TicketHistory> historyCaptor = ArgumentCaptor.forClass(TicketHistory.class);
@@ -208,7 +231,7 @@ class TicketServiceTest {
             Long ticketId = 1L;
             Long technicianId = 1L;
             
-            when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(openTicket));
+            when(ticketRepository.findByIdForChange(ticketId)).thenReturn(Optional.of(openTicket));
             when(technicianRepository.findById(technicianId)).thenReturn(Optional.of(activeTechnician));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(openTicket);
 
@@ -218,7 +241,7 @@ class TicketServiceTest {
             // Assert
             assertThat(result).isNotNull();
             
-            verify(ticketRepository).findById(ticketId);
+            verify(ticketRepository).findByIdForChange(ticketId);
             verify(technicianRepository).findById(technicianId);
             
             ArgumentCaptor<Ticket> ticketCaptor = ArgumentCaptor.forClass(Ticket.class);
@@ -234,12 +257,36 @@ class TicketServiceTest {
             assertThat(history.getDescription()).contains("Assigned to technician: " + activeTechnician.getFullName());
         }
 
+        @Test
+        @DisplayName("Should move feedback ratings to the new technician on reassignment")
+        void shouldMoveFeedbackRatingsOnReassignment() {
+            // Arrange
+            Technician previousTechnician = createActiveTechnician(3L, "Previous Tech");
+            openTicket.setAssignedTechnician(previousTechnician);
+            FeedbackEntry feedback = new FeedbackEntry();
+            feedback.setRating(4);
+            openTicket.getFeedbackEntries().add(feedback);
+            technicianFeedbackAggregator.initialize(() -> Arrays.<Object[]>asList(new Object[]{3L, 4, 1L}));
+
+            when(ticketRepository.findByIdForChange(1L)).thenReturn(Optional.of(openTicket));
+            when(technicianRepository.findById(1L)).thenReturn(Optional.of(activeTechnician));
+            when(ticketRepository.save(any(Ticket.class))).thenReturn(openTicket);
+
+            // Act
+            ticketService.assignTechnician(1L, 1L);
+
+            // Assert
+            verify(technicianFeedbackAggregator).reassign(eq(3L), eq(1L), eq(List.of(4)));
+            assertThat(technicianFeedbackAggregator.getSummary(3L).getTotalCount()).isZero();
+            assertThat(technicianFeedbackAggregator.getSummary(1L).getCount(4)).isEqualTo(1L);
+        }
+
         @Test
         @DisplayName("Should throw exception when ticket not found")
         void shouldThrowExceptionWhenTicketNotFound() {
             // Arrange
             Long nonExistentTicketId = 999L;
-            when(ticketRepository.findById(nonExistentTicketId)).thenReturn(Optional.empty());
+            when(ticketRepository.findByIdForChange(nonExistentTicketId)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> 
@@ -252,7 +299,7 @@ class TicketServiceTest {
         @DisplayName("Should throw exception when trying to assign to closed ticket")
         void shouldThrowExceptionWhenTicketIsClosed() {
             // Arrange
-            when(ticketRepository.findById(2L)).thenReturn(Optional.of(closedTicket));
+            when(ticketRepository.findByIdForChange(2L)).thenReturn(Optional.of(closedTicket));
 
             // Act & Assert
             assertThatThrownBy(() -> 
@@ -266,7 +313,7 @@ class TicketServiceTest {
         void shouldThrowExceptionWhenTechnicianNotFound() {
             // Arrange
             Long nonExistentTechnicianId = 999L;
-            when(ticketRepository.findById(1L)).thenReturn(Optional.of(openTicket));
+            when(ticketRepository.findByIdForChange(1L)).thenReturn(Optional.of(openTicket));
             when(technicianRepository.findById(nonExistentTechnicianId)).thenReturn(Optional.empty());
 
             // Act & Assert
@@ -280,7 +327,7 @@ class TicketServiceTest {
         @DisplayName("Should throw exception when technician is inactive")
         void shouldThrowExceptionWhenTechnicianIsInactive() {
             // Arrange
-            when(ticketRepository.findById(1L)).thenReturn(Optional.of(openTicket));
+            when(ticketRepository.findByIdForChange(1L)).thenReturn(Optional.of(openTicket));
             when(technicianRepository.findById(2L)).thenReturn(Optional.of(inactiveTechnician));
 
             // Act & Assert
@@ -289,6 +336,23 @@ class TicketServiceTest {
             ).isInstanceOf(IllegalStateException.class)
              .hasMessageContaining("Cannot assign inactive technician");
         }
+
+        @Test
+        @DisplayName("Should reject a technician known to be inactive before loading the ticket")
+        void shouldRejectCachedInactiveTechnicianBeforeLoading() {
+            // Arrange
+            when(ticketRepository.findByIdForChange(1L)).thenReturn(Optional.of(openTicket));
+            when(technicianRepository.findById(2L)).thenReturn(Optional.of(inactiveTechnician));
+            assertThatThrownBy(() -> ticketService.assignTechnician(1L, 2L))
+                .isInstanceOf(IllegalStateException.class);
+
+            // Act & Assert
+            assertThatThrownBy(() -> ticketService.assignTechnician(1L, 2L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Cannot assign inactive technician: " + inactiveTechnician.getEmail());
+            verify(ticketRepository, times(1)).findByIdForChange(1L);
+            verify(technicianRepository, times(1)).findById(2L);
+        }
     }
 
     @Nested
@@ -303,7 +367,7 @@ class TicketServiceTest {
             String resolutionNotes = "Replaced faulty RAM module";
             String closedBy = "tech@example.com";
             
-            when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(openTicket));
+            when(ticketRepository.findByIdForChange(ticketId)).thenReturn(Optional.of(openTicket));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(openTicket);
 
             // Act
@@ -325,13 +389,18 @@ class TicketServiceTest {
             assertThat(history.getDescription()).contains("Ticket closed");
             assertThat(history.getDescription()).contains("Resolution: " + resolutionNotes);
             assertThat(history.getCreatedBy()).isEqualTo(closedBy);
+
+            // Verify event
+            ArgumentCaptor<TicketClosed> eventCaptor = ArgumentCaptor.forClass(TicketClosed.class);
+            verify(eventBus).publish(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getStatus()).isEqualTo(TicketStatus.CLOSED);
         }
 
         @Test
         @DisplayName("Should throw exception when trying to close already closed ticket")
         void shouldThrowExceptionWhenTicketAlreadyClosed() {
             // Arrange
-            when(ticketRepository.findById(2L)).thenReturn(Optional.of(closedTicket));
+            when(ticketRepository.findByIdForChange(2L)).thenReturn(Optional.of(closedTicket));
 
             // Act & Assert
             assertThatThrownBy(() -> 
@@ -354,7 +423,7 @@ class TicketServiceTest {
             String reason = "Issue resolved";
             String updatedBy = "tech@example.com";
             
-            when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(openTicket));
+            when(ticketRepository.findByIdForChange(ticketId)).thenReturn(Optional.of(openTicket));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(openTicket);
 
             // Act
@@ -382,7 +451,7 @@ class TicketServiceTest {
         @DisplayName("Should update status without reason successfully")
         void shouldUpdateStatusWithoutReason() {
             // Arrange
-            when(ticketRepository.findById(1L)).thenReturn(Optional.of(openTicket));
+            when(ticketRepository.findByIdForChange(1L)).thenReturn(Optional.of(openTicket));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(openTicket);
 
             // Act
@@ -400,7 +469,7 @@ class TicketServiceTest {
         @DisplayName("Should allow same status transition")
         void shouldAllowSameStatusTransition() {
             // Arrange
-            when(ticketRepository.findById(1L)).thenReturn(Optional.of(openTicket));
+            when(ticketRepository.findByIdForChange(1L)).thenReturn(Optional.of(openTicket));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(openTicket);
 
             // Act & Assert
@@ -425,7 +494,7 @@ class TicketServiceTest {
             Ticket assignedTicket = createOpenTicket(1L, activeClient);
             assignedTicket.setAssignedTechnician(activeTechnician);
             
-            when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(assignedTicket));
+            when(ticketRepository.findByIdForChange(ticketId)).thenReturn(Optional.of(assignedTicket));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(assignedTicket);
 
             // Act
@@ -453,7 +522,7 @@ class TicketServiceTest {
         @DisplayName("Should throw exception when ticket is not assigned")
         void shouldThrowExceptionWhenTicketNotAssigned() {
             // Arrange
-            when(ticketRepository.findById(1L)).thenReturn(Optional.of(openTicket)); // openTicket has no assigned technician
+            when(ticketRepository.findByIdForChange(1L)).thenReturn(Optional.of(openTicket)); // openTicket has no assigned technician
 
             // Act & Assert
             assertThatThrownBy(() -> 
@@ -0,0 +1,84 @@
+package com.localtechsupport.service;
+
+import com.localtechsupport.entity.Client;
+import com.localtechsupport.entity.Technician;
+import com.localtechsupport.entity.TechnicianStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WriteValidationCache Tests")
+class WriteValidationCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private WriteValidationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WriteValidationCache(Duration.ofSeconds(30), 3, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should remember loaded and missing references until they expire")
+    void shouldRememberReferencesUntilExpiry() {
+        // Given
+        Client client = new Client();
+        client.setEmail("client@example.com");
+        client.setStatus(Client.ClientStatus.SUSPENDED);
+
+        // When
+        cache.rememberClient(1L, client, cache.generation());
+        cache.rememberTechnician(7L, null, cache.generation());
+
+        // Then
+        assertThat(cache.getClient(1L).exists()).isTrue();
+        assertThat(cache.getClient(1L).isActive()).isFalse();
+        assertThat(cache.getClient(1L).getEmail()).isEqualTo("client@example.com");
+        assertThat(cache.getTechnician(7L).exists()).isFalse();
+        assertThat(cache.getClient(2L)).isNull();
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(cache.getClient(1L)).isNull();
+        assertThat(cache.getTechnician(7L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not store a load that overlapped an invalidation")
+    void shouldDiscardLoadsOverlappingInvalidation() {
+        // Given
+        Technician technician = new Technician();
+        technician.setFullName("Jane Smith");
+        technician.setEmail("jane@example.com");
+        technician.setStatus(TechnicianStatus.INACTIVE);
+        long loadGeneration = cache.generation();
+
+        // When
+        cache.invalidateTechnician(5L);
+        cache.rememberTechnician(5L, technician, loadGeneration);
+
+        // Then
+        assertThat(cache.getTechnician(5L)).isNull();
+        cache.rememberTechnician(5L, technician, cache.generation());
+        assertThat(cache.getTechnician(5L).getName()).isEqualTo("Jane Smith");
+        cache.invalidateTechnician(5L);
+        assertThat(cache.getTechnician(5L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should stay within its size bound")
+    void shouldStayWithinSizeBound() {
+        // When
+        for (long id = 1; id <= 10; id++) {
+            cache.rememberClient(id, null, cache.generation());
+        }
+
+        // Then
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+        assertThat(cache.getClient(10L)).isNotNull();
+    }
+}